@@ -0,0 +1,178 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.benchmarks;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import javax.annotation.Nonnull;
+
+import com.influxdb.Cancellable;
+import com.influxdb.client.domain.WritePrecision;
+import com.influxdb.client.write.Point;
+
+/**
+ * Generates the deterministic datasets for benchmarks.
+ */
+public final class Datasets {
+
+    /**
+     * The {@link Cancellable} for parsing the whole response.
+     */
+    public static final Cancellable NOT_CANCELLED = new Cancellable() {
+        @Override
+        public void cancel() {
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+    };
+
+    private static final long SEED = 42;
+    private static final Instant START = Instant.parse("2021-01-01T00:00:00Z");
+    private static final String[] LOCATIONS = {"Prague", "Berlin", "New York", "San Francisco", "Tokyo"};
+    private static final String[] MODELS = {"DHT22", "BME280", "SHT31"};
+    private static final String[] STATUSES = {"ok", "degraded", "low battery, replace soon"};
+
+    private Datasets() {
+    }
+
+    /**
+     * Generates the points.
+     *
+     * @param count  the number of points
+     * @param tags   the number of tags of each point
+     * @param fields the number of fields of each point, the types of fields are rotated: float, integer,
+     *               string, boolean
+     * @return the points with nanosecond precision
+     */
+    @Nonnull
+    public static List<Point> points(final int count, final int tags, final int fields) {
+
+        Random random = new Random(SEED);
+
+        List<Point> points = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Point point = Point.measurement("host metrics");
+            for (int tag = 0; tag < tags; tag++) {
+                point.addTag("tag_" + tag, "value " + (i % (tag + 2)) + ",group=" + tag);
+            }
+            for (int field = 0; field < fields; field++) {
+                String name = "field_" + field;
+                switch (field % 4) {
+                    case 0:
+                        point.addField(name, random.nextDouble() * 100);
+                        break;
+                    case 1:
+                        point.addField(name, random.nextLong());
+                        break;
+                    case 2:
+                        point.addField(name, STATUSES[random.nextInt(STATUSES.length)]);
+                        break;
+                    default:
+                        point.addField(name, random.nextBoolean());
+                        break;
+                }
+            }
+            point.time(START.plus(i, ChronoUnit.SECONDS), WritePrecision.NS);
+            points.add(point);
+        }
+
+        return points;
+    }
+
+    /**
+     * Generates the measurements.
+     *
+     * @param count the number of measurements
+     * @return the measurements
+     */
+    @Nonnull
+    public static List<Sensor> sensors(final int count) {
+
+        Random random = new Random(SEED);
+
+        List<Sensor> sensors = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Sensor sensor = new Sensor();
+            sensor.location = LOCATIONS[i % LOCATIONS.length];
+            sensor.model = MODELS[i % MODELS.length];
+            sensor.sensorId = "sensor-" + (i % 100);
+            sensor.active = random.nextBoolean();
+            sensor.battery = (long) random.nextInt(100);
+            sensor.humidity = random.nextDouble() * 100;
+            sensor.status = STATUSES[random.nextInt(STATUSES.length)];
+            sensor.temperature = random.nextDouble() * 40;
+            sensor.time = START.plus(i, ChronoUnit.SECONDS);
+            sensors.add(sensor);
+        }
+
+        return sensors;
+    }
+
+    /**
+     * Generates the annotated CSV response of the pivoted query over {@link Sensor}s.
+     *
+     * @param tables the number of tables (series)
+     * @param rows   the number of rows in each table
+     * @return the annotated CSV
+     */
+    @Nonnull
+    public static String csv(final int tables, final int rows) {
+
+        Random random = new Random(SEED);
+
+        StringBuilder csv = new StringBuilder();
+        csv.append("#datatype,string,long,dateTime:RFC3339,dateTime:RFC3339,dateTime:RFC3339,string,string,string,"
+                + "string,boolean,long,double,string,double\n");
+        csv.append("#group,false,false,true,true,false,true,true,true,true,false,false,false,false,false\n");
+        csv.append("#default,_result,,,,,,,,,,,,,\n");
+        csv.append(",result,table,_start,_stop,_time,_measurement,location,model,sensor_id,"
+                + "active,battery,humidity,status,temperature\n");
+
+        Instant stop = START.plus(rows, ChronoUnit.SECONDS);
+        for (int table = 0; table < tables; table++) {
+            for (int row = 0; row < rows; row++) {
+                csv.append(",,").append(table)
+                        .append(',').append(START)
+                        .append(',').append(stop)
+                        .append(',').append(START.plus(row, ChronoUnit.SECONDS).plusNanos(random.nextInt(1000)))
+                        .append(",sensor")
+                        .append(',').append(LOCATIONS[table % LOCATIONS.length])
+                        .append(',').append(MODELS[table % MODELS.length])
+                        .append(",sensor-").append(table)
+                        .append(',').append(random.nextBoolean())
+                        .append(',').append(random.nextInt(100))
+                        .append(',').append(random.nextDouble() * 100)
+                        .append(",\"").append(STATUSES[random.nextInt(STATUSES.length)]).append('"')
+                        .append(',').append(random.nextDouble() * 40)
+                        .append('\n');
+            }
+        }
+
+        return csv.toString();
+    }
+}
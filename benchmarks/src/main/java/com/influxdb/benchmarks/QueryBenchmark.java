@@ -0,0 +1,105 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+
+import com.influxdb.client.InfluxDBClient;
+import com.influxdb.client.InfluxDBClientFactory;
+import com.influxdb.client.QueryApi;
+import com.influxdb.test.AbstractMockServerTest;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * End-to-end query throughput against the {@code MockWebServer} that responds by a generated annotated CSV.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class QueryBenchmark extends AbstractMockServerTest {
+
+    private static final String QUERY = "from(bucket:\"my-bucket\") |> range(start: 0) "
+            + "|> pivot(rowKey:[\"_time\"], columnKey: [\"_field\"], valueColumn: \"_value\")";
+
+    @Param({"10000", "100000"})
+    public int records;
+
+    private InfluxDBClient client;
+    private QueryApi queryApi;
+
+    @Setup
+    public void setup() {
+
+        Buffer response = new Buffer().writeUtf8(Datasets.csv(10, records / 10));
+
+        String url = startMockServer(new Dispatcher() {
+            @Nonnull
+            @Override
+            public MockResponse dispatch(@Nonnull final RecordedRequest request) {
+                return new MockResponse()
+                        .setHeader("Content-Type", "text/csv")
+                        .setBody(response.clone());
+            }
+        });
+
+        client = InfluxDBClientFactory.create(url, "my-token".toCharArray(), "my-org", "my-bucket");
+        queryApi = client.getQueryApi();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        client.close();
+        after();
+    }
+
+    @Benchmark
+    public void queryTables(final Blackhole blackhole) {
+        blackhole.consume(queryApi.query(QUERY));
+    }
+
+    @Benchmark
+    public void queryMeasurements(final Blackhole blackhole) {
+        blackhole.consume(queryApi.query(QUERY, Sensor.class));
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.benchmarks;
+
+import java.time.Instant;
+
+import com.influxdb.annotations.Column;
+import com.influxdb.annotations.Measurement;
+
+/**
+ * The measurement used to benchmark the mapping of POJO into {@code Point} and from {@code FluxRecord}.
+ */
+@Measurement(name = "sensor")
+public class Sensor {
+
+    @Column(tag = true)
+    String location;
+
+    @Column(tag = true)
+    String model;
+
+    @Column(name = "sensor_id", tag = true)
+    String sensorId;
+
+    @Column
+    Boolean active;
+
+    @Column
+    Long battery;
+
+    @Column
+    Double humidity;
+
+    @Column
+    String status;
+
+    @Column
+    Double temperature;
+
+    @Column(timestamp = true)
+    Instant time;
+}
@@ -0,0 +1,141 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import javax.annotation.Nonnull;
+
+import com.influxdb.client.InfluxDBClient;
+import com.influxdb.client.InfluxDBClientFactory;
+import com.influxdb.client.WriteApi;
+import com.influxdb.client.WriteApiBlocking;
+import com.influxdb.client.WriteOptions;
+import com.influxdb.client.write.Point;
+import com.influxdb.client.write.events.WriteSuccessEvent;
+import com.influxdb.test.AbstractMockServerTest;
+import com.influxdb.test.SimulatedInfluxDB;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End-to-end write throughput against the {@link SimulatedInfluxDB} that acknowledges every write by {@code 204}.
+ * <p>
+ * The {@link #writeApi()} shows how the batching {@link WriteApi} scales with {@code encodeParallelism},
+ * run it with {@code -p encodeParallelism=1,2,4,8,16} to compare the number of cores used for encoding.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class WriteBenchmark extends AbstractMockServerTest {
+
+    private static final int POINTS = 50_000;
+
+    @Param({"1", "4"})
+    public int encodeParallelism;
+
+    @Param({"5000"})
+    public int batchSize;
+
+    private final AtomicLong written = new AtomicLong();
+
+    private InfluxDBClient client;
+    private WriteApi writeApi;
+    private WriteApiBlocking writeApiBlocking;
+    private List<Point> points;
+
+    @Setup
+    public void setup() {
+
+        points = Datasets.points(POINTS, 5, 10);
+
+        String url = startMockServer(SimulatedInfluxDB.builder().retainBodies(false).build());
+
+        client = InfluxDBClientFactory.create(url, "my-token".toCharArray(), "my-org", "my-bucket");
+
+        WriteOptions writeOptions = WriteOptions.builder()
+                .batchSize(batchSize)
+                .bufferLimit(POINTS * 2)
+                .flushInterval(60_000)
+                .encodeParallelism(encodeParallelism)
+                .build();
+
+        writeApi = client.getWriteApi(writeOptions);
+        writeApi.listenEvents(WriteSuccessEvent.class, event -> written.addAndGet(lines(event.getLineProtocol())));
+
+        writeApiBlocking = client.getWriteApiBlocking();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        client.close();
+        after();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public void writeApi() {
+
+        long expected = written.get() + POINTS;
+
+        writeApi.writePoints(points);
+        writeApi.flush();
+
+        while (written.get() < expected) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public void writeApiBlocking() {
+        writeApiBlocking.writePoints(points);
+    }
+
+    private long lines(@Nonnull final String lineProtocol) {
+        long lines = 1;
+        for (int i = 0; i < lineProtocol.length(); i++) {
+            if (lineProtocol.charAt(i) == '\n') {
+                lines++;
+            }
+        }
+        return lines;
+    }
+}
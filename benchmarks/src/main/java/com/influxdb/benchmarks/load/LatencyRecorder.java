@@ -0,0 +1,69 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.benchmarks.load;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Records the acknowledge latencies and computes their percentiles.
+ */
+@ThreadSafe
+final class LatencyRecorder {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private long[] latencies = new long[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * @param nanos the latency in nanoseconds
+     */
+    synchronized void record(final long nanos) {
+        if (size == latencies.length) {
+            latencies = Arrays.copyOf(latencies, size * 2);
+        }
+        latencies[size++] = Math.max(0, nanos);
+    }
+
+    /**
+     * @param percentile the percentile - from {@code 0} to {@code 100}
+     * @return the latency in milliseconds
+     */
+    synchronized double percentile(final double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+
+        long[] sorted = Arrays.copyOf(latencies, size);
+        Arrays.sort(sorted);
+
+        int index = (int) Math.ceil(percentile / 100 * size) - 1;
+
+        return sorted[Math.min(Math.max(index, 0), size - 1)] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    synchronized int count() {
+        return size;
+    }
+}
@@ -0,0 +1,417 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.benchmarks.load;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import javax.annotation.Nonnull;
+
+import com.influxdb.client.InfluxDBClient;
+import com.influxdb.client.InfluxDBClientFactory;
+import com.influxdb.client.InfluxDBClientOptions;
+import com.influxdb.client.WriteOptions;
+import com.influxdb.client.domain.WritePrecision;
+import com.influxdb.client.reactive.InfluxDBClientReactive;
+import com.influxdb.client.reactive.InfluxDBClientReactiveFactory;
+import com.influxdb.client.write.Point;
+import com.influxdb.test.AbstractMockServerTest;
+import com.influxdb.test.SimulatedInfluxDB;
+
+/**
+ * The load generator that drives the write APIs at the target rate against the {@link SimulatedInfluxDB}
+ * (or the real InfluxDB specified by {@code --url}) and reports the achieved throughput, the acknowledge latency,
+ * the memory and the garbage collection.
+ * <p>
+ * Usage:
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.influxdb.benchmarks.load.LoadGenerator \
+ *     --api write-api --rate 200000 --duration 60 --batch-size 5000 \
+ *     --latency 20 --jitter 10 --throttle-rate 0.05 --retry-after 1 --error-rate 0.01
+ * </pre>
+ */
+public final class LoadGenerator extends AbstractMockServerTest {
+
+    private static final long START_EPOCH_NANOS = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+    private static final long START_NANOS = System.nanoTime();
+    private static final long DRAIN_IDLE_NANOS = TimeUnit.SECONDS.toNanos(2);
+    private static final long DRAIN_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(60);
+    private static final long BYTES_IN_MEGABYTE = 1024 * 1024;
+
+    /**
+     * The driven API.
+     */
+    enum Api {
+        WRITE_API,
+        WRITE_API_BLOCKING,
+        WRITE_API_ASYNC,
+        WRITE_REACTIVE_API
+    }
+
+    private Api api = Api.WRITE_API;
+    private int rate = 100_000;
+    private int duration = 30;
+    private int threads = 1;
+    private int writeSize = 100;
+    private int series = 1_000;
+    private int batchSize = WriteOptions.DEFAULTS.getBatchSize();
+    private int flushInterval = WriteOptions.DEFAULTS.getFlushInterval();
+    private int bufferLimit = WriteOptions.DEFAULTS.getBufferLimit();
+    private int encodeParallelism = 1;
+    private boolean gzip = false;
+
+    private String url;
+    private String token = "my-token";
+    private String org = "my-org";
+    private String bucket = "my-bucket";
+
+    private final SimulatedInfluxDB.Builder simulated = SimulatedInfluxDB.builder().retainBodies(false);
+    private long latency = 0;
+    private long jitter = 0;
+    private double throttleRate = 0;
+    private int retryAfter = 1;
+
+    private final LongAdder sent = new LongAdder();
+    private volatile boolean running = true;
+
+    public static void main(final String[] args) throws Exception {
+
+        LoadGenerator generator = new LoadGenerator();
+        generator.parse(args);
+        generator.run();
+    }
+
+    /**
+     * @return the current time as nanoseconds since epoch with the precision of {@link System#nanoTime()}
+     */
+    static long epochNanos() {
+        return START_EPOCH_NANOS + (System.nanoTime() - START_NANOS);
+    }
+
+    private void parse(@Nonnull final String[] args) {
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--api":
+                    api = Api.valueOf(value.toUpperCase(Locale.ROOT).replace('-', '_'));
+                    break;
+                case "--rate":
+                    rate = Integer.parseInt(value);
+                    break;
+                case "--duration":
+                    duration = Integer.parseInt(value);
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(value);
+                    break;
+                case "--write-size":
+                    writeSize = Integer.parseInt(value);
+                    break;
+                case "--series":
+                    series = Integer.parseInt(value);
+                    break;
+                case "--batch-size":
+                    batchSize = Integer.parseInt(value);
+                    break;
+                case "--flush-interval":
+                    flushInterval = Integer.parseInt(value);
+                    break;
+                case "--buffer-limit":
+                    bufferLimit = Integer.parseInt(value);
+                    break;
+                case "--encode-parallelism":
+                    encodeParallelism = Integer.parseInt(value);
+                    break;
+                case "--gzip":
+                    gzip = Boolean.parseBoolean(value);
+                    break;
+                case "--url":
+                    url = value;
+                    break;
+                case "--token":
+                    token = value;
+                    break;
+                case "--org":
+                    org = value;
+                    break;
+                case "--bucket":
+                    bucket = value;
+                    break;
+                case "--latency":
+                    latency = Long.parseLong(value);
+                    break;
+                case "--jitter":
+                    jitter = Long.parseLong(value);
+                    break;
+                case "--throttle-rate":
+                    throttleRate = Double.parseDouble(value);
+                    break;
+                case "--retry-after":
+                    retryAfter = Integer.parseInt(value);
+                    break;
+                case "--error-rate":
+                    simulated.errorRate(Double.parseDouble(value));
+                    break;
+                case "--max-body-size":
+                    simulated.maxBodySize(Long.parseLong(value));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+    }
+
+    private void run() throws Exception {
+
+        SimulatedInfluxDB influxDB = null;
+        if (url == null) {
+            influxDB = simulated.latency(latency, jitter).throttleRate(throttleRate, retryAfter).build();
+            url = startMockServer(influxDB);
+        }
+
+        InfluxDBClientOptions options = InfluxDBClientOptions.builder()
+                .url(url)
+                .authenticateToken(token.toCharArray())
+                .org(org)
+                .bucket(bucket)
+                .build();
+
+        WriteOptions writeOptions = WriteOptions.builder()
+                .batchSize(batchSize)
+                .flushInterval(flushInterval)
+                .bufferLimit(bufferLimit)
+                .encodeParallelism(encodeParallelism)
+                .build();
+
+        InfluxDBClient client = InfluxDBClientFactory.create(options);
+        InfluxDBClientReactive clientReactive = InfluxDBClientReactiveFactory.create(options);
+        if (gzip) {
+            client.enableGzip();
+            clientReactive.enableGzip();
+        }
+
+        LoadTarget target;
+        switch (api) {
+            case WRITE_API_BLOCKING:
+                target = new LoadTarget.Blocking(client);
+                break;
+            case WRITE_API_ASYNC:
+                target = new LoadTarget.Async(client, writeOptions);
+                break;
+            case WRITE_REACTIVE_API:
+                target = new LoadTarget.Reactive(clientReactive, writeOptions);
+                break;
+            default:
+                target = new LoadTarget.Batching(client, writeOptions);
+                break;
+        }
+
+        System.out.printf("Load %s at %,d points/s for %d s with %d thread(s) against %s%n",
+                api, rate, duration, threads, influxDB != null ? "simulated InfluxDB " + url : url);
+
+        Statistics statistics = new Statistics();
+
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Thread worker = new Thread(work(target, i), "load-generator-" + i);
+            worker.start();
+            workers.add(worker);
+        }
+
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(duration);
+        long lastAcked = 0;
+        while (System.nanoTime() < end) {
+            TimeUnit.SECONDS.sleep(1);
+            statistics.sample();
+            long acked = target.acked.sum();
+            System.out.printf("%3d s: sent %,d points, acknowledged %,d points/s, heap %,d MB%n",
+                    TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start), sent.sum(), acked - lastAcked,
+                    statistics.heapUsed() / BYTES_IN_MEGABYTE);
+            lastAcked = acked;
+        }
+
+        running = false;
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long generated = System.nanoTime() - start;
+
+        target.close();
+        long drained = drain(target);
+        statistics.sample();
+
+        long elapsed = Math.max(generated, drained - start);
+        double seconds = elapsed / (double) TimeUnit.SECONDS.toNanos(1);
+
+        System.out.println();
+        System.out.printf("Sent:          %,d points (%,.0f points/s)%n", sent.sum(), sent.sum() / seconds);
+        System.out.printf("Acknowledged:  %,d points (%,.0f points/s)%n", target.acked.sum(),
+                target.acked.sum() / seconds);
+        System.out.printf("Failed writes: %,d%n", target.failed.sum());
+        System.out.printf("Ack latency:   p50 %.1f ms, p99 %.1f ms, p99.9 %.1f ms, max %.1f ms (%,d acks)%n",
+                target.latencies.percentile(50), target.latencies.percentile(99),
+                target.latencies.percentile(99.9), target.latencies.percentile(100), target.latencies.count());
+        System.out.printf("Memory:        peak heap %,d MB%n", statistics.heapPeak() / BYTES_IN_MEGABYTE);
+        System.out.printf("GC:            %,d collections, %,d ms%n", statistics.gcCount(), statistics.gcTime());
+        if (influxDB != null) {
+            System.out.printf("Server:        %s%n", influxDB);
+        }
+
+        client.close();
+        clientReactive.close();
+        after();
+    }
+
+    @Nonnull
+    private Runnable work(@Nonnull final LoadTarget target, final int worker) {
+
+        return () -> {
+            double interval = TimeUnit.SECONDS.toNanos(1) * (double) writeSize * threads / rate;
+            long start = System.nanoTime();
+            long writes = 0;
+            long sequence = 0;
+
+            while (running) {
+                long next = start + (long) (writes * interval);
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                    continue;
+                }
+
+                List<Point> points = new ArrayList<>(writeSize);
+                for (int i = 0; i < writeSize; i++, sequence++) {
+                    points.add(Point.measurement("load")
+                            .addTag("worker", Integer.toString(worker))
+                            .addTag("series", Long.toString(sequence % series))
+                            .addField("sequence", sequence)
+                            .addField("value", Math.sin(sequence))
+                            .time(epochNanos(), WritePrecision.NS));
+                }
+
+                target.write(points);
+                sent.add(points.size());
+                writes++;
+            }
+        };
+    }
+
+    /**
+     * Waits to the acknowledge of all sent points or to the time when the acknowledges stop to arrive.
+     *
+     * @return the time of the last acknowledge
+     */
+    private long drain(@Nonnull final LoadTarget target) throws InterruptedException {
+
+        long start = System.nanoTime();
+        long lastChange = start;
+        long lastAcked = target.acked.sum();
+
+        while (target.acked.sum() < sent.sum()) {
+            long now = System.nanoTime();
+            if (now - lastChange > DRAIN_IDLE_NANOS || now - start > DRAIN_TIMEOUT_NANOS) {
+                return lastChange;
+            }
+            TimeUnit.MILLISECONDS.sleep(10);
+            long acked = target.acked.sum();
+            if (acked != lastAcked) {
+                lastAcked = acked;
+                lastChange = System.nanoTime();
+            }
+        }
+
+        return System.nanoTime();
+    }
+
+    @Override
+    protected void after() throws IOException {
+        if (mockServer != null) {
+            super.after();
+        }
+    }
+
+    /**
+     * The memory and garbage collection statistics.
+     */
+    private static final class Statistics {
+
+        private final long gcCountStart = totalGcCount();
+        private final long gcTimeStart = totalGcTime();
+        private long heapPeak;
+
+        private Statistics() {
+            ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+        }
+
+        private void sample() {
+            long peak = 0;
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP) {
+                    peak += pool.getPeakUsage().getUsed();
+                }
+            }
+            heapPeak = Math.max(heapPeak, peak);
+        }
+
+        private long heapUsed() {
+            return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        }
+
+        private long heapPeak() {
+            return heapPeak;
+        }
+
+        private long gcCount() {
+            return totalGcCount() - gcCountStart;
+        }
+
+        private long gcTime() {
+            return totalGcTime() - gcTimeStart;
+        }
+
+        private static long totalGcCount() {
+            long count = 0;
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                count += Math.max(0, gc.getCollectionCount());
+            }
+            return count;
+        }
+
+        private static long totalGcTime() {
+            long time = 0;
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                time += Math.max(0, gc.getCollectionTime());
+            }
+            return time;
+        }
+    }
+}
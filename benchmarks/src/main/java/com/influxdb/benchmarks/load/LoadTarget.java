@@ -0,0 +1,192 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.benchmarks.load;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nonnull;
+
+import com.influxdb.client.InfluxDBClient;
+import com.influxdb.client.WriteApi;
+import com.influxdb.client.WriteApiAsync;
+import com.influxdb.client.WriteApiBlocking;
+import com.influxdb.client.WriteOptions;
+import com.influxdb.client.reactive.InfluxDBClientReactive;
+import com.influxdb.client.reactive.WriteReactiveApi;
+import com.influxdb.client.write.Point;
+import com.influxdb.client.write.events.WriteErrorEvent;
+import com.influxdb.client.write.events.WriteSuccessEvent;
+
+import io.reactivex.Flowable;
+import io.reactivex.disposables.CompositeDisposable;
+
+/**
+ * The write API driven by the {@link LoadGenerator}.
+ * <p>
+ * The implementations report the acknowledged points, the failed writes and the acknowledge latency. The latency of
+ * batching APIs is computed from the timestamp of the oldest point in acknowledged batch, so it includes the time
+ * spent in the batching buffer.
+ */
+abstract class LoadTarget implements AutoCloseable {
+
+    final LongAdder acked = new LongAdder();
+    final LongAdder failed = new LongAdder();
+    final LatencyRecorder latencies = new LatencyRecorder();
+
+    /**
+     * Write the points. The caller is paced to the target rate.
+     *
+     * @param points the points with the timestamp of creation
+     */
+    abstract void write(@Nonnull final List<Point> points);
+
+    @Override
+    public abstract void close();
+
+    void acknowledged(@Nonnull final String lineProtocol) {
+
+        int firstLine = lineProtocol.indexOf('\n');
+        String line = firstLine == -1 ? lineProtocol : lineProtocol.substring(0, firstLine);
+        long timestamp = Long.parseLong(line.substring(line.lastIndexOf(' ') + 1));
+
+        latencies.record(LoadGenerator.epochNanos() - timestamp);
+        acked.add(lines(lineProtocol));
+    }
+
+    static long lines(@Nonnull final String lineProtocol) {
+        long lines = 1;
+        for (int i = 0; i < lineProtocol.length(); i++) {
+            if (lineProtocol.charAt(i) == '\n') {
+                lines++;
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * The batching {@link WriteApi}.
+     */
+    static final class Batching extends LoadTarget {
+
+        private final WriteApi writeApi;
+
+        Batching(@Nonnull final InfluxDBClient client, @Nonnull final WriteOptions writeOptions) {
+            writeApi = client.getWriteApi(writeOptions);
+            writeApi.listenEvents(WriteSuccessEvent.class, event -> acknowledged(event.getLineProtocol()));
+            writeApi.listenEvents(WriteErrorEvent.class, event -> failed.increment());
+        }
+
+        @Override
+        void write(@Nonnull final List<Point> points) {
+            writeApi.writePoints(points);
+        }
+
+        @Override
+        public void close() {
+            writeApi.close();
+        }
+    }
+
+    /**
+     * The {@link WriteApiBlocking}, the latency is the duration of the write call.
+     */
+    static final class Blocking extends LoadTarget {
+
+        private final WriteApiBlocking writeApi;
+
+        Blocking(@Nonnull final InfluxDBClient client) {
+            writeApi = client.getWriteApiBlocking();
+        }
+
+        @Override
+        void write(@Nonnull final List<Point> points) {
+            long start = System.nanoTime();
+            try {
+                writeApi.writePoints(points);
+                latencies.record(System.nanoTime() - start);
+                acked.add(points.size());
+            } catch (Exception e) {
+                failed.increment();
+            }
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * The {@link WriteApiAsync}, the latency is taken from the {@code WriteResult}.
+     */
+    static final class Async extends LoadTarget {
+
+        private final WriteApiAsync writeApi;
+
+        Async(@Nonnull final InfluxDBClient client, @Nonnull final WriteOptions writeOptions) {
+            writeApi = client.getWriteApiAsync(writeOptions);
+        }
+
+        @Override
+        void write(@Nonnull final List<Point> points) {
+            writeApi.writePoints(points).whenComplete((result, throwable) -> {
+                if (throwable != null) {
+                    failed.increment();
+                } else {
+                    latencies.record(result.getLatency().toNanos());
+                    acked.add(result.getLineCount());
+                }
+            });
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * The batching {@link WriteReactiveApi}.
+     */
+    static final class Reactive extends LoadTarget {
+
+        private final WriteReactiveApi writeApi;
+        private final CompositeDisposable subscriptions = new CompositeDisposable();
+
+        Reactive(@Nonnull final InfluxDBClientReactive client, @Nonnull final WriteOptions writeOptions) {
+            writeApi = client.getWriteReactiveApi(writeOptions);
+            subscriptions.add(writeApi.listenEvents(WriteSuccessEvent.class)
+                    .subscribe(event -> acknowledged(event.getLineProtocol())));
+            subscriptions.add(writeApi.listenEvents(WriteErrorEvent.class)
+                    .subscribe(event -> failed.increment()));
+        }
+
+        @Override
+        void write(@Nonnull final List<Point> points) {
+            writeApi.writePoints(Flowable.fromIterable(points));
+        }
+
+        @Override
+        public void close() {
+            writeApi.close();
+            subscriptions.dispose();
+        }
+    }
+}
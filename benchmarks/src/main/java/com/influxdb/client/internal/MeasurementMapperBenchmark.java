@@ -0,0 +1,81 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.internal;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.influxdb.benchmarks.Datasets;
+import com.influxdb.benchmarks.Sensor;
+import com.influxdb.client.domain.WritePrecision;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Mapping of POJO into {@code Point} by {@link MeasurementMapper}. The benchmark lives in the package of the mapper
+ * to access it directly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MeasurementMapperBenchmark {
+
+    private static final int MEASUREMENTS = 1_000;
+
+    private final MeasurementMapper mapper = new MeasurementMapper();
+    private List<Sensor> sensors;
+
+    @Setup
+    public void setup() {
+        sensors = Datasets.sensors(MEASUREMENTS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MEASUREMENTS)
+    public void toPoint(final Blackhole blackhole) {
+        for (Sensor sensor : sensors) {
+            blackhole.consume(mapper.toPoint(sensor, WritePrecision.NS));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MEASUREMENTS)
+    public void toLineProtocol(final Blackhole blackhole) {
+        for (Sensor sensor : sensors) {
+            blackhole.consume(mapper.toPoint(sensor, WritePrecision.NS).toLineProtocol());
+        }
+    }
+}
@@ -21,14 +21,21 @@
  */
 package com.influxdb.internal;
 
+import java.io.ByteArrayInputStream;
 import java.io.Closeable;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.logging.Level;
@@ -40,6 +47,9 @@ import com.influxdb.Arguments;
 import com.influxdb.Cancellable;
 import com.influxdb.exceptions.InfluxException;
 import com.influxdb.query.FluxRecord;
+import com.influxdb.query.FluxTable;
+import com.influxdb.query.QueryListener;
+import com.influxdb.query.QueryStatistics;
 import com.influxdb.query.internal.FluxCsvParser;
 import com.influxdb.query.internal.FluxResultMapper;
 
@@ -49,7 +59,10 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import okhttp3.RequestBody;
 import okhttp3.ResponseBody;
+import okio.Buffer;
 import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
@@ -105,51 +118,170 @@ public abstract class AbstractQueryApi extends AbstractRestClient {
         return createBody(json.toString());
     }
 
+    /**
+     * The listener of finished queries. The default implementation doesn't listen.
+     *
+     * @return the listener that is notified about statistics of every query
+     */
+    @Nonnull
+    protected QueryListener getQueryListener() {
+        return QueryListener.NOOP;
+    }
+
     protected void query(@Nonnull final Call<ResponseBody> queryCall,
                          @Nonnull final FluxCsvParser.FluxResponseConsumer responseConsumer,
                          @Nonnull final Consumer<? super Throwable> onError,
                          @Nonnull final Runnable onComplete,
                          @Nonnull final Boolean asynchronously) {
 
+        QueryObservation observation = new QueryObservation();
+
+        FluxCsvParser.FluxResponseConsumer countingConsumer = new FluxCsvParser.FluxResponseConsumer() {
+            @Override
+            public void accept(final int index,
+                               @Nonnull final Cancellable cancellable,
+                               @Nonnull final FluxTable table) {
+                long start = observation.pauseParse();
+                try {
+                    responseConsumer.accept(index, cancellable, table);
+                } finally {
+                    observation.resumeParse(start);
+                }
+            }
+
+            @Override
+            public void accept(final int index,
+                               @Nonnull final Cancellable cancellable,
+                               @Nonnull final FluxRecord record) {
+                observation.records++;
+                long start = observation.pauseParse();
+                try {
+                    responseConsumer.accept(index, cancellable, record);
+                } finally {
+                    observation.resumeParse(start);
+                }
+            }
+        };
+
         BiConsumer<Cancellable, BufferedSource> consumer = (cancellable, bufferedSource) -> {
+            long start = observation.beginParse();
             try {
-                fluxCsvParser.parseFluxResponse(bufferedSource, cancellable, responseConsumer);
+                fluxCsvParser.parseFluxResponse(bufferedSource, cancellable, countingConsumer);
             } catch (IOException e) {
+                observation.endParse(start);
+                observation.finish(e);
                 onError.accept(e);
+                return;
             }
+            observation.endParse(start);
         };
 
-        query(queryCall, consumer, onError, onComplete, asynchronously);
+        query(queryCall, consumer, observation, onError, onComplete, asynchronously);
     }
 
     protected FluxRecordIterator queryIterator(@Nonnull final Call<ResponseBody> queryCall) {
         return new FluxRecordIterator(queryCall, ERROR_CONSUMER);
     }
 
+    /**
+     * Enqueue the query call and complete the future by the iterator as soon as the response headers arrive,
+     * so no thread is blocked while the InfluxDB evaluates the query.
+     *
+     * @param queryCall the query call
+     * @return the future completed by the iterator over the response or by the error of the call
+     */
+    @Nonnull
+    protected CompletableFuture<FluxRecordIterator> queryIteratorAsync(@Nonnull final Call<ResponseBody> queryCall) {
+        CompletableFuture<FluxRecordIterator> future = new CompletableFuture<>();
+        new FluxRecordIterator(queryCall, future);
+        return future;
+    }
+
     protected void queryRaw(@Nonnull final Call<ResponseBody> queryCall,
                             @Nonnull final BiConsumer<Cancellable, String> onResponse,
                             @Nonnull final Consumer<? super Throwable> onError,
                             @Nonnull final Runnable onComplete,
                             @Nonnull final Boolean asynchronously) {
 
+        QueryObservation observation = new QueryObservation();
+
         BiConsumer<Cancellable, BufferedSource> consumer = (cancellable, bufferedSource) -> {
 
+            long start = observation.beginParse();
             try {
-                parseFluxResponseToLines(line -> onResponse.accept(cancellable, line), cancellable, bufferedSource);
+                parseFluxResponseToLines(line -> {
+                    observation.records++;
+                    long paused = observation.pauseParse();
+                    try {
+                        onResponse.accept(cancellable, line);
+                    } finally {
+                        observation.resumeParse(paused);
+                    }
+                }, cancellable, bufferedSource);
             } catch (IOException e) {
+                observation.endParse(start);
+                observation.finish(e);
                 catchOrPropagateException(e, onError);
+                return;
             }
+            observation.endParse(start);
         };
 
-        query(queryCall, consumer, onError, onComplete, asynchronously);
+        query(queryCall, consumer, observation, onError, onComplete, asynchronously);
     }
 
     protected RawIterator queryRawIterator(@Nonnull final Call<ResponseBody> queryCall) {
         return new RawIterator(queryCall, ERROR_CONSUMER);
     }
 
+    /**
+     * Enqueue the query call and complete the future by the iterator as soon as the response headers arrive.
+     *
+     * @param queryCall the query call
+     * @return the future completed by the iterator over the response lines or by the error of the call
+     * @see #queryIteratorAsync(Call)
+     */
+    @Nonnull
+    protected CompletableFuture<RawIterator> queryRawIteratorAsync(@Nonnull final Call<ResponseBody> queryCall) {
+        CompletableFuture<RawIterator> future = new CompletableFuture<>();
+        new RawIterator(queryCall, future);
+        return future;
+    }
+
+    /**
+     * Execute the query call and pass the bytes of the response through without parsing.
+     * The returned stream is backed by the connection, so it has to be closed by the caller.
+     *
+     * @param queryCall the query call
+     * @return the stream of the response bytes
+     */
+    @Nonnull
+    protected InputStream queryRawStream(@Nonnull final Call<ResponseBody> queryCall) {
+
+        QueryObservation observation = new QueryObservation();
+        AtomicReference<InputStream> stream = new AtomicReference<>(new ByteArrayInputStream(new byte[0]));
+
+        Consumer<ResponseBody> consumer = body -> stream.set(
+                new FilterInputStream(observation.source(body).inputStream()) {
+                    @Override
+                    public void close() throws IOException {
+                        try {
+                            super.close();
+                        } finally {
+                            observation.finish(null);
+                            body.close();
+                        }
+                    }
+                });
+
+        query(queryCall, consumer, observation, ERROR_CONSUMER, EMPTY_ACTION, false);
+
+        return stream.get();
+    }
+
     private void query(@Nonnull final Call<ResponseBody> query,
                        @Nonnull final BiConsumer<Cancellable, BufferedSource> consumer,
+                       @Nonnull final QueryObservation observation,
                        @Nonnull final Consumer<? super Throwable> onError,
                        @Nonnull final Runnable onComplete,
                        @Nonnull final Boolean asynchronously) {
@@ -164,7 +296,7 @@ public abstract class AbstractQueryApi extends AbstractRestClient {
 
         Consumer<ResponseBody> bodyConsumer = body -> {
             try {
-                BufferedSource source = body.source();
+                BufferedSource source = observation.source(body);
 
                 //
                 // Source has data => parse
@@ -174,11 +306,14 @@ public abstract class AbstractQueryApi extends AbstractRestClient {
                     consumer.accept(cancellable, source);
                 }
 
+                observation.finish(null);
+
                 if (!cancellable.wasCancelled) {
                     onComplete.run();
                 }
 
             } catch (Exception e) {
+                observation.finish(e);
                 catchOrPropagateException(e, onError);
 
             } finally {
@@ -187,11 +322,15 @@ public abstract class AbstractQueryApi extends AbstractRestClient {
             }
         };
 
-        query(query, bodyConsumer, onError, onComplete, asynchronously);
+        query(query, bodyConsumer, observation, onError, onComplete, asynchronously);
     }
 
+    /**
+     * The {@code consumer} is responsible to finish the {@code observation} after the body is consumed.
+     */
     private void query(@Nonnull final Call<ResponseBody> query,
                        @Nonnull final Consumer<ResponseBody> consumer,
+                       @Nonnull final QueryObservation observation,
                        @Nonnull final Consumer<? super Throwable> onError,
                        @Nonnull final Runnable onComplete,
                        @Nonnull final Boolean asynchronously) {
@@ -207,13 +346,19 @@ public abstract class AbstractQueryApi extends AbstractRestClient {
             public void onResponse(@Nonnull final Call<ResponseBody> call,
                                    @Nonnull final Response<ResponseBody> response) {
 
+                observation.response(response);
+
                 if (!response.isSuccessful()) {
-                    onError.accept(responseToError(response));
+                    InfluxException error = responseToError(response);
+                    observation.finish(error);
+                    onError.accept(error);
                     return;
                 }
 
                 ResponseBody body = response.body();
                 if (body == null) {
+                    observation.finish(null);
+                    onComplete.run();
                     return;
                 }
 
@@ -222,6 +367,7 @@ public abstract class AbstractQueryApi extends AbstractRestClient {
 
             @Override
             public void onFailure(@Nonnull final Call<ResponseBody> call, @Nonnull final Throwable throwable) {
+                observation.finish(throwable);
                 onError.accept(throwable);
             }
         };
@@ -237,6 +383,7 @@ public abstract class AbstractQueryApi extends AbstractRestClient {
                 response = query.execute();
                 callback.onResponse(query, response);
             } catch (IOException e) {
+                observation.finish(e);
                 catchOrPropagateException(e, onError);
             }
         }
@@ -269,18 +416,159 @@ public abstract class AbstractQueryApi extends AbstractRestClient {
         }
     }
 
+    /**
+     * Collects the statistics of one query and notifies the {@link #getQueryListener()} when the query is finished.
+     * The body of response is instrumented only if there is a listener.
+     * <p>
+     * The parse time is measured only within the parser calls, the reading of body and the downstream consumers
+     * are excluded. The response is processed by the OkHttp thread or by the reader of iterator, so the values
+     * are volatile to be visible in {@link #finish(Throwable)}.
+     */
+    private final class QueryObservation {
+
+        private final QueryListener listener = getQueryListener();
+        private final long startNanos = System.nanoTime();
+        private final long startMillis = System.currentTimeMillis();
+
+        private volatile int status;
+        private volatile long sentMillis;
+        private volatile long receivedMillis;
+        private volatile long readNanos;
+        private volatile long parseNanos;
+        private volatile long bytes;
+        private volatile long records;
+        private volatile boolean parsing;
+        private final AtomicBoolean finished = new AtomicBoolean(false);
+
+        private void response(@Nonnull final Response<ResponseBody> response) {
+            status = response.code();
+            sentMillis = response.raw().sentRequestAtMillis();
+            receivedMillis = response.raw().receivedResponseAtMillis();
+        }
+
+        @Nonnull
+        private BufferedSource source(@Nonnull final ResponseBody body) {
+
+            if (listener == QueryListener.NOOP) {
+                return body.source();
+            }
+
+            return Okio.buffer(new ForwardingSource(body.source()) {
+                @Override
+                public long read(@Nonnull final Buffer sink, final long byteCount) throws IOException {
+                    long start = System.nanoTime();
+                    try {
+                        long read = super.read(sink, byteCount);
+                        if (read > 0) {
+                            bytes += read;
+                        }
+                        return read;
+                    } finally {
+                        long nanos = System.nanoTime() - start;
+                        readNanos += nanos;
+                        if (parsing) {
+                            parseNanos -= nanos;
+                        }
+                    }
+                }
+            });
+        }
+
+        /**
+         * @return the start of parsing, pass it to {@link #endParse(long)}
+         */
+        private long beginParse() {
+            if (listener == QueryListener.NOOP) {
+                return 0;
+            }
+            parsing = true;
+            return System.nanoTime();
+        }
+
+        private void endParse(final long start) {
+            if (listener == QueryListener.NOOP) {
+                return;
+            }
+            parsing = false;
+            parseNanos += System.nanoTime() - start;
+        }
+
+        /**
+         * Exclude the downstream consumer from the parse time.
+         *
+         * @return the start of consuming, pass it to {@link #resumeParse(long)}
+         */
+        private long pauseParse() {
+            if (listener == QueryListener.NOOP) {
+                return 0;
+            }
+            parsing = false;
+            return System.nanoTime();
+        }
+
+        private void resumeParse(final long start) {
+            if (listener == QueryListener.NOOP) {
+                return;
+            }
+            parseNanos -= System.nanoTime() - start;
+            parsing = true;
+        }
+
+        private void finish(@Nullable final Throwable error) {
+
+            if (listener == QueryListener.NOOP || !finished.compareAndSet(false, true)) {
+                return;
+            }
+
+            long now = System.nanoTime();
+            long sent = sentMillis > 0 ? sentMillis : startMillis;
+            long received = receivedMillis > 0 ? receivedMillis : sent;
+
+            QueryStatistics statistics = new QueryStatistics(
+                    status,
+                    status > 0 ? Duration.ofMillis(Math.max(0, sent - startMillis)) : Duration.ZERO,
+                    Duration.ofMillis(Math.max(0, received - sent)),
+                    Duration.ofNanos(readNanos),
+                    Duration.ofNanos(Math.max(0, parseNanos)),
+                    Duration.ofNanos(now - startNanos),
+                    bytes,
+                    records,
+                    error);
+            try {
+                listener.onQueryFinished(statistics);
+            } catch (Exception e) {
+                LOG.log(Level.WARNING, "The query listener failed", e);
+            }
+        }
+    }
+
     protected final class RawIterator implements Iterator<String>, Closeable, Consumer<ResponseBody> {
 
         private String line = null;
         private boolean closed = false;
         private ResponseBody body;
         private BufferedSource source;
+        private final QueryObservation observation = new QueryObservation();
         private final Consumer<? super Throwable> onError;
+        private final CompletableFuture<RawIterator> ready;
 
         private RawIterator(@Nonnull final Call<ResponseBody> call,
                             @Nonnull final Consumer<? super Throwable> onError) {
             this.onError = onError;
-            query(call, this, onError, EMPTY_ACTION, false);
+            this.ready = null;
+            query(call, this, observation, onError, EMPTY_ACTION, false);
+        }
+
+        private RawIterator(@Nonnull final Call<ResponseBody> call,
+                            @Nonnull final CompletableFuture<RawIterator> ready) {
+            this.onError = throwable -> {
+                // after the response arrives the errors are propagated to the reader of the iterator
+                if (!ready.completeExceptionally(throwable)) {
+                    ERROR_CONSUMER.accept(throwable);
+                }
+            };
+            this.ready = ready;
+            query(call, this, observation, onError, () -> ready.complete(this), true);
         }
 
         @Override
@@ -296,12 +584,16 @@ public abstract class AbstractQueryApi extends AbstractRestClient {
         @Override
         public void accept(final ResponseBody body) {
             this.body = body;
-            this.source = body.source();
+            this.source = observation.source(body);
+            if (ready != null) {
+                ready.complete(this);
+            }
         }
 
         @Override
         public void close() throws IOException {
             closed = true;
+            observation.finish(null);
             if (body != null) {
                 body.close();
             }
@@ -310,13 +602,25 @@ public abstract class AbstractQueryApi extends AbstractRestClient {
         private boolean readNext() {
             line = null;
             try {
-                if (!closed && source.isOpen() && !source.exhausted()) {
-                    line = source.readUtf8Line();
+                if (!closed && source != null && source.isOpen() && !source.exhausted()) {
+                    long start = observation.beginParse();
+                    try {
+                        line = source.readUtf8Line();
+                    } finally {
+                        observation.endParse(start);
+                    }
                 }
             } catch (IOException e) {
+                observation.finish(e);
                 catchOrPropagateException(e, onError);
             }
 
+            if (line != null) {
+                observation.records++;
+            } else {
+                observation.finish(null);
+            }
+
             return line != null;
         }
     }
@@ -330,12 +634,27 @@ public abstract class AbstractQueryApi extends AbstractRestClient {
         private Iterator<CSVRecord> iterator;
 
         private final FluxCsvParser.FluxCsvState state = new FluxCsvParser.FluxCsvState();
+        private final QueryObservation observation = new QueryObservation();
         private final Consumer<? super Throwable> onError;
+        private final CompletableFuture<FluxRecordIterator> ready;
 
         public FluxRecordIterator(@Nonnull final Call<ResponseBody> call,
                                   @Nonnull final Consumer<? super Throwable> onError) {
             this.onError = onError;
-            query(call, this, onError, EMPTY_ACTION, false);
+            this.ready = null;
+            query(call, this, observation, onError, EMPTY_ACTION, false);
+        }
+
+        private FluxRecordIterator(@Nonnull final Call<ResponseBody> call,
+                                   @Nonnull final CompletableFuture<FluxRecordIterator> ready) {
+            this.onError = throwable -> {
+                // after the response arrives the errors are propagated to the reader of the iterator
+                if (!ready.completeExceptionally(throwable)) {
+                    ERROR_CONSUMER.accept(throwable);
+                }
+            };
+            this.ready = ready;
+            query(call, this, observation, onError, () -> ready.complete(this), true);
         }
 
         @Override
@@ -352,18 +671,22 @@ public abstract class AbstractQueryApi extends AbstractRestClient {
         public void accept(final ResponseBody body) {
             this.body = body;
 
-            Reader reader = new InputStreamReader(body.source().inputStream(), StandardCharsets.UTF_8);
+            Reader reader = new InputStreamReader(observation.source(body).inputStream(), StandardCharsets.UTF_8);
             try {
                 parser = new CSVParser(reader, CSVFormat.DEFAULT);
             } catch (IOException e) {
                 catchOrPropagateException(e, onError);
             }
             iterator = parser.iterator();
+            if (ready != null) {
+                ready.complete(this);
+            }
         }
 
         @Override
         public void close() throws IOException {
             closed = true;
+            observation.finish(null);
             if (parser != null) {
                 parser.close();
             }
@@ -375,12 +698,23 @@ public abstract class AbstractQueryApi extends AbstractRestClient {
         private boolean readNext() {
 
             record = null;
-            while (record == null && iterator.hasNext()) {
-                state.csvRecord = iterator.next();
-                FluxCsvParser.FluxRecordOrTable fluxRecordOrTable = fluxCsvParser.parseNextResponse(state);
-                if (fluxRecordOrTable.record != null) {
-                    record = fluxRecordOrTable.record;
+            long start = observation.beginParse();
+            try {
+                while (record == null && iterator != null && iterator.hasNext()) {
+                    state.csvRecord = iterator.next();
+                    FluxCsvParser.FluxRecordOrTable fluxRecordOrTable = fluxCsvParser.parseNextResponse(state);
+                    if (fluxRecordOrTable.record != null) {
+                        record = fluxRecordOrTable.record;
+                    }
                 }
+            } finally {
+                observation.endParse(start);
+            }
+
+            if (record != null) {
+                observation.records++;
+            } else {
+                observation.finish(null);
             }
 
             return record != null;
@@ -0,0 +1,50 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.query;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * The listener of finished queries.
+ * <p>
+ * The listener is notified once per query with the {@link QueryStatistics} that breaks the query time down
+ * into sending the request, waiting for the first byte of response, downloading the body and parsing it.
+ * It's called from the thread that consumed the response and should not block.
+ */
+@ThreadSafe
+@FunctionalInterface
+public interface QueryListener {
+
+    /**
+     * The listener that ignores all queries.
+     */
+    QueryListener NOOP = statistics -> {
+    };
+
+    /**
+     * Called when the query is finished - successfully, by an error or by cancel.
+     *
+     * @param statistics the statistics of the query
+     */
+    void onQueryFinished(@Nonnull final QueryStatistics statistics);
+}
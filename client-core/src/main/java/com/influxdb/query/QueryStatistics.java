@@ -0,0 +1,183 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.query;
+
+import java.time.Duration;
+import java.util.StringJoiner;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.influxdb.Arguments;
+
+/**
+ * The statistics of the finished query.
+ * <p>
+ * The {@link #getRequestDuration()} and {@link #getTimeToFirstByte()} describe how long the query waits
+ * for the server, the {@link #getDownloadDuration()} and {@link #getParseDuration()} how long it takes to
+ * transfer and parse the response. The time spent in the consumers of records is not included.
+ */
+public final class QueryStatistics {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final int status;
+    private final Duration requestDuration;
+    private final Duration timeToFirstByte;
+    private final Duration downloadDuration;
+    private final Duration parseDuration;
+    private final Duration duration;
+    private final long bytes;
+    private final long records;
+    private final Throwable error;
+
+    public QueryStatistics(final int status,
+                           @Nonnull final Duration requestDuration,
+                           @Nonnull final Duration timeToFirstByte,
+                           @Nonnull final Duration downloadDuration,
+                           @Nonnull final Duration parseDuration,
+                           @Nonnull final Duration duration,
+                           final long bytes,
+                           final long records,
+                           @Nullable final Throwable error) {
+
+        Arguments.checkNotNull(requestDuration, "requestDuration");
+        Arguments.checkNotNull(timeToFirstByte, "timeToFirstByte");
+        Arguments.checkNotNull(downloadDuration, "downloadDuration");
+        Arguments.checkNotNull(parseDuration, "parseDuration");
+        Arguments.checkNotNull(duration, "duration");
+
+        this.status = status;
+        this.requestDuration = requestDuration;
+        this.timeToFirstByte = timeToFirstByte;
+        this.downloadDuration = downloadDuration;
+        this.parseDuration = parseDuration;
+        this.duration = duration;
+        this.bytes = bytes;
+        this.records = records;
+        this.error = error;
+    }
+
+    /**
+     * @return the HTTP status code of response or {@code 0} if the query fails without response
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * @return the time between the start of query and the moment when the request was sent
+     * (includes the waiting in dispatcher and the connecting)
+     */
+    @Nonnull
+    public Duration getRequestDuration() {
+        return requestDuration;
+    }
+
+    /**
+     * @return the time between the sent request and received headers of response (millisecond precision)
+     */
+    @Nonnull
+    public Duration getTimeToFirstByte() {
+        return timeToFirstByte;
+    }
+
+    /**
+     * @return the time spent by waiting for the body of response
+     */
+    @Nonnull
+    public Duration getDownloadDuration() {
+        return downloadDuration;
+    }
+
+    /**
+     * @return the time spent in the parser of response (without reading the body and consuming the records)
+     */
+    @Nonnull
+    public Duration getParseDuration() {
+        return parseDuration;
+    }
+
+    /**
+     * @return the overall time of query
+     */
+    @Nonnull
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * @return the number of bytes read from the body of response
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * @return the number of emitted records (lines for the raw query)
+     */
+    public long getRecords() {
+        return records;
+    }
+
+    /**
+     * @return the error that terminated the query or {@code null} for successful or cancelled query
+     */
+    @Nullable
+    public Throwable getError() {
+        return error;
+    }
+
+    /**
+     * @return the throughput of parsing in bytes per second
+     */
+    public double getBytesPerSecond() {
+        return perSecond(bytes, parseDuration);
+    }
+
+    /**
+     * @return the number of records per second of processing the body of response (download and parse)
+     */
+    public double getRecordsPerSecond() {
+        return perSecond(records, downloadDuration.plus(parseDuration));
+    }
+
+    private double perSecond(final long value, @Nonnull final Duration duration) {
+        long nanos = duration.toNanos();
+
+        return nanos > 0 ? value * NANOS_PER_SECOND / nanos : 0;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", QueryStatistics.class.getSimpleName() + "[", "]")
+                .add("status=" + status)
+                .add("requestDuration=" + requestDuration)
+                .add("timeToFirstByte=" + timeToFirstByte)
+                .add("downloadDuration=" + downloadDuration)
+                .add("parseDuration=" + parseDuration)
+                .add("duration=" + duration)
+                .add("bytes=" + bytes)
+                .add("records=" + records)
+                .add("error=" + error)
+                .toString();
+    }
+}
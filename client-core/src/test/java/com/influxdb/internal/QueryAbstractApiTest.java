@@ -22,6 +22,7 @@
 package com.influxdb.internal;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiConsumer;
@@ -30,6 +31,9 @@ import javax.annotation.Nonnull;
 import com.google.gson.JsonParser;
 import com.influxdb.Cancellable;
 import com.influxdb.exceptions.InfluxException;
+import com.influxdb.query.FluxRecord;
+import com.influxdb.query.QueryListener;
+import com.influxdb.query.QueryStatistics;
 import com.influxdb.query.internal.FluxCsvParser;
 import com.influxdb.test.AbstractMockServerTest;
 
@@ -274,6 +278,125 @@ class QueryAbstractApiTest extends AbstractMockServerTest {
         Assertions.assertThat(lines).hasSize(1);
     }
 
+    @Test
+    void queryListener() {
+
+        mockServer.enqueue(createResponse());
+
+        List<QueryStatistics> statistics = new ArrayList<>();
+        queryClient = createListenedClient(statistics::add);
+
+        FluxCsvParser.FluxResponseConsumerTable consumer = queryClient.fluxCsvParser.new FluxResponseConsumerTable();
+
+        queryClient.query(createCall(), consumer, AbstractQueryApi.ERROR_CONSUMER, () -> {
+        }, false);
+
+        Assertions.assertThat(statistics).hasSize(1);
+        Assertions.assertThat(statistics.get(0).getStatus()).isEqualTo(200);
+        Assertions.assertThat(statistics.get(0).getRecords()).isEqualTo(2);
+        Assertions.assertThat(statistics.get(0).getBytes()).isEqualTo(442);
+        Assertions.assertThat(statistics.get(0).getError()).isNull();
+        Assertions.assertThat(statistics.get(0).getDuration())
+                .isGreaterThanOrEqualTo(statistics.get(0).getDownloadDuration().plus(statistics.get(0).getParseDuration()));
+    }
+
+    @Test
+    void queryListenerParseWithoutConsumer() {
+
+        mockServer.enqueue(createResponse());
+
+        List<QueryStatistics> statistics = new ArrayList<>();
+        queryClient = createListenedClient(statistics::add);
+
+        FluxCsvParser.FluxResponseConsumerTable consumer = queryClient.fluxCsvParser.new FluxResponseConsumerTable() {
+            @Override
+            public void accept(final int index,
+                               @Nonnull final Cancellable cancellable,
+                               @Nonnull final FluxRecord record) {
+                try {
+                    Thread.sleep(300);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                super.accept(index, cancellable, record);
+            }
+        };
+
+        queryClient.query(createCall(), consumer, AbstractQueryApi.ERROR_CONSUMER, () -> {
+        }, false);
+
+        Assertions.assertThat(statistics).hasSize(1);
+        Assertions.assertThat(statistics.get(0).getDuration()).isGreaterThanOrEqualTo(Duration.ofMillis(600));
+        Assertions.assertThat(statistics.get(0).getParseDuration()).isLessThan(Duration.ofMillis(300));
+    }
+
+    @Test
+    void queryRawListener() {
+
+        mockServer.enqueue(createResponse());
+
+        List<QueryStatistics> statistics = new ArrayList<>();
+        queryClient = createListenedClient(statistics::add);
+
+        queryClient.queryRaw(createCall(), new RawConsumer(), AbstractQueryApi.ERROR_CONSUMER, () -> countDownLatch.countDown(), true);
+
+        waitToCallback();
+
+        Assertions.assertThat(statistics).hasSize(1);
+        Assertions.assertThat(statistics.get(0).getRecords()).isEqualTo(6);
+        Assertions.assertThat(statistics.get(0).getBytes()).isEqualTo(442);
+    }
+
+    @Test
+    void queryListenerError() {
+
+        mockServer.enqueue(createErrorResponse("Flux query is not valid"));
+
+        List<QueryStatistics> statistics = new ArrayList<>();
+        queryClient = createListenedClient(statistics::add);
+
+        FluxCsvParser.FluxResponseConsumerTable consumer = queryClient.fluxCsvParser.new FluxResponseConsumerTable();
+
+        queryClient.query(createCall(), consumer, throwable -> countDownLatch.countDown(), () -> {
+        }, false);
+
+        waitToCallback();
+
+        Assertions.assertThat(statistics).hasSize(1);
+        Assertions.assertThat(statistics.get(0).getStatus()).isEqualTo(500);
+        Assertions.assertThat(statistics.get(0).getRecords()).isEqualTo(0);
+        Assertions.assertThat(statistics.get(0).getError()).isInstanceOf(InfluxException.class);
+    }
+
+    @Test
+    void queryIteratorListener() throws IOException {
+
+        mockServer.enqueue(createResponse());
+
+        List<QueryStatistics> statistics = new ArrayList<>();
+        queryClient = createListenedClient(statistics::add);
+
+        AbstractQueryApi.FluxRecordIterator iterator = queryClient.queryIterator(createCall());
+        while (iterator.hasNext()) {
+            iterator.next();
+        }
+        iterator.close();
+
+        Assertions.assertThat(statistics).hasSize(1);
+        Assertions.assertThat(statistics.get(0).getRecords()).isEqualTo(2);
+    }
+
+    @Nonnull
+    private AbstractQueryApi createListenedClient(@Nonnull final QueryListener listener) {
+        return new AbstractQueryApi() {
+            @Nonnull
+            @Override
+            protected QueryListener getQueryListener() {
+                return listener;
+            }
+        };
+    }
+
     @Nonnull
     private Call<ResponseBody> createCall() {
 
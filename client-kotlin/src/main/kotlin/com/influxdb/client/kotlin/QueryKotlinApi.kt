@@ -26,6 +26,7 @@ import com.influxdb.client.domain.Dialect
 import com.influxdb.client.domain.Query
 import com.influxdb.query.FluxRecord
 import kotlinx.coroutines.channels.Channel
+import kotlinx.coroutines.flow.Flow
 
 /**
  * The client that allows perform Flux queries against the InfluxDB /api/v2/query endpoint.
@@ -188,4 +189,122 @@ interface QueryKotlinApi {
      * @return the response stream
      */
     fun queryRaw(query: Query, org: String): Channel<String>
-}
\ No newline at end of file
+
+    /**
+     * Executes the Flux query against the InfluxDB and returns the cold [Flow] of [com.influxdb.query.FluxRecord]s.
+     *
+     * The query is executed when the Flow is collected. The response is parsed on [kotlinx.coroutines.Dispatchers.IO]
+     * as the collector demands - at most `bufferCapacity` records are parsed ahead.
+     * The HTTP call is cancelled when the collection stops.
+     *
+     * @param query          the flux query to execute
+     * @param org            specifies the source organization.
+     *                       The [com.influxdb.client.InfluxDBClientOptions.getOrg] will be used as source
+     *                       organization if the `org` is not specified.
+     * @param bufferCapacity the number of records parsed ahead of the collector
+     * @return the stream of [com.influxdb.query.FluxRecord]s
+     */
+    fun queryFlow(query: String, org: String? = null, bufferCapacity: Int = Channel.BUFFERED): Flow<FluxRecord>
+
+    /**
+     * Executes the Flux query against the InfluxDB and returns the cold [Flow] of [com.influxdb.query.FluxRecord]s.
+     *
+     * The query is executed when the Flow is collected. The response is parsed on [kotlinx.coroutines.Dispatchers.IO]
+     * as the collector demands - at most `bufferCapacity` records are parsed ahead.
+     * The HTTP call is cancelled when the collection stops.
+     *
+     * @param query          the flux query to execute
+     * @param org            specifies the source organization.
+     *                       The [com.influxdb.client.InfluxDBClientOptions.getOrg] will be used as source
+     *                       organization if the `org` is not specified.
+     * @param bufferCapacity the number of records parsed ahead of the collector
+     * @return the stream of [com.influxdb.query.FluxRecord]s
+     */
+    fun queryFlow(query: Query, org: String? = null, bufferCapacity: Int = Channel.BUFFERED): Flow<FluxRecord>
+
+    /**
+     * Executes the Flux query against the InfluxDB and returns the cold [Flow] of measurements.
+     *
+     * The query is executed when the Flow is collected. The response is parsed on [kotlinx.coroutines.Dispatchers.IO]
+     * as the collector demands - at most `bufferCapacity` measurements are parsed ahead.
+     * The HTTP call is cancelled when the collection stops.
+     *
+     * @param query           the flux query to execute
+     * @param measurementType the type of measurement
+     * @param org             specifies the source organization.
+     *                        The [com.influxdb.client.InfluxDBClientOptions.getOrg] will be used as source
+     *                        organization if the `org` is not specified.
+     * @param bufferCapacity  the number of measurements parsed ahead of the collector
+     * @param <M>             the type of the measurement (POJO)
+     * @return the stream of measurements
+     */
+    fun <M> queryFlow(
+        query: String,
+        measurementType: Class<M>,
+        org: String? = null,
+        bufferCapacity: Int = Channel.BUFFERED
+    ): Flow<M>
+
+    /**
+     * Executes the Flux query against the InfluxDB and returns the cold [Flow] of measurements.
+     *
+     * The query is executed when the Flow is collected. The response is parsed on [kotlinx.coroutines.Dispatchers.IO]
+     * as the collector demands - at most `bufferCapacity` measurements are parsed ahead.
+     * The HTTP call is cancelled when the collection stops.
+     *
+     * @param query           the flux query to execute
+     * @param measurementType the type of measurement
+     * @param org             specifies the source organization.
+     *                        The [com.influxdb.client.InfluxDBClientOptions.getOrg] will be used as source
+     *                        organization if the `org` is not specified.
+     * @param bufferCapacity  the number of measurements parsed ahead of the collector
+     * @param <M>             the type of the measurement (POJO)
+     * @return the stream of measurements
+     */
+    fun <M> queryFlow(
+        query: Query,
+        measurementType: Class<M>,
+        org: String? = null,
+        bufferCapacity: Int = Channel.BUFFERED
+    ): Flow<M>
+
+    /**
+     * Executes the Flux query against the InfluxDB and returns the cold [Flow] of response lines.
+     *
+     * The query is executed when the Flow is collected. The response is read on [kotlinx.coroutines.Dispatchers.IO]
+     * as the collector demands - at most `bufferCapacity` lines are read ahead.
+     * The HTTP call is cancelled when the collection stops.
+     *
+     * @param query          the flux query to execute
+     * @param dialect        Dialect is an object defining the options to use when encoding the response.
+     *                       [See dialect SPEC](http://bit.ly/flux-dialect).
+     *                       The default dialect is used if the `dialect` is not specified.
+     * @param org            specifies the source organization.
+     *                       The [com.influxdb.client.InfluxDBClientOptions.getOrg] will be used as source
+     *                       organization if the `org` is not specified.
+     * @param bufferCapacity the number of lines read ahead of the collector
+     * @return the response stream
+     */
+    fun queryRawFlow(
+        query: String,
+        dialect: Dialect? = null,
+        org: String? = null,
+        bufferCapacity: Int = Channel.BUFFERED
+    ): Flow<String>
+
+    /**
+     * Executes the Flux query against the InfluxDB and returns the cold [Flow] of response lines.
+     *
+     * The query is executed when the Flow is collected. The response is read on [kotlinx.coroutines.Dispatchers.IO]
+     * as the collector demands - at most `bufferCapacity` lines are read ahead.
+     * The HTTP call is cancelled when the collection stops.
+     *
+     * @param query          the flux query to execute
+     * @param org            specifies the source organization.
+     *                       The [com.influxdb.client.InfluxDBClientOptions.getOrg] will be used as source
+     *                       organization if the `org` is not specified.
+     * @param bufferCapacity the number of lines read ahead of the collector
+     * @return the response stream
+     */
+    fun queryRawFlow(query: Query, org: String? = null, bufferCapacity: Int = Channel.BUFFERED): Flow<String>
+}
@@ -0,0 +1,63 @@
+/**
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.kotlin
+
+import com.influxdb.Arguments
+import java.time.Duration
+
+/**
+ * WriteFlowOptions are used to configure how [WriteKotlinApi] splits the [kotlinx.coroutines.flow.Flow] into chunks.
+ *
+ * The Flow is collected incrementally and the chunk is written into InfluxDB when it reaches the [chunkSize]
+ * or the [chunkBytes] limit or when it is older than [flushInterval]. At most [maxInFlight] chunks are uploaded
+ * concurrently, the collecting of the Flow is suspended until the upload of some chunk is finished.
+ *
+ * @param chunkSize     the maximum number of records in one chunk, default 5000
+ * @param chunkBytes    the maximum size of one chunk in bytes, default 4 MiB
+ * @param flushInterval the maximum time to hold the records in the chunk, default 1 second;
+ *                      the [Duration.ZERO] disables the time bound
+ * @param maxInFlight   the maximum number of concurrent uploads of chunks, default 1
+ */
+class WriteFlowOptions(
+    val chunkSize: Int = 5000,
+    val chunkBytes: Int = 4 * 1024 * 1024,
+    val flushInterval: Duration = Duration.ofSeconds(1),
+    val maxInFlight: Int = 1
+) {
+
+    init {
+        Arguments.checkPositiveNumber(chunkSize, "chunkSize")
+        Arguments.checkPositiveNumber(chunkBytes, "chunkBytes")
+        Arguments.checkNotNull(flushInterval, "flushInterval")
+        require(!flushInterval.isNegative) { "Expecting a non-negative duration for flushInterval" }
+        Arguments.checkPositiveNumber(maxInFlight, "maxInFlight")
+    }
+
+    companion object {
+
+        /**
+         * Default configuration.
+         */
+        @JvmField
+        val DEFAULTS = WriteFlowOptions()
+    }
+}
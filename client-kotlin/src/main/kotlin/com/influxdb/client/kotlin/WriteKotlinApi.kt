@@ -71,7 +71,7 @@ interface WriteKotlinApi {
      * If any exception occurs during write, this exception is rethrown from this method.
      *
      * @param records   specified in [LineProtocol](http://bit.ly/line-protocol).
-     *                  The `records` are considered as one batch unit.
+     *                  The `records` are collected incrementally and written in chunks bounded by the `options`.
      * @param precision precision for the unix timestamps within the body line-protocol
      * @param bucket    specifies the destination bucket for writes.
      *                  The [com.influxdb.client.InfluxDBClientOptions.getBucket] will be used as the destination
@@ -79,8 +79,15 @@ interface WriteKotlinApi {
      * @param org       specifies the destination organization for writes.
      *                  The [com.influxdb.client.InfluxDBClientOptions.getOrg] will be used as the destination
      *                  `organization` if the `org` is not specified.
+     * @param options   the configuration of chunks
      */
-    suspend fun writeRecords(records: Flow<String>, precision: WritePrecision, bucket: String? = null, org: String? = null)
+    suspend fun writeRecords(
+        records: Flow<String>,
+        precision: WritePrecision,
+        bucket: String? = null,
+        org: String? = null,
+        options: WriteFlowOptions = WriteFlowOptions.DEFAULTS
+    )
 
     /**
      * Write Data Point into InfluxDB.
@@ -117,15 +124,22 @@ interface WriteKotlinApi {
      *
      * If any exception occurs during write, this exception is rethrown from this method.
      *
-     * @param points    specified data points. The `points` are considered as one batch unit.
+     * @param points    specified data points. The `points` are collected incrementally and written in chunks
+     *                  bounded by the `options`.
      * @param bucket    specifies the destination bucket for writes.
      *                  The [com.influxdb.client.InfluxDBClientOptions.getBucket] will be used as the destination
      *                  `bucket` if the `bucket` is not specified.
      * @param org       specifies the destination organization for writes.
      *                  The [com.influxdb.client.InfluxDBClientOptions.getOrg] will be used as the destination
      *                  `organization` if the `org` is not specified.
+     * @param options   the configuration of chunks
      */
-    suspend fun writePoints(points: Flow<Point>, bucket: String? = null, org: String? = null)
+    suspend fun writePoints(
+        points: Flow<Point>,
+        bucket: String? = null,
+        org: String? = null,
+        options: WriteFlowOptions = WriteFlowOptions.DEFAULTS
+    )
 
     /**
      * Write Measurement into InfluxDB.
@@ -166,7 +180,8 @@ interface WriteKotlinApi {
      *
      * If any exception occurs during write, this exception is rethrown from this method.
      *
-     * @param measurements  specified Measurements. The `measurements` are considered as one batch unit.
+     * @param measurements  specified Measurements. The `measurements` are collected incrementally and written
+     *                      in chunks bounded by the `options`.
      * @param precision     precision for the unix timestamps within the body line-protocol
      * @param bucket        specifies the destination bucket for writes.
      *                      The [com.influxdb.client.InfluxDBClientOptions.getBucket] will be used as the destination
@@ -174,7 +189,14 @@ interface WriteKotlinApi {
      * @param org           specifies the destination organization for writes.
      *                      The [com.influxdb.client.InfluxDBClientOptions.getOrg] will be used as the destination
      *                      `organization` if the `org` is not specified.
+     * @param options       the configuration of chunks
      * @param <M>           measurement type
      */
-    suspend fun <M> writeMeasurements(measurements: Flow<M>, precision: WritePrecision, bucket: String? = null, org: String? = null)
+    suspend fun <M> writeMeasurements(
+        measurements: Flow<M>,
+        precision: WritePrecision,
+        bucket: String? = null,
+        org: String? = null,
+        options: WriteFlowOptions = WriteFlowOptions.DEFAULTS
+    )
 }
\ No newline at end of file
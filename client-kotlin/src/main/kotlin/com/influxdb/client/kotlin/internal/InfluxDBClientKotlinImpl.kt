@@ -37,11 +37,11 @@ import com.influxdb.client.service.WriteService
 internal class InfluxDBClientKotlinImpl(options: InfluxDBClientOptions) : AbstractInfluxDBClient(options, "kotlin"), InfluxDBClientKotlin {
 
     override fun getQueryKotlinApi(): QueryKotlinApi {
-        return QueryKotlinApiImpl(retrofit.create(QueryService::class.java), options)
+        return QueryKotlinApiImpl(queryRetrofit.create(QueryService::class.java), options)
     }
 
     override fun getWriteKotlinApi(): WriteKotlinApi {
-        return WriteKotlinApiImpl(retrofit.create(WriteService::class.java), options)
+        return WriteKotlinApiImpl(writeRetrofit.create(WriteService::class.java), options)
     }
 
     override fun health(): HealthCheck {
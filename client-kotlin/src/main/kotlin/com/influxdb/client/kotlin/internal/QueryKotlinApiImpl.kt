@@ -32,9 +32,20 @@ import com.influxdb.client.service.QueryService
 import com.influxdb.internal.AbstractQueryApi
 import com.influxdb.query.FluxRecord
 import com.influxdb.query.FluxTable
+import com.influxdb.query.QueryListener
 import com.influxdb.query.internal.FluxCsvParser.FluxResponseConsumer
+import kotlinx.coroutines.Dispatchers
 import kotlinx.coroutines.channels.Channel
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.buffer
+import kotlinx.coroutines.flow.channelFlow
+import kotlinx.coroutines.flow.flowOn
+import kotlinx.coroutines.launch
 import kotlinx.coroutines.runBlocking
+import okhttp3.ResponseBody
+import retrofit2.Call
+import java.io.Closeable
 import java.util.function.BiConsumer
 
 /**
@@ -42,6 +53,10 @@ import java.util.function.BiConsumer
  */
 internal class QueryKotlinApiImpl(private val service: QueryService, private val options: InfluxDBClientOptions) : AbstractQueryApi(), QueryKotlinApi {
 
+    override fun getQueryListener(): QueryListener {
+        return options.queryListener
+    }
+
     override fun query(query: String): Channel<FluxRecord> {
 
         Arguments.checkNotNull(options.org, "InfluxDBClientOptions.getOrg")
@@ -186,6 +201,91 @@ internal class QueryKotlinApiImpl(private val service: QueryService, private val
 
     }
 
+    override fun queryFlow(query: String, org: String?, bufferCapacity: Int): Flow<FluxRecord> {
+
+        Arguments.checkNonEmpty(query, "query")
+
+        return queryFlow(Query().dialect(AbstractInfluxDBClient.DEFAULT_DIALECT).query(query), org, bufferCapacity)
+    }
+
+    override fun queryFlow(query: Query, org: String?, bufferCapacity: Int): Flow<FluxRecord> {
+
+        return queryFlow(query, org, bufferCapacity, { queryIterator(it) }, { it })
+    }
+
+    override fun <M> queryFlow(query: String, measurementType: Class<M>, org: String?, bufferCapacity: Int): Flow<M> {
+
+        Arguments.checkNonEmpty(query, "query")
+
+        val fluxQuery = Query().dialect(AbstractInfluxDBClient.DEFAULT_DIALECT).query(query)
+
+        return queryFlow(fluxQuery, measurementType, org, bufferCapacity)
+    }
+
+    override fun <M> queryFlow(query: Query, measurementType: Class<M>, org: String?, bufferCapacity: Int): Flow<M> {
+
+        Arguments.checkNotNull(measurementType, "measurementType")
+
+        return queryFlow(query, org, bufferCapacity, { queryIterator(it) }, {
+            resultMapper.toPOJO(it, measurementType)
+        })
+    }
+
+    override fun queryRawFlow(query: String, dialect: Dialect?, org: String?, bufferCapacity: Int): Flow<String> {
+
+        Arguments.checkNonEmpty(query, "query")
+
+        return queryRawFlow(Query().dialect(dialect ?: AbstractInfluxDBClient.DEFAULT_DIALECT).query(query), org,
+            bufferCapacity)
+    }
+
+    override fun queryRawFlow(query: Query, org: String?, bufferCapacity: Int): Flow<String> {
+
+        return queryFlow(query, org, bufferCapacity, { queryRawIterator(it) }, { it })
+    }
+
+    /**
+     * The response is read by blocking iterator on [Dispatchers.IO] and the records are sent to collector through
+     * the buffer of `bufferCapacity`. The cancellation of collector cancels the HTTP call,
+     * which also unblocks the reading of response.
+     */
+    private fun <E, I, T> queryFlow(
+        query: Query,
+        org: String?,
+        bufferCapacity: Int,
+        open: (Call<ResponseBody>) -> I,
+        transform: (E) -> T
+    ): Flow<T> where I : Iterator<E>, I : Closeable {
+
+        Arguments.checkNotNull(query, "query")
+
+        val orgOrOption = org ?: options.org
+        Arguments.checkNonEmpty(orgOrOption, "org")
+
+        return channelFlow {
+
+            val queryCall = service.postQueryResponseBody(null, null, null, orgOrOption, null, query)
+
+            val cancellation = launch {
+                try {
+                    delay(Long.MAX_VALUE)
+                } finally {
+                    queryCall.cancel()
+                }
+            }
+
+            try {
+                open(queryCall).use { iterator ->
+                    while (iterator.hasNext()) {
+                        send(transform(iterator.next()))
+                    }
+                }
+            } finally {
+                cancellation.cancel()
+            }
+        }.buffer(bufferCapacity).flowOn(Dispatchers.IO)
+    }
+
     private fun <T> query(query: Query, org: String, consumer: BiConsumer<Channel<T>, FluxRecord>): Channel<T> {
 
         Arguments.checkNotNull(query, "query")
@@ -25,19 +25,32 @@ import com.influxdb.client.InfluxDBClientOptions
 import com.influxdb.client.domain.WritePrecision
 import com.influxdb.client.internal.AbstractWriteBlockingClient
 import com.influxdb.client.internal.AbstractWriteClient
+import com.influxdb.client.internal.WriteChunker
+import com.influxdb.client.kotlin.WriteFlowOptions
 import com.influxdb.client.kotlin.WriteKotlinApi
 import com.influxdb.client.service.WriteService
 import com.influxdb.client.write.Point
+import com.influxdb.exceptions.InfluxException
+import kotlinx.coroutines.coroutineScope
+import kotlinx.coroutines.delay
 import kotlinx.coroutines.flow.Flow
-import kotlinx.coroutines.flow.asFlow
-import kotlinx.coroutines.flow.map
-import kotlinx.coroutines.flow.toList
+import kotlinx.coroutines.flow.collect
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.suspendCancellableCoroutine
+import kotlinx.coroutines.sync.Mutex
+import kotlinx.coroutines.sync.Semaphore
+import kotlinx.coroutines.sync.withLock
+import retrofit2.Call
+import retrofit2.Callback
+import retrofit2.Response
 import java.util.*
+import kotlin.coroutines.resume
+import kotlin.coroutines.resumeWithException
 
 /**
  * @author Jakub Bednar (20/04/2021 9:27)
  */
-internal class WriteKotlinApiImpl(service: WriteService, options: InfluxDBClientOptions) :
+internal class WriteKotlinApiImpl(private val service: WriteService, options: InfluxDBClientOptions) :
     AbstractWriteBlockingClient(service, options),
     WriteKotlinApi {
 
@@ -51,11 +64,17 @@ internal class WriteKotlinApiImpl(service: WriteService, options: InfluxDBClient
         bucket: String?,
         org: String?
     ) {
-        writeRecords(records.asFlow(), precision, bucket, org)
+        write(records.map { AbstractWriteClient.BatchWriteDataRecord(it) }, precision, bucket, org)
     }
 
-    override suspend fun writeRecords(records: Flow<String>, precision: WritePrecision, bucket: String?, org: String?) {
-        write(records.map { AbstractWriteClient.BatchWriteDataRecord(it) }, precision, bucket, org)
+    override suspend fun writeRecords(
+        records: Flow<String>,
+        precision: WritePrecision,
+        bucket: String?,
+        org: String?,
+        options: WriteFlowOptions
+    ) {
+        writeChunks(records, precision, bucket, org, options)
     }
 
     override suspend fun writePoint(point: Point, bucket: String?, org: String?) {
@@ -63,23 +82,17 @@ internal class WriteKotlinApiImpl(service: WriteService, options: InfluxDBClient
     }
 
     override suspend fun writePoints(points: Iterable<Point>, bucket: String?, org: String?) {
-        writePoints(points.asFlow(), bucket, org)
-    }
-
-    override suspend fun writePoints(points: Flow<Point>, bucket: String?, org: String?) {
         points
-            .toList()
             .groupByTo(LinkedHashMap(), { it.precision }, { it })
             .forEach { group ->
-                write(
-                    group.value.asFlow().map { AbstractWriteClient.BatchWriteDataPoint(it, options) },
-                    group.key,
-                    bucket,
-                    org
-                )
+                write(group.value.map { AbstractWriteClient.BatchWriteDataPoint(it, options) }, group.key, bucket, org)
             }
     }
 
+    override suspend fun writePoints(points: Flow<Point>, bucket: String?, org: String?, options: WriteFlowOptions) {
+        writeChunks(points, WritePrecision.NS, bucket, org, options)
+    }
+
     override suspend fun <M> writeMeasurement(
         measurement: M,
         precision: WritePrecision,
@@ -95,29 +108,136 @@ internal class WriteKotlinApiImpl(service: WriteService, options: InfluxDBClient
         bucket: String?,
         org: String?
     ) {
-        writeMeasurements(measurements.asFlow(), precision, bucket, org)
+        write(measurements.map { toMeasurementBatch(it, precision) }, precision, bucket, org)
     }
 
     override suspend fun <M> writeMeasurements(
         measurements: Flow<M>,
         precision: WritePrecision,
         bucket: String?,
-        org: String?
+        org: String?,
+        options: WriteFlowOptions
     ) {
-        write(measurements.map { toMeasurementBatch(it, precision) }, precision, bucket, org)
+        writeChunks(measurements, precision, bucket, org, options)
     }
 
     private suspend fun write(
-        records: Flow<AbstractWriteClient.BatchWriteData>,
+        records: List<AbstractWriteClient.BatchWriteData>,
         precision: WritePrecision,
         bucket: String?,
         org: String?
     ) {
 
+        val lineProtocol = records
+            .mapNotNull { it.toLineProtocol() }
+            .filter { it.isNotEmpty() }
+            .joinToString("\n")
+
+        if (lineProtocol.isEmpty()) {
+            return
+        }
+
+        post(bucket ?: options.bucket.orEmpty(), org ?: options.org.orEmpty(), precision, lineProtocol)
+    }
+
+    /**
+     * Collects the Flow into chunks bounded by size, bytes and age. The chunks are uploaded by child coroutines,
+     * so the failed upload cancels the collecting and the cancellation of caller cancels the uploads.
+     */
+    private suspend fun writeChunks(
+        data: Flow<Any?>,
+        precision: WritePrecision,
+        bucket: String?,
+        org: String?,
+        flowOptions: WriteFlowOptions
+    ) = coroutineScope {
+
         val bucketOrOption = bucket ?: options.bucket.orEmpty()
         val orgOrOption = org ?: options.org.orEmpty()
 
-        write(bucketOrOption, orgOrOption, precision, records.toList().stream())
+        val uploads = Semaphore(flowOptions.maxInFlight)
+        val lock = Mutex()
+        val chunker = WriteChunker(flowOptions.chunkSize, flowOptions.chunkBytes.toLong())
+        var chunkStarted = 0L
+
+        // called under the lock, suspends when there are too many uploads in flight
+        suspend fun upload(chunks: List<WriteChunker.Chunk>) {
+            chunks.forEach { chunk ->
+                val lineProtocol = chunk.toLineProtocol()
+                uploads.acquire()
+                launch {
+                    try {
+                        post(bucketOrOption, orgOrOption, chunk.precision, lineProtocol)
+                    } finally {
+                        uploads.release()
+                    }
+                }
+            }
+        }
+
+        val interval = flowOptions.flushInterval.toMillis()
+        val timer = if (interval > 0) launch {
+            while (true) {
+                val remaining = lock.withLock {
+                    val age = if (!chunker.isEmpty) (System.nanoTime() - chunkStarted) / 1_000_000 else 0
+                    if (!chunker.isEmpty && age >= interval) {
+                        upload(chunker.flush())
+                        interval
+                    } else {
+                        interval - age
+                    }
+                }
+                delay(remaining)
+            }
+        } else null
+
+        data.collect { item ->
+            if (item == null) {
+                return@collect
+            }
+
+            val line = toLine(item, precision)
+
+            lock.withLock {
+                val started = chunker.isEmpty
+                val closed = chunker.add(line)
+                if (started || closed.isNotEmpty()) {
+                    chunkStarted = System.nanoTime()
+                }
+                upload(closed)
+            }
+        }
+
+        timer?.cancel()
+        lock.withLock { upload(chunker.flush()) }
     }
-}
 
+    /**
+     * Posts the data by asynchronous HTTP call, the cancellation of coroutine cancels the call.
+     */
+    private suspend fun post(bucket: String, org: String, precision: WritePrecision, lineProtocol: String) {
+
+        val call = service.postWrite(
+            org, bucket, lineProtocol, null,
+            "identity", "text/plain; charset=utf-8", null,
+            "application/json", null, precision
+        )
+
+        suspendCancellableCoroutine<Unit> { continuation ->
+            continuation.invokeOnCancellation { call.cancel() }
+            call.enqueue(object : Callback<Void> {
+                override fun onResponse(call: Call<Void>, response: Response<Void>) {
+                    if (response.isSuccessful) {
+                        continuation.resume(Unit)
+                    } else {
+                        continuation.resumeWithException(responseToError(response))
+                    }
+                }
+
+                override fun onFailure(call: Call<Void>, throwable: Throwable) {
+                    continuation.resumeWithException(InfluxException(throwable))
+                }
+            })
+        }
+    }
+}
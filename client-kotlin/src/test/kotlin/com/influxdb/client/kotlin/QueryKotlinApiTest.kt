@@ -0,0 +1,161 @@
+/**
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.kotlin
+
+import com.influxdb.annotations.Column
+import com.influxdb.client.domain.Dialect
+import com.influxdb.exceptions.UnauthorizedException
+import com.influxdb.test.AbstractMockServerTest
+import kotlinx.coroutines.flow.take
+import kotlinx.coroutines.flow.toList
+import kotlinx.coroutines.runBlocking
+import org.assertj.core.api.Assertions
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.junit.platform.runner.JUnitPlatform
+import org.junit.runner.RunWith
+import java.time.Instant
+import java.util.concurrent.TimeUnit
+
+@RunWith(JUnitPlatform::class)
+class QueryKotlinApiTest : AbstractMockServerTest() {
+
+    private val data = "#datatype,string,long,dateTime:RFC3339,dateTime:RFC3339,dateTime:RFC3339,long,string,string\n" +
+            "#group,false,false,true,true,false,false,true,true\n" +
+            "#default,_result,,,,,,,\n" +
+            ",result,table,_start,_stop,_time,_value,_field,_measurement\n" +
+            ",,0,1970-01-01T00:00:10Z,1970-01-01T00:00:20Z,1970-01-01T00:00:10Z,10,free,mem\n" +
+            ",,0,1970-01-01T00:00:10Z,1970-01-01T00:00:20Z,1970-01-01T00:00:11Z,11,free,mem\n"
+
+    private lateinit var client: InfluxDBClientKotlin
+    private lateinit var queryApi: QueryKotlinApi
+
+    @BeforeEach
+    fun beforeEach() {
+        client = InfluxDBClientKotlinFactory.create(startMockServer(), "my-token".toCharArray(), "my-org")
+        queryApi = client.getQueryKotlinApi()
+    }
+
+    @AfterEach
+    fun afterEach() {
+        client.close()
+    }
+
+    @Test
+    fun queryFlow(): Unit = runBlocking {
+
+        mockServer.enqueue(createResponse(data))
+
+        val records = queryApi.queryFlow("from(bucket:\"my-bucket\")").toList()
+
+        Assertions.assertThat(records).hasSize(2)
+        Assertions.assertThat(records[0].value).isEqualTo(10L)
+        Assertions.assertThat(records[1].value).isEqualTo(11L)
+
+        val request = mockServer.takeRequest(10L, TimeUnit.SECONDS)
+        Assertions.assertThat(request!!.requestUrl!!.queryParameter("org")).isEqualTo("my-org")
+    }
+
+    @Test
+    fun queryFlowIsCold(): Unit = runBlocking {
+
+        val flow = queryApi.queryFlow("from(bucket:\"my-bucket\")", "other-org")
+
+        Assertions.assertThat(mockServer.requestCount).isEqualTo(0)
+
+        mockServer.enqueue(createResponse(data))
+        Assertions.assertThat(flow.toList()).hasSize(2)
+
+        val request = mockServer.takeRequest(10L, TimeUnit.SECONDS)
+        Assertions.assertThat(request!!.requestUrl!!.queryParameter("org")).isEqualTo("other-org")
+    }
+
+    @Test
+    fun queryFlowMeasurement(): Unit = runBlocking {
+
+        mockServer.enqueue(createResponse(data))
+
+        val measurements = queryApi.queryFlow("from(bucket:\"my-bucket\")", Mem::class.java).toList()
+
+        Assertions.assertThat(measurements).hasSize(2)
+        Assertions.assertThat(measurements[0].free).isEqualTo(10L)
+        Assertions.assertThat(measurements[0].time).isEqualTo(Instant.ofEpochSecond(10))
+        Assertions.assertThat(measurements[1].free).isEqualTo(11L)
+    }
+
+    @Test
+    fun queryRawFlow(): Unit = runBlocking {
+
+        mockServer.enqueue(createResponse(data))
+
+        val lines = queryApi.queryRawFlow("from(bucket:\"my-bucket\")", Dialect().header(false)).toList()
+
+        Assertions.assertThat(lines).hasSize(6)
+        Assertions.assertThat(lines[0]).startsWith("#datatype")
+        Assertions.assertThat(lines[5]).isEqualTo(",,0,1970-01-01T00:00:10Z,1970-01-01T00:00:20Z,1970-01-01T00:00:11Z,11,free,mem")
+
+        val request = mockServer.takeRequest(10L, TimeUnit.SECONDS)
+        Assertions.assertThat(request!!.body.readUtf8()).contains("\"header\":false")
+    }
+
+    @Test
+    fun cancelHttpCall(): Unit = runBlocking {
+
+        val body = StringBuilder(data)
+        for (i in 1..10_000) {
+            body.append(",,0,1970-01-01T00:00:10Z,1970-01-01T00:00:20Z,1970-01-01T00:00:11Z,$i,free,mem\n")
+        }
+
+        // the whole response takes ~ 100 seconds
+        mockServer.enqueue(createResponse(body.toString()).throttleBody(8 * 1024, 1, TimeUnit.SECONDS))
+
+        val started = System.currentTimeMillis()
+        val records = queryApi.queryFlow("from(bucket:\"my-bucket\")", bufferCapacity = 0).take(3).toList()
+
+        Assertions.assertThat(records).hasSize(3)
+        Assertions.assertThat(System.currentTimeMillis() - started).isLessThan(5_000)
+    }
+
+    @Test
+    fun error() {
+
+        mockServer.enqueue(createErrorResponse("token does not have sufficient permissions", true, 401))
+
+        Assertions
+            .assertThatThrownBy {
+                runBlocking {
+                    queryApi.queryFlow("from(bucket:\"my-bucket\")").toList()
+                }
+            }.hasMessageStartingWith("token does not have sufficient permissions")
+            .isInstanceOf(UnauthorizedException::class.java)
+    }
+
+    class Mem {
+
+        @Column(name = "_value")
+        internal var free: Long? = null
+
+        @Column(name = "_time", timestamp = true)
+        internal var time: Instant? = null
+    }
+}
@@ -25,9 +25,13 @@ import com.influxdb.client.domain.WritePrecision
 import com.influxdb.client.write.Point
 import com.influxdb.exceptions.UnauthorizedException
 import com.influxdb.test.AbstractMockServerTest
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.cancelAndJoin
+import kotlinx.coroutines.delay
 import kotlinx.coroutines.flow.Flow
 import kotlinx.coroutines.flow.collect
 import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.launch
 import kotlinx.coroutines.runBlocking
 import org.assertj.core.api.Assertions
 import org.junit.jupiter.api.AfterEach
@@ -35,6 +39,7 @@ import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
 import org.junit.platform.runner.JUnitPlatform
 import org.junit.runner.RunWith
+import java.time.Duration
 import java.time.Instant
 import java.util.concurrent.TimeUnit
 
@@ -230,6 +235,144 @@ class WriteKotlinApiTest : AbstractMockServerTest() {
         Assertions.assertThat(mockServer.requestCount).isEqualTo(5)
     }
 
+    @Test
+    fun flowChunks(): Unit = runBlocking {
+
+        enqueuedResponse()
+        enqueuedResponse()
+        enqueuedResponse()
+
+        val lineProtocols = flow {
+            for (i in 1..25) {
+                emit("h2o,location=coyote_creek level=${i}.0 $i")
+            }
+        }
+
+        writeApi.writeRecords(lineProtocols, WritePrecision.S, options = WriteFlowOptions(chunkSize = 10))
+
+        Assertions.assertThat(mockServer.requestCount).isEqualTo(3)
+
+        var body = mockServer.takeRequest(10L, TimeUnit.SECONDS)?.body?.readUtf8()
+        Assertions.assertThat(body).startsWith("h2o,location=coyote_creek level=1.0 1")
+        Assertions.assertThat(body).endsWith("h2o,location=coyote_creek level=10.0 10")
+
+        body = mockServer.takeRequest(10L, TimeUnit.SECONDS)?.body?.readUtf8()
+        Assertions.assertThat(body).startsWith("h2o,location=coyote_creek level=11.0 11")
+        Assertions.assertThat(body).endsWith("h2o,location=coyote_creek level=20.0 20")
+
+        body = mockServer.takeRequest(10L, TimeUnit.SECONDS)?.body?.readUtf8()
+        Assertions.assertThat(body).startsWith("h2o,location=coyote_creek level=21.0 21")
+        Assertions.assertThat(body).endsWith("h2o,location=coyote_creek level=25.0 25")
+    }
+
+    @Test
+    fun flowChunksByBytes(): Unit = runBlocking {
+
+        enqueuedResponse()
+        enqueuedResponse()
+
+        val points = flow {
+            emit(Point.measurement("h2o").addField("level", 1).time(1, WritePrecision.NS))
+            emit(Point.measurement("h2o").addField("level", 2).time(2, WritePrecision.NS))
+            emit(Point.measurement("h2o").addField("level", 3).time(3, WritePrecision.NS))
+        }
+
+        writeApi.writePoints(points, options = WriteFlowOptions(chunkBytes = 30))
+
+        Assertions.assertThat(mockServer.takeRequest(10L, TimeUnit.SECONDS)?.body?.readUtf8())
+            .isEqualTo("h2o level=1i 1\nh2o level=2i 2")
+        Assertions.assertThat(mockServer.takeRequest(10L, TimeUnit.SECONDS)?.body?.readUtf8())
+            .isEqualTo("h2o level=3i 3")
+    }
+
+    @Test
+    fun flowPrecisionChunks(): Unit = runBlocking {
+
+        enqueuedResponse()
+        enqueuedResponse()
+
+        val points = flow {
+            emit(Point.measurement("h2o").addField("level", 1).time(1, WritePrecision.NS))
+            emit(Point.measurement("h2o").addField("level", 2).time(2, WritePrecision.S))
+        }
+
+        writeApi.writePoints(points)
+
+        var request = mockServer.takeRequest(10L, TimeUnit.SECONDS)
+        Assertions.assertThat(request?.body?.readUtf8()).isEqualTo("h2o level=1i 1")
+        Assertions.assertThat(request!!.requestUrl!!.queryParameter("precision")).isEqualTo("ns")
+
+        request = mockServer.takeRequest(10L, TimeUnit.SECONDS)
+        Assertions.assertThat(request?.body?.readUtf8()).isEqualTo("h2o level=2i 2")
+        Assertions.assertThat(request!!.requestUrl!!.queryParameter("precision")).isEqualTo("s")
+    }
+
+    @Test
+    fun flowFlushInterval(): Unit = runBlocking {
+
+        enqueuedResponse()
+
+        val job = launch(Dispatchers.IO) {
+            val unbounded = flow {
+                emit("h2o,location=coyote_creek level=1.0 1")
+                emit("h2o,location=coyote_creek level=2.0 2")
+                delay(Long.MAX_VALUE)
+            }
+
+            writeApi.writeRecords(unbounded, WritePrecision.S, options = WriteFlowOptions(flushInterval = Duration.ofMillis(100)))
+        }
+
+        val request = mockServer.takeRequest(10L, TimeUnit.SECONDS)
+        Assertions.assertThat(request?.body?.readUtf8())
+            .isEqualTo("h2o,location=coyote_creek level=1.0 1\nh2o,location=coyote_creek level=2.0 2")
+        Assertions.assertThat(job.isActive).isTrue()
+
+        job.cancelAndJoin()
+    }
+
+    @Test
+    fun flowParallelChunks(): Unit = runBlocking {
+
+        mockServer.enqueue(createResponse("{}").setBodyDelay(500, TimeUnit.MILLISECONDS).setResponseCode(204))
+        mockServer.enqueue(createResponse("{}").setBodyDelay(500, TimeUnit.MILLISECONDS).setResponseCode(204))
+
+        val lineProtocols = flow {
+            emit("h2o,location=coyote_creek level=1.0 1")
+            emit("h2o,location=coyote_creek level=2.0 2")
+        }
+
+        val job = launch(Dispatchers.IO) {
+            writeApi.writeRecords(lineProtocols, WritePrecision.S,
+                options = WriteFlowOptions(chunkSize = 1, maxInFlight = 2))
+        }
+
+        Assertions.assertThat(mockServer.takeRequest(10L, TimeUnit.SECONDS)).isNotNull
+        Assertions.assertThat(mockServer.takeRequest(400L, TimeUnit.MILLISECONDS)).isNotNull
+
+        job.join()
+    }
+
+    @Test
+    fun flowException() {
+
+        mockServer.enqueue(createErrorResponse("token does not have sufficient permissions", true, 401))
+
+        val lineProtocols = flow {
+            var i = 0
+            while (true) {
+                emit("h2o,location=coyote_creek level=${i}.0 ${i++}")
+            }
+        }
+
+        Assertions
+            .assertThatThrownBy {
+                runBlocking {
+                    writeApi.writeRecords(lineProtocols, WritePrecision.S, options = WriteFlowOptions(chunkSize = 10))
+                }
+            }.hasMessageStartingWith("token does not have sufficient permissions")
+            .isInstanceOf(UnauthorizedException::class.java)
+    }
+
     private suspend fun <T> Flow<T>.chunks(size: Int): Flow<List<T>> = flow {
         val chunk = ArrayList<T>(size)
         collect {
@@ -21,9 +21,12 @@
  */
 package com.influxdb.client.flux;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
@@ -149,6 +152,71 @@ public interface FluxClient {
                    @Nonnull final Runnable onComplete);
 
 
+    /**
+     * Executes the Flux query against the InfluxDB and lazily parse the response into {@link FluxRecord}s.
+     * <p>
+     * The records are parsed as they are consumed from the stream, so even a large result is read in constant memory.
+     * The stream is backed by the open HTTP connection and it has to be closed, preferably by try-with-resources:
+     * <pre>
+     * try (Stream&lt;FluxRecord&gt; records = fluxClient.queryStream(query)) {
+     *     records.forEach(record -&gt; ...);
+     * }
+     * </pre>
+     *
+     * @param query the flux query to execute
+     * @return the stream of {@link FluxRecord}s which are matched the query
+     */
+    @Nonnull
+    Stream<FluxRecord> queryStream(@Nonnull final String query);
+
+    /**
+     * Executes the Flux query against the InfluxDB and lazily parse the response into POJO.
+     * <p>
+     * The stream has to be closed, see {@link FluxClient#queryStream(String)}.
+     *
+     * @param query           the flux query to execute
+     * @param measurementType the measurement type (POJO)
+     * @param <M>             the type of the measurement (POJO)
+     * @return the stream of POJO which are matched the query
+     */
+    @Nonnull
+    <M> Stream<M> queryStream(@Nonnull final String query, @Nonnull final Class<M> measurementType);
+
+    /**
+     * Executes the Flux queries concurrently and asynchronously stream {@link FluxRecord}s to {@code onNext}.
+     * <p>
+     * At most {@code maxConcurrency} queries are in progress at once, the next query is executed when some query
+     * is finished. The HTTP requests are also bounded by the {@link okhttp3.Dispatcher} of the
+     * {@link FluxConnectionOptions#getOkHttpClient()}. The {@code onNext} is called from several threads
+     * concurrently, so it has to be thread-safe.
+     * <p>
+     * The returned future is completed when all queries are finished or exceptionally by the first error.
+     * The error or the cancellation of the future cancels the queries in progress.
+     *
+     * @param queries        the flux queries to execute
+     * @param maxConcurrency the maximum number of the queries in progress
+     * @param onNext         the callback to consume the index of the query and the FluxRecord of its result
+     * @return the future completed when all queries are finished
+     */
+    @Nonnull
+    CompletableFuture<Void> queryParallel(@Nonnull final List<String> queries,
+                                          final int maxConcurrency,
+                                          @Nonnull final BiConsumer<Integer, FluxRecord> onNext);
+
+    /**
+     * Executes the Flux query against the InfluxDB and pass the bytes of the response through without parsing.
+     * <p>
+     * The response could be copied into a file or other output in constant memory.
+     * The stream is backed by the open HTTP connection and it has to be closed.
+     *
+     * @param query   the flux query to execute
+     * @param dialect Dialect is an object defining the options to use when encoding the response.
+     *                <a href="http://bit.ly/flux-dialect">See dialect SPEC.</a>.
+     * @return the stream of the response bytes
+     */
+    @Nonnull
+    InputStream queryRawStream(@Nonnull final String query, @Nullable final String dialect);
+
     /**
      * Executes the Flux query against the InfluxDB and synchronously map whole response to {@link String} result.
      * <p>
@@ -21,10 +21,22 @@
  */
 package com.influxdb.client.flux.internal;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -51,6 +63,8 @@ import retrofit2.Retrofit;
  */
 public class FluxApiImpl extends AbstractQueryApi implements FluxClient {
 
+    private static final Logger LOG = Logger.getLogger(FluxApiImpl.class.getName());
+
     private final FluxService fluxService;
 
     private final HttpLoggingInterceptor loggingInterceptor;
@@ -244,6 +258,66 @@ public class FluxApiImpl extends AbstractQueryApi implements FluxClient {
 
     }
 
+    @Nonnull
+    @Override
+    public Stream<FluxRecord> queryStream(@Nonnull final String query) {
+
+        Arguments.checkNonEmpty(query, "query");
+
+        FluxRecordIterator iterator = queryIterator(fluxService.query(createBody(DEFAULT_DIALECT, query)));
+
+        return StreamSupport
+                .stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    try {
+                        iterator.close();
+                    } catch (IOException e) {
+                        LOG.log(Level.FINEST, "The response was not closed", e);
+                    }
+                });
+    }
+
+    @Nonnull
+    @Override
+    public <M> Stream<M> queryStream(@Nonnull final String query, @Nonnull final Class<M> measurementType) {
+
+        Arguments.checkNotNull(measurementType, "measurementType");
+
+        return queryStream(query).map(record -> resultMapper.toPOJO(record, measurementType));
+    }
+
+    @Nonnull
+    @Override
+    public CompletableFuture<Void> queryParallel(@Nonnull final List<String> queries,
+                                                 final int maxConcurrency,
+                                                 @Nonnull final BiConsumer<Integer, FluxRecord> onNext) {
+
+        Arguments.checkNotNull(queries, "queries");
+        Arguments.checkPositiveNumber(maxConcurrency, "maxConcurrency");
+        Arguments.checkNotNull(onNext, "onNext");
+
+        ParallelQuery parallelQuery = new ParallelQuery(queries, onNext);
+
+        if (queries.isEmpty()) {
+            parallelQuery.future.complete(null);
+        }
+
+        for (int i = 0; i < Math.min(maxConcurrency, queries.size()); i++) {
+            parallelQuery.next();
+        }
+
+        return parallelQuery.future;
+    }
+
+    @Nonnull
+    @Override
+    public InputStream queryRawStream(@Nonnull final String query, @Nullable final String dialect) {
+
+        Arguments.checkNonEmpty(query, "query");
+
+        return queryRawStream(fluxService.query(createBody(dialect, query)));
+    }
+
     @Nonnull
     @Override
     public String queryRaw(@Nonnull final String query) {
@@ -405,4 +479,72 @@ public class FluxApiImpl extends AbstractQueryApi implements FluxClient {
 
         queryRaw(queryCall, onResponse, onError, onComplete, asynchronously);
     }
-}
\ No newline at end of file
+
+    /**
+     * Executes the queries by the asynchronous calls, the next query is enqueued when some query is finished.
+     */
+    private final class ParallelQuery {
+
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private final Set<Call<ResponseBody>> calls = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger next = new AtomicInteger();
+        private final AtomicInteger finished = new AtomicInteger();
+
+        private final List<String> queries;
+        private final BiConsumer<Integer, FluxRecord> onNext;
+
+        private ParallelQuery(@Nonnull final List<String> queries,
+                              @Nonnull final BiConsumer<Integer, FluxRecord> onNext) {
+            this.queries = queries;
+            this.onNext = onNext;
+
+            future.whenComplete((result, throwable) -> {
+                if (throwable != null) {
+                    calls.forEach(Call::cancel);
+                }
+            });
+        }
+
+        private void next() {
+
+            int index = next.getAndIncrement();
+            if (index >= queries.size() || future.isDone()) {
+                return;
+            }
+
+            Call<ResponseBody> call = fluxService.query(createBody(DEFAULT_DIALECT, queries.get(index)));
+            calls.add(call);
+
+            FluxResponseConsumer consumer = new FluxResponseConsumer() {
+
+                @Override
+                public void accept(final int tableIndex,
+                                   @Nonnull final Cancellable cancellable,
+                                   @Nonnull final FluxTable table) {
+                }
+
+                @Override
+                public void accept(final int tableIndex,
+                                   @Nonnull final Cancellable cancellable,
+                                   @Nonnull final FluxRecord record) {
+                    if (future.isDone()) {
+                        cancellable.cancel();
+                        return;
+                    }
+                    onNext.accept(index, record);
+                }
+            };
+
+            Runnable onComplete = () -> {
+                calls.remove(call);
+                if (finished.incrementAndGet() == queries.size()) {
+                    future.complete(null);
+                } else {
+                    next();
+                }
+            };
+
+            query(call, consumer, future::completeExceptionally, onComplete, true);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.flux;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.influxdb.annotations.Column;
+import com.influxdb.exceptions.InfluxException;
+import com.influxdb.query.FluxRecord;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+class FluxClientQueryStreamTest extends AbstractFluxClientTest {
+
+    @Test
+    void queryStream() {
+
+        mockServer.enqueue(createResponse());
+
+        try (Stream<FluxRecord> records = fluxClient.queryStream("from(bucket:\"telegraf\")")) {
+
+            List<Object> values = records.map(FluxRecord::getValue).collect(Collectors.toList());
+
+            Assertions.assertThat(values).containsExactly(10L, 20L, 11L, 22L);
+        }
+    }
+
+    @Test
+    void queryStreamMeasurement() {
+
+        mockServer.enqueue(createResponse());
+
+        try (Stream<Mem> records = fluxClient.queryStream("from(bucket:\"telegraf\")", Mem.class)) {
+
+            List<String> hosts = records.map(mem -> mem.host).collect(Collectors.toList());
+
+            Assertions.assertThat(hosts).containsExactly("A", "B", "A", "B");
+        }
+    }
+
+    @Test
+    void queryStreamPartially() {
+
+        mockServer.enqueue(createResponse());
+
+        try (Stream<FluxRecord> records = fluxClient.queryStream("from(bucket:\"telegraf\")")) {
+
+            Assertions.assertThat(records.limit(1).map(FluxRecord::getValue)).containsExactly(10L);
+        }
+    }
+
+    @Test
+    void queryStreamError() {
+
+        mockServer.enqueue(createErrorResponse("Flux query is not valid"));
+
+        Assertions.assertThatThrownBy(() -> fluxClient.queryStream("from(bucket:\"telegraf\")"))
+                .hasMessage("Flux query is not valid")
+                .isInstanceOf(InfluxException.class);
+    }
+
+    @Test
+    void queryRawStream() throws IOException {
+
+        mockServer.enqueue(createResponse());
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (InputStream stream = fluxClient.queryRawStream("from(bucket:\"telegraf\")", null)) {
+            byte[] buffer = new byte[16];
+            int read;
+            while ((read = stream.read(buffer)) != -1) {
+                output.write(buffer, 0, read);
+            }
+        }
+
+        Assertions.assertThat(new String(output.toByteArray(), StandardCharsets.UTF_8)).isEqualTo(SUCCESS_DATA);
+    }
+
+    @Test
+    void queryRawStreamError() {
+
+        mockServer.enqueue(createErrorResponse("Flux query is not valid"));
+
+        Assertions.assertThatThrownBy(() -> fluxClient.queryRawStream("from(bucket:\"telegraf\")", null))
+                .hasMessage("Flux query is not valid")
+                .isInstanceOf(InfluxException.class);
+    }
+
+    @Test
+    void queryParallel() throws Exception {
+
+        for (int i = 0; i < 5; i++) {
+            mockServer.enqueue(createResponse());
+        }
+
+        List<String> queries = Arrays.asList("from(bucket:\"a\")", "from(bucket:\"b\")", "from(bucket:\"c\")",
+                "from(bucket:\"d\")", "from(bucket:\"e\")");
+
+        Map<Integer, List<Object>> values = new ConcurrentHashMap<>();
+
+        fluxClient.queryParallel(queries, 2, (index, record) -> values
+                .computeIfAbsent(index, it -> Collections.synchronizedList(new ArrayList<>()))
+                .add(record.getValue()))
+                .get(10, TimeUnit.SECONDS);
+
+        Assertions.assertThat(values).hasSize(5);
+        values.values().forEach(it -> Assertions.assertThat(it).containsExactly(10L, 20L, 11L, 22L));
+        Assertions.assertThat(mockServer.getRequestCount()).isEqualTo(5);
+    }
+
+    @Test
+    void queryParallelEmpty() {
+
+        CompletableFuture<Void> future = fluxClient.queryParallel(Collections.emptyList(), 2, (index, record) -> {
+        });
+
+        Assertions.assertThat(future).isCompleted();
+    }
+
+    @Test
+    void queryParallelError() {
+
+        mockServer.enqueue(createErrorResponse("Flux query is not valid"));
+
+        CompletableFuture<Void> future = fluxClient.queryParallel(Collections.singletonList("from(bucket:\"a\")"), 1,
+                (index, record) -> Assertions.fail("Unreachable"));
+
+        Assertions.assertThatThrownBy(() -> future.get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(InfluxException.class)
+                .hasMessageContaining("Flux query is not valid");
+    }
+
+    @Test
+    void queryParallelMaxConcurrency() {
+
+        Assertions.assertThatThrownBy(() -> fluxClient.queryParallel(Collections.emptyList(), 0, (index, record) -> {
+        }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Expecting a positive number for maxConcurrency");
+    }
+
+    public static class Mem {
+
+        @Column(name = "host")
+        String host;
+
+        @Column(name = "_value")
+        Long value;
+    }
+}
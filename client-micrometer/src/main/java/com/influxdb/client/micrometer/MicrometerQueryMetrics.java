@@ -0,0 +1,154 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.micrometer;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.influxdb.Arguments;
+import com.influxdb.query.QueryListener;
+import com.influxdb.query.QueryStatistics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+
+/**
+ * The {@link QueryListener} that records the statistics of queries into Micrometer meters.
+ *
+ * <p>
+ * The meters are registered into the registries by {@link #bindTo(MeterRegistry)}:
+ * <ul>
+ * <li>{@code influxdb.query.requests} - the duration histogram of queries tagged by {@code status}</li>
+ * <li>{@code influxdb.query.send} - the time to send the request</li>
+ * <li>{@code influxdb.query.time.to.first.byte} - the time between the sent request and the response</li>
+ * <li>{@code influxdb.query.download} - the time of waiting for the body of response</li>
+ * <li>{@code influxdb.query.parse} - the time of parsing the response</li>
+ * <li>{@code influxdb.query.response.bytes} - the size of response</li>
+ * <li>{@code influxdb.query.records} - the number of records in response</li>
+ * </ul>
+ * <p>
+ * Usage:
+ * <pre>
+ * MicrometerQueryMetrics queryMetrics = new MicrometerQueryMetrics();
+ * queryMetrics.bindTo(meterRegistry);
+ *
+ * InfluxDBClientOptions options = InfluxDBClientOptions.builder()
+ *     .url("http://localhost:8086")
+ *     .queryListener(queryMetrics)
+ *     .build();
+ * </pre>
+ */
+@ThreadSafe
+public final class MicrometerQueryMetrics implements QueryListener, MeterBinder {
+
+    private static final String STATUS = "status";
+
+    private final CompositeMeterRegistry registry = new CompositeMeterRegistry();
+    private final Iterable<Tag> tags;
+
+    private final Timer send;
+    private final Timer timeToFirstByte;
+    private final Timer download;
+    private final Timer parse;
+    private final DistributionSummary bytes;
+    private final DistributionSummary records;
+    private final Map<Integer, Timer> requests = new ConcurrentHashMap<>();
+
+    public MicrometerQueryMetrics() {
+        this(Collections.emptyList());
+    }
+
+    /**
+     * @param tags the common tags of all meters, for example to distinguish several clients
+     */
+    public MicrometerQueryMetrics(@Nonnull final Iterable<Tag> tags) {
+
+        Arguments.checkNotNull(tags, "tags");
+
+        this.tags = tags;
+
+        send = Timer.builder("influxdb.query.send")
+                .description("The time to send the query request")
+                .tags(tags)
+                .register(registry);
+
+        timeToFirstByte = Timer.builder("influxdb.query.time.to.first.byte")
+                .description("The time between the sent query request and the received response")
+                .tags(tags)
+                .register(registry);
+
+        download = Timer.builder("influxdb.query.download")
+                .description("The time of waiting for the body of query response")
+                .tags(tags)
+                .register(registry);
+
+        parse = Timer.builder("influxdb.query.parse")
+                .description("The time of parsing the query response")
+                .tags(tags)
+                .register(registry);
+
+        bytes = DistributionSummary.builder("influxdb.query.response.bytes")
+                .description("The size of query response")
+                .baseUnit("bytes")
+                .tags(tags)
+                .register(registry);
+
+        records = DistributionSummary.builder("influxdb.query.records")
+                .description("The number of records in query response")
+                .tags(tags)
+                .register(registry);
+    }
+
+    @Override
+    public void bindTo(@Nonnull final MeterRegistry meterRegistry) {
+
+        Arguments.checkNotNull(meterRegistry, "meterRegistry");
+
+        registry.add(meterRegistry);
+    }
+
+    @Override
+    public void onQueryFinished(@Nonnull final QueryStatistics statistics) {
+
+        send.record(statistics.getRequestDuration());
+        timeToFirstByte.record(statistics.getTimeToFirstByte());
+        download.record(statistics.getDownloadDuration());
+        parse.record(statistics.getParseDuration());
+        bytes.record(statistics.getBytes());
+        records.record(statistics.getRecords());
+
+        requests.computeIfAbsent(statistics.getStatus(), it -> Timer.builder("influxdb.query.requests")
+                        .description("The duration of queries")
+                        .tags(Tags.of(tags).and(STATUS, Integer.toString(it)))
+                        .publishPercentileHistogram()
+                        .register(registry))
+                .record(statistics.getDuration());
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.micrometer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.influxdb.Arguments;
+import com.influxdb.client.Endpoint;
+import com.influxdb.client.TransportMetrics;
+import com.influxdb.client.TransportStatus;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+
+/**
+ * The {@link TransportMetrics} that exposes the limits in effect and the usage of HTTP transport
+ * and the state of InfluxDB nodes as Micrometer meters.
+ *
+ * <p>
+ * The gauges are tagged by the name of transport - {@code transport} ({@code default}, {@code write},
+ * {@code query} or {@code management}) and by its {@code protocols}:
+ * <ul>
+ * <li>{@code influxdb.http.requests.max} - the maximum number of concurrent asynchronous requests</li>
+ * <li>{@code influxdb.http.requests.max.per.host} - the maximum number of concurrent requests for host</li>
+ * <li>{@code influxdb.http.requests.running} - the number of running requests</li>
+ * <li>{@code influxdb.http.requests.queued} - the number of requests waiting in the dispatcher</li>
+ * <li>{@code influxdb.http.connections.max.idle} - the maximum number of idle connections in the pool</li>
+ * <li>{@code influxdb.http.connections.keep.alive} - the time to keep idle connections in the pool</li>
+ * <li>{@code influxdb.http.connections} - the number of connections in the pool</li>
+ * <li>{@code influxdb.http.connections.idle} - the number of idle connections in the pool</li>
+ * </ul>
+ * <p>
+ * The client configured with several InfluxDB nodes reports also the meters of every node tagged by {@code endpoint}:
+ * <ul>
+ * <li>{@code influxdb.endpoint.healthy} - {@code 1} if the node is healthy, {@code 0} if it is ejected</li>
+ * <li>{@code influxdb.endpoint.requests.in.flight} - the number of requests waiting for the response of node</li>
+ * <li>{@code influxdb.endpoint.requests} - the number of requests sent to the node</li>
+ * <li>{@code influxdb.endpoint.failures} - the number of requests failed by connection error</li>
+ * <li>{@code influxdb.endpoint.latency} - the moving average of time to response headers</li>
+ * </ul>
+ * <p>
+ * Usage:
+ * <pre>
+ * MicrometerTransportMetrics transportMetrics = new MicrometerTransportMetrics();
+ * transportMetrics.bindTo(meterRegistry);
+ *
+ * InfluxDBClientOptions options = InfluxDBClientOptions.builder()
+ *     .url("http://localhost:8086")
+ *     .transportMetrics(transportMetrics)
+ *     .build();
+ * </pre>
+ */
+@ThreadSafe
+public final class MicrometerTransportMetrics implements TransportMetrics, MeterBinder {
+
+    private final CompositeMeterRegistry registry = new CompositeMeterRegistry();
+    private final Iterable<Tag> tags;
+    private final Map<Object, List<Meter>> meters = new ConcurrentHashMap<>();
+
+    public MicrometerTransportMetrics() {
+        this(Collections.emptyList());
+    }
+
+    /**
+     * @param tags the common tags of all meters, for example to distinguish several clients
+     */
+    public MicrometerTransportMetrics(@Nonnull final Iterable<Tag> tags) {
+
+        Arguments.checkNotNull(tags, "tags");
+
+        this.tags = tags;
+    }
+
+    @Override
+    public void bindTo(@Nonnull final MeterRegistry meterRegistry) {
+
+        Arguments.checkNotNull(meterRegistry, "meterRegistry");
+
+        registry.add(meterRegistry);
+    }
+
+    @Override
+    public void bindTransport(@Nonnull final TransportStatus status) {
+
+        Arguments.checkNotNull(status, "TransportStatus");
+
+        Tags transportTags = Tags.of(tags)
+                .and("transport", status.getName())
+                .and("protocols", String.join(",", status.getProtocols()));
+
+        List<Meter> transportMeters = new ArrayList<>();
+        transportMeters.add(gauge("influxdb.http.requests.max", "The maximum number of concurrent requests",
+                transportTags, status, TransportStatus::getMaxRequests));
+        transportMeters.add(gauge("influxdb.http.requests.max.per.host",
+                "The maximum number of concurrent requests for host",
+                transportTags, status, TransportStatus::getMaxRequestsPerHost));
+        transportMeters.add(gauge("influxdb.http.requests.running", "The number of running requests",
+                transportTags, status, TransportStatus::getRunningCalls));
+        transportMeters.add(gauge("influxdb.http.requests.queued", "The number of requests waiting in the dispatcher",
+                transportTags, status, TransportStatus::getQueuedCalls));
+        transportMeters.add(gauge("influxdb.http.connections.max.idle",
+                "The maximum number of idle connections in the pool",
+                transportTags, status, TransportStatus::getMaxIdleConnections));
+        transportMeters.add(Gauge.builder("influxdb.http.connections.keep.alive", status,
+                        it -> it.getKeepAlive().getSeconds())
+                .description("The time to keep idle connections in the pool")
+                .baseUnit("seconds")
+                .tags(transportTags)
+                .strongReference(true)
+                .register(registry));
+        transportMeters.add(gauge("influxdb.http.connections", "The number of connections in the pool",
+                transportTags, status, TransportStatus::getConnections));
+        transportMeters.add(gauge("influxdb.http.connections.idle", "The number of idle connections in the pool",
+                transportTags, status, TransportStatus::getIdleConnections));
+
+        meters.put(status, transportMeters);
+    }
+
+    @Override
+    public void unbindTransport(@Nonnull final TransportStatus status) {
+
+        Arguments.checkNotNull(status, "TransportStatus");
+
+        unbind(status);
+    }
+
+    @Override
+    public void bindEndpoint(@Nonnull final Endpoint endpoint) {
+
+        Arguments.checkNotNull(endpoint, "Endpoint");
+
+        Tags endpointTags = Tags.of(tags).and("endpoint", endpoint.getUrl());
+
+        List<Meter> endpointMeters = new ArrayList<>();
+        endpointMeters.add(Gauge.builder("influxdb.endpoint.healthy", endpoint, it -> it.isHealthy() ? 1 : 0)
+                .description("The health of InfluxDB node")
+                .tags(endpointTags)
+                .strongReference(true)
+                .register(registry));
+        endpointMeters.add(Gauge.builder("influxdb.endpoint.requests.in.flight", endpoint, Endpoint::getInFlight)
+                .description("The number of requests waiting for the response of node")
+                .tags(endpointTags)
+                .strongReference(true)
+                .register(registry));
+        endpointMeters.add(FunctionCounter.builder("influxdb.endpoint.requests", endpoint, Endpoint::getRequests)
+                .description("The number of requests sent to the node")
+                .tags(endpointTags)
+                .register(registry));
+        endpointMeters.add(FunctionCounter.builder("influxdb.endpoint.failures", endpoint, Endpoint::getFailures)
+                .description("The number of requests failed by connection error")
+                .tags(endpointTags)
+                .register(registry));
+        endpointMeters.add(TimeGauge.builder("influxdb.endpoint.latency", endpoint, TimeUnit.NANOSECONDS,
+                        it -> it.getLatency() != null ? it.getLatency().toNanos() : Double.NaN)
+                .description("The moving average of time to response headers")
+                .tags(endpointTags)
+                .register(registry));
+
+        meters.put(endpoint, endpointMeters);
+    }
+
+    @Override
+    public void unbindEndpoint(@Nonnull final Endpoint endpoint) {
+
+        Arguments.checkNotNull(endpoint, "Endpoint");
+
+        unbind(endpoint);
+    }
+
+    private void unbind(@Nonnull final Object key) {
+
+        List<Meter> removed = meters.remove(key);
+        if (removed != null) {
+            removed.forEach(registry::remove);
+        }
+    }
+
+    @Nonnull
+    private Gauge gauge(@Nonnull final String name,
+                        @Nonnull final String description,
+                        @Nonnull final Tags transportTags,
+                        @Nonnull final TransportStatus status,
+                        @Nonnull final ToDoubleFunction<TransportStatus> value) {
+
+        return Gauge.builder(name, status, value)
+                .description(description)
+                .tags(transportTags)
+                .strongReference(true)
+                .register(registry);
+    }
+}
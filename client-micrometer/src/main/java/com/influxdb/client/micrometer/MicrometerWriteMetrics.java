@@ -0,0 +1,189 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.micrometer;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.influxdb.Arguments;
+import com.influxdb.client.write.WriteMetrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+
+/**
+ * The {@link WriteMetrics} that records the metrics of the batching writes into Micrometer meters.
+ *
+ * <p>
+ * The meters are registered into the registries by {@link #bindTo(MeterRegistry)}:
+ * <ul>
+ * <li>{@code influxdb.write.buffer.size} - the number of items in the backpressure buffers of all WriteApi</li>
+ * <li>{@code influxdb.write.drops} - the number of items dropped by the backpressure strategy</li>
+ * <li>{@code influxdb.write.encode} - the time of encoding data into Line Protocol</li>
+ * <li>{@code influxdb.write.batch.lines} - the number of points in batch</li>
+ * <li>{@code influxdb.write.batch.bytes} - the size of UTF-8 encoded batch</li>
+ * <li>{@code influxdb.write.requests} - the latency histogram of HTTP requests tagged by {@code status}</li>
+ * <li>{@code influxdb.write.requests.in.flight} - the number of in-flight HTTP requests</li>
+ * <li>{@code influxdb.write.retries} - the number of retries tagged by {@code status}</li>
+ * </ul>
+ * <p>
+ * Usage:
+ * <pre>
+ * MicrometerWriteMetrics writeMetrics = new MicrometerWriteMetrics();
+ * writeMetrics.bindTo(meterRegistry);
+ *
+ * InfluxDBClientOptions options = InfluxDBClientOptions.builder()
+ *     .url("http://localhost:8086")
+ *     .writeMetrics(writeMetrics)
+ *     .build();
+ * </pre>
+ */
+@ThreadSafe
+public final class MicrometerWriteMetrics implements WriteMetrics, MeterBinder {
+
+    private static final String STATUS = "status";
+
+    private final CompositeMeterRegistry registry = new CompositeMeterRegistry();
+    private final Iterable<Tag> tags;
+
+    private final AtomicLong bufferSize = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter drops;
+    private final Timer encode;
+    private final DistributionSummary batchLines;
+    private final DistributionSummary batchBytes;
+    private final Map<Integer, Timer> requests = new ConcurrentHashMap<>();
+    private final Map<Integer, Counter> retries = new ConcurrentHashMap<>();
+
+    public MicrometerWriteMetrics() {
+        this(Collections.emptyList());
+    }
+
+    /**
+     * @param tags the common tags of all meters, for example to distinguish several clients
+     */
+    public MicrometerWriteMetrics(@Nonnull final Iterable<Tag> tags) {
+
+        Arguments.checkNotNull(tags, "tags");
+
+        this.tags = tags;
+
+        Gauge.builder("influxdb.write.buffer.size", bufferSize, AtomicLong::get)
+                .description("The number of items in the backpressure buffers")
+                .tags(tags)
+                .register(registry);
+
+        Gauge.builder("influxdb.write.requests.in.flight", inFlight, AtomicInteger::get)
+                .description("The number of in-flight write requests")
+                .tags(tags)
+                .register(registry);
+
+        drops = Counter.builder("influxdb.write.drops")
+                .description("The number of items dropped by the backpressure strategy")
+                .tags(tags)
+                .register(registry);
+
+        encode = Timer.builder("influxdb.write.encode")
+                .description("The time of encoding data into Line Protocol")
+                .tags(tags)
+                .register(registry);
+
+        batchLines = DistributionSummary.builder("influxdb.write.batch.lines")
+                .description("The number of Line Protocol lines in batch")
+                .tags(tags)
+                .register(registry);
+
+        batchBytes = DistributionSummary.builder("influxdb.write.batch.bytes")
+                .description("The size of batch")
+                .baseUnit("bytes")
+                .tags(tags)
+                .register(registry);
+    }
+
+    @Override
+    public void bindTo(@Nonnull final MeterRegistry meterRegistry) {
+
+        Arguments.checkNotNull(meterRegistry, "meterRegistry");
+
+        registry.add(meterRegistry);
+    }
+
+    @Override
+    public void recordBufferChange(final long delta) {
+        bufferSize.addAndGet(delta);
+    }
+
+    @Override
+    public void recordDrop() {
+        drops.increment();
+    }
+
+    @Override
+    public void recordEncode(final long nanos) {
+        encode.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordBatch(final long lines, final long bytes) {
+        batchLines.record(lines);
+        batchBytes.record(bytes);
+    }
+
+    @Override
+    public void recordRequestStart() {
+        inFlight.incrementAndGet();
+    }
+
+    @Override
+    public void recordRequest(final int status, final long nanos) {
+        inFlight.decrementAndGet();
+
+        requests.computeIfAbsent(status, it -> Timer.builder("influxdb.write.requests")
+                        .description("The latency of write requests")
+                        .tags(Tags.of(tags).and(STATUS, Integer.toString(it)))
+                        .publishPercentileHistogram()
+                        .register(registry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordRetry(final int status) {
+        retries.computeIfAbsent(status, it -> Counter.builder("influxdb.write.retries")
+                        .description("The number of retried write requests")
+                        .tags(Tags.of(tags).and(STATUS, Integer.toString(it)))
+                        .register(registry))
+                .increment();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.micrometer;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import com.influxdb.query.QueryStatistics;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+class MicrometerQueryMetricsTest {
+
+    @Test
+    void meters() {
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        MicrometerQueryMetrics metrics = new MicrometerQueryMetrics(Tags.of("client", "my-client"));
+        metrics.bindTo(registry);
+
+        metrics.onQueryFinished(new QueryStatistics(200,
+                Duration.ofMillis(1),
+                Duration.ofMillis(30),
+                Duration.ofMillis(5),
+                Duration.ofMillis(12),
+                Duration.ofMillis(48),
+                4096,
+                100,
+                null));
+
+        Assertions.assertThat(registry.get("influxdb.query.requests").tag("status", "200").tag("client", "my-client")
+                .timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(48);
+        Assertions.assertThat(registry.get("influxdb.query.send").timer().totalTime(TimeUnit.MILLISECONDS))
+                .isEqualTo(1);
+        Assertions.assertThat(registry.get("influxdb.query.time.to.first.byte").timer()
+                .totalTime(TimeUnit.MILLISECONDS)).isEqualTo(30);
+        Assertions.assertThat(registry.get("influxdb.query.download").timer().totalTime(TimeUnit.MILLISECONDS))
+                .isEqualTo(5);
+        Assertions.assertThat(registry.get("influxdb.query.parse").timer().totalTime(TimeUnit.MILLISECONDS))
+                .isEqualTo(12);
+        Assertions.assertThat(registry.get("influxdb.query.response.bytes").summary().totalAmount()).isEqualTo(4096);
+        Assertions.assertThat(registry.get("influxdb.query.records").summary().totalAmount()).isEqualTo(100);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.micrometer;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.influxdb.client.Endpoint;
+import com.influxdb.client.TransportStatus;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+class MicrometerTransportMetricsTest {
+
+    @Test
+    void meters() {
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        MicrometerTransportMetrics metrics = new MicrometerTransportMetrics(Tags.of("client", "my-client"));
+        metrics.bindTo(registry);
+
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(32);
+        dispatcher.setMaxRequestsPerHost(16);
+        OkHttpClient okHttpClient = new OkHttpClient.Builder().dispatcher(dispatcher).build();
+
+        TransportStatus status = new TransportStatus(TransportStatus.QUERY, okHttpClient, 10, Duration.ofSeconds(30));
+        metrics.bindTransport(status);
+
+        Assertions.assertThat(registry.get("influxdb.http.requests.max")
+                .tag("client", "my-client")
+                .tag("transport", "query")
+                .tag("protocols", "h2,http/1.1")
+                .gauge().value()).isEqualTo(32);
+        Assertions.assertThat(registry.get("influxdb.http.requests.max.per.host").gauge().value()).isEqualTo(16);
+        Assertions.assertThat(registry.get("influxdb.http.requests.running").gauge().value()).isEqualTo(0);
+        Assertions.assertThat(registry.get("influxdb.http.requests.queued").gauge().value()).isEqualTo(0);
+        Assertions.assertThat(registry.get("influxdb.http.connections.max.idle").gauge().value()).isEqualTo(10);
+        Assertions.assertThat(registry.get("influxdb.http.connections.keep.alive").gauge().value()).isEqualTo(30);
+        Assertions.assertThat(registry.get("influxdb.http.connections").gauge().value()).isEqualTo(0);
+        Assertions.assertThat(registry.get("influxdb.http.connections.idle").gauge().value()).isEqualTo(0);
+
+        // limits changed after bind
+        dispatcher.setMaxRequestsPerHost(8);
+        Assertions.assertThat(registry.get("influxdb.http.requests.max.per.host").gauge().value()).isEqualTo(8);
+
+        metrics.unbindTransport(status);
+
+        Assertions.assertThat(registry.find("influxdb.http.requests.max").gauge()).isNull();
+        Assertions.assertThat(registry.getMeters()).isEmpty();
+    }
+
+    @Test
+    void endpoint() {
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        MicrometerTransportMetrics metrics = new MicrometerTransportMetrics();
+        metrics.bindTo(registry);
+
+        Endpoint endpoint = new Endpoint() {
+            @Nonnull
+            @Override
+            public String getUrl() {
+                return "http://node1:8086/";
+            }
+
+            @Override
+            public boolean isHealthy() {
+                return false;
+            }
+
+            @Override
+            public int getInFlight() {
+                return 2;
+            }
+
+            @Override
+            public long getRequests() {
+                return 10;
+            }
+
+            @Override
+            public long getFailures() {
+                return 3;
+            }
+
+            @Nullable
+            @Override
+            public Duration getLatency() {
+                return Duration.ofMillis(20);
+            }
+        };
+        metrics.bindEndpoint(endpoint);
+
+        Assertions.assertThat(registry.get("influxdb.endpoint.healthy").tag("endpoint", "http://node1:8086/")
+                .gauge().value()).isEqualTo(0);
+        Assertions.assertThat(registry.get("influxdb.endpoint.requests.in.flight").gauge().value()).isEqualTo(2);
+        Assertions.assertThat(registry.get("influxdb.endpoint.requests").functionCounter().count()).isEqualTo(10);
+        Assertions.assertThat(registry.get("influxdb.endpoint.failures").functionCounter().count()).isEqualTo(3);
+        Assertions.assertThat(registry.get("influxdb.endpoint.latency").timeGauge().value(TimeUnit.MILLISECONDS))
+                .isEqualTo(20);
+
+        metrics.unbindEndpoint(endpoint);
+
+        Assertions.assertThat(registry.getMeters()).isEmpty();
+    }
+}
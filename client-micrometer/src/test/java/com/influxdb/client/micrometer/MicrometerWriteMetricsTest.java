@@ -0,0 +1,83 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.micrometer;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+class MicrometerWriteMetricsTest {
+
+    @Test
+    void meters() {
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        MicrometerWriteMetrics metrics = new MicrometerWriteMetrics(Tags.of("client", "my-client"));
+        metrics.bindTo(registry);
+
+        metrics.recordBufferChange(1);
+        metrics.recordBufferChange(1);
+        metrics.recordBufferChange(1);
+        metrics.recordBufferChange(-1);
+        metrics.recordDrop();
+        metrics.recordEncode(TimeUnit.MILLISECONDS.toNanos(2));
+        metrics.recordBatch(10, 250);
+        metrics.recordRequestStart();
+        metrics.recordRequestStart();
+        metrics.recordRequest(429, TimeUnit.MILLISECONDS.toNanos(20));
+        metrics.recordRetry(429);
+        metrics.recordRetry(429);
+
+        Assertions.assertThat(registry.get("influxdb.write.buffer.size").tag("client", "my-client").gauge().value())
+                .isEqualTo(2);
+        Assertions.assertThat(registry.get("influxdb.write.requests.in.flight").gauge().value()).isEqualTo(1);
+        Assertions.assertThat(registry.get("influxdb.write.drops").counter().count()).isEqualTo(1);
+        Assertions.assertThat(registry.get("influxdb.write.encode").timer().totalTime(TimeUnit.MILLISECONDS))
+                .isEqualTo(2);
+        Assertions.assertThat(registry.get("influxdb.write.batch.lines").summary().totalAmount()).isEqualTo(10);
+        Assertions.assertThat(registry.get("influxdb.write.batch.bytes").summary().totalAmount()).isEqualTo(250);
+        Assertions.assertThat(registry.get("influxdb.write.requests").tag("status", "429").timer().count())
+                .isEqualTo(1);
+        Assertions.assertThat(registry.get("influxdb.write.retries").tag("status", "429").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void recordBeforeBind() {
+
+        MicrometerWriteMetrics metrics = new MicrometerWriteMetrics();
+        metrics.recordDrop();
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        metrics.bindTo(registry);
+        metrics.recordDrop();
+
+        Assertions.assertThat(registry.get("influxdb.write.drops").counter().count()).isEqualTo(1);
+    }
+}
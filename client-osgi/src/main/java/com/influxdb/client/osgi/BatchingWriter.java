@@ -0,0 +1,129 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.osgi;
+
+import com.influxdb.client.InfluxDBClient;
+import com.influxdb.client.WriteApi;
+import com.influxdb.client.WriteOptions;
+import com.influxdb.client.write.events.BackpressureEvent;
+import com.influxdb.client.write.events.WriteErrorEvent;
+import com.influxdb.client.write.events.WriteRetriableErrorEvent;
+import com.influxdb.client.write.events.WriteSuccessEvent;
+
+import lombok.extern.slf4j.Slf4j;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceRegistration;
+
+/**
+ * Shared non-blocking {@link WriteApi} of the event handler in the asynchronous mode.
+ *
+ * <p>The events are only buffered by the calling thread, the batches are written by the threads of {@link WriteApi},
+ * so the EventAdmin threads are not blocked by HTTP. The {@link WriteStatistics} are registered as OSGi service
+ * if the {@link BundleContext} is available.</p>
+ */
+@Slf4j
+final class BatchingWriter implements AutoCloseable {
+
+    private final WriteApi writeApi;
+    private final WriteStatistics statistics;
+    private volatile ServiceRegistration<WriteStatistics> registration;
+
+    BatchingWriter(final InfluxDBClient client,
+                   final int batchSize,
+                   final int flushInterval,
+                   final int bufferLimit,
+                   final BundleContext bundleContext,
+                   final Class<?> writer) {
+
+        final WriteOptions writeOptions = WriteOptions.builder()
+                .batchSize(batchSize)
+                .flushInterval(flushInterval)
+                .bufferLimit(bufferLimit)
+                .build();
+
+        this.statistics = new WriteStatistics(writer.getName());
+        this.writeApi = client.makeWriteApi(writeOptions);
+
+        writeApi.listenEvents(WriteSuccessEvent.class, event -> {
+            statistics.recordBatch(event.getLineProtocol());
+            publish();
+        });
+        writeApi.listenEvents(WriteErrorEvent.class, event -> {
+            statistics.recordError();
+            publish();
+        });
+        writeApi.listenEvents(WriteRetriableErrorEvent.class, event -> {
+            statistics.recordRetry();
+            publish();
+        });
+        writeApi.listenEvents(BackpressureEvent.class, event -> statistics.recordBackpressure());
+
+        if (bundleContext != null) {
+            try {
+                registration = bundleContext.registerService(WriteStatistics.class, statistics,
+                        statistics.toProperties());
+            } catch (RuntimeException ex) {
+                writeApi.close();
+                throw ex;
+            }
+        }
+    }
+
+    WriteApi getWriteApi() {
+        return writeApi;
+    }
+
+    WriteStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Flush the buffered data, close the {@link WriteApi} and unregister the statistics.
+     */
+    @Override
+    public void close() {
+        try {
+            writeApi.close();
+        } finally {
+            if (registration != null) {
+                try {
+                    registration.unregister();
+                } catch (IllegalStateException ex) {
+                    log.debug("Write statistics already unregistered", ex);
+                }
+                registration = null;
+            }
+        }
+    }
+
+    private void publish() {
+        final ServiceRegistration<WriteStatistics> current = registration;
+        if (current == null) {
+            return;
+        }
+        try {
+            current.setProperties(statistics.toProperties());
+        } catch (IllegalStateException ex) {
+            log.debug("Write statistics already unregistered", ex);
+        }
+    }
+}
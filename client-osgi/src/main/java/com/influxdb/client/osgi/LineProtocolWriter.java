@@ -22,6 +22,7 @@
 package com.influxdb.client.osgi;
 
 import java.math.BigInteger;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -30,9 +31,11 @@ import com.influxdb.client.WriteApiBlocking;
 import com.influxdb.client.domain.WritePrecision;
 import com.influxdb.client.write.internal.NanosecondConverter;
 
+import org.osgi.framework.BundleContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.ConfigurationPolicy;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferencePolicyOption;
@@ -66,6 +69,10 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
  * <p>Timestamp is appended to the line protocol record if it is enabled by configuration option (in that case records
  * must not contain timestamp data!). Value is read from OSGi event (property {@link EventConstants#TIMESTAMP}) or
  * {@link System#currentTimeMillis()} is set if property not found.</p>
+ *
+ * <p>Records are written synchronously by default. If the asynchronous mode is enabled by configuration, the records
+ * are buffered and written in batches by a shared {@link com.influxdb.client.WriteApi}, the statistics of the writes
+ * are published as {@link WriteStatistics} service.</p>
  */
 @Component(immediate = true, configurationPolicy = ConfigurationPolicy.REQUIRE, property = {
         EventConstants.EVENT_TOPIC + "=" + LineProtocolWriter.DEFAULT_EVENT_TOPIC
@@ -142,6 +149,36 @@ public class LineProtocolWriter implements EventHandler {
         @AttributeDefinition(required = false, name = "Bucket",
                 description = "InfluxDB bucket to write")
         String bucket();
+
+        /**
+         * Buffer line protocol record(s) and write them in batches in background if enabled.
+         */
+        @AttributeDefinition(required = false, name = "Asynchronous write",
+                description = "Write line protocol record(s) in batches in background", type = AttributeType.BOOLEAN)
+        boolean async_enabled() default false;
+
+        /**
+         * The number of records to collect in a batch (asynchronous mode only).
+         */
+        @AttributeDefinition(required = false, name = "Batch size",
+                description = "Number of records to collect in a batch", type = AttributeType.INTEGER)
+        int async_batch_size() default 1000;
+
+        /**
+         * The time in milliseconds to wait at most before a batch is written (asynchronous mode only).
+         */
+        @AttributeDefinition(required = false, name = "Flush interval",
+                description = "Time in milliseconds to wait at most before writing a batch",
+                type = AttributeType.INTEGER)
+        int async_flush_interval() default 1000;
+
+        /**
+         * The maximum number of buffered records, the oldest records are dropped if the limit is reached
+         * (asynchronous mode only).
+         */
+        @AttributeDefinition(required = false, name = "Buffer limit",
+                description = "Maximum number of buffered records", type = AttributeType.INTEGER)
+        int async_buffer_limit() default 10000;
     }
 
     @Reference(policyOption = ReferencePolicyOption.GREEDY)
@@ -149,15 +186,44 @@ public class LineProtocolWriter implements EventHandler {
 
     Config config;
 
+    volatile BatchingWriter batchingWriter;
+
     /**
      * Start or reconfigure OSGi component.
      *
      * @param config configuration
      */
+    void start(final Config config) {
+        start(null, config);
+    }
+
+    /**
+     * Start or reconfigure OSGi component.
+     *
+     * @param bundleContext bundle context used to register {@link WriteStatistics} (asynchronous mode only)
+     * @param config        configuration
+     */
     @Activate
     @Modified
-    void start(final Config config) {
+    void start(final BundleContext bundleContext, final Config config) {
+        stop();
         this.config = config;
+        if (config.async_enabled()) {
+            batchingWriter = new BatchingWriter(client, config.async_batch_size(), config.async_flush_interval(),
+                    config.async_buffer_limit(), bundleContext, LineProtocolWriter.class);
+        }
+    }
+
+    /**
+     * Stop OSGi component, buffered record(s) are written in asynchronous mode.
+     */
+    @Deactivate
+    void stop() {
+        final BatchingWriter writer = batchingWriter;
+        if (writer != null) {
+            batchingWriter = null;
+            writer.close();
+        }
     }
 
     /**
@@ -177,11 +243,32 @@ public class LineProtocolWriter implements EventHandler {
         }
 
         final WritePrecision writePrecision = getPrecision(event);
-        final WriteApiBlocking writeApi = client.getWriteApiBlocking();
 
         final String record = (String) event.getProperty(RECORD);
         final List<String> records = (List<String>) event.getProperty(RECORDS);
         final BigInteger timestamp = calculateTimestamp(event, writePrecision);
+
+        final BatchingWriter batching = batchingWriter;
+        if (batching != null) {
+            final List<String> recordsToWrite;
+            if (record != null) {
+                recordsToWrite = Collections.singletonList(timestamp != null ? record + " " + timestamp : record);
+            } else if (records != null) {
+                recordsToWrite = timestamp != null
+                        ? records.stream().map(r -> r + " " + timestamp).collect(Collectors.toList())
+                        : records;
+            } else {
+                throw new IllegalArgumentException("Missing line protocol record(s)");
+            }
+            if (organization != null && bucket != null) {
+                batching.getWriteApi().writeRecords(bucket, organization, writePrecision, recordsToWrite);
+            } else {
+                batching.getWriteApi().writeRecords(writePrecision, recordsToWrite);
+            }
+            return;
+        }
+
+        final WriteApiBlocking writeApi = client.getWriteApiBlocking();
         if (record != null) {
             final String recordToWrite = timestamp != null ? record + " " + timestamp : record;
             if (organization != null && bucket != null) {
@@ -28,7 +28,9 @@ import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -40,9 +42,11 @@ import com.influxdb.client.write.Point;
 
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.osgi.framework.BundleContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.ConfigurationPolicy;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferencePolicyOption;
@@ -77,6 +81,10 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
  * <tt>influxdb/point/weather</tt> (in this case OSGi event filter must be changed, i.e. <tt>influxdb/point/*</tt>).</p>
  *
  * <p>Structured data can be decorated with host name, host address or timestamp (by configuration).</p>
+ *
+ * <p>Points are written synchronously by default. If the asynchronous mode is enabled by configuration, the points
+ * are buffered and written in batches by a shared {@link com.influxdb.client.WriteApi}, the statistics of the writes
+ * are published as {@link WriteStatistics} service.</p>
  */
 @Component(immediate = true, configurationPolicy = ConfigurationPolicy.REQUIRE, property = {
         EventConstants.EVENT_TOPIC + "=" + PointWriter.DEFAULT_EVENT_TOPIC
@@ -198,6 +206,36 @@ public class PointWriter implements EventHandler {
         @AttributeDefinition(required = false, name = "Bucket",
                 description = "InfluxDB bucket to write")
         String bucket();
+
+        /**
+         * Buffer point(s) and write them in batches in background if enabled.
+         */
+        @AttributeDefinition(required = false, name = "Asynchronous write",
+                description = "Write point(s) in batches in background", type = AttributeType.BOOLEAN)
+        boolean async_enabled() default false;
+
+        /**
+         * The number of data points to collect in a batch (asynchronous mode only).
+         */
+        @AttributeDefinition(required = false, name = "Batch size",
+                description = "Number of points to collect in a batch", type = AttributeType.INTEGER)
+        int async_batch_size() default 1000;
+
+        /**
+         * The time in milliseconds to wait at most before a batch is written (asynchronous mode only).
+         */
+        @AttributeDefinition(required = false, name = "Flush interval",
+                description = "Time in milliseconds to wait at most before writing a batch",
+                type = AttributeType.INTEGER)
+        int async_flush_interval() default 1000;
+
+        /**
+         * The maximum number of buffered points, the oldest points are dropped if the limit is reached
+         * (asynchronous mode only).
+         */
+        @AttributeDefinition(required = false, name = "Buffer limit",
+                description = "Maximum number of buffered points", type = AttributeType.INTEGER)
+        int async_buffer_limit() default 10000;
     }
 
     @Reference(policyOption = ReferencePolicyOption.GREEDY)
@@ -205,15 +243,44 @@ public class PointWriter implements EventHandler {
 
     Config config;
 
+    volatile BatchingWriter batchingWriter;
+
     /**
      * Start or reconfigure OSGi component.
      *
      * @param config configuration
      */
+    void start(final Config config) {
+        start(null, config);
+    }
+
+    /**
+     * Start or reconfigure OSGi component.
+     *
+     * @param bundleContext bundle context used to register {@link WriteStatistics} (asynchronous mode only)
+     * @param config        configuration
+     */
     @Activate
     @Modified
-    void start(final Config config) {
+    void start(final BundleContext bundleContext, final Config config) {
+        stop();
         this.config = config;
+        if (config.async_enabled()) {
+            batchingWriter = new BatchingWriter(client, config.async_batch_size(), config.async_flush_interval(),
+                    config.async_buffer_limit(), bundleContext, PointWriter.class);
+        }
+    }
+
+    /**
+     * Stop OSGi component, buffered point(s) are written in asynchronous mode.
+     */
+    @Deactivate
+    void stop() {
+        final BatchingWriter writer = batchingWriter;
+        if (writer != null) {
+            batchingWriter = null;
+            writer.close();
+        }
     }
 
     /**
@@ -232,8 +299,6 @@ public class PointWriter implements EventHandler {
             bucket = config.bucket();
         }
 
-        final WriteApiBlocking writeApi = client.getWriteApiBlocking();
-
         final Object point = event.getProperty(POINT);
         final Collection<Object> points = (Collection<Object>) event.getProperty(POINTS);
 
@@ -249,6 +314,28 @@ public class PointWriter implements EventHandler {
             timestamp = null;
         }
 
+        final BatchingWriter batching = batchingWriter;
+        if (batching != null) {
+            final List<Point> pointsToWrite;
+            if (point != null) {
+                pointsToWrite = Collections.singletonList(decorate(point, event, timestamp));
+            } else if (points != null) {
+                pointsToWrite = points.stream()
+                        .map(p -> decorate(p, event, timestamp))
+                        .collect(Collectors.toList());
+            } else {
+                throw new IllegalArgumentException("Missing point(s)");
+            }
+            if (organization != null && bucket != null) {
+                batching.getWriteApi().writePoints(bucket, organization, pointsToWrite);
+            } else {
+                batching.getWriteApi().writePoints(pointsToWrite);
+            }
+            return;
+        }
+
+        final WriteApiBlocking writeApi = client.getWriteApiBlocking();
+
         if (point != null) {
             if (organization != null && bucket != null) {
                 writeApi.writePoint(bucket, organization, decorate(point, event, timestamp));
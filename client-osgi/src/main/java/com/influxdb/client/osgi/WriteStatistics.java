@@ -0,0 +1,168 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.osgi;
+
+import java.util.Dictionary;
+import java.util.Hashtable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Statistics of the asynchronous batching writes of {@link PointWriter} and {@link LineProtocolWriter}.
+ *
+ * <p>The statistics are registered as OSGi service if the asynchronous mode is enabled. The values are also published
+ * as service properties which are updated after every written batch, so they can be observed by the OSGi console
+ * or by a service listener without referencing this class:</p>
+ *
+ * <ul>
+ *     <li><i>influxdb.writer</i> ({@link String}): the class name of the writer</li>
+ *     <li><i>influxdb.write.batches</i> ({@link Long}): the number of successfully written batches</li>
+ *     <li><i>influxdb.write.lines</i> ({@link Long}): the number of successfully written line protocol records</li>
+ *     <li><i>influxdb.write.bytes</i> ({@link Long}): the size of successfully written line protocol</li>
+ *     <li><i>influxdb.write.errors</i> ({@link Long}): the number of batches which were not written</li>
+ *     <li><i>influxdb.write.retries</i> ({@link Long}): the number of retried batches</li>
+ *     <li><i>influxdb.write.backpressure</i> ({@link Long}): the number of applied backpressure</li>
+ * </ul>
+ */
+public final class WriteStatistics {
+
+    /**
+     * Service property name of the writer class name.
+     */
+    public static final String WRITER = "influxdb.writer";
+    /**
+     * Service property name of the number of written batches.
+     */
+    public static final String BATCHES = "influxdb.write.batches";
+    /**
+     * Service property name of the number of written line protocol records.
+     */
+    public static final String LINES = "influxdb.write.lines";
+    /**
+     * Service property name of the size of written line protocol.
+     */
+    public static final String BYTES = "influxdb.write.bytes";
+    /**
+     * Service property name of the number of failed batches.
+     */
+    public static final String ERRORS = "influxdb.write.errors";
+    /**
+     * Service property name of the number of retried batches.
+     */
+    public static final String RETRIES = "influxdb.write.retries";
+    /**
+     * Service property name of the number of applied backpressure.
+     */
+    public static final String BACKPRESSURE = "influxdb.write.backpressure";
+
+    private final String writer;
+
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong lines = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong backpressure = new AtomicLong();
+
+    WriteStatistics(final String writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * @return the number of successfully written batches
+     */
+    public long getBatches() {
+        return batches.get();
+    }
+
+    /**
+     * @return the number of successfully written line protocol records
+     */
+    public long getLines() {
+        return lines.get();
+    }
+
+    /**
+     * @return the size of successfully written line protocol
+     */
+    public long getBytes() {
+        return bytes.get();
+    }
+
+    /**
+     * @return the number of batches which were not written
+     */
+    public long getErrors() {
+        return errors.get();
+    }
+
+    /**
+     * @return the number of retried batches
+     */
+    public long getRetries() {
+        return retries.get();
+    }
+
+    /**
+     * @return the number of applied backpressure
+     */
+    public long getBackpressure() {
+        return backpressure.get();
+    }
+
+    void recordBatch(final String lineProtocol) {
+        long count = 1;
+        for (int i = 0; i < lineProtocol.length(); i++) {
+            if (lineProtocol.charAt(i) == '\n') {
+                count++;
+            }
+        }
+        batches.incrementAndGet();
+        lines.addAndGet(count);
+        bytes.addAndGet(lineProtocol.length());
+    }
+
+    void recordError() {
+        errors.incrementAndGet();
+    }
+
+    void recordRetry() {
+        retries.incrementAndGet();
+    }
+
+    void recordBackpressure() {
+        backpressure.incrementAndGet();
+    }
+
+    Dictionary<String, Object> toProperties() {
+        final Dictionary<String, Object> props = new Hashtable<>();
+
+        props.put(WRITER, writer);
+        props.put(BATCHES, getBatches());
+        props.put(LINES, getLines());
+        props.put(BYTES, getBytes());
+        props.put(ERRORS, getErrors());
+        props.put(RETRIES, getRetries());
+        props.put(BACKPRESSURE, getBackpressure());
+
+        return props;
+    }
+}
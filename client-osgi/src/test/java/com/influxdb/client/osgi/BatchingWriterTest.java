@@ -0,0 +1,250 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.osgi;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Dictionary;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.influxdb.client.InfluxDBClient;
+import com.influxdb.client.WriteApi;
+import com.influxdb.client.WriteOptions;
+import com.influxdb.client.domain.WritePrecision;
+import com.influxdb.client.write.Point;
+import com.influxdb.client.write.events.EventListener;
+import com.influxdb.client.write.events.WriteErrorEvent;
+import com.influxdb.client.write.events.WriteSuccessEvent;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceRegistration;
+import org.osgi.service.event.Event;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(JUnitPlatform.class)
+@ExtendWith(MockitoExtension.class)
+public class BatchingWriterTest {
+
+    private static final String RECORD = "weather,location=HU temperature=5.89,humidity=48 1617826119000000000";
+    private static final String ORGANIZATION_OVERRIDE = "my-org";
+    private static final String BUCKET_OVERRIDE = "my-bucket";
+
+    @Mock
+    private WriteApi writeApi;
+
+    @Mock
+    private InfluxDBClient client;
+
+    @Mock
+    private BundleContext context;
+
+    @Mock
+    private ServiceRegistration<WriteStatistics> registration;
+
+    @Mock
+    private LineProtocolWriter.Config lineProtocolConfig;
+
+    @Mock
+    private PointWriter.Config pointConfig;
+
+    @Captor
+    private ArgumentCaptor<WriteOptions> writeOptionsCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<Point>> pointsCaptor;
+
+    @Captor
+    private ArgumentCaptor<EventListener<WriteSuccessEvent>> successListener;
+
+    @Captor
+    private ArgumentCaptor<EventListener<WriteErrorEvent>> errorListener;
+
+    @Captor
+    private ArgumentCaptor<Dictionary<String, Object>> propertiesCaptor;
+
+    @BeforeEach
+    void setUp() {
+        when(client.makeWriteApi(writeOptionsCaptor.capture())).thenReturn(writeApi);
+    }
+
+    @Test
+    void testLineProtocolWriterOptions() {
+        when(lineProtocolConfig.async_enabled()).thenReturn(true);
+        when(lineProtocolConfig.async_batch_size()).thenReturn(500);
+        when(lineProtocolConfig.async_flush_interval()).thenReturn(250);
+        when(lineProtocolConfig.async_buffer_limit()).thenReturn(20000);
+
+        final LineProtocolWriter writer = new LineProtocolWriter();
+        writer.client = client;
+        writer.start(lineProtocolConfig);
+
+        final WriteOptions writeOptions = writeOptionsCaptor.getValue();
+        assertThat(writeOptions.getBatchSize(), equalTo(500));
+        assertThat(writeOptions.getFlushInterval(), equalTo(250));
+        assertThat(writeOptions.getBufferLimit(), equalTo(20000));
+    }
+
+    @Test
+    void testLineProtocolWriterSingleRecord() {
+        final LineProtocolWriter writer = startLineProtocolWriter();
+
+        final Map<String, Object> payload = new HashMap<>();
+        payload.put(LineProtocolWriter.RECORD, RECORD);
+        writer.handleEvent(new Event(LineProtocolWriter.DEFAULT_EVENT_TOPIC, payload));
+
+        payload.put(LineProtocolWriter.ORGANIZATION, ORGANIZATION_OVERRIDE);
+        payload.put(LineProtocolWriter.BUCKET, BUCKET_OVERRIDE);
+        writer.handleEvent(new Event(LineProtocolWriter.DEFAULT_EVENT_TOPIC, payload));
+
+        verify(writeApi).writeRecords(WritePrecision.NS, Collections.singletonList(RECORD));
+        verify(writeApi).writeRecords(BUCKET_OVERRIDE, ORGANIZATION_OVERRIDE, WritePrecision.NS,
+                Collections.singletonList(RECORD));
+        verify(client, never()).getWriteApiBlocking();
+    }
+
+    @Test
+    void testLineProtocolWriterRecordSet() {
+        final LineProtocolWriter writer = startLineProtocolWriter();
+
+        final List<String> records = Arrays.asList(RECORD, RECORD);
+        final Map<String, Object> payload = new HashMap<>();
+        payload.put(LineProtocolWriter.RECORDS, records);
+        payload.put(LineProtocolWriter.PRECISION, "s");
+        writer.handleEvent(new Event(LineProtocolWriter.DEFAULT_EVENT_TOPIC, payload));
+
+        verify(writeApi).writeRecords(WritePrecision.S, records);
+    }
+
+    @Test
+    void testPointWriter() {
+        when(pointConfig.async_enabled()).thenReturn(true);
+        when(pointConfig.async_batch_size()).thenReturn(1000);
+        when(pointConfig.async_flush_interval()).thenReturn(1000);
+        when(pointConfig.async_buffer_limit()).thenReturn(10000);
+        when(pointConfig.timestamp_precision()).thenReturn("ns");
+
+        final PointWriter writer = new PointWriter();
+        writer.client = client;
+        writer.start(pointConfig);
+
+        final Point point = Point.measurement("weather").addField("temperature", 5.89);
+        final Map<String, Object> payload = new HashMap<>();
+        payload.put(PointWriter.POINTS, Arrays.asList(point, point));
+        writer.handleEvent(new Event(PointWriter.DEFAULT_EVENT_TOPIC, payload));
+
+        payload.remove(PointWriter.POINTS);
+        payload.put(PointWriter.POINT, point);
+        payload.put(PointWriter.ORGANIZATION, ORGANIZATION_OVERRIDE);
+        payload.put(PointWriter.BUCKET, BUCKET_OVERRIDE);
+        writer.handleEvent(new Event(PointWriter.DEFAULT_EVENT_TOPIC, payload));
+
+        verify(writeApi).writePoints(pointsCaptor.capture());
+        assertThat(pointsCaptor.getValue(), hasSize(2));
+        verify(writeApi).writePoints(eq(BUCKET_OVERRIDE), eq(ORGANIZATION_OVERRIDE), pointsCaptor.capture());
+        assertThat(pointsCaptor.getValue(), equalTo(Collections.singletonList(point)));
+        verify(client, never()).getWriteApiBlocking();
+    }
+
+    @Test
+    void testStatistics() {
+        when(context.registerService(eq(WriteStatistics.class), any(WriteStatistics.class), any()))
+                .thenReturn(registration);
+
+        final LineProtocolWriter writer = startLineProtocolWriter(context);
+
+        verify(writeApi).listenEvents(eq(WriteSuccessEvent.class), successListener.capture());
+        verify(writeApi).listenEvents(eq(WriteErrorEvent.class), errorListener.capture());
+
+        successListener.getValue().onEvent(new WriteSuccessEvent("my-org", "my-bucket", WritePrecision.NS,
+                RECORD + "\n" + RECORD));
+        errorListener.getValue().onEvent(new WriteErrorEvent(new IllegalStateException("unavailable")));
+
+        final WriteStatistics statistics = writer.batchingWriter.getStatistics();
+        assertThat(statistics.getBatches(), equalTo(1L));
+        assertThat(statistics.getLines(), equalTo(2L));
+        assertThat(statistics.getBytes(), equalTo((long) (RECORD.length() * 2 + 1)));
+        assertThat(statistics.getErrors(), equalTo(1L));
+
+        verify(registration, times(2)).setProperties(propertiesCaptor.capture());
+        final Dictionary<String, Object> properties = propertiesCaptor.getValue();
+        assertThat(properties.get(WriteStatistics.WRITER), equalTo(LineProtocolWriter.class.getName()));
+        assertThat(properties.get(WriteStatistics.BATCHES), equalTo(1L));
+        assertThat(properties.get(WriteStatistics.LINES), equalTo(2L));
+        assertThat(properties.get(WriteStatistics.ERRORS), equalTo(1L));
+
+        writer.stop();
+
+        verify(writeApi).close();
+        verify(registration).unregister();
+        assertThat(writer.batchingWriter, nullValue());
+    }
+
+    @Test
+    void testReconfigure() {
+        final LineProtocolWriter writer = startLineProtocolWriter();
+        final BatchingWriter previous = writer.batchingWriter;
+
+        writer.start(lineProtocolConfig);
+
+        verify(writeApi).close();
+        verify(client, times(2)).makeWriteApi(any());
+        assertThat(writer.batchingWriter == previous, equalTo(false));
+    }
+
+    private LineProtocolWriter startLineProtocolWriter() {
+        return startLineProtocolWriter(null);
+    }
+
+    private LineProtocolWriter startLineProtocolWriter(final BundleContext bundleContext) {
+        when(lineProtocolConfig.async_enabled()).thenReturn(true);
+        when(lineProtocolConfig.async_batch_size()).thenReturn(1000);
+        when(lineProtocolConfig.async_flush_interval()).thenReturn(1000);
+        when(lineProtocolConfig.async_buffer_limit()).thenReturn(10000);
+
+        final LineProtocolWriter writer = new LineProtocolWriter();
+        writer.client = client;
+        writer.start(bundleContext, lineProtocolConfig);
+
+        return writer;
+    }
+}
@@ -114,6 +114,27 @@ public interface QueryReactiveApi {
     @Nonnull
     Flowable<FluxRecord> query(@Nonnull final Publisher<String> queryStream, @Nonnull final String org);
 
+    /**
+     * Returns {@link Flowable} emitting {@link FluxRecord}s which are matched the queries.
+     * If none found than return {@link Flowable#empty()}.
+     *
+     * <p>At most {@code maxConcurrency} queries are executed at the same time. If the {@code ordered} is
+     * {@code true} then the records are emitted in the order of the queries, the records of the running
+     * queries are buffered by {@link Flowable#concatMapEager(io.reactivex.functions.Function, int, int)},
+     * otherwise the records are merged as they arrive.</p>
+     *
+     * @param queryStream    the Flux query publisher
+     * @param org            specifies the source organization
+     * @param maxConcurrency the maximum number of the queries executed at the same time
+     * @param ordered        emit the records in the order of the queries
+     * @return {@link Flowable} of {@link FluxRecord}s
+     */
+    @Nonnull
+    Flowable<FluxRecord> query(@Nonnull final Publisher<String> queryStream,
+                               @Nonnull final String org,
+                               final int maxConcurrency,
+                               final boolean ordered);
+
     /**
      * Returns the {@link Flowable} emitting POJO stream.
      * <p>
@@ -146,6 +167,27 @@ public interface QueryReactiveApi {
                           @Nonnull final String org,
                           @Nonnull final Class<M> measurementType);
 
+    /**
+     * Returns the {@link Flowable} emitting POJO stream.
+     * <p>
+     * If none found than return {@link Flowable#empty()}.
+     *
+     * @param queryStream     the Flux query publisher
+     * @param org             specifies the source organization
+     * @param measurementType the measurement class (POJO)
+     * @param maxConcurrency  the maximum number of the queries executed at the same time
+     * @param ordered         emit the measurements in the order of the queries
+     * @param <M>             the type of the measurement (POJO)
+     * @return {@link Flowable} of {@link FluxRecord}s
+     * @see #query(Publisher, String, int, boolean)
+     */
+    @Nonnull
+    <M> Flowable<M> query(@Nonnull final Publisher<String> queryStream,
+                          @Nonnull final String org,
+                          @Nonnull final Class<M> measurementType,
+                          final int maxConcurrency,
+                          final boolean ordered);
+
     /**
      * Returns {@link Flowable} emitting raw response fromInfluxDB 2.0server line by line.
      *
@@ -243,4 +285,23 @@ public interface QueryReactiveApi {
     Flowable<String> queryRaw(@Nonnull final Publisher<String> queryStream,
                               @Nullable final Dialect dialect,
                               @Nonnull final String org);
+
+    /**
+     * Returns {@link Flowable} emitting queryRaw response fromInfluxDB 2.0server line by line.
+     *
+     * @param queryStream    the Flux query publisher
+     * @param dialect        Dialect is an object defining the options to use when encoding the response.
+     *                       <a href="http://bit.ly/flux-dialect">See dialect SPEC.</a>.
+     * @param org            specifies the source organization
+     * @param maxConcurrency the maximum number of the queries executed at the same time
+     * @param ordered        emit the lines in the order of the queries
+     * @return {@link Flowable} of response lines
+     * @see #query(Publisher, String, int, boolean)
+     */
+    @Nonnull
+    Flowable<String> queryRaw(@Nonnull final Publisher<String> queryStream,
+                              @Nullable final Dialect dialect,
+                              @Nonnull final String org,
+                              final int maxConcurrency,
+                              final boolean ordered);
 }
\ No newline at end of file
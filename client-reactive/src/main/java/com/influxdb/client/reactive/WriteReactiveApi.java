@@ -28,6 +28,7 @@ import com.influxdb.client.InfluxDBClientOptions;
 import com.influxdb.client.WriteApi;
 import com.influxdb.client.domain.WritePrecision;
 import com.influxdb.client.write.Point;
+import com.influxdb.client.write.WriteResult;
 import com.influxdb.client.write.events.AbstractWriteEvent;
 import com.influxdb.client.write.events.BackpressureEvent;
 import com.influxdb.client.write.events.WriteErrorEvent;
@@ -43,6 +44,11 @@ import org.reactivestreams.Publisher;
  * Write time-series data into InfluxDB 2.0.
  * <p>
  * The data are formatted in <a href="https://bit.ly/line-protocol">Line Protocol</a>.
+ * <p>
+ * The methods without the {@link WriteReactiveOptions} subscribe the publisher immediately and the data
+ * are written by the batching {@link WriteApi}, the outcome is published only by {@link #listenEvents(Class)}.
+ * The methods with the {@link WriteReactiveOptions} return the cold {@link Flowable} which emits
+ * the {@link WriteResult} for every acknowledged batch, so the pipeline is slowed down together with InfluxDB.
  *
  * @author Jakub Bednar (bednar@github) (22/11/2018 06:49)
  */
@@ -290,6 +296,117 @@ public interface WriteReactiveApi extends AutoCloseable {
                                @Nonnull final WritePrecision precision,
                                @Nonnull final Publisher<M> measurements);
 
+    /**
+     * Write Line Protocol records into specified bucket and publish the result of every written batch.
+     *
+     * <p>
+     * The {@link InfluxDBClientOptions#getBucket()} will be use as destination bucket
+     * and {@link InfluxDBClientOptions#getOrg()} will be used as destination organization.
+     * </p>
+     *
+     * @param precision specifies the precision for the unix timestamps within the body line-protocol
+     * @param records   specifies the records in InfluxDB Line Protocol
+     * @param options   specifies how the records are split into batches
+     * @return the cold {@link Flowable} of the acknowledged batches
+     * @see WriteReactiveOptions
+     */
+    @Nonnull
+    Flowable<WriteResult> writeRecords(@Nonnull final WritePrecision precision,
+                                       @Nonnull final Publisher<String> records,
+                                       @Nonnull final WriteReactiveOptions options);
+
+    /**
+     * Write Line Protocol records into specified bucket and publish the result of every written batch.
+     *
+     * @param bucket    specifies the destination bucket for writes
+     * @param org       specifies the destination organization for writes
+     * @param precision specifies the precision for the unix timestamps within the body line-protocol
+     * @param records   specifies the records in InfluxDB Line Protocol
+     * @param options   specifies how the records are split into batches
+     * @return the cold {@link Flowable} of the acknowledged batches
+     * @see WriteReactiveOptions
+     */
+    @Nonnull
+    Flowable<WriteResult> writeRecords(@Nonnull final String bucket,
+                                       @Nonnull final String org,
+                                       @Nonnull final WritePrecision precision,
+                                       @Nonnull final Publisher<String> records,
+                                       @Nonnull final WriteReactiveOptions options);
+
+    /**
+     * Write Data points into specified bucket and publish the result of every written batch.
+     * The points with different precision are written in separate batches.
+     *
+     * <p>
+     * The {@link InfluxDBClientOptions#getBucket()} will be use as destination bucket
+     * and {@link InfluxDBClientOptions#getOrg()} will be used as destination organization.
+     * </p>
+     *
+     * @param points  specifies the Data points to write into bucket
+     * @param options specifies how the points are split into batches
+     * @return the cold {@link Flowable} of the acknowledged batches
+     * @see WriteReactiveOptions
+     */
+    @Nonnull
+    Flowable<WriteResult> writePoints(@Nonnull final Publisher<Point> points,
+                                      @Nonnull final WriteReactiveOptions options);
+
+    /**
+     * Write Data points into specified bucket and publish the result of every written batch.
+     * The points with different precision are written in separate batches.
+     *
+     * @param bucket  specifies the destination bucket for writes
+     * @param org     specifies the destination organization for writes
+     * @param points  specifies the Data points to write into bucket
+     * @param options specifies how the points are split into batches
+     * @return the cold {@link Flowable} of the acknowledged batches
+     * @see WriteReactiveOptions
+     */
+    @Nonnull
+    Flowable<WriteResult> writePoints(@Nonnull final String bucket,
+                                      @Nonnull final String org,
+                                      @Nonnull final Publisher<Point> points,
+                                      @Nonnull final WriteReactiveOptions options);
+
+    /**
+     * Write Measurements into specified bucket and publish the result of every written batch.
+     *
+     * <p>
+     * The {@link InfluxDBClientOptions#getBucket()} will be use as destination bucket
+     * and {@link InfluxDBClientOptions#getOrg()} will be used as destination organization.
+     * </p>
+     *
+     * @param precision    specifies the precision for the unix timestamps within the body line-protocol
+     * @param measurements specifies the Measurements to write into bucket
+     * @param options      specifies how the measurements are split into batches
+     * @param <M>          type of measurement
+     * @return the cold {@link Flowable} of the acknowledged batches
+     * @see WriteReactiveOptions
+     */
+    @Nonnull
+    <M> Flowable<WriteResult> writeMeasurements(@Nonnull final WritePrecision precision,
+                                                @Nonnull final Publisher<M> measurements,
+                                                @Nonnull final WriteReactiveOptions options);
+
+    /**
+     * Write Measurements into specified bucket and publish the result of every written batch.
+     *
+     * @param bucket       specifies the destination bucket for writes
+     * @param org          specifies the destination organization for writes
+     * @param precision    specifies the precision for the unix timestamps within the body line-protocol
+     * @param measurements specifies the Measurements to write into bucket
+     * @param options      specifies how the measurements are split into batches
+     * @param <M>          type of measurement
+     * @return the cold {@link Flowable} of the acknowledged batches
+     * @see WriteReactiveOptions
+     */
+    @Nonnull
+    <M> Flowable<WriteResult> writeMeasurements(@Nonnull final String bucket,
+                                                @Nonnull final String org,
+                                                @Nonnull final WritePrecision precision,
+                                                @Nonnull final Publisher<M> measurements,
+                                                @Nonnull final WriteReactiveOptions options);
+
     /**
      * Listen the events produced by {@link WriteApi}.
      * <p>
@@ -0,0 +1,227 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.reactive;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.influxdb.Arguments;
+
+/**
+ * WriteReactiveOptions are used to configure how {@link WriteReactiveApi} splits the stream into acknowledged batches.
+ *
+ * <p>
+ * The batch is written into InfluxDB when reach the {@code batchSize} or the {@code batchBytes} limit
+ * or when it is older than {@code flushInterval}. By default the batches are written one by one in the order
+ * of the stream. The concurrent writes are enabled by {@code maxConcurrentWrites}, then the batches are written
+ * concurrently while the size of the unacknowledged batches is under the {@code maxInFlightBytes} and the upstream
+ * is not requested until some of the batches is acknowledged. The default setting:
+ * <ul>
+ * <li>batchSize = 5000</li>
+ * <li>batchBytes = 4 MiB</li>
+ * <li>flushInterval = 1000 ms</li>
+ * <li>maxConcurrentWrites = 1</li>
+ * <li>maxInFlightBytes = 16 MiB</li>
+ * </ul>
+ */
+@ThreadSafe
+public final class WriteReactiveOptions {
+
+    private static final int DEFAULT_BATCH_SIZE = 5000;
+    private static final int DEFAULT_BATCH_BYTES = 4 * 1024 * 1024;
+    private static final int DEFAULT_FLUSH_INTERVAL = 1000;
+    private static final int DEFAULT_MAX_CONCURRENT_WRITES = 1;
+    private static final int DEFAULT_MAX_IN_FLIGHT_BYTES = 16 * 1024 * 1024;
+
+    /**
+     * Default configuration.
+     */
+    public static final WriteReactiveOptions DEFAULTS = WriteReactiveOptions.builder().build();
+
+    private final int batchSize;
+    private final int batchBytes;
+    private final int flushInterval;
+    private final int maxConcurrentWrites;
+    private final int maxInFlightBytes;
+
+    private WriteReactiveOptions(@Nonnull final Builder builder) {
+
+        Arguments.checkNotNull(builder, "WriteReactiveOptions.Builder");
+
+        batchSize = builder.batchSize;
+        batchBytes = builder.batchBytes;
+        flushInterval = builder.flushInterval;
+        maxConcurrentWrites = builder.maxConcurrentWrites;
+        maxInFlightBytes = builder.maxInFlightBytes;
+    }
+
+    /**
+     * @return the maximum number of records in one batch
+     * @see WriteReactiveOptions.Builder#batchSize(int)
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return the maximum size of one batch in bytes
+     * @see WriteReactiveOptions.Builder#batchBytes(int)
+     */
+    public int getBatchBytes() {
+        return batchBytes;
+    }
+
+    /**
+     * @return the time to hold the records in the batch in milliseconds
+     * @see WriteReactiveOptions.Builder#flushInterval(int)
+     */
+    public int getFlushInterval() {
+        return flushInterval;
+    }
+
+    /**
+     * @return the maximum number of batches written concurrently
+     * @see WriteReactiveOptions.Builder#maxConcurrentWrites(int)
+     */
+    public int getMaxConcurrentWrites() {
+        return maxConcurrentWrites;
+    }
+
+    /**
+     * @return the maximum size of the unacknowledged batches in bytes
+     * @see WriteReactiveOptions.Builder#maxInFlightBytes(int)
+     */
+    public int getMaxInFlightBytes() {
+        return maxInFlightBytes;
+    }
+
+    /**
+     * Creates a builder instance.
+     *
+     * @return a builder
+     */
+    @Nonnull
+    public static WriteReactiveOptions.Builder builder() {
+        return new WriteReactiveOptions.Builder();
+    }
+
+    /**
+     * A builder for {@code WriteReactiveOptions}.
+     */
+    @NotThreadSafe
+    public static class Builder {
+
+        private int batchSize = DEFAULT_BATCH_SIZE;
+        private int batchBytes = DEFAULT_BATCH_BYTES;
+        private int flushInterval = DEFAULT_FLUSH_INTERVAL;
+        private int maxConcurrentWrites = DEFAULT_MAX_CONCURRENT_WRITES;
+        private int maxInFlightBytes = DEFAULT_MAX_IN_FLIGHT_BYTES;
+
+        /**
+         * Set the maximum number of records in one batch.
+         *
+         * @param batchSize the maximum number of records in one batch
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder batchSize(final int batchSize) {
+            Arguments.checkPositiveNumber(batchSize, "batchSize");
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Set the maximum size of one batch in bytes. The size is measured by the UTF-8 encoded length
+         * of Line Protocol. A single record larger than the limit is written as its own batch.
+         *
+         * @param batchBytes the maximum size of one batch in bytes
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder batchBytes(final int batchBytes) {
+            Arguments.checkPositiveNumber(batchBytes, "batchBytes");
+            this.batchBytes = batchBytes;
+            return this;
+        }
+
+        /**
+         * Set the time to hold the records in the batch before it is written.
+         *
+         * @param flushInterval the time to hold the records in the batch in milliseconds
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder flushInterval(final int flushInterval) {
+            Arguments.checkPositiveNumber(flushInterval, "flushInterval");
+            this.flushInterval = flushInterval;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of batches which are written concurrently. The default value {@code 1} writes
+         * the batches one by one in the order of the stream.
+         * <p>
+         * The concurrent batches are unordered - InfluxDB could store a later batch before an earlier one,
+         * so the records with the same series and timestamp could be overwritten by the older values. Use the
+         * concurrent writes only if the stream doesn't rewrite the same points. The results of writes are still
+         * emitted in the order of batches.
+         *
+         * @param maxConcurrentWrites the maximum number of batches written concurrently
+         * @return {@code this}
+         * @see #maxInFlightBytes(int)
+         */
+        @Nonnull
+        public Builder maxConcurrentWrites(final int maxConcurrentWrites) {
+            Arguments.checkPositiveNumber(maxConcurrentWrites, "maxConcurrentWrites");
+            this.maxConcurrentWrites = maxConcurrentWrites;
+            return this;
+        }
+
+        /**
+         * Set the maximum size of the batches which are written concurrently but not yet acknowledged by InfluxDB.
+         * The limit is applied only to the {@link #maxConcurrentWrites(int) concurrent writes}. At least one batch
+         * is always written, so the limit smaller than {@code batchBytes} means that the batches are written
+         * one by one.
+         *
+         * @param maxInFlightBytes the maximum size of the unacknowledged batches in bytes
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder maxInFlightBytes(final int maxInFlightBytes) {
+            Arguments.checkPositiveNumber(maxInFlightBytes, "maxInFlightBytes");
+            this.maxInFlightBytes = maxInFlightBytes;
+            return this;
+        }
+
+        /**
+         * Build an instance of WriteReactiveOptions.
+         *
+         * @return {@code WriteReactiveOptions}
+         */
+        @Nonnull
+        public WriteReactiveOptions build() {
+
+            return new WriteReactiveOptions(this);
+        }
+    }
+}
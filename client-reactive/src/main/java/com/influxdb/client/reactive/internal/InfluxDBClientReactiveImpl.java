@@ -50,7 +50,7 @@ public class InfluxDBClientReactiveImpl extends AbstractInfluxDBClient
     @Nonnull
     @Override
     public QueryReactiveApi getQueryReactiveApi() {
-        return new QueryReactiveApiImpl(retrofit.create(QueryService.class), options);
+        return new QueryReactiveApiImpl(queryRetrofit.create(QueryService.class), options);
     }
 
     @Nonnull
@@ -65,7 +65,8 @@ public class InfluxDBClientReactiveImpl extends AbstractInfluxDBClient
 
         Arguments.checkNotNull(writeOptions, "WriteOptions");
 
-        return new WriteReactiveApiImpl(writeOptions, retrofit.create(WriteService.class), options, autoCloseables);
+        return new WriteReactiveApiImpl(writeOptions, writeScheduler(writeOptions),
+                writeRetrofit.create(WriteService.class), writeApiAsync(writeOptions), options, autoCloseables);
     }
 
     @Nonnull
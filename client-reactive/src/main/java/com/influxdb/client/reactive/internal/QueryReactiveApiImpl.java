@@ -21,12 +21,13 @@
  */
 package com.influxdb.client.reactive.internal;
 
-import java.util.function.BiConsumer;
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.concurrent.Callable;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import com.influxdb.Arguments;
-import com.influxdb.Cancellable;
 import com.influxdb.client.InfluxDBClientOptions;
 import com.influxdb.client.domain.Dialect;
 import com.influxdb.client.domain.Query;
@@ -35,13 +36,13 @@ import com.influxdb.client.reactive.QueryReactiveApi;
 import com.influxdb.client.service.QueryService;
 import com.influxdb.internal.AbstractQueryApi;
 import com.influxdb.query.FluxRecord;
-import com.influxdb.query.FluxTable;
-import com.influxdb.query.internal.FluxCsvParser;
+import com.influxdb.query.QueryListener;
 
-import io.reactivex.BackpressureStrategy;
 import io.reactivex.Flowable;
-import io.reactivex.Observable;
+import io.reactivex.functions.Function;
+import okhttp3.ResponseBody;
 import org.reactivestreams.Publisher;
+import retrofit2.Call;
 
 /**
  * @author Jakub Bednar (bednar@github) (21/11/2018 07:21)
@@ -60,6 +61,12 @@ final class QueryReactiveApiImpl extends AbstractQueryApi implements QueryReacti
         this.options = options;
     }
 
+    @Nonnull
+    @Override
+    protected QueryListener getQueryListener() {
+        return options.getQueryListener();
+    }
+
     @Nonnull
     @Override
     public Flowable<FluxRecord> query(@Nonnull final String query) {
@@ -113,44 +120,26 @@ final class QueryReactiveApiImpl extends AbstractQueryApi implements QueryReacti
     public Flowable<FluxRecord> query(@Nonnull final Publisher<String> queryStream,
                                       @Nonnull final String org) {
 
+        return query(queryStream, org, Flowable.bufferSize(), false);
+    }
+
+    @Nonnull
+    @Override
+    public Flowable<FluxRecord> query(@Nonnull final Publisher<String> queryStream,
+                                      @Nonnull final String org,
+                                      final int maxConcurrency,
+                                      final boolean ordered) {
+
         Arguments.checkNotNull(queryStream, "queryStream");
         Arguments.checkNonEmpty(org, "org");
+        Arguments.checkPositiveNumber(maxConcurrency, "maxConcurrency");
 
-        return Flowable
+        Flowable<Call<ResponseBody>> calls = Flowable
                 .fromPublisher(queryStream)
                 .map(it -> service.postQueryResponseBody(null, null,
-                        null, org, null, new Query().query(it).dialect(AbstractInfluxDBClient.DEFAULT_DIALECT)))
-                .flatMap(queryCall -> {
-
-                    Observable<FluxRecord> observable = Observable.create(subscriber -> {
-
-                        FluxCsvParser.FluxResponseConsumer consumer = new FluxCsvParser.FluxResponseConsumer() {
-
-                            @Override
-                            public void accept(final int index,
-                                               @Nonnull final Cancellable cancellable,
-                                               @Nonnull final FluxTable table) {
-
-                            }
+                        null, org, null, new Query().query(it).dialect(AbstractInfluxDBClient.DEFAULT_DIALECT)));
 
-                            @Override
-                            public void accept(final int index,
-                                               @Nonnull final Cancellable cancellable,
-                                               @Nonnull final FluxRecord record) {
-
-                                if (subscriber.isDisposed()) {
-                                    cancellable.cancel();
-                                } else {
-                                    subscriber.onNext(record);
-                                }
-                            }
-                        };
-
-                        query(queryCall, consumer, subscriber::onError, subscriber::onComplete, false);
-                    });
-
-                    return observable.toFlowable(BackpressureStrategy.BUFFER);
-                });
+        return merge(calls, queryCall -> generate(() -> queryIterator(queryCall)), maxConcurrency, ordered);
     }
 
     @Nonnull
@@ -169,11 +158,23 @@ final class QueryReactiveApiImpl extends AbstractQueryApi implements QueryReacti
                                  @Nonnull final String org,
                                  @Nonnull final Class<M> measurementType) {
 
+        return query(queryStream, org, measurementType, Flowable.bufferSize(), false);
+    }
+
+    @Nonnull
+    @Override
+    public <M> Flowable<M> query(@Nonnull final Publisher<String> queryStream,
+                                 @Nonnull final String org,
+                                 @Nonnull final Class<M> measurementType,
+                                 final int maxConcurrency,
+                                 final boolean ordered) {
+
         Arguments.checkNotNull(queryStream, "queryStream");
         Arguments.checkNotNull(measurementType, "Measurement type");
         Arguments.checkNonEmpty(org, "org");
 
-        return query(queryStream, org).map(fluxRecord -> resultMapper.toPOJO(fluxRecord, measurementType));
+        return query(queryStream, org, maxConcurrency, ordered)
+                .map(fluxRecord -> resultMapper.toPOJO(fluxRecord, measurementType));
     }
 
     @Nonnull
@@ -251,30 +252,55 @@ final class QueryReactiveApiImpl extends AbstractQueryApi implements QueryReacti
                                      @Nullable final Dialect dialect,
                                      @Nonnull final String org) {
 
+        return queryRaw(queryStream, dialect, org, Flowable.bufferSize(), false);
+    }
+
+    @Nonnull
+    @Override
+    public Flowable<String> queryRaw(@Nonnull final Publisher<String> queryStream,
+                                     @Nullable final Dialect dialect,
+                                     @Nonnull final String org,
+                                     final int maxConcurrency,
+                                     final boolean ordered) {
+
         Arguments.checkNotNull(queryStream, "queryStream");
         Arguments.checkNonEmpty(org, "org");
+        Arguments.checkPositiveNumber(maxConcurrency, "maxConcurrency");
 
-        return Flowable
+        Flowable<Call<ResponseBody>> calls = Flowable
                 .fromPublisher(queryStream)
                 .map(it -> service.postQueryResponseBody(null, null,
-                        null, org, null, new Query().query(it).dialect(dialect)))
-                .flatMap(queryCall -> {
+                        null, org, null, new Query().query(it).dialect(dialect)));
 
-                    Observable<String> observable = Observable.create(subscriber -> {
+        return merge(calls, queryCall -> generate(() -> queryRawIterator(queryCall)), maxConcurrency, ordered);
+    }
 
+    @Nonnull
+    private <T> Flowable<T> merge(@Nonnull final Flowable<Call<ResponseBody>> calls,
+                                  @Nonnull final Function<Call<ResponseBody>, Flowable<T>> mapper,
+                                  final int maxConcurrency,
+                                  final boolean ordered) {
 
-                        BiConsumer<Cancellable, String> consumer = (cancellable, line) -> {
-                            if (subscriber.isDisposed()) {
-                                cancellable.cancel();
-                            } else {
-                                subscriber.onNext(line);
-                            }
-                        };
+        if (ordered) {
+            return calls.concatMapEager(mapper, maxConcurrency, Flowable.bufferSize());
+        }
 
-                        queryRaw(queryCall, consumer, subscriber::onError, subscriber::onComplete, false);
-                    });
+        return calls.flatMap(mapper, maxConcurrency);
+    }
 
-                    return observable.toFlowable(BackpressureStrategy.BUFFER);
-                });
+    /**
+     * The query is executed at subscription and the next element is read from the response only when it is
+     * requested by the subscriber, so the slow subscriber doesn't buffer the whole response in memory.
+     */
+    @Nonnull
+    private <T, I extends Iterator<T> & Closeable> Flowable<T> generate(@Nonnull final Callable<I> query) {
+
+        return Flowable.generate(query, (it, emitter) -> {
+            if (it.hasNext()) {
+                emitter.onNext(it.next());
+            } else {
+                emitter.onComplete();
+            }
+        }, Closeable::close);
     }
-}
\ No newline at end of file
+}
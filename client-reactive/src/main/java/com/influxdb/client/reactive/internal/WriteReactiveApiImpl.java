@@ -23,21 +23,32 @@ package com.influxdb.client.reactive.internal;
 
 import java.util.Collection;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import javax.annotation.Nonnull;
 
 import com.influxdb.Arguments;
 import com.influxdb.client.InfluxDBClientOptions;
+import com.influxdb.client.WriteApiAsync;
 import com.influxdb.client.WriteOptions;
 import com.influxdb.client.domain.WritePrecision;
 import com.influxdb.client.internal.AbstractWriteClient;
+import com.influxdb.client.internal.WriteChunker;
 import com.influxdb.client.reactive.WriteReactiveApi;
+import com.influxdb.client.reactive.WriteReactiveOptions;
 import com.influxdb.client.service.WriteService;
 import com.influxdb.client.write.Point;
+import com.influxdb.client.write.WriteResult;
 import com.influxdb.client.write.events.AbstractWriteEvent;
 
 import io.reactivex.Flowable;
 import io.reactivex.Maybe;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
+import io.reactivex.functions.Function;
 import org.reactivestreams.Publisher;
 
 /**
@@ -45,11 +56,19 @@ import org.reactivestreams.Publisher;
  */
 public class WriteReactiveApiImpl extends AbstractWriteClient implements WriteReactiveApi {
 
+    private final WriteApiAsync writeApiAsync;
+
     WriteReactiveApiImpl(@Nonnull final WriteOptions writeOptions,
+                         @Nonnull final Scheduler writeScheduler,
                          @Nonnull final WriteService service,
+                         @Nonnull final WriteApiAsync writeApiAsync,
                          @Nonnull final InfluxDBClientOptions options, final Collection<AutoCloseable> autoCloseables) {
 
-        super(writeOptions, options, writeOptions.getWriteScheduler(), service, autoCloseables);
+        super(writeOptions, options, writeScheduler, service, autoCloseables);
+
+        Arguments.checkNotNull(writeApiAsync, "WriteApiAsync");
+
+        this.writeApiAsync = writeApiAsync;
     }
 
     @Override
@@ -263,6 +282,93 @@ public class WriteReactiveApiImpl extends AbstractWriteClient implements WriteRe
         writeMeasurements(bucket, org, precision, Flowable.fromPublisher(measurements));
     }
 
+    @Nonnull
+    @Override
+    public Flowable<WriteResult> writeRecords(@Nonnull final WritePrecision precision,
+                                              @Nonnull final Publisher<String> records,
+                                              @Nonnull final WriteReactiveOptions options) {
+
+        Arguments.checkNotNull(this.options.getBucket(), "InfluxDBClientOptions.getBucket");
+        Arguments.checkNotNull(this.options.getOrg(), "InfluxDBClientOptions.getOrg");
+
+        return writeRecords(this.options.getBucket(), this.options.getOrg(), precision, records, options);
+    }
+
+    @Nonnull
+    @Override
+    public Flowable<WriteResult> writeRecords(@Nonnull final String bucket,
+                                              @Nonnull final String org,
+                                              @Nonnull final WritePrecision precision,
+                                              @Nonnull final Publisher<String> records,
+                                              @Nonnull final WriteReactiveOptions options) {
+
+        Arguments.checkNotNull(precision, "precision");
+        Arguments.checkNotNull(records, "records");
+
+        Flowable<WriteChunker.Line> lines = Flowable.fromPublisher(records)
+                .map(it -> new WriteChunker.Line(precision, it));
+
+        return write(bucket, org, lines, options);
+    }
+
+    @Nonnull
+    @Override
+    public Flowable<WriteResult> writePoints(@Nonnull final Publisher<Point> points,
+                                             @Nonnull final WriteReactiveOptions options) {
+
+        Arguments.checkNotNull(this.options.getBucket(), "InfluxDBClientOptions.getBucket");
+        Arguments.checkNotNull(this.options.getOrg(), "InfluxDBClientOptions.getOrg");
+
+        return writePoints(this.options.getBucket(), this.options.getOrg(), points, options);
+    }
+
+    @Nonnull
+    @Override
+    public Flowable<WriteResult> writePoints(@Nonnull final String bucket,
+                                             @Nonnull final String org,
+                                             @Nonnull final Publisher<Point> points,
+                                             @Nonnull final WriteReactiveOptions options) {
+
+        Arguments.checkNotNull(points, "points");
+
+        Flowable<WriteChunker.Line> lines = Flowable.fromPublisher(points)
+                .filter(Objects::nonNull)
+                .map(it -> new WriteChunker.Line(it.getPrecision(),
+                        new BatchWriteDataPoint(it, this.options).toLineProtocol()));
+
+        return write(bucket, org, lines, options);
+    }
+
+    @Nonnull
+    @Override
+    public <M> Flowable<WriteResult> writeMeasurements(@Nonnull final WritePrecision precision,
+                                                       @Nonnull final Publisher<M> measurements,
+                                                       @Nonnull final WriteReactiveOptions options) {
+
+        Arguments.checkNotNull(this.options.getBucket(), "InfluxDBClientOptions.getBucket");
+        Arguments.checkNotNull(this.options.getOrg(), "InfluxDBClientOptions.getOrg");
+
+        return writeMeasurements(this.options.getBucket(), this.options.getOrg(), precision, measurements, options);
+    }
+
+    @Nonnull
+    @Override
+    public <M> Flowable<WriteResult> writeMeasurements(@Nonnull final String bucket,
+                                                       @Nonnull final String org,
+                                                       @Nonnull final WritePrecision precision,
+                                                       @Nonnull final Publisher<M> measurements,
+                                                       @Nonnull final WriteReactiveOptions options) {
+
+        Arguments.checkNotNull(precision, "precision");
+        Arguments.checkNotNull(measurements, "measurements");
+
+        Flowable<WriteChunker.Line> lines = Flowable.fromPublisher(measurements)
+                .map(it -> new BatchWriteDataMeasurement(it, precision, this.options, measurementMapper))
+                .map(it -> new WriteChunker.Line(precision, it.toLineProtocol()));
+
+        return write(bucket, org, lines, options);
+    }
+
     @Nonnull
     @Override
     public <T extends AbstractWriteEvent> Observable<T> listenEvents(@Nonnull final Class<T> eventType) {
@@ -273,4 +379,64 @@ public class WriteReactiveApiImpl extends AbstractWriteClient implements WriteRe
     public void close() {
         super.close();
     }
-}
\ No newline at end of file
+
+    /**
+     * The batches are closed by the {@link WriteChunker} and written by the {@link WriteApiAsync}. By default
+     * the batches are written one by one, so InfluxDB stores them in the order of the stream. The concurrent writes
+     * use {@code concatMapEager} that requests only as many batches as could be in flight, so the upstream
+     * is requested only after some batch is acknowledged. The results are emitted in the order of batches.
+     */
+    @Nonnull
+    private Flowable<WriteResult> write(@Nonnull final String bucket,
+                                        @Nonnull final String org,
+                                        @Nonnull final Flowable<WriteChunker.Line> lines,
+                                        @Nonnull final WriteReactiveOptions options) {
+
+        Arguments.checkNonEmpty(bucket, "bucket");
+        Arguments.checkNonEmpty(org, "organization");
+        Arguments.checkNotNull(options, "WriteReactiveOptions");
+
+        int maxInFlight = Math.min(options.getMaxConcurrentWrites(),
+                Math.max(1, options.getMaxInFlightBytes() / options.getBatchBytes()));
+
+        Flowable<WriteChunker.Line> ticks = Flowable
+                .interval(options.getFlushInterval(), options.getFlushInterval(), TimeUnit.MILLISECONDS)
+                .map(tick -> WriteChunker.FLUSH)
+                .onBackpressureDrop();
+
+        Function<WriteChunker.Chunk, Flowable<WriteResult>> write = chunk -> post(() -> writeApiAsync
+                .writeRecords(bucket, org, chunk.getPrecision(), chunk.getLines())).toFlowable();
+
+        return Flowable.defer(() -> {
+
+            WriteChunker chunker = new WriteChunker(options.getBatchSize(), options.getBatchBytes());
+
+            Flowable<WriteChunker.Line> data = lines.concatWith(Flowable.just(WriteChunker.END));
+
+            Flowable<WriteChunker.Chunk> chunks = Flowable.merge(data, ticks)
+                    .takeUntil(line -> line == WriteChunker.END)
+                    .concatMapIterable(chunker::offer);
+
+            return maxInFlight == 1 ? chunks.concatMap(write, 1) : chunks.concatMapEager(write, maxInFlight, 1);
+        });
+    }
+
+    @Nonnull
+    private Single<WriteResult> post(@Nonnull final Supplier<CompletableFuture<WriteResult>> write) {
+
+        return Single.create(emitter -> {
+
+            CompletableFuture<WriteResult> future = write.get();
+
+            emitter.setCancellable(() -> future.cancel(true));
+
+            future.whenComplete((result, throwable) -> {
+                if (throwable == null) {
+                    emitter.onSuccess(result);
+                } else {
+                    emitter.tryOnError(throwable instanceof CompletionException ? throwable.getCause() : throwable);
+                }
+            });
+        });
+    }
+}
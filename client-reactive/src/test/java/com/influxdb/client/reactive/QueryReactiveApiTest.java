@@ -0,0 +1,210 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.reactive;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import com.influxdb.exceptions.UnauthorizedException;
+import com.influxdb.query.FluxRecord;
+import com.influxdb.test.AbstractMockServerTest;
+
+import io.reactivex.Flowable;
+import io.reactivex.subscribers.TestSubscriber;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+class QueryReactiveApiTest extends AbstractMockServerTest {
+
+    private InfluxDBClientReactive client;
+    private QueryReactiveApi queryApi;
+
+    @BeforeEach
+    void setUp() {
+        client = InfluxDBClientReactiveFactory.create(startMockServer(), "my-token".toCharArray(), "my-org");
+        queryApi = client.getQueryReactiveApi();
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+    }
+
+    @Test
+    void query() {
+
+        mockServer.enqueue(createResponse(data(3)));
+
+        queryApi.query("from(bucket:\"my-bucket\")")
+                .map(FluxRecord::getValue)
+                .test()
+                .assertValues(1L, 2L, 3L)
+                .assertComplete();
+    }
+
+    @Test
+    void readOnRequest() {
+
+        mockServer.enqueue(createResponse(data(1000)));
+
+        TestSubscriber<FluxRecord> subscriber = queryApi.query("from(bucket:\"my-bucket\")").test(1);
+
+        subscriber
+                .assertValueCount(1)
+                .assertNotComplete();
+
+        subscriber.requestMore(9);
+
+        subscriber
+                .assertValueCount(10)
+                .assertNotComplete();
+
+        subscriber.requestMore(Long.MAX_VALUE);
+
+        subscriber
+                .assertValueCount(1000)
+                .assertComplete();
+    }
+
+    @Test
+    void readOnRequestRaw() {
+
+        mockServer.enqueue(createResponse(data(1000)));
+
+        TestSubscriber<String> subscriber = queryApi.queryRaw("from(bucket:\"my-bucket\")").test(5);
+
+        subscriber
+                .assertValueCount(5)
+                .assertNotComplete();
+
+        subscriber.requestMore(Long.MAX_VALUE);
+
+        subscriber
+                .assertValueCount(1004)
+                .assertComplete();
+    }
+
+    @Test
+    void cancel() {
+
+        mockServer.enqueue(createResponse(data(1000)));
+
+        queryApi.query("from(bucket:\"my-bucket\")")
+                .take(2)
+                .map(FluxRecord::getValue)
+                .test()
+                .assertValues(1L, 2L)
+                .assertComplete();
+    }
+
+    @Test
+    void queryStreamOrdered() {
+
+        mockServer.enqueue(createResponse(data(1, 300)));
+        mockServer.enqueue(createResponse(data(301, 600)));
+        mockServer.enqueue(createResponse(data(601, 900)));
+
+        Flowable<String> queries = Flowable.just("from(bucket:\"a\")", "from(bucket:\"b\")", "from(bucket:\"c\")");
+
+        List<Object> values = queryApi.query(queries, "my-org", 2, true)
+                .map(FluxRecord::getValue)
+                .toList()
+                .blockingGet();
+
+        Assertions.assertThat(values).isEqualTo(LongStream.rangeClosed(1, 900).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    void queryStreamUnordered() {
+
+        mockServer.enqueue(createResponse(data(1, 300)));
+        mockServer.enqueue(createResponse(data(301, 600)));
+
+        Flowable<String> queries = Flowable.just("from(bucket:\"a\")", "from(bucket:\"b\")");
+
+        List<Object> values = queryApi.query(queries, "my-org", 2, false)
+                .map(FluxRecord::getValue)
+                .toList()
+                .blockingGet();
+
+        Assertions.assertThat(values)
+                .containsExactlyInAnyOrderElementsOf(LongStream.rangeClosed(1, 600).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    void queryStreamRaw() {
+
+        mockServer.enqueue(createResponse(data(1, 1)));
+        mockServer.enqueue(createResponse(data(2, 2)));
+
+        Flowable<String> queries = Flowable.just("from(bucket:\"a\")", "from(bucket:\"b\")");
+
+        List<String> lines = queryApi.queryRaw(queries, null, "my-org", 1, true)
+                .filter(line -> line.startsWith(",,"))
+                .toList()
+                .blockingGet();
+
+        Assertions.assertThat(lines).hasSize(2);
+        Assertions.assertThat(lines.get(0)).endsWith(",1,free,mem");
+        Assertions.assertThat(lines.get(1)).endsWith(",2,free,mem");
+    }
+
+    @Test
+    void maxConcurrencyHasToBePositive() {
+
+        Assertions.assertThatThrownBy(() -> queryApi.query(Flowable.just("from(bucket:\"a\")"), "my-org", 0, true))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Expecting a positive number for maxConcurrency");
+    }
+
+    @Test
+    void error() {
+
+        mockServer.enqueue(createErrorResponse("token does not have sufficient permissions", false, 401));
+
+        queryApi.query("from(bucket:\"my-bucket\")")
+                .test()
+                .assertError(UnauthorizedException.class)
+                .assertErrorMessage("token does not have sufficient permissions");
+    }
+
+    private String data(final int count) {
+        return data(1, count);
+    }
+
+    private String data(final int from, final int to) {
+        return "#datatype,string,long,dateTime:RFC3339,dateTime:RFC3339,dateTime:RFC3339,long,string,string\n"
+                + "#group,false,false,true,true,false,false,true,true\n"
+                + "#default,_result,,,,,,,\n"
+                + ",result,table,_start,_stop,_time,_value,_field,_measurement\n"
+                + IntStream.rangeClosed(from, to)
+                .mapToObj(i -> ",,0,1970-01-01T00:00:10Z,1970-01-01T00:00:20Z,1970-01-01T00:00:10Z," + i + ",free,mem\n")
+                .collect(Collectors.joining());
+    }
+}
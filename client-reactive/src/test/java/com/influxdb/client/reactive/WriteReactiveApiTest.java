@@ -0,0 +1,240 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.reactive;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.influxdb.client.WriteOptions;
+import com.influxdb.client.domain.WritePrecision;
+import com.influxdb.client.write.Point;
+import com.influxdb.client.write.WriteResult;
+import com.influxdb.exceptions.BadRequestException;
+import com.influxdb.test.AbstractMockServerTest;
+
+import io.reactivex.Flowable;
+import io.reactivex.subscribers.TestSubscriber;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+class WriteReactiveApiTest extends AbstractMockServerTest {
+
+    private InfluxDBClientReactive client;
+    private WriteReactiveApi writeApi;
+
+    @BeforeEach
+    void setUp() {
+        client = InfluxDBClientReactiveFactory.create(startMockServer(), "my-token".toCharArray(), "my-org",
+                "my-bucket");
+        writeApi = client.getWriteReactiveApi(WriteOptions.builder().retryInterval(100).jitterInterval(0).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+    }
+
+    @Test
+    void batchBySize() throws InterruptedException {
+
+        mockServer.enqueue(createResponse("{}"));
+        mockServer.enqueue(createResponse("{}"));
+
+        WriteReactiveOptions options = WriteReactiveOptions.builder().batchSize(2).flushInterval(100_000).build();
+
+        List<WriteResult> results = writeApi
+                .writeRecords(WritePrecision.NS, Flowable.just("mem free=1i 1", "mem free=2i 2", "mem free=3i 3"),
+                        options)
+                .toList()
+                .blockingGet();
+
+        Assertions.assertThat(results).hasSize(2);
+        Assertions.assertThat(results.get(0).getLineCount()).isEqualTo(2);
+        Assertions.assertThat(results.get(0).getBucket()).isEqualTo("my-bucket");
+        Assertions.assertThat(results.get(0).getOrganization()).isEqualTo("my-org");
+        Assertions.assertThat(results.get(1).getLineCount()).isEqualTo(1);
+
+        Assertions.assertThat(mockServer.takeRequest().getBody().readUtf8()).isEqualTo("mem free=1i 1\nmem free=2i 2");
+        Assertions.assertThat(mockServer.takeRequest().getBody().readUtf8()).isEqualTo("mem free=3i 3");
+    }
+
+    @Test
+    void batchByBytes() {
+
+        mockServer.enqueue(createResponse("{}"));
+        mockServer.enqueue(createResponse("{}"));
+
+        WriteReactiveOptions options = WriteReactiveOptions.builder().batchBytes(30).flushInterval(100_000).build();
+
+        writeApi.writeRecords(WritePrecision.NS, Flowable.just("mem free=1i 1", "mem free=2i 2", "mem free=3i 3"),
+                options)
+                .map(WriteResult::getLineCount)
+                .test()
+                .awaitDone(10, TimeUnit.SECONDS)
+                .assertValues(2, 1)
+                .assertComplete();
+    }
+
+    @Test
+    void flushInterval() throws InterruptedException {
+
+        mockServer.enqueue(createResponse("{}"));
+        mockServer.enqueue(createResponse("{}"));
+
+        WriteReactiveOptions options = WriteReactiveOptions.builder().batchSize(100).flushInterval(100).build();
+
+        Flowable<String> records = Flowable.concat(Flowable.just("mem free=1i 1"),
+                Flowable.just("mem free=2i 2").delaySubscription(500, TimeUnit.MILLISECONDS));
+
+        writeApi.writeRecords(WritePrecision.NS, records, options)
+                .map(WriteResult::getLineCount)
+                .test()
+                .awaitDone(10, TimeUnit.SECONDS)
+                .assertValues(1, 1)
+                .assertComplete();
+
+        Assertions.assertThat(mockServer.takeRequest().getBody().readUtf8()).isEqualTo("mem free=1i 1");
+        Assertions.assertThat(mockServer.takeRequest().getBody().readUtf8()).isEqualTo("mem free=2i 2");
+    }
+
+    @Test
+    void splitByPrecision() throws InterruptedException {
+
+        mockServer.enqueue(createResponse("{}"));
+        mockServer.enqueue(createResponse("{}"));
+
+        Flowable<Point> points = Flowable.just(
+                Point.measurement("mem").addField("free", 1L).time(1L, WritePrecision.S),
+                Point.measurement("mem").addField("free", 2L).time(2L, WritePrecision.MS));
+
+        writeApi.writePoints(points, WriteReactiveOptions.DEFAULTS)
+                .map(WriteResult::getPrecision)
+                .test()
+                .awaitDone(10, TimeUnit.SECONDS)
+                .assertValues(WritePrecision.S, WritePrecision.MS)
+                .assertComplete();
+
+        Assertions.assertThat(mockServer.takeRequest().getRequestUrl().queryParameter("precision")).isEqualTo("s");
+        Assertions.assertThat(mockServer.takeRequest().getRequestUrl().queryParameter("precision")).isEqualTo("ms");
+    }
+
+    @Test
+    void orderedWritesByDefault() throws InterruptedException {
+
+        for (int i = 0; i < 3; i++) {
+            mockServer.enqueue(createResponse("{}").setHeadersDelay(300, TimeUnit.MILLISECONDS));
+        }
+
+        WriteReactiveOptions options = WriteReactiveOptions.builder().batchSize(1).build();
+
+        TestSubscriber<WriteResult> subscriber = writeApi
+                .writeRecords(WritePrecision.NS, Flowable.range(1, 3).map(i -> "mem free=" + i + "i " + i), options)
+                .test();
+
+        Thread.sleep(150);
+
+        // the next batch is written after the previous one is acknowledged
+        Assertions.assertThat(mockServer.getRequestCount()).isEqualTo(1);
+
+        subscriber
+                .awaitDone(10, TimeUnit.SECONDS)
+                .assertValueCount(3)
+                .assertComplete();
+
+        for (int i = 1; i <= 3; i++) {
+            Assertions.assertThat(mockServer.takeRequest().getBody().readUtf8()).isEqualTo("mem free=" + i + "i " + i);
+        }
+    }
+
+    @Test
+    void inFlightBytes() throws InterruptedException {
+
+        for (int i = 0; i < 4; i++) {
+            mockServer.enqueue(createResponse("{}").setHeadersDelay(1, TimeUnit.SECONDS));
+        }
+
+        WriteReactiveOptions options = WriteReactiveOptions.builder()
+                .batchSize(1)
+                .batchBytes(100)
+                .maxConcurrentWrites(4)
+                .maxInFlightBytes(200)
+                .build();
+
+        TestSubscriber<WriteResult> subscriber = writeApi
+                .writeRecords(WritePrecision.NS, Flowable.range(1, 4).map(i -> "mem free=" + i + "i " + i), options)
+                .test();
+
+        Thread.sleep(500);
+
+        Assertions.assertThat(mockServer.getRequestCount()).isEqualTo(2);
+
+        subscriber
+                .awaitDone(10, TimeUnit.SECONDS)
+                .assertValueCount(4)
+                .assertComplete();
+
+        Assertions.assertThat(mockServer.getRequestCount()).isEqualTo(4);
+    }
+
+    @Test
+    void retry() {
+
+        mockServer.enqueue(createErrorResponse("unavailable", true, 503));
+        mockServer.enqueue(createResponse("{}"));
+
+        writeApi.writeRecords(WritePrecision.NS, Flowable.just("mem free=1i 1"), WriteReactiveOptions.DEFAULTS)
+                .map(WriteResult::getRetries)
+                .test()
+                .awaitDone(10, TimeUnit.SECONDS)
+                .assertValues(1)
+                .assertComplete();
+    }
+
+    @Test
+    void error() {
+
+        mockServer.enqueue(createErrorResponse("unable to parse 'mem free='", false, 400));
+
+        writeApi.writeRecords(WritePrecision.NS, Flowable.just("mem free="), WriteReactiveOptions.DEFAULTS)
+                .test()
+                .awaitDone(10, TimeUnit.SECONDS)
+                .assertError(BadRequestException.class)
+                .assertErrorMessage("unable to parse 'mem free='");
+
+        Assertions.assertThat(mockServer.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void cold() throws InterruptedException {
+
+        writeApi.writeRecords(WritePrecision.NS, Flowable.just("mem free=1i 1"), WriteReactiveOptions.DEFAULTS);
+
+        Thread.sleep(200);
+
+        Assertions.assertThat(mockServer.getRequestCount()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.reactor;
+
+import javax.annotation.Nonnull;
+
+import com.influxdb.LogLevel;
+import com.influxdb.client.WriteOptions;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * The reference Java client for the InfluxDB 2.0 built on the Project Reactor.
+ *
+ * <p>The HTTP calls are asynchronous, the responses are parsed on demand of the subscriber and the blocking
+ * reads of the response body are scheduled on the {@link reactor.core.scheduler.Scheduler} of the client,
+ * see {@link InfluxDBClientReactorFactory#create(com.influxdb.client.InfluxDBClientOptions,
+ * reactor.core.scheduler.Scheduler)}.</p>
+ *
+ * <p>The value of {@link #ZAP_TRACE_SPAN} in the subscriber {@link reactor.util.context.Context} is sent
+ * as the {@code Zap-Trace-Span} header, so the requests can be correlated with the tracing of the caller.</p>
+ */
+public interface InfluxDBClientReactor extends AutoCloseable {
+
+    /**
+     * The key of the {@link reactor.util.context.Context} value that is propagated
+     * as the {@code Zap-Trace-Span} header.
+     */
+    String ZAP_TRACE_SPAN = "influxdb.zap-trace-span";
+
+    /**
+     * Create a new Query client.
+     *
+     * @return the new client instance for the Query API
+     */
+    @Nonnull
+    QueryReactorApi getQueryReactorApi();
+
+    /**
+     * Create a new Write client.
+     *
+     * @return the new client instance for the Write API
+     */
+    @Nonnull
+    WriteReactorApi getWriteReactorApi();
+
+    /**
+     * Create a new Write client.
+     *
+     * @param writeOptions the configuration of the batching and retries
+     * @return the new client instance for the Write API
+     */
+    @Nonnull
+    WriteReactorApi getWriteReactorApi(@Nonnull final WriteOptions writeOptions);
+
+    /**
+     * Check the status of InfluxDB Server.
+     *
+     * @return {@link Mono} emitting true if server is healthy otherwise false
+     */
+    @Nonnull
+    Mono<Boolean> ping();
+
+    /**
+     * Returns the version of the connected InfluxDB Server.
+     *
+     * @return {@link Mono} emitting the version String, otherwise unknown.
+     */
+    @Nonnull
+    Mono<String> version();
+
+    /**
+     * @return the {@link LogLevel} that is used for logging requests and responses
+     */
+    @Nonnull
+    LogLevel getLogLevel();
+
+    /**
+     * Set the log level for the request and response information.
+     *
+     * @param logLevel the log level to set.
+     * @return the {@link InfluxDBClientReactor} instance to be able to use it in a fluent manner.
+     */
+    @Nonnull
+    InfluxDBClientReactor setLogLevel(@Nonnull final LogLevel logLevel);
+
+    /**
+     * Enable Gzip compress for http request body.
+     *
+     * <p>Currently only the "Write" and "Query" endpoints supports the Gzip compression.</p>
+     *
+     * @return the {@link InfluxDBClientReactor} instance to be able to use it in a fluent manner.
+     */
+    @Nonnull
+    InfluxDBClientReactor enableGzip();
+
+    /**
+     * Disable Gzip compress for http request body.
+     *
+     * @return the {@link InfluxDBClientReactor} instance to be able to use it in a fluent manner.
+     */
+    @Nonnull
+    InfluxDBClientReactor disableGzip();
+
+    /**
+     * Returns whether Gzip compress for http request body is enabled.
+     *
+     * @return true if gzip is enabled.
+     */
+    boolean isGzipEnabled();
+
+    /**
+     * Shutdown and close the client.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,127 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.reactor;
+
+import javax.annotation.Nonnull;
+
+import com.influxdb.client.InfluxDBClientOptions;
+import com.influxdb.client.domain.Query;
+import com.influxdb.query.FluxRecord;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * The client that allows perform Flux queries against the InfluxDB /api/v2/query endpoint by the Project Reactor.
+ *
+ * <p>The query is executed by the asynchronous HTTP call when the {@link Flux} is subscribed and the response
+ * is parsed only when the records are requested by the subscriber. The cancellation of the subscription cancels
+ * the HTTP call and closes the response.</p>
+ */
+public interface QueryReactorApi {
+
+    /**
+     * Returns {@link Flux} emitting {@link FluxRecord}s which are matched the query.
+     *
+     * <p>The {@link InfluxDBClientOptions#getOrg()} will be used as source organization.</p>
+     *
+     * @param query the Flux query to execute
+     * @return {@link Flux} of {@link FluxRecord}s
+     */
+    @Nonnull
+    Flux<FluxRecord> query(@Nonnull final String query);
+
+    /**
+     * Returns {@link Flux} emitting {@link FluxRecord}s which are matched the query.
+     *
+     * @param query the Flux query to execute
+     * @param org   specifies the source organization
+     * @return {@link Flux} of {@link FluxRecord}s
+     */
+    @Nonnull
+    Flux<FluxRecord> query(@Nonnull final String query, @Nonnull final String org);
+
+    /**
+     * Returns {@link Flux} emitting {@link FluxRecord}s which are matched the query.
+     *
+     * @param query the Flux query to execute
+     * @param org   specifies the source organization
+     * @return {@link Flux} of {@link FluxRecord}s
+     */
+    @Nonnull
+    Flux<FluxRecord> query(@Nonnull final Query query, @Nonnull final String org);
+
+    /**
+     * Returns {@link Flux} emitting the measurements which are matched the query.
+     *
+     * <p>The {@link InfluxDBClientOptions#getOrg()} will be used as source organization.</p>
+     *
+     * @param query           the Flux query to execute
+     * @param measurementType the measurement class (POJO)
+     * @param <M>             the type of the measurement (POJO)
+     * @return {@link Flux} of measurements
+     */
+    @Nonnull
+    <M> Flux<M> query(@Nonnull final String query, @Nonnull final Class<M> measurementType);
+
+    /**
+     * Returns {@link Flux} emitting the measurements which are matched the query.
+     *
+     * @param query           the Flux query to execute
+     * @param org             specifies the source organization
+     * @param measurementType the measurement class (POJO)
+     * @param <M>             the type of the measurement (POJO)
+     * @return {@link Flux} of measurements
+     */
+    @Nonnull
+    <M> Flux<M> query(@Nonnull final String query, @Nonnull final String org, @Nonnull final Class<M> measurementType);
+
+    /**
+     * Returns {@link Flux} emitting the raw response from InfluxDB 2.0 server line by line.
+     *
+     * <p>The {@link InfluxDBClientOptions#getOrg()} will be used as source organization.</p>
+     *
+     * @param query the Flux query to execute
+     * @return {@link Flux} of response lines
+     */
+    @Nonnull
+    Flux<String> queryRaw(@Nonnull final String query);
+
+    /**
+     * Returns {@link Flux} emitting the raw response from InfluxDB 2.0 server line by line.
+     *
+     * @param query the Flux query to execute
+     * @param org   specifies the source organization
+     * @return {@link Flux} of response lines
+     */
+    @Nonnull
+    Flux<String> queryRaw(@Nonnull final String query, @Nonnull final String org);
+
+    /**
+     * Returns {@link Flux} emitting the raw response from InfluxDB 2.0 server line by line.
+     *
+     * @param query the Flux query to execute, the dialect of the query specifies the encoding of the response
+     * @param org   specifies the source organization
+     * @return {@link Flux} of response lines
+     */
+    @Nonnull
+    Flux<String> queryRaw(@Nonnull final Query query, @Nonnull final String org);
+}
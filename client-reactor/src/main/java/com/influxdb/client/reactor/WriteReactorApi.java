@@ -0,0 +1,137 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.reactor;
+
+import javax.annotation.Nonnull;
+
+import com.influxdb.client.InfluxDBClientOptions;
+import com.influxdb.client.WriteOptions;
+import com.influxdb.client.domain.WritePrecision;
+import com.influxdb.client.write.Point;
+import com.influxdb.client.write.WriteResult;
+
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+/**
+ * The client that writes the time-series data into InfluxDB 2.0 by the Project Reactor.
+ *
+ * <p>The data are batched by {@link WriteOptions#getBatchSize()} and {@link WriteOptions#getFlushInterval()}
+ * and every batch is written by the asynchronous HTTP call. The returned {@link Flux} emits
+ * the {@link WriteResult} of each acknowledged batch. The next batch is written only after the previous
+ * one is acknowledged, so the upstream is requested at the pace the InfluxDB accepts the writes.</p>
+ *
+ * <p>The failed batch is retried by {@link WriteOptions#getMaxRetries()}, {@link WriteOptions#getRetryInterval()},
+ * {@link WriteOptions#getExponentialBase()} and {@link WriteOptions#getMaxRetryDelay()}. If the retries are
+ * exhausted or the error is not retriable then the {@link Flux} fails.</p>
+ *
+ * <p>The writes are executed when the returned {@link Flux} is subscribed.</p>
+ */
+public interface WriteReactorApi {
+
+    /**
+     * Write Line Protocol records into specified bucket.
+     *
+     * <p>The {@link InfluxDBClientOptions#getBucket()} will be use as destination bucket
+     * and {@link InfluxDBClientOptions#getOrg()} will be used as destination organization.</p>
+     *
+     * @param precision specifies the precision for the unix timestamps within the body line-protocol
+     * @param records   specifies the records in InfluxDB Line Protocol
+     * @return {@link Flux} of the results of the written batches
+     */
+    @Nonnull
+    Flux<WriteResult> writeRecords(@Nonnull final WritePrecision precision,
+                                   @Nonnull final Publisher<String> records);
+
+    /**
+     * Write Line Protocol records into specified bucket.
+     *
+     * @param bucket    specifies the destination bucket for writes
+     * @param org       specifies the destination organization for writes
+     * @param precision specifies the precision for the unix timestamps within the body line-protocol
+     * @param records   specifies the records in InfluxDB Line Protocol
+     * @return {@link Flux} of the results of the written batches
+     */
+    @Nonnull
+    Flux<WriteResult> writeRecords(@Nonnull final String bucket,
+                                   @Nonnull final String org,
+                                   @Nonnull final WritePrecision precision,
+                                   @Nonnull final Publisher<String> records);
+
+    /**
+     * Write Data points into specified bucket.
+     *
+     * <p>The {@link InfluxDBClientOptions#getBucket()} will be use as destination bucket
+     * and {@link InfluxDBClientOptions#getOrg()} will be used as destination organization.</p>
+     *
+     * @param points specifies the Data points to write into bucket
+     * @return {@link Flux} of the results of the written batches
+     */
+    @Nonnull
+    Flux<WriteResult> writePoints(@Nonnull final Publisher<Point> points);
+
+    /**
+     * Write Data points into specified bucket.
+     *
+     * <p>The batch is split by the precision of the points, every precision is written by a separate call.</p>
+     *
+     * @param bucket specifies the destination bucket for writes
+     * @param org    specifies the destination organization for writes
+     * @param points specifies the Data points to write into bucket
+     * @return {@link Flux} of the results of the written batches
+     */
+    @Nonnull
+    Flux<WriteResult> writePoints(@Nonnull final String bucket,
+                                  @Nonnull final String org,
+                                  @Nonnull final Publisher<Point> points);
+
+    /**
+     * Write Measurements into specified bucket.
+     *
+     * <p>The {@link InfluxDBClientOptions#getBucket()} will be use as destination bucket
+     * and {@link InfluxDBClientOptions#getOrg()} will be used as destination organization.</p>
+     *
+     * @param precision    specifies the precision for the unix timestamps within the body line-protocol
+     * @param measurements specifies the Measurements to write into bucket
+     * @param <M>          measurement type
+     * @return {@link Flux} of the results of the written batches
+     */
+    @Nonnull
+    <M> Flux<WriteResult> writeMeasurements(@Nonnull final WritePrecision precision,
+                                            @Nonnull final Publisher<M> measurements);
+
+    /**
+     * Write Measurements into specified bucket.
+     *
+     * @param bucket       specifies the destination bucket for writes
+     * @param org          specifies the destination organization for writes
+     * @param precision    specifies the precision for the unix timestamps within the body line-protocol
+     * @param measurements specifies the Measurements to write into bucket
+     * @param <M>          measurement type
+     * @return {@link Flux} of the results of the written batches
+     */
+    @Nonnull
+    <M> Flux<WriteResult> writeMeasurements(@Nonnull final String bucket,
+                                            @Nonnull final String org,
+                                            @Nonnull final WritePrecision precision,
+                                            @Nonnull final Publisher<M> measurements);
+}
@@ -0,0 +1,127 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.reactor.internal;
+
+import javax.annotation.Nonnull;
+
+import com.influxdb.Arguments;
+import com.influxdb.LogLevel;
+import com.influxdb.client.InfluxDBClientOptions;
+import com.influxdb.client.WriteOptions;
+import com.influxdb.client.internal.AbstractInfluxDBClient;
+import com.influxdb.client.reactor.InfluxDBClientReactor;
+import com.influxdb.client.reactor.QueryReactorApi;
+import com.influxdb.client.reactor.WriteReactorApi;
+import com.influxdb.client.service.QueryService;
+import com.influxdb.client.service.WriteService;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+public class InfluxDBClientReactorImpl extends AbstractInfluxDBClient implements InfluxDBClientReactor {
+
+    private final Scheduler scheduler;
+
+    public InfluxDBClientReactorImpl(@Nonnull final InfluxDBClientOptions options,
+                                     @Nonnull final Scheduler scheduler) {
+        super(options, "reactor");
+
+        Arguments.checkNotNull(scheduler, "Scheduler");
+
+        this.scheduler = scheduler;
+    }
+
+    @Nonnull
+    @Override
+    public QueryReactorApi getQueryReactorApi() {
+        return new QueryReactorApiImpl(queryRetrofit.create(QueryService.class), options, scheduler);
+    }
+
+    @Nonnull
+    @Override
+    public WriteReactorApi getWriteReactorApi() {
+        return getWriteReactorApi(WriteOptions.DEFAULTS);
+    }
+
+    @Nonnull
+    @Override
+    public WriteReactorApi getWriteReactorApi(@Nonnull final WriteOptions writeOptions) {
+
+        Arguments.checkNotNull(writeOptions, "WriteOptions");
+
+        return new WriteReactorApiImpl(writeOptions, writeRetrofit.create(WriteService.class),
+                writeApiAsync(writeOptions), options, scheduler);
+    }
+
+    @Nonnull
+    @Override
+    public Mono<Boolean> ping() {
+
+        return Mono.fromCallable(() -> ping(pingService.getPing())).subscribeOn(scheduler);
+    }
+
+    @Nonnull
+    @Override
+    public Mono<String> version() {
+
+        return Mono.fromCallable(() -> version(pingService.getPing())).subscribeOn(scheduler);
+    }
+
+    @Nonnull
+    @Override
+    public LogLevel getLogLevel() {
+        return getLogLevel(this.loggingInterceptor);
+    }
+
+    @Nonnull
+    @Override
+    public InfluxDBClientReactor setLogLevel(@Nonnull final LogLevel logLevel) {
+
+        setLogLevel(this.loggingInterceptor, logLevel);
+
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public InfluxDBClientReactor enableGzip() {
+
+        this.gzipInterceptor.enableGzip();
+
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public InfluxDBClientReactor disableGzip() {
+
+        this.gzipInterceptor.disableGzip();
+
+        return this;
+    }
+
+    @Override
+    public boolean isGzipEnabled() {
+
+        return this.gzipInterceptor.isEnabledGzip();
+    }
+}
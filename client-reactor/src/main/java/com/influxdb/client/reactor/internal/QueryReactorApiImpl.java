@@ -0,0 +1,198 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.reactor.internal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.influxdb.Arguments;
+import com.influxdb.client.InfluxDBClientOptions;
+import com.influxdb.client.domain.Query;
+import com.influxdb.client.internal.AbstractInfluxDBClient;
+import com.influxdb.client.reactor.InfluxDBClientReactor;
+import com.influxdb.client.reactor.QueryReactorApi;
+import com.influxdb.client.service.QueryService;
+import com.influxdb.internal.AbstractQueryApi;
+import com.influxdb.query.FluxRecord;
+import com.influxdb.query.QueryListener;
+
+import okhttp3.ResponseBody;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.context.ContextView;
+import retrofit2.Call;
+
+final class QueryReactorApiImpl extends AbstractQueryApi implements QueryReactorApi {
+
+    private static final Logger LOG = Logger.getLogger(QueryReactorApiImpl.class.getName());
+
+    private final QueryService service;
+    private final InfluxDBClientOptions options;
+    private final Scheduler scheduler;
+
+    QueryReactorApiImpl(@Nonnull final QueryService service,
+                        @Nonnull final InfluxDBClientOptions options,
+                        @Nonnull final Scheduler scheduler) {
+
+        Arguments.checkNotNull(service, "QueryService");
+        Arguments.checkNotNull(options, "options");
+        Arguments.checkNotNull(scheduler, "scheduler");
+
+        this.service = service;
+        this.options = options;
+        this.scheduler = scheduler;
+    }
+
+    @Nonnull
+    @Override
+    protected QueryListener getQueryListener() {
+        return options.getQueryListener();
+    }
+
+    @Nonnull
+    @Override
+    public Flux<FluxRecord> query(@Nonnull final String query) {
+
+        Arguments.checkNotNull(options.getOrg(), "InfluxDBClientOptions.getOrg");
+
+        return query(query, options.getOrg());
+    }
+
+    @Nonnull
+    @Override
+    public Flux<FluxRecord> query(@Nonnull final String query, @Nonnull final String org) {
+
+        Arguments.checkNonEmpty(query, "Flux query");
+
+        return query(new Query().query(query).dialect(AbstractInfluxDBClient.DEFAULT_DIALECT), org);
+    }
+
+    @Nonnull
+    @Override
+    public Flux<FluxRecord> query(@Nonnull final Query query, @Nonnull final String org) {
+
+        Arguments.checkNotNull(query, "query");
+        Arguments.checkNonEmpty(org, "org");
+
+        return execute(query, org, this::queryIteratorAsync);
+    }
+
+    @Nonnull
+    @Override
+    public <M> Flux<M> query(@Nonnull final String query, @Nonnull final Class<M> measurementType) {
+
+        Arguments.checkNotNull(options.getOrg(), "InfluxDBClientOptions.getOrg");
+
+        return query(query, options.getOrg(), measurementType);
+    }
+
+    @Nonnull
+    @Override
+    public <M> Flux<M> query(@Nonnull final String query,
+                             @Nonnull final String org,
+                             @Nonnull final Class<M> measurementType) {
+
+        Arguments.checkNotNull(measurementType, "Measurement type");
+
+        return query(query, org).map(record -> resultMapper.toPOJO(record, measurementType));
+    }
+
+    @Nonnull
+    @Override
+    public Flux<String> queryRaw(@Nonnull final String query) {
+
+        Arguments.checkNotNull(options.getOrg(), "InfluxDBClientOptions.getOrg");
+
+        return queryRaw(query, options.getOrg());
+    }
+
+    @Nonnull
+    @Override
+    public Flux<String> queryRaw(@Nonnull final String query, @Nonnull final String org) {
+
+        Arguments.checkNonEmpty(query, "Flux query");
+
+        return queryRaw(new Query().query(query).dialect(AbstractInfluxDBClient.DEFAULT_DIALECT), org);
+    }
+
+    @Nonnull
+    @Override
+    public Flux<String> queryRaw(@Nonnull final Query query, @Nonnull final String org) {
+
+        Arguments.checkNotNull(query, "query");
+        Arguments.checkNonEmpty(org, "org");
+
+        return execute(query, org, this::queryRawIteratorAsync);
+    }
+
+    /**
+     * The call is enqueued at subscription and the response is read only on the demand of the subscriber.
+     * The reads block on the socket, so they are scheduled on the scheduler of the client.
+     */
+    @Nonnull
+    private <T, I extends Iterator<T> & Closeable> Flux<T> execute(
+            @Nonnull final Query query,
+            @Nonnull final String org,
+            @Nonnull final Function<Call<ResponseBody>, CompletableFuture<I>> open) {
+
+        return Flux.deferContextual(context -> {
+
+            Call<ResponseBody> call = service
+                    .postQueryResponseBody(zapTraceSpan(context), null, null, org, null, query);
+
+            Mono<I> response = Mono
+                    .fromFuture(open.apply(call))
+                    .doOnCancel(call::cancel);
+
+            return Flux.usingWhen(response,
+                    iterator -> Flux.<T>generate(sink -> {
+                        if (iterator.hasNext()) {
+                            sink.next(iterator.next());
+                        } else {
+                            sink.complete();
+                        }
+                    }).subscribeOn(scheduler),
+                    iterator -> Mono.fromRunnable(() -> close(iterator)));
+        });
+    }
+
+    private void close(@Nonnull final Closeable iterator) {
+        try {
+            iterator.close();
+        } catch (IOException e) {
+            LOG.log(Level.FINEST, "The response was not closed", e);
+        }
+    }
+
+    @Nullable
+    static String zapTraceSpan(@Nonnull final ContextView context) {
+        return context.<String>getOrEmpty(InfluxDBClientReactor.ZAP_TRACE_SPAN).orElse(null);
+    }
+}
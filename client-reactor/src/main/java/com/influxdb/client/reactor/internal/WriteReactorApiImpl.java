@@ -0,0 +1,183 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.reactor.internal;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.influxdb.Arguments;
+import com.influxdb.client.InfluxDBClientOptions;
+import com.influxdb.client.WriteOptions;
+import com.influxdb.client.domain.WritePrecision;
+import com.influxdb.client.internal.AbstractWriteBlockingClient;
+import com.influxdb.client.internal.WriteApiAsyncImpl;
+import com.influxdb.client.internal.WriteChunker;
+import com.influxdb.client.reactor.WriteReactorApi;
+import com.influxdb.client.service.WriteService;
+import com.influxdb.client.write.Point;
+import com.influxdb.client.write.WriteResult;
+
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+final class WriteReactorApiImpl extends AbstractWriteBlockingClient implements WriteReactorApi {
+
+    private final WriteOptions writeOptions;
+    private final WriteApiAsyncImpl writeApiAsync;
+    private final Scheduler scheduler;
+
+    WriteReactorApiImpl(@Nonnull final WriteOptions writeOptions,
+                        @Nonnull final WriteService service,
+                        @Nonnull final WriteApiAsyncImpl writeApiAsync,
+                        @Nonnull final InfluxDBClientOptions options,
+                        @Nonnull final Scheduler scheduler) {
+
+        super(service, options);
+
+        Arguments.checkNotNull(writeOptions, "WriteOptions");
+        Arguments.checkNotNull(writeApiAsync, "WriteApiAsync");
+        Arguments.checkNotNull(scheduler, "Scheduler");
+
+        this.writeOptions = writeOptions;
+        this.writeApiAsync = writeApiAsync;
+        this.scheduler = scheduler;
+    }
+
+    @Nonnull
+    @Override
+    public Flux<WriteResult> writeRecords(@Nonnull final WritePrecision precision,
+                                          @Nonnull final Publisher<String> records) {
+
+        return writeRecords(options.getBucket(), options.getOrg(), precision, records);
+    }
+
+    @Nonnull
+    @Override
+    public Flux<WriteResult> writeRecords(@Nonnull final String bucket,
+                                          @Nonnull final String org,
+                                          @Nonnull final WritePrecision precision,
+                                          @Nonnull final Publisher<String> records) {
+
+        Arguments.checkNotNull(precision, "WritePrecision is required");
+        Arguments.checkNotNull(records, "records");
+
+        return write(bucket, org, Flux.from(records).map(record -> toLine(record, precision)));
+    }
+
+    @Nonnull
+    @Override
+    public Flux<WriteResult> writePoints(@Nonnull final Publisher<Point> points) {
+
+        return writePoints(options.getBucket(), options.getOrg(), points);
+    }
+
+    @Nonnull
+    @Override
+    public Flux<WriteResult> writePoints(@Nonnull final String bucket,
+                                         @Nonnull final String org,
+                                         @Nonnull final Publisher<Point> points) {
+
+        Arguments.checkNotNull(points, "points");
+
+        return write(bucket, org, Flux.from(points).map(point -> toLine(point, point.getPrecision())));
+    }
+
+    @Nonnull
+    @Override
+    public <M> Flux<WriteResult> writeMeasurements(@Nonnull final WritePrecision precision,
+                                                   @Nonnull final Publisher<M> measurements) {
+
+        return writeMeasurements(options.getBucket(), options.getOrg(), precision, measurements);
+    }
+
+    @Nonnull
+    @Override
+    public <M> Flux<WriteResult> writeMeasurements(@Nonnull final String bucket,
+                                                   @Nonnull final String org,
+                                                   @Nonnull final WritePrecision precision,
+                                                   @Nonnull final Publisher<M> measurements) {
+
+        Arguments.checkNotNull(precision, "WritePrecision is required");
+        Arguments.checkNotNull(measurements, "measurements");
+
+        return write(bucket, org, Flux.from(measurements).map(it -> toLine(it, precision)));
+    }
+
+    /**
+     * The batches are closed by the {@link WriteChunker} - by the size, the change of precision or by the tick
+     * of the flush interval, and written by the {@link WriteApiAsyncImpl}. The {@code concatMap} demands the next
+     * batch after the previous one is acknowledged, so the upstream is slowed down together with the InfluxDB.
+     */
+    @Nonnull
+    private Flux<WriteResult> write(@Nullable final String bucket,
+                                    @Nullable final String org,
+                                    @Nonnull final Flux<WriteChunker.Line> lines) {
+
+        Arguments.checkNonEmpty(bucket, "bucket");
+        Arguments.checkNonEmpty(org, "org");
+
+        Flux<WriteChunker.Line> ticks = Flux
+                .interval(Duration.ofMillis(writeOptions.getFlushInterval()), scheduler)
+                .map(tick -> WriteChunker.FLUSH)
+                .onBackpressureDrop();
+
+        return Flux.defer(() -> {
+
+            WriteChunker chunker = new WriteChunker(writeOptions.getBatchSize(), Long.MAX_VALUE);
+
+            return Flux.merge(lines.concatWith(Mono.just(WriteChunker.END)), ticks)
+                    .takeUntil(line -> line == WriteChunker.END)
+                    .concatMapIterable(chunker::offer)
+                    .concatMap(chunk -> post(bucket, org, chunk), 1);
+        });
+    }
+
+    /**
+     * The {@code Zap-Trace-Span} is taken from the Reactor Context, the cancellation cancels the write.
+     */
+    @Nonnull
+    private Mono<WriteResult> post(@Nonnull final String bucket,
+                                   @Nonnull final String org,
+                                   @Nonnull final WriteChunker.Chunk chunk) {
+
+        return Mono.deferContextual(context -> Mono.create(sink -> {
+
+            CompletableFuture<WriteResult> future = writeApiAsync.writeRecords(bucket, org, chunk.getPrecision(),
+                    chunk.getLines(), QueryReactorApiImpl.zapTraceSpan(context));
+
+            sink.onCancel(() -> future.cancel(true));
+
+            future.whenComplete((result, throwable) -> {
+                if (throwable == null) {
+                    sink.success(result);
+                } else {
+                    sink.error(throwable instanceof CompletionException ? throwable.getCause() : throwable);
+                }
+            });
+        }));
+    }
+}
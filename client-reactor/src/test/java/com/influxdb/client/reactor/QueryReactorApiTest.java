@@ -0,0 +1,137 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.reactor;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.influxdb.exceptions.UnauthorizedException;
+import com.influxdb.query.FluxRecord;
+import com.influxdb.test.AbstractMockServerTest;
+
+import okhttp3.mockwebserver.RecordedRequest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import reactor.test.StepVerifier;
+
+@RunWith(JUnitPlatform.class)
+class QueryReactorApiTest extends AbstractMockServerTest {
+
+    private InfluxDBClientReactor client;
+    private QueryReactorApi queryApi;
+
+    @BeforeEach
+    void setUp() {
+        client = InfluxDBClientReactorFactory.create(startMockServer(), "my-token".toCharArray(), "my-org");
+        queryApi = client.getQueryReactorApi();
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+    }
+
+    @Test
+    void query() {
+
+        mockServer.enqueue(createResponse(data(3)));
+
+        StepVerifier.create(queryApi.query("from(bucket:\"my-bucket\")").map(FluxRecord::getValue))
+                .expectNext(1L, 2L, 3L)
+                .verifyComplete();
+    }
+
+    @Test
+    void queryRaw() {
+
+        mockServer.enqueue(createResponse(data(1000)));
+
+        StepVerifier.create(queryApi.queryRaw("from(bucket:\"my-bucket\")"))
+                .expectNextCount(1004)
+                .verifyComplete();
+    }
+
+    @Test
+    void readOnRequest() {
+
+        mockServer.enqueue(createResponse(data(1000)));
+
+        StepVerifier.create(queryApi.query("from(bucket:\"my-bucket\")"), 1)
+                .expectNextCount(1)
+                .thenRequest(9)
+                .expectNextCount(9)
+                .thenRequest(Long.MAX_VALUE)
+                .expectNextCount(990)
+                .verifyComplete();
+    }
+
+    @Test
+    void cancel() {
+
+        mockServer.enqueue(createResponse(data(1000)));
+
+        StepVerifier.create(queryApi.query("from(bucket:\"my-bucket\")").take(2).map(FluxRecord::getValue))
+                .expectNext(1L, 2L)
+                .verifyComplete();
+    }
+
+    @Test
+    void zapTraceSpanFromContext() throws InterruptedException {
+
+        mockServer.enqueue(createResponse(data(1)));
+
+        StepVerifier.create(queryApi.query("from(bucket:\"my-bucket\")")
+                .contextWrite(context -> context.put(InfluxDBClientReactor.ZAP_TRACE_SPAN, "span-1")))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        RecordedRequest request = mockServer.takeRequest();
+
+        Assertions.assertThat(request.getHeader("Zap-Trace-Span")).isEqualTo("span-1");
+    }
+
+    @Test
+    void error() {
+
+        mockServer.enqueue(createErrorResponse("token does not have sufficient permissions", false, 401));
+
+        StepVerifier.create(queryApi.query("from(bucket:\"my-bucket\")"))
+                .expectErrorSatisfies(throwable -> Assertions.assertThat(throwable)
+                        .isInstanceOf(UnauthorizedException.class)
+                        .hasMessage("token does not have sufficient permissions"))
+                .verify();
+    }
+
+    private String data(final int count) {
+        return "#datatype,string,long,dateTime:RFC3339,dateTime:RFC3339,dateTime:RFC3339,long,string,string\n"
+                + "#group,false,false,true,true,false,false,true,true\n"
+                + "#default,_result,,,,,,,\n"
+                + ",result,table,_start,_stop,_time,_value,_field,_measurement\n"
+                + IntStream.rangeClosed(1, count)
+                .mapToObj(i -> ",,0,1970-01-01T00:00:10Z,1970-01-01T00:00:20Z,1970-01-01T00:00:10Z," + i + ",free,mem\n")
+                .collect(Collectors.joining());
+    }
+}
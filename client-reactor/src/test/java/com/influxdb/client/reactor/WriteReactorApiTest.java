@@ -0,0 +1,179 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.reactor;
+
+import java.time.Duration;
+import java.util.List;
+
+import com.influxdb.client.WriteOptions;
+import com.influxdb.client.domain.WritePrecision;
+import com.influxdb.client.write.Point;
+import com.influxdb.client.write.WriteResult;
+import com.influxdb.exceptions.BadRequestException;
+import com.influxdb.test.AbstractMockServerTest;
+
+import okhttp3.mockwebserver.RecordedRequest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@RunWith(JUnitPlatform.class)
+class WriteReactorApiTest extends AbstractMockServerTest {
+
+    private InfluxDBClientReactor client;
+
+    @BeforeEach
+    void setUp() {
+        client = InfluxDBClientReactorFactory.create(startMockServer(), "my-token".toCharArray(), "my-org",
+                "my-bucket");
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+    }
+
+    @Test
+    void batchBySize() throws InterruptedException {
+
+        mockServer.enqueue(createResponse("{}"));
+        mockServer.enqueue(createResponse("{}"));
+
+        WriteReactorApi writeApi = client.getWriteReactorApi(WriteOptions.builder()
+                .batchSize(2).flushInterval(100_000).build());
+
+        List<WriteResult> results = writeApi
+                .writeRecords(WritePrecision.NS, Flux.just("mem free=1i 1", "mem free=2i 2", "mem free=3i 3"))
+                .collectList()
+                .block();
+
+        Assertions.assertThat(results).hasSize(2);
+        Assertions.assertThat(results.get(0).getLineCount()).isEqualTo(2);
+        Assertions.assertThat(results.get(0).getBucket()).isEqualTo("my-bucket");
+        Assertions.assertThat(results.get(0).getOrganization()).isEqualTo("my-org");
+        Assertions.assertThat(results.get(1).getLineCount()).isEqualTo(1);
+        Assertions.assertThat(results.get(1).getRetries()).isEqualTo(0);
+
+        Assertions.assertThat(mockServer.takeRequest().getBody().readUtf8())
+                .isEqualTo("mem free=1i 1\nmem free=2i 2");
+        Assertions.assertThat(mockServer.takeRequest().getBody().readUtf8())
+                .isEqualTo("mem free=3i 3");
+    }
+
+    @Test
+    void flushInterval() throws InterruptedException {
+
+        mockServer.enqueue(createResponse("{}"));
+        mockServer.enqueue(createResponse("{}"));
+
+        WriteReactorApi writeApi = client.getWriteReactorApi(WriteOptions.builder()
+                .batchSize(100).flushInterval(100).build());
+
+        Flux<String> records = Flux.concat(Flux.just("mem free=1i 1"),
+                Flux.just("mem free=2i 2").delaySubscription(Duration.ofMillis(500)));
+
+        StepVerifier.create(writeApi.writeRecords(WritePrecision.NS, records))
+                .assertNext(result -> Assertions.assertThat(result.getLineCount()).isEqualTo(1))
+                .assertNext(result -> Assertions.assertThat(result.getLineCount()).isEqualTo(1))
+                .verifyComplete();
+
+        Assertions.assertThat(mockServer.takeRequest().getBody().readUtf8()).isEqualTo("mem free=1i 1");
+        Assertions.assertThat(mockServer.takeRequest().getBody().readUtf8()).isEqualTo("mem free=2i 2");
+    }
+
+    @Test
+    void splitByPrecision() throws InterruptedException {
+
+        mockServer.enqueue(createResponse("{}"));
+        mockServer.enqueue(createResponse("{}"));
+
+        WriteReactorApi writeApi = client.getWriteReactorApi(WriteOptions.builder()
+                .batchSize(10).flushInterval(100_000).build());
+
+        Flux<Point> points = Flux.just(
+                Point.measurement("mem").addField("free", 1L).time(1L, WritePrecision.S),
+                Point.measurement("mem").addField("free", 2L).time(2L, WritePrecision.MS));
+
+        StepVerifier.create(writeApi.writePoints(points))
+                .assertNext(result -> Assertions.assertThat(result.getPrecision()).isEqualTo(WritePrecision.S))
+                .assertNext(result -> Assertions.assertThat(result.getPrecision()).isEqualTo(WritePrecision.MS))
+                .verifyComplete();
+
+        Assertions.assertThat(mockServer.takeRequest().getRequestUrl().queryParameter("precision")).isEqualTo("s");
+        Assertions.assertThat(mockServer.takeRequest().getRequestUrl().queryParameter("precision")).isEqualTo("ms");
+    }
+
+    @Test
+    void retry() {
+
+        mockServer.enqueue(createErrorResponse("too many requests", true, 429));
+        mockServer.enqueue(createErrorResponse("unavailable", true, 503));
+        mockServer.enqueue(createResponse("{}"));
+
+        WriteReactorApi writeApi = client.getWriteReactorApi(WriteOptions.builder()
+                .retryInterval(100).jitterInterval(0).build());
+
+        StepVerifier.create(writeApi.writeRecords(WritePrecision.NS, Flux.just("mem free=1i 1")))
+                .assertNext(result -> Assertions.assertThat(result.getRetries()).isEqualTo(2))
+                .verifyComplete();
+
+        Assertions.assertThat(mockServer.getRequestCount()).isEqualTo(3);
+    }
+
+    @Test
+    void notRetriableError() {
+
+        mockServer.enqueue(createErrorResponse("unable to parse 'mem free='", false, 400));
+
+        WriteReactorApi writeApi = client.getWriteReactorApi();
+
+        StepVerifier.create(writeApi.writeRecords(WritePrecision.NS, Flux.just("mem free=")))
+                .expectErrorSatisfies(throwable -> Assertions.assertThat(throwable)
+                        .isInstanceOf(BadRequestException.class)
+                        .hasMessage("unable to parse 'mem free='"))
+                .verify();
+
+        Assertions.assertThat(mockServer.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void zapTraceSpanFromContext() throws InterruptedException {
+
+        mockServer.enqueue(createResponse("{}"));
+
+        WriteReactorApi writeApi = client.getWriteReactorApi();
+
+        StepVerifier.create(writeApi.writeRecords(WritePrecision.NS, Flux.just("mem free=1i 1"))
+                .contextWrite(context -> context.put(InfluxDBClientReactor.ZAP_TRACE_SPAN, "span-1")))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        RecordedRequest request = mockServer.takeRequest();
+
+        Assertions.assertThat(request.getHeader("Zap-Trace-Span")).isEqualTo("span-1");
+    }
+}
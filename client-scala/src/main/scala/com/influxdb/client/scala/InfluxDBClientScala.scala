@@ -39,6 +39,21 @@ trait InfluxDBClientScala {
    */
   @Nonnull def getQueryScalaApi(): QueryScalaApi
 
+  /**
+   * Create a new Write client with the default batching.
+   *
+   * @return the new client instance for the Write API
+   */
+  @Nonnull def getWriteScalaApi(): WriteScalaApi
+
+  /**
+   * Create a new Write client.
+   *
+   * @param writeOptions the configuration of the batching and retries
+   * @return the new client instance for the Write API
+   */
+  @Nonnull def getWriteScalaApi(@Nonnull writeOptions: WriteScalaOptions): WriteScalaApi
+
   /**
    * Get the health of an instance.
    *
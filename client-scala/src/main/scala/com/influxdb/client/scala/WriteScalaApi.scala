@@ -0,0 +1,128 @@
+/**
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.scala
+
+import akka.stream.scaladsl.{Flow, Sink}
+import akka.{Done, NotUsed}
+import com.influxdb.client.domain.WritePrecision
+import com.influxdb.client.write.{Point, WriteResult}
+import javax.annotation.Nonnull
+
+import scala.concurrent.Future
+
+/**
+ * The client that allows to write time-series data into InfluxDB 2.0 by Akka Streams.
+ *
+ * <p>The incoming elements are batched by the number of points or by the size of the Line Protocol
+ * (see [[WriteScalaOptions]]) and the batches are written by the non-blocking HTTP calls. The stream demands
+ * next elements only when there is a free slot for the batch, so the backpressure of the InfluxDB is propagated
+ * up to the source.</p>
+ *
+ * <p>The failed batch is retried by the [[com.influxdb.client.WriteOptions]] strategy, if the retries
+ * are exhausted then the stream fails.</p>
+ */
+trait WriteScalaApi {
+
+  /**
+   * Write Data points into the InfluxDB.
+   *
+   * <p>[[com.influxdb.client.InfluxDBClientOptions#getBucket()]] will be used as destination bucket
+   * and [[com.influxdb.client.InfluxDBClientOptions#getOrg()]] will be used as destination organization.</p>
+   *
+   * @return the sink that materializes to the [[Future]] completed when all points are written
+   */
+  @Nonnull def writePoints(): Sink[Point, Future[Done]]
+
+  /**
+   * Write Data points into the InfluxDB.
+   *
+   * @param bucket specifies the destination bucket for writes
+   * @param org    specifies the destination organization for writes
+   * @return the sink that materializes to the [[Future]] completed when all points are written
+   */
+  @Nonnull def writePoints(@Nonnull bucket: String, @Nonnull org: String): Sink[Point, Future[Done]]
+
+  /**
+   * Write Data points into the InfluxDB and emit the [[WriteResult]] of each written batch.
+   *
+   * <p>[[com.influxdb.client.InfluxDBClientOptions#getBucket()]] will be used as destination bucket
+   * and [[com.influxdb.client.InfluxDBClientOptions#getOrg()]] will be used as destination organization.</p>
+   *
+   * @return the flow of the written batches
+   */
+  @Nonnull def writePointsFlow(): Flow[Point, WriteResult, NotUsed]
+
+  /**
+   * Write Data points into the InfluxDB and emit the [[WriteResult]] of each written batch.
+   *
+   * @param bucket specifies the destination bucket for writes
+   * @param org    specifies the destination organization for writes
+   * @return the flow of the written batches
+   */
+  @Nonnull def writePointsFlow(@Nonnull bucket: String, @Nonnull org: String): Flow[Point, WriteResult, NotUsed]
+
+  /**
+   * Write Line Protocol records into the InfluxDB.
+   *
+   * <p>[[com.influxdb.client.InfluxDBClientOptions#getBucket()]] will be used as destination bucket
+   * and [[com.influxdb.client.InfluxDBClientOptions#getOrg()]] will be used as destination organization.</p>
+   *
+   * @param precision specifies the precision for the unix timestamps within the records
+   * @return the sink that materializes to the [[Future]] completed when all records are written
+   */
+  @Nonnull def writeRecords(@Nonnull precision: WritePrecision): Sink[String, Future[Done]]
+
+  /**
+   * Write Line Protocol records into the InfluxDB.
+   *
+   * @param precision specifies the precision for the unix timestamps within the records
+   * @param bucket    specifies the destination bucket for writes
+   * @param org       specifies the destination organization for writes
+   * @return the sink that materializes to the [[Future]] completed when all records are written
+   */
+  @Nonnull def writeRecords(@Nonnull precision: WritePrecision,
+                            @Nonnull bucket: String,
+                            @Nonnull org: String): Sink[String, Future[Done]]
+
+  /**
+   * Write Line Protocol records into the InfluxDB and emit the [[WriteResult]] of each written batch.
+   *
+   * <p>[[com.influxdb.client.InfluxDBClientOptions#getBucket()]] will be used as destination bucket
+   * and [[com.influxdb.client.InfluxDBClientOptions#getOrg()]] will be used as destination organization.</p>
+   *
+   * @param precision specifies the precision for the unix timestamps within the records
+   * @return the flow of the written batches
+   */
+  @Nonnull def writeRecordsFlow(@Nonnull precision: WritePrecision): Flow[String, WriteResult, NotUsed]
+
+  /**
+   * Write Line Protocol records into the InfluxDB and emit the [[WriteResult]] of each written batch.
+   *
+   * @param precision specifies the precision for the unix timestamps within the records
+   * @param bucket    specifies the destination bucket for writes
+   * @param org       specifies the destination organization for writes
+   * @return the flow of the written batches
+   */
+  @Nonnull def writeRecordsFlow(@Nonnull precision: WritePrecision,
+                                @Nonnull bucket: String,
+                                @Nonnull org: String): Flow[String, WriteResult, NotUsed]
+}
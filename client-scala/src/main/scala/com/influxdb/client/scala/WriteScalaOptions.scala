@@ -0,0 +1,65 @@
+/**
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.scala
+
+import com.influxdb.client.WriteOptions
+
+import scala.concurrent.duration._
+
+/**
+ * The configuration of the batching for [[WriteScalaApi]].
+ *
+ * The stream is cut into the batch when the `batchSize` points or the `batchBytes` of Line Protocol
+ * are collected, or when the `flushInterval` elapses, whatever comes first.
+ *
+ * @param batchSize     the maximum number of points in one batch
+ * @param batchBytes    the maximum size of the Line Protocol body of one batch
+ * @param flushInterval the maximum time to wait before the incomplete batch is written
+ * @param parallelism   the maximum number of the batches written at the same time, when all of them are
+ *                      in flight the backpressure is signalled to the upstream
+ * @param writeOptions  the retry strategy for the failed batches, the batching settings are ignored
+ */
+case class WriteScalaOptions(batchSize: Int = WriteScalaOptions.DEFAULT_BATCH_SIZE,
+                             batchBytes: Long = WriteScalaOptions.DEFAULT_BATCH_BYTES,
+                             flushInterval: FiniteDuration = WriteScalaOptions.DEFAULT_FLUSH_INTERVAL,
+                             parallelism: Int = WriteScalaOptions.DEFAULT_PARALLELISM,
+                             writeOptions: WriteOptions = WriteOptions.DEFAULTS) {
+
+  require(batchSize > 0, "Expecting a positive number for batchSize")
+  require(batchBytes > 0, "Expecting a positive number for batchBytes")
+  require(flushInterval > Duration.Zero, "Expecting a positive duration for flushInterval")
+  require(parallelism > 0, "Expecting a positive number for parallelism")
+  require(writeOptions != null, "WriteOptions is required")
+}
+
+object WriteScalaOptions {
+
+  val DEFAULT_BATCH_SIZE: Int = 5000
+  val DEFAULT_BATCH_BYTES: Long = 4 * 1024 * 1024
+  val DEFAULT_FLUSH_INTERVAL: FiniteDuration = 1.second
+  val DEFAULT_PARALLELISM: Int = 1
+
+  /**
+   * The default configuration of the batching.
+   */
+  val DEFAULTS: WriteScalaOptions = WriteScalaOptions()
+}
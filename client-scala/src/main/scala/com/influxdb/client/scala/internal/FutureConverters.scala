@@ -0,0 +1,44 @@
+/**
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.scala.internal
+
+import java.util.concurrent.{CompletableFuture, CompletionException}
+import scala.concurrent.{Future, Promise}
+
+/**
+ * Bridges the futures of the Java client into the Scala [[Future]] without the `scala-java8-compat`.
+ */
+private[scala] object FutureConverters {
+
+  def toScala[T](future: CompletableFuture[T]): Future[T] = {
+
+    val promise = Promise[T]()
+
+    future.whenComplete((result: T, throwable: Throwable) => throwable match {
+      case null => promise.success(result)
+      case e: CompletionException if e.getCause != null => promise.failure(e.getCause)
+      case e => promise.failure(e)
+    })
+
+    promise.future
+  }
+}
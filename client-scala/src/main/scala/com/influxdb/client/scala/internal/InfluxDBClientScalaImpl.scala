@@ -21,11 +21,11 @@
  */
 package com.influxdb.client.scala.internal
 
-import com.influxdb.LogLevel
+import com.influxdb.{Arguments, LogLevel}
 import com.influxdb.client.InfluxDBClientOptions
 import com.influxdb.client.domain.HealthCheck
 import com.influxdb.client.internal.AbstractInfluxDBClient
-import com.influxdb.client.scala.{InfluxDBClientScala, QueryScalaApi}
+import com.influxdb.client.scala.{InfluxDBClientScala, QueryScalaApi, WriteScalaApi, WriteScalaOptions}
 import com.influxdb.client.service.QueryService
 
 import javax.annotation.Nonnull
@@ -39,7 +39,27 @@ class InfluxDBClientScalaImpl(@Nonnull options: InfluxDBClientOptions) extends A
    *
    * @return the new client instance for the Query API
    */
-  override def getQueryScalaApi(): QueryScalaApi = new QueryScalaApiImpl(retrofit.create(classOf[QueryService]), options)
+  override def getQueryScalaApi(): QueryScalaApi = new QueryScalaApiImpl(queryRetrofit.create(classOf[QueryService]), options)
+
+  /**
+   * Create a new Write client with the default batching.
+   *
+   * @return the new client instance for the Write API
+   */
+  override def getWriteScalaApi(): WriteScalaApi = getWriteScalaApi(WriteScalaOptions.DEFAULTS)
+
+  /**
+   * Create a new Write client.
+   *
+   * @param writeOptions the configuration of the batching and retries
+   * @return the new client instance for the Write API
+   */
+  override def getWriteScalaApi(@Nonnull writeOptions: WriteScalaOptions): WriteScalaApi = {
+
+    Arguments.checkNotNull(writeOptions, "WriteScalaOptions")
+
+    new WriteScalaApiImpl(writeApiAsync(writeOptions.writeOptions), writeOptions, options)
+  }
 
   /**
    * Get the health of an instance.
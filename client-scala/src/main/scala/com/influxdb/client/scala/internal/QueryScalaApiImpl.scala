@@ -21,8 +21,9 @@
  */
 package com.influxdb.client.scala.internal
 
-import akka.NotUsed
+import akka.stream.ActorAttributes
 import akka.stream.scaladsl.Source
+import akka.{Done, NotUsed}
 import com.influxdb.Arguments
 import com.influxdb.client.InfluxDBClientOptions
 import com.influxdb.client.domain.{Dialect, Query}
@@ -30,9 +31,13 @@ import com.influxdb.client.internal.AbstractInfluxDBClient
 import com.influxdb.client.scala.QueryScalaApi
 import com.influxdb.client.service.QueryService
 import com.influxdb.internal.AbstractQueryApi
-import com.influxdb.query.FluxRecord
+import com.influxdb.query.{FluxRecord, QueryListener}
 
+import java.io.Closeable
+import java.util.concurrent.CompletableFuture
 import javax.annotation.Nonnull
+import scala.collection.mutable.ListBuffer
+import scala.concurrent.Future
 
 /**
  * @author Jakub Bednar (bednar@github) (06/11/2018 08:19)
@@ -42,6 +47,8 @@ class QueryScalaApiImpl(@Nonnull service: QueryService, @Nonnull options: Influx
   extends AbstractQueryApi()
     with QueryScalaApi {
 
+  override protected def getQueryListener: QueryListener = options.getQueryListener
+
 
   /**
    * Executes the Flux query against the InfluxDB and asynchronously stream [[FluxRecord]]s to [[Stream]].
@@ -100,21 +107,11 @@ class QueryScalaApiImpl(@Nonnull service: QueryService, @Nonnull options: Influx
     Arguments.checkNotNull(query, "query")
     Arguments.checkNonEmpty(org, "org")
 
-    Source.unfoldResource[FluxRecord, AbstractQueryApi#FluxRecordIterator](
-      () => {
-        val call = service.postQueryResponseBody(null, null, null, org, null, query)
-
-        queryIterator(call)
-
-      },
-      query => {
-        if (query.hasNext)
-          Some(query.next())
-        else
-          None // signals end of results
-      },
-      reader => reader.close()
-    )
+    queryAsync[FluxRecord, AbstractQueryApi#FluxRecordIterator](() => {
+      val call = service.postQueryResponseBody(null, null, null, org, null, query)
+
+      queryIteratorAsync(call)
+    })
   }
 
   /**
@@ -275,20 +272,48 @@ class QueryScalaApiImpl(@Nonnull service: QueryService, @Nonnull options: Influx
     Arguments.checkNotNull(query, "query")
     Arguments.checkNonEmpty(org, "org")
 
-    Source.unfoldResource[String, AbstractQueryApi#RawIterator](
-      () => {
-        val call = service.postQueryResponseBody(null, null, null, org, null, query)
-
-        queryRawIterator(call)
-
-      },
-      query => {
-        if (query.hasNext)
-          Some(query.next())
-        else
-          None // signals end of results
-      },
-      reader => reader.close()
-    )
+    queryAsync[String, AbstractQueryApi#RawIterator](() => {
+      val call = service.postQueryResponseBody(null, null, null, org, null, query)
+
+      queryRawIteratorAsync(call)
+    })
+  }
+
+  /**
+   * The HTTP call is enqueued, so no thread waits for the response while the InfluxDB evaluates the query.
+   * The body is parsed in the chunks only when the downstream demands next elements, the chunk is read on the
+   * blocking IO dispatcher and the thread is released between the chunks.
+   */
+  private def queryAsync[T, R <: java.util.Iterator[T] with Closeable](open: () => CompletableFuture[R]): Source[T, NotUsed] = {
+
+    Source
+      .fromMaterializer { (materializer, _) =>
+
+        val reader = materializer.system.dispatchers.lookup(ActorAttributes.IODispatcher.dispatcher)
+
+        Source.unfoldResourceAsync[List[T], R](
+          () => FutureConverters.toScala(open()),
+          iterator => Future {
+            val chunk = ListBuffer[T]()
+            while (chunk.size < QueryScalaApiImpl.ChunkSize && iterator.hasNext) {
+              chunk += iterator.next()
+            }
+            if (chunk.isEmpty) None else Some(chunk.toList)
+          }(reader),
+          iterator => Future {
+            iterator.close()
+            Done
+          }(reader))
+      }
+      .mapConcat(identity)
+      .mapMaterializedValue(_ => NotUsed)
   }
 }
+
+object QueryScalaApiImpl {
+
+  /**
+   * The maximum number of the records parsed at once from the response.
+   */
+  private val ChunkSize = 500
+}
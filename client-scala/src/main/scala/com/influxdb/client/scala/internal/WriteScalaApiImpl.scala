@@ -0,0 +1,143 @@
+/**
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.scala.internal
+
+import akka.stream.scaladsl.{Flow, Keep, Sink}
+import akka.{Done, NotUsed}
+import com.influxdb.Arguments
+import com.influxdb.client.domain.WritePrecision
+import com.influxdb.client.internal.{Utf8, WriteChunker}
+import com.influxdb.client.scala.{WriteScalaApi, WriteScalaOptions}
+import com.influxdb.client.write.{Point, WriteResult}
+import com.influxdb.client.{InfluxDBClientOptions, WriteApiAsync}
+
+import javax.annotation.Nonnull
+import scala.collection.mutable.ListBuffer
+import scala.concurrent.Future
+
+/**
+ * The batches are written by the [[WriteApiAsync]], so the HTTP calls doesn't block the threads of the stream.
+ */
+class WriteScalaApiImpl(@Nonnull writeApi: WriteApiAsync,
+                        @Nonnull writeOptions: WriteScalaOptions,
+                        @Nonnull options: InfluxDBClientOptions) extends WriteScalaApi {
+
+  Arguments.checkNotNull(writeApi, "WriteApiAsync")
+  Arguments.checkNotNull(writeOptions, "WriteScalaOptions")
+  Arguments.checkNotNull(options, "InfluxDBClientOptions")
+
+  override def writePoints(): Sink[Point, Future[Done]] = toSink(writePointsFlow())
+
+  override def writePoints(bucket: String, org: String): Sink[Point, Future[Done]] =
+    toSink(writePointsFlow(bucket, org))
+
+  override def writePointsFlow(): Flow[Point, WriteResult, NotUsed] = {
+
+    checkDefaults()
+
+    writePointsFlow(options.getBucket, options.getOrg)
+  }
+
+  override def writePointsFlow(bucket: String, org: String): Flow[Point, WriteResult, NotUsed] = {
+
+    Arguments.checkNonEmpty(bucket, "bucket")
+    Arguments.checkNonEmpty(org, "org")
+
+    Flow[Point]
+      .filter(point => point != null)
+      .map(point => (point.getPrecision, point.toLineProtocol(options.getPointSettings)))
+      .via(write(bucket, org))
+  }
+
+  override def writeRecords(precision: WritePrecision): Sink[String, Future[Done]] =
+    toSink(writeRecordsFlow(precision))
+
+  override def writeRecords(precision: WritePrecision, bucket: String, org: String): Sink[String, Future[Done]] =
+    toSink(writeRecordsFlow(precision, bucket, org))
+
+  override def writeRecordsFlow(precision: WritePrecision): Flow[String, WriteResult, NotUsed] = {
+
+    checkDefaults()
+
+    writeRecordsFlow(precision, options.getBucket, options.getOrg)
+  }
+
+  override def writeRecordsFlow(precision: WritePrecision,
+                                bucket: String,
+                                org: String): Flow[String, WriteResult, NotUsed] = {
+
+    Arguments.checkNotNull(precision, "WritePrecision is required")
+    Arguments.checkNonEmpty(bucket, "bucket")
+    Arguments.checkNonEmpty(org, "org")
+
+    Flow[String]
+      .filter(record => record != null)
+      .map(record => (precision, record))
+      .via(write(bucket, org))
+  }
+
+  /**
+   * Each line weights at least `batchBytes / batchSize`, so the batch is cut by whichever limit
+   * is reached first. The mapAsync keeps at most `parallelism` batches in flight and doesn't pull
+   * the upstream while all of them are pending.
+   */
+  private def write(bucket: String, org: String): Flow[(WritePrecision, String), WriteResult, NotUsed] = {
+
+    val batchSize = writeOptions.batchSize.toLong
+    val batchBytes = writeOptions.batchBytes
+    val maxWeight = if (batchBytes > Long.MaxValue / batchSize) Long.MaxValue else batchBytes * batchSize
+
+    Flow[(WritePrecision, String)]
+      .filter { case (_, line) => line.nonEmpty }
+      .groupedWeightedWithin(maxWeight, writeOptions.flushInterval) { case (_, line) =>
+        val bytes = Utf8.encodedLength(line) + 1L
+        if (bytes > Long.MaxValue / batchSize) Long.MaxValue else math.max(bytes * batchSize, batchBytes)
+      }
+      .mapConcat(batch => splitByPrecision(batch))
+      .mapAsync(writeOptions.parallelism) { chunk =>
+        FutureConverters.toScala(writeApi.writeRecords(bucket, org, chunk.getPrecision, chunk.getLines))
+      }
+  }
+
+  /**
+   * The InfluxDB accepts only one precision in the request, so the batch is split into the runs of same precision.
+   */
+  private def splitByPrecision(batch: Seq[(WritePrecision, String)]): List[WriteChunker.Chunk] = {
+
+    val chunker = new WriteChunker(Int.MaxValue, Long.MaxValue)
+    val chunks = ListBuffer[WriteChunker.Chunk]()
+
+    batch.foreach { case (precision, line) => chunker.add(precision, line).forEach(chunk => chunks += chunk) }
+    chunker.flush().forEach(chunk => chunks += chunk)
+
+    chunks.toList
+  }
+
+  private def toSink[T](flow: Flow[T, WriteResult, NotUsed]): Sink[T, Future[Done]] =
+    flow.toMat(Sink.ignore)(Keep.right)
+
+  private def checkDefaults(): Unit = {
+
+    Arguments.checkNotNull(options.getBucket, "InfluxDBClientOptions.getBucket")
+    Arguments.checkNotNull(options.getOrg, "InfluxDBClientOptions.getOrg")
+  }
+}
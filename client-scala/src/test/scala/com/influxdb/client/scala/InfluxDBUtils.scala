@@ -37,6 +37,11 @@ class InfluxDBUtils extends AbstractMockServerTest {
 
   def serverMockResponse(): Unit = super.enqueuedResponse()
 
+  def serverMockResponse(data: String): Unit = mockServer.enqueue(createResponse(data))
+
+  def serverMockErrorResponse(influxError: String, responseCode: Int): Unit =
+    mockServer.enqueue(createErrorResponse(influxError, false, responseCode))
+
   def serverTakeRequest(): RecordedRequest = super.takeRequest()
 
   override def generateName(prefix: String): String = super.generateName(prefix)
@@ -0,0 +1,100 @@
+/**
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.scala
+
+import akka.actor.ActorSystem
+import akka.stream.scaladsl.Sink
+import com.influxdb.exceptions.UnauthorizedException
+import org.scalatest.BeforeAndAfter
+import org.scalatest.funsuite.AnyFunSuite
+import org.scalatest.matchers.should.Matchers
+
+import scala.concurrent.duration._
+import scala.concurrent.{Await, Future}
+
+class QueryScalaApiTest extends AnyFunSuite with Matchers with BeforeAndAfter {
+
+  implicit val system: ActorSystem = ActorSystem("unit-tests")
+
+  var utils: InfluxDBUtils = _
+  var client: InfluxDBClientScala = _
+
+  before {
+    utils = new InfluxDBUtils {}
+    client = InfluxDBClientScalaFactory.create(utils.serverStart, "my-token".toCharArray, "my-org")
+  }
+
+  after {
+    client.close()
+    utils.serverStop()
+  }
+
+  private def data(count: Int): String = {
+    "#datatype,string,long,dateTime:RFC3339,dateTime:RFC3339,dateTime:RFC3339,long,string,string\n" +
+      "#group,false,false,true,true,false,false,true,true\n" +
+      "#default,_result,,,,,,,\n" +
+      ",result,table,_start,_stop,_time,_value,_field,_measurement\n" +
+      (1 to count).map(i => s",,0,1970-01-01T00:00:10Z,1970-01-01T00:00:20Z,1970-01-01T00:00:10Z,$i,free,mem\n").mkString
+  }
+
+  test("records are streamed in chunks") {
+
+    utils.serverMockResponse(data(1234))
+
+    val records = Await.result(client.getQueryScalaApi().query("from(bucket:\"my-bucket\")").runWith(Sink.seq), 10.seconds)
+
+    records.map(_.getValue) shouldBe (1 to 1234).map(_.toLong)
+    utils.serverTakeRequest().getRequestUrl.queryParameter("org") shouldBe "my-org"
+  }
+
+  test("raw lines") {
+
+    utils.serverMockResponse(data(2))
+
+    val lines = Await.result(client.getQueryScalaApi().queryRaw("from(bucket:\"my-bucket\")").runWith(Sink.seq), 10.seconds)
+
+    lines should have size 6
+    lines(4) shouldBe ",,0,1970-01-01T00:00:10Z,1970-01-01T00:00:20Z,1970-01-01T00:00:10Z,1,free,mem"
+  }
+
+  test("concurrent queries") {
+
+    (1 to 50).foreach(_ => utils.serverMockResponse(data(100)))
+
+    implicit val ec: scala.concurrent.ExecutionContext = system.dispatcher
+    val queries = (1 to 50).map(_ => client.getQueryScalaApi().query("from(bucket:\"my-bucket\")").runWith(Sink.seq))
+
+    Await.result(Future.sequence(queries), 30.seconds).map(_.size) shouldBe Seq.fill(50)(100)
+  }
+
+  test("error") {
+
+    utils.serverMockErrorResponse("token does not have sufficient permissions", 401)
+
+    val result = client.getQueryScalaApi().query("from(bucket:\"my-bucket\")").runWith(Sink.seq)
+
+    val exception = intercept[UnauthorizedException] {
+      Await.result(result, 10.seconds)
+    }
+    exception.getMessage shouldBe "token does not have sufficient permissions"
+  }
+}
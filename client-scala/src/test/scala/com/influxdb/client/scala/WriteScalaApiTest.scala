@@ -0,0 +1,156 @@
+/**
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.scala
+
+import akka.actor.ActorSystem
+import akka.stream.scaladsl.{Sink, Source}
+import com.influxdb.client.InfluxDBClientOptions
+import com.influxdb.client.domain.WritePrecision
+import com.influxdb.client.write.{Point, WriteResult}
+import com.influxdb.exceptions.BadRequestException
+import org.scalatest.BeforeAndAfter
+import org.scalatest.funsuite.AnyFunSuite
+import org.scalatest.matchers.should.Matchers
+
+import scala.concurrent.Await
+import scala.concurrent.duration._
+
+class WriteScalaApiTest extends AnyFunSuite with Matchers with BeforeAndAfter {
+
+  implicit val system: ActorSystem = ActorSystem("unit-tests")
+
+  var utils: InfluxDBUtils = _
+  var client: InfluxDBClientScala = _
+
+  before {
+    utils = new InfluxDBUtils {}
+    client = InfluxDBClientScalaFactory.create(utils.serverStart, "my-token".toCharArray, "my-org", "my-bucket")
+  }
+
+  after {
+    client.close()
+    utils.serverStop()
+  }
+
+  test("batch by points") {
+
+    (1 to 3).foreach(_ => utils.serverMockResponse())
+
+    val writeApi = client.getWriteScalaApi(WriteScalaOptions(batchSize = 3))
+    val points = (1 to 7).map(i => Point.measurement("mem").addField("free", i).time(i.toLong, WritePrecision.S))
+
+    Await.result(Source(points).runWith(writeApi.writePoints()), 10.seconds)
+
+    val requests = (1 to 3).map(_ => utils.serverTakeRequest())
+    requests.map(_.getBody.readUtf8().split("\n").length) shouldBe Seq(3, 3, 1)
+    requests.head.getRequestUrl.queryParameter("bucket") shouldBe "my-bucket"
+    requests.head.getRequestUrl.queryParameter("org") shouldBe "my-org"
+    requests.head.getRequestUrl.queryParameter("precision") shouldBe "s"
+  }
+
+  test("batch by bytes") {
+
+    (1 to 2).foreach(_ => utils.serverMockResponse())
+
+    // every record has 20 bytes including the line separator
+    val writeApi = client.getWriteScalaApi(WriteScalaOptions(batchBytes = 50))
+    val records = List("mem,host=A free=10i", "mem,host=B free=20i", "mem,host=C free=30i")
+
+    Await.result(Source(records).runWith(writeApi.writeRecords(WritePrecision.NS, "b1", "o1")), 10.seconds)
+
+    val request = utils.serverTakeRequest()
+    request.getBody.readUtf8() shouldBe "mem,host=A free=10i\nmem,host=B free=20i"
+    request.getRequestUrl.queryParameter("bucket") shouldBe "b1"
+    request.getRequestUrl.queryParameter("org") shouldBe "o1"
+    utils.serverTakeRequest().getBody.readUtf8() shouldBe "mem,host=C free=30i"
+  }
+
+  test("points with default tags") {
+
+    client.close()
+    utils.serverStop()
+    client = InfluxDBClientScalaFactory.create(InfluxDBClientOptions.builder()
+      .url(utils.serverStart)
+      .authenticateToken("my-token".toCharArray)
+      .org("my-org")
+      .bucket("my-bucket")
+      .addDefaultTag("id", "132-987-655")
+      .build())
+    utils.serverMockResponse()
+
+    val writeApi = client.getWriteScalaApi()
+    val point = Point.measurement("mem").addField("free", 1).time(1L, WritePrecision.S)
+
+    Await.result(Source.single(point).runWith(writeApi.writePoints()), 10.seconds)
+
+    utils.serverTakeRequest().getBody.readUtf8() shouldBe "mem,id=132-987-655 free=1i 1"
+  }
+
+  test("flow emits results split by precision") {
+
+    (1 to 2).foreach(_ => utils.serverMockResponse())
+
+    val writeApi = client.getWriteScalaApi()
+    val points = List(
+      Point.measurement("mem").addField("free", 1).time(1L, WritePrecision.S),
+      Point.measurement("mem").addField("free", 2).time(2L, WritePrecision.S),
+      Point.measurement("mem").addField("free", 3).time(3L, WritePrecision.MS))
+
+    val results = Await.result(Source(points).via(writeApi.writePointsFlow()).runWith(Sink.seq), 10.seconds)
+
+    results.map(result => (result.getPrecision, result.getLineCount)) shouldBe
+      Seq((WritePrecision.S, 2), (WritePrecision.MS, 1))
+    results.foreach(_.getBucket shouldBe "my-bucket")
+
+    utils.serverTakeRequest().getRequestUrl.queryParameter("precision") shouldBe "s"
+    utils.serverTakeRequest().getRequestUrl.queryParameter("precision") shouldBe "ms"
+  }
+
+  test("flush interval") {
+
+    utils.serverMockResponse()
+
+    val writeApi = client.getWriteScalaApi(WriteScalaOptions(flushInterval = 100.millis))
+
+    val result = Source.single("mem,host=A free=10i")
+      .concat(Source.never)
+      .via(writeApi.writeRecordsFlow(WritePrecision.NS))
+      .runWith(Sink.head[WriteResult])
+
+    Await.result(result, 10.seconds).getLineCount shouldBe 1
+    utils.serverTakeRequest().getBody.readUtf8() shouldBe "mem,host=A free=10i"
+  }
+
+  test("error fails the stream") {
+
+    utils.serverMockErrorResponse("line protocol poorly formed", 400)
+
+    val writeApi = client.getWriteScalaApi()
+
+    val result = Source.single("mem,host=A free=").runWith(writeApi.writeRecords(WritePrecision.NS))
+
+    val exception = intercept[BadRequestException] {
+      Await.result(result, 10.seconds)
+    }
+    exception.getMessage shouldBe "line protocol poorly formed"
+  }
+}
@@ -26,6 +26,7 @@ import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import okhttp3.mockwebserver.Dispatcher;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -58,6 +59,21 @@ public abstract class AbstractMockServerTest extends AbstractTest {
         return mockServer.url("/").url().toString();
     }
 
+    /**
+     * Start Mock server with the dispatcher, for example the {@link SimulatedInfluxDB}.
+     *
+     * @param dispatcher the dispatcher of requests
+     * @return the mock server URL
+     */
+    @Nonnull
+    protected String startMockServer(@Nonnull final Dispatcher dispatcher) {
+
+        String url = startMockServer();
+        mockServer.setDispatcher(dispatcher);
+
+        return url;
+    }
+
     @AfterEach
     protected void after() throws IOException {
         if (mockServer != null) {
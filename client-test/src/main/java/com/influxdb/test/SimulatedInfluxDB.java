@@ -0,0 +1,322 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.test;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.GzipSource;
+import okio.Okio;
+
+/**
+ * The {@link Dispatcher} of {@code MockWebServer} that simulates the write endpoint of InfluxDB 2.0.
+ * <p>
+ * The simulated server accepts writes by {@code 204}, but it can be configured to respond with latency,
+ * to throttle writes by {@code 429} with {@code Retry-After}, to fail randomly by {@code 503} and to reject
+ * too large requests by {@code 413}. The accepted lines and bytes are counted, so the simulated server can
+ * be used to validate the batching and retry settings of the client under load:
+ * <pre>
+ * SimulatedInfluxDB influxDB = SimulatedInfluxDB.builder()
+ *     .latency(20, 10)
+ *     .throttleRate(0.05, 1)
+ *     .errorRate(0.01)
+ *     .build();
+ *
+ * String url = startMockServer(influxDB);
+ * </pre>
+ */
+@ThreadSafe
+public final class SimulatedInfluxDB extends Dispatcher {
+
+    private static final int NO_CONTENT = 204;
+    private static final int NOT_FOUND = 404;
+    private static final int REQUEST_ENTITY_TOO_LARGE = 413;
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int SERVICE_UNAVAILABLE = 503;
+
+    private final long latency;
+    private final long latencyJitter;
+    private final double throttleRate;
+    private final int retryAfter;
+    private final double errorRate;
+    private final long maxBodySize;
+    private final boolean retainBodies;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder acceptedLines = new LongAdder();
+    private final LongAdder acceptedBytes = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    private SimulatedInfluxDB(@Nonnull final Builder builder) {
+        this.latency = builder.latency;
+        this.latencyJitter = builder.latencyJitter;
+        this.throttleRate = builder.throttleRate;
+        this.retryAfter = builder.retryAfter;
+        this.errorRate = builder.errorRate;
+        this.maxBodySize = builder.maxBodySize;
+        this.retainBodies = builder.retainBodies;
+    }
+
+    /**
+     * Creates a builder instance.
+     *
+     * @return a builder
+     */
+    @Nonnull
+    public static SimulatedInfluxDB.Builder builder() {
+        return new SimulatedInfluxDB.Builder();
+    }
+
+    @Nonnull
+    @Override
+    public MockResponse dispatch(@Nonnull final RecordedRequest request) {
+
+        requests.increment();
+
+        String path = request.getPath() != null ? request.getPath() : "";
+
+        MockResponse response;
+        if (path.startsWith("/ping") || path.startsWith("/health")) {
+            response = new MockResponse().setResponseCode(NO_CONTENT);
+        } else if (!path.startsWith("/api/v2/write")) {
+            response = createError(NOT_FOUND, "not found", "path not found");
+        } else if (maxBodySize > 0 && request.getBodySize() > maxBodySize) {
+            rejected.increment();
+            response = createError(REQUEST_ENTITY_TOO_LARGE, "request too large", "request body is too large");
+        } else if (throttleRate > 0 && ThreadLocalRandom.current().nextDouble() < throttleRate) {
+            throttled.increment();
+            response = createError(TOO_MANY_REQUESTS, "too many requests", "org exceeded the write limit")
+                    .setHeader("Retry-After", retryAfter);
+        } else if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            errors.increment();
+            response = createError(SERVICE_UNAVAILABLE, "unavailable", "service temporarily unavailable");
+        } else {
+            acceptedLines.add(countLines(request));
+            acceptedBytes.add(request.getBodySize());
+            response = new MockResponse().setResponseCode(NO_CONTENT);
+        }
+
+        if (!retainBodies) {
+            request.getBody().clear();
+        }
+
+        long delay = latency + (latencyJitter > 0 ? ThreadLocalRandom.current().nextLong(latencyJitter + 1) : 0);
+
+        return response.setHeadersDelay(delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return the number of all received requests
+     */
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    /**
+     * @return the number of accepted Line Protocol lines
+     */
+    public long getAcceptedLines() {
+        return acceptedLines.sum();
+    }
+
+    /**
+     * @return the size of accepted requests in bytes (as they are sent, possibly gzipped)
+     */
+    public long getAcceptedBytes() {
+        return acceptedBytes.sum();
+    }
+
+    /**
+     * @return the number of writes throttled by {@code 429}
+     */
+    public long getThrottled() {
+        return throttled.sum();
+    }
+
+    /**
+     * @return the number of writes failed by {@code 503}
+     */
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    /**
+     * @return the number of writes rejected by {@code 413}
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "SimulatedInfluxDB[requests=" + getRequests()
+                + ", acceptedLines=" + getAcceptedLines()
+                + ", acceptedBytes=" + getAcceptedBytes()
+                + ", throttled=" + getThrottled()
+                + ", errors=" + getErrors()
+                + ", rejected=" + getRejected() + "]";
+    }
+
+    @Nonnull
+    private MockResponse createError(final int status, @Nonnull final String code, @Nonnull final String message) {
+        return new MockResponse()
+                .setResponseCode(status)
+                .setHeader("Content-Type", "application/json; charset=utf-8")
+                .setHeader("X-Influx-Error", message)
+                .setBody(String.format("{\"code\":\"%s\",\"message\":\"%s\"}", code, message));
+    }
+
+    private long countLines(@Nonnull final RecordedRequest request) {
+
+        Buffer body = request.getBody();
+        if (body.size() == 0) {
+            return 0;
+        }
+
+        try {
+            BufferedSource source = body.clone();
+            if ("gzip".equalsIgnoreCase(request.getHeader("Content-Encoding"))) {
+                source = Okio.buffer(new GzipSource(source));
+            }
+
+            long lines = 0;
+            byte last = '\n';
+            while (!source.exhausted()) {
+                byte current = source.readByte();
+                if (current == '\n') {
+                    lines++;
+                }
+                last = current;
+            }
+
+            return last == '\n' ? lines : lines + 1;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @SuppressWarnings("MagicNumber")
+    public static final class Builder {
+
+        private long latency = 0;
+        private long latencyJitter = 0;
+        private double throttleRate = 0;
+        private int retryAfter = 1;
+        private double errorRate = 0;
+        private long maxBodySize = 0;
+        private boolean retainBodies = true;
+
+        /**
+         * Set the latency of responses.
+         *
+         * @param latency the minimal latency in milliseconds
+         * @param jitter  the random jitter added to latency in milliseconds
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder latency(final long latency, final long jitter) {
+            this.latency = latency;
+            this.latencyJitter = jitter;
+            return this;
+        }
+
+        /**
+         * Set the ratio of writes that are throttled by {@code 429}.
+         *
+         * @param throttleRate the ratio of throttled writes - from {@code 0} to {@code 1}
+         * @param retryAfter   the value of {@code Retry-After} header in seconds
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder throttleRate(final double throttleRate, final int retryAfter) {
+            this.throttleRate = throttleRate;
+            this.retryAfter = retryAfter;
+            return this;
+        }
+
+        /**
+         * Set the ratio of writes that fails by {@code 503}.
+         *
+         * @param errorRate the ratio of failed writes - from {@code 0} to {@code 1}
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder errorRate(final double errorRate) {
+            this.errorRate = errorRate;
+            return this;
+        }
+
+        /**
+         * Set the maximal size of request body. The larger requests are rejected by {@code 413}.
+         *
+         * @param maxBodySize the maximal size in bytes, {@code 0} for unlimited
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder maxBodySize(final long maxBodySize) {
+            this.maxBodySize = maxBodySize;
+            return this;
+        }
+
+        /**
+         * Set whether the bodies of recorded requests are retained for {@code MockWebServer.takeRequest()}.
+         * Disable it for the long running load tests to keep the memory bounded.
+         *
+         * @param retainBodies retain bodies of requests, default {@code true}
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder retainBodies(final boolean retainBodies) {
+            this.retainBodies = retainBodies;
+            return this;
+        }
+
+        /**
+         * Build an instance of SimulatedInfluxDB.
+         *
+         * @return {@code SimulatedInfluxDB}
+         */
+        @Nonnull
+        public SimulatedInfluxDB build() {
+
+            if (throttleRate < 0 || throttleRate > 1) {
+                throw new IllegalArgumentException("Expecting a ratio between 0 and 1 for throttleRate");
+            }
+            if (errorRate < 0 || errorRate > 1) {
+                throw new IllegalArgumentException("Expecting a ratio between 0 and 1 for errorRate");
+            }
+
+            return new SimulatedInfluxDB(this);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client;
+
+import java.time.Duration;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * The InfluxDB node used by the client configured with several endpoints.
+ *
+ * @see InfluxDBClientOptions.Builder#urls(java.util.List)
+ * @see LoadBalancer
+ */
+@ThreadSafe
+public interface Endpoint {
+
+    /**
+     * @return the url of the node
+     */
+    @Nonnull
+    String getUrl();
+
+    /**
+     * The node is ejected from the load balancing after the consecutive connection failures or failed health check
+     * and it is returned back by the next successful health check.
+     *
+     * @return {@code true} if the node is healthy
+     */
+    boolean isHealthy();
+
+    /**
+     * @return the number of requests waiting for the response of node
+     */
+    int getInFlight();
+
+    /**
+     * @return the number of requests sent to the node
+     */
+    long getRequests();
+
+    /**
+     * @return the number of requests failed by connection error
+     */
+    long getFailures();
+
+    /**
+     * @return the exponentially weighted moving average of time to response headers or {@code null} if the node
+     * hasn't responded yet
+     */
+    @Nullable
+    Duration getLatency();
+}
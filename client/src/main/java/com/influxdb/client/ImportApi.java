@@ -0,0 +1,95 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client;
+
+import java.nio.file.Path;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.influxdb.client.domain.WritePrecision;
+import com.influxdb.client.write.ImportResult;
+import com.influxdb.exceptions.InfluxException;
+
+/**
+ * The API to bulk import files into InfluxDB 2.0.
+ * <p>
+ * The file is streamed in chunks, so the memory usage doesn't depend on the size of the file. The gzip compressed
+ * files are detected automatically. The chunks are uploaded in parallel accordingly
+ * to {@link ImportOptions#getConcurrency()}.
+ * <p>
+ * The import is stopped by the first unsuccessful chunk. The already written chunks stay written, so the import can be
+ * resumed by {@link ImportOptions#getCheckpointFile()}.
+ */
+@ThreadSafe
+public interface ImportApi {
+
+    /**
+     * Import the file into specified bucket.
+     *
+     * <p>
+     * The {@link InfluxDBClientOptions#getBucket()} will be use as destination bucket
+     * and {@link InfluxDBClientOptions#getOrg()} will be used as destination organization.
+     * </p>
+     *
+     * @param precision specifies the precision for the unix timestamps within the imported data
+     * @param file      the Line Protocol or the annotated CSV file, optionally gzip compressed
+     * @return the summary of import
+     * @throws InfluxException if a problem occurred during import
+     */
+    @Nonnull
+    ImportResult importFile(@Nonnull final WritePrecision precision,
+                            @Nonnull final Path file) throws InfluxException;
+
+    /**
+     * Import the file into specified bucket.
+     *
+     * @param bucket    specifies the destination bucket for writes
+     * @param org       specifies the destination organization for writes
+     * @param precision specifies the precision for the unix timestamps within the imported data
+     * @param file      the Line Protocol or the annotated CSV file, optionally gzip compressed
+     * @return the summary of import
+     * @throws InfluxException if a problem occurred during import
+     */
+    @Nonnull
+    ImportResult importFile(@Nonnull final String bucket,
+                            @Nonnull final String org,
+                            @Nonnull final WritePrecision precision,
+                            @Nonnull final Path file) throws InfluxException;
+
+    /**
+     * Import the file into specified bucket.
+     *
+     * @param bucket        specifies the destination bucket for writes
+     * @param org           specifies the destination organization for writes
+     * @param precision     specifies the precision for the unix timestamps within the imported data
+     * @param file          the Line Protocol or the annotated CSV file, optionally gzip compressed
+     * @param importOptions the configuration of import
+     * @return the summary of import
+     * @throws InfluxException if a problem occurred during import
+     */
+    @Nonnull
+    ImportResult importFile(@Nonnull final String bucket,
+                            @Nonnull final String org,
+                            @Nonnull final WritePrecision precision,
+                            @Nonnull final Path file,
+                            @Nonnull final ImportOptions importOptions) throws InfluxException;
+}
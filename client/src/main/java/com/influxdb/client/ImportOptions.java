@@ -0,0 +1,235 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client;
+
+import java.nio.file.Path;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.influxdb.Arguments;
+import com.influxdb.client.write.ImportResult;
+import com.influxdb.client.write.events.EventListener;
+
+/**
+ * ImportOptions are used to configure the bulk import of files by {@link ImportApi}.
+ *
+ * <p>
+ * The default setting:
+ * <ul>
+ * <li>chunkBytes = 4 MiB</li>
+ * <li>concurrency = 2</li>
+ * <li>format = detected by the file name</li>
+ * <li>checkpointFile = none</li>
+ * </ul>
+ */
+@ThreadSafe
+public final class ImportOptions {
+
+    private static final int DEFAULT_CHUNK_BYTES = 4 * 1024 * 1024;
+    private static final int DEFAULT_CONCURRENCY = 2;
+
+    /**
+     * Default configuration.
+     */
+    public static final ImportOptions DEFAULTS = ImportOptions.builder().build();
+
+    /**
+     * The format of imported file.
+     */
+    public enum Format {
+
+        /**
+         * The <a href="https://bit.ly/line-protocol">Line Protocol</a>, the file is split into line-aligned chunks
+         * without parsing.
+         */
+        LINE_PROTOCOL,
+
+        /**
+         * The annotated CSV as is produced by the Flux query, the records are converted into Line Protocol
+         * by columns {@code _measurement}, {@code _field}, {@code _value}, {@code _time} and other columns as tags.
+         */
+        ANNOTATED_CSV
+    }
+
+    private final int chunkBytes;
+    private final int concurrency;
+    private final Format format;
+    private final Path checkpointFile;
+    private final EventListener<ImportResult> progressListener;
+
+    private ImportOptions(@Nonnull final Builder builder) {
+
+        Arguments.checkNotNull(builder, "ImportOptions.Builder");
+
+        chunkBytes = builder.chunkBytes;
+        concurrency = builder.concurrency;
+        format = builder.format;
+        checkpointFile = builder.checkpointFile;
+        progressListener = builder.progressListener;
+    }
+
+    /**
+     * @return the size of one chunk in bytes
+     * @see ImportOptions.Builder#chunkBytes(int)
+     */
+    public int getChunkBytes() {
+        return chunkBytes;
+    }
+
+    /**
+     * @return the maximum number of chunks uploaded in parallel
+     * @see ImportOptions.Builder#concurrency(int)
+     */
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * @return the format of imported file, {@code null} means detect by the file name
+     * @see ImportOptions.Builder#format(Format)
+     */
+    @Nullable
+    public Format getFormat() {
+        return format;
+    }
+
+    /**
+     * @return the file to persist the progress of import
+     * @see ImportOptions.Builder#checkpointFile(Path)
+     */
+    @Nullable
+    public Path getCheckpointFile() {
+        return checkpointFile;
+    }
+
+    /**
+     * @return the listener notified after every written chunk
+     * @see ImportOptions.Builder#progressListener(EventListener)
+     */
+    @Nullable
+    public EventListener<ImportResult> getProgressListener() {
+        return progressListener;
+    }
+
+    /**
+     * Creates a builder instance.
+     *
+     * @return a builder
+     */
+    @Nonnull
+    public static ImportOptions.Builder builder() {
+        return new ImportOptions.Builder();
+    }
+
+    /**
+     * A builder for {@code ImportOptions}.
+     */
+    @NotThreadSafe
+    public static class Builder {
+
+        private int chunkBytes = DEFAULT_CHUNK_BYTES;
+        private int concurrency = DEFAULT_CONCURRENCY;
+        private Format format;
+        private Path checkpointFile;
+        private EventListener<ImportResult> progressListener;
+
+        /**
+         * Set the size of one chunk in bytes. The Line Protocol chunks are aligned to the end of line,
+         * so the line longer than the limit is written as its own chunk.
+         *
+         * @param chunkBytes the size of one chunk in bytes
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder chunkBytes(final int chunkBytes) {
+            Arguments.checkPositiveNumber(chunkBytes, "chunkBytes");
+            this.chunkBytes = chunkBytes;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of chunks uploaded in parallel.
+         * The memory usage of import is bounded by {@code (concurrency + 1) * chunkBytes}.
+         *
+         * @param concurrency the maximum number of chunks uploaded in parallel
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder concurrency(final int concurrency) {
+            Arguments.checkPositiveNumber(concurrency, "concurrency");
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        /**
+         * Set the format of imported file. If it is not specified the files with {@code .csv} or {@code .csv.gz}
+         * extension are imported as {@link Format#ANNOTATED_CSV}, otherwise as {@link Format#LINE_PROTOCOL}.
+         *
+         * @param format the format of imported file
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder format(@Nullable final Format format) {
+            this.format = format;
+            return this;
+        }
+
+        /**
+         * Set the file to persist the progress of import. If the file exists, the import continues from
+         * the persisted position - the byte offset for the Line Protocol or the number of records for the CSV.
+         * The file is updated after every written chunk and removed when the import successfully finished.
+         *
+         * @param checkpointFile the file to persist the progress of import
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder checkpointFile(@Nullable final Path checkpointFile) {
+            this.checkpointFile = checkpointFile;
+            return this;
+        }
+
+        /**
+         * Set the listener notified after every written chunk. The listener is called from the threads of HTTP client.
+         *
+         * @param progressListener the listener notified after every written chunk
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder progressListener(@Nullable final EventListener<ImportResult> progressListener) {
+            this.progressListener = progressListener;
+            return this;
+        }
+
+        /**
+         * Build an instance of ImportOptions.
+         *
+         * @return {@code ImportOptions}
+         */
+        @Nonnull
+        public ImportOptions build() {
+
+            return new ImportOptions(this);
+        }
+    }
+}
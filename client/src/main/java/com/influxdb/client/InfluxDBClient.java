@@ -21,6 +21,7 @@
  */
 package com.influxdb.client;
 
+import java.util.List;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
@@ -45,6 +46,7 @@ import com.influxdb.client.domain.Task;
 import com.influxdb.client.domain.Telegraf;
 import com.influxdb.client.domain.User;
 import com.influxdb.client.domain.Variable;
+import com.influxdb.client.write.WriteDestination;
 import com.influxdb.exceptions.UnprocessableEntityException;
 
 /**
@@ -117,6 +119,20 @@ public interface InfluxDBClient extends AutoCloseable {
     @Nonnull
     WriteApi makeWriteApi(@Nonnull final WriteOptions writeOptions);
 
+    /**
+     * Create a new asynchronous non-blocking Write client which routes the data into several shards -
+     * buckets, organizations or InfluxDB servers.
+     *
+     * @param writeOptions the configuration of batching writes of every shard
+     * @param router       the routing of points, measurements and records into shards
+     * @param shards       the shards, the first one is the default for the data without shard
+     * @return the new client instance for the Write API
+     */
+    @Nonnull
+    ShardedWriteApi makeShardedWriteApi(@Nonnull final WriteOptions writeOptions,
+                                        @Nonnull final ShardRouter router,
+                                        @Nonnull final List<WriteDestination> shards);
+
     /**
      * Create a new synchronous blocking Write client.
      *
@@ -125,6 +141,33 @@ public interface InfluxDBClient extends AutoCloseable {
     @Nonnull
     WriteApiBlocking getWriteApiBlocking();
 
+    /**
+     * Create a new asynchronous non-blocking Write client which acknowledges every write by
+     * {@link java.util.concurrent.CompletableFuture}.
+     *
+     * @return the new client instance for the Write API
+     */
+    @Nonnull
+    WriteApiAsync getWriteApiAsync();
+
+    /**
+     * Create a new asynchronous non-blocking Write client which acknowledges every write by
+     * {@link java.util.concurrent.CompletableFuture}.
+     *
+     * @param writeOptions the writes configuration, used for the retry strategy
+     * @return the new client instance for the Write API
+     */
+    @Nonnull
+    WriteApiAsync getWriteApiAsync(@Nonnull final WriteOptions writeOptions);
+
+    /**
+     * Create a new Import client to bulk import of Line Protocol or annotated CSV files.
+     *
+     * @return the new client instance for the Import API
+     */
+    @Nonnull
+    ImportApi getImportApi();
+
     /**
      * Create a new {@link Authorization} client.
      *
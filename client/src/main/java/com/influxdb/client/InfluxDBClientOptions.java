@@ -25,7 +25,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -36,7 +40,9 @@ import javax.annotation.concurrent.NotThreadSafe;
 import com.influxdb.Arguments;
 import com.influxdb.LogLevel;
 import com.influxdb.client.write.PointSettings;
+import com.influxdb.client.write.WriteMetrics;
 import com.influxdb.exceptions.InfluxException;
+import com.influxdb.query.QueryListener;
 
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
@@ -51,8 +57,14 @@ public final class InfluxDBClientOptions {
 
     private static final Pattern TAGS_PROPERTY = Pattern.compile("(influx2\\.tags\\.)(.+)");
     private static final Pattern DURATION_PATTERN = Pattern.compile("^(\\d+)([a-zA-Z]{0,2})$");
+    private static final Duration DEFAULT_HEALTH_CHECK_INTERVAL = Duration.ofSeconds(10);
+    private static final int DEFAULT_MAX_ENDPOINT_FAILURES = 3;
 
     private final String url;
+    private final List<String> endpoints;
+    private final LoadBalancer loadBalancer;
+    private final Duration healthCheckInterval;
+    private final int maxEndpointFailures;
     private final OkHttpClient.Builder okHttpClient;
     private final LogLevel logLevel;
 
@@ -64,12 +76,30 @@ public final class InfluxDBClientOptions {
     private String org;
     private String bucket;
     private final PointSettings pointSettings;
+    private final boolean virtualThreads;
+    private final WriteMetrics writeMetrics;
+    private final QueryListener queryListener;
+    private final HttpProtocol httpProtocol;
+    private final Integer maxRequests;
+    private final Integer maxRequestsPerHost;
+    private final Integer maxIdleConnections;
+    private final Duration keepAlive;
+    private final boolean separateQueryConnectionPool;
+    private final Map<TrafficClass, TrafficClassOptions> trafficClasses;
+    private final TransportMetrics transportMetrics;
 
     private InfluxDBClientOptions(@Nonnull final InfluxDBClientOptions.Builder builder) {
 
         Arguments.checkNotNull(builder, "InfluxDBClientOptions.Builder");
 
         this.url = builder.url;
+        List<String> endpoints = new ArrayList<>();
+        endpoints.add(builder.url);
+        endpoints.addAll(builder.endpoints);
+        this.endpoints = Collections.unmodifiableList(endpoints);
+        this.loadBalancer = builder.loadBalancer;
+        this.healthCheckInterval = builder.healthCheckInterval;
+        this.maxEndpointFailures = builder.maxEndpointFailures;
         this.okHttpClient = builder.okHttpClient;
         this.logLevel = builder.logLevel;
         this.authScheme = builder.authScheme;
@@ -80,6 +110,17 @@ public final class InfluxDBClientOptions {
         this.org = builder.org;
         this.bucket = builder.bucket;
         this.pointSettings = builder.pointSettings;
+        this.virtualThreads = builder.virtualThreads;
+        this.writeMetrics = builder.writeMetrics;
+        this.queryListener = builder.queryListener;
+        this.httpProtocol = builder.httpProtocol;
+        this.maxRequests = builder.maxRequests;
+        this.maxRequestsPerHost = builder.maxRequestsPerHost;
+        this.maxIdleConnections = builder.maxIdleConnections;
+        this.keepAlive = builder.keepAlive;
+        this.separateQueryConnectionPool = builder.separateQueryConnectionPool;
+        this.trafficClasses = Collections.unmodifiableMap(new EnumMap<>(builder.trafficClasses));
+        this.transportMetrics = builder.transportMetrics;
     }
 
     /**
@@ -98,6 +139,51 @@ public final class InfluxDBClientOptions {
         TOKEN
     }
 
+    /**
+     * The version of HTTP protocol used to communicate with InfluxDB.
+     */
+    public enum HttpProtocol {
+
+        /**
+         * HTTP/1.1 only.
+         */
+        HTTP_1_1,
+
+        /**
+         * HTTP/2 negotiated by ALPN over TLS with fallback to HTTP/1.1.
+         */
+        HTTP_2,
+
+        /**
+         * Cleartext HTTP/2 without the upgrade, the server (or local proxy) has to support HTTP/2 with
+         * prior knowledge.
+         */
+        H2C
+    }
+
+    /**
+     * The class of HTTP traffic that could use the dedicated connection pool, dispatcher and timeouts.
+     *
+     * @see InfluxDBClientOptions.Builder#trafficClass(TrafficClass, TrafficClassOptions)
+     */
+    public enum TrafficClass {
+
+        /**
+         * The writes of {@code WriteApi}, {@code WriteApiBlocking}, {@code WriteApiAsync} and {@code ImportApi}.
+         */
+        WRITE,
+
+        /**
+         * The queries of {@code QueryApi}.
+         */
+        QUERY,
+
+        /**
+         * The management APIs - buckets, organizations, tasks, ...
+         */
+        MANAGEMENT
+    }
+
     /**
      * @return the url to connect to InfluxDB
      * @see InfluxDBClientOptions.Builder#url(String)
@@ -107,6 +193,41 @@ public final class InfluxDBClientOptions {
         return url;
     }
 
+    /**
+     * @return the urls of all InfluxDB nodes, the first is the {@link #getUrl() url}
+     * @see InfluxDBClientOptions.Builder#urls(List)
+     */
+    @Nonnull
+    public List<String> getEndpoints() {
+        return endpoints;
+    }
+
+    /**
+     * @return the strategy how to distribute requests across the InfluxDB nodes
+     * @see InfluxDBClientOptions.Builder#loadBalancer(LoadBalancer)
+     */
+    @Nonnull
+    public LoadBalancer getLoadBalancer() {
+        return loadBalancer;
+    }
+
+    /**
+     * @return the interval of health checks of the InfluxDB nodes
+     * @see InfluxDBClientOptions.Builder#endpointHealthCheck(Duration, int)
+     */
+    @Nonnull
+    public Duration getHealthCheckInterval() {
+        return healthCheckInterval;
+    }
+
+    /**
+     * @return the number of consecutive connection failures to eject the InfluxDB node from the load balancing
+     * @see InfluxDBClientOptions.Builder#endpointHealthCheck(Duration, int)
+     */
+    public int getMaxEndpointFailures() {
+        return maxEndpointFailures;
+    }
+
     /**
      * @return HTTP client to use for communication with InfluxDB
      * @see InfluxDBClientOptions.Builder#okHttpClient(OkHttpClient.Builder)
@@ -191,6 +312,108 @@ public final class InfluxDBClientOptions {
         return pointSettings;
     }
 
+    /**
+     * @return {@code true} if the HTTP dispatcher and the write schedulers use virtual threads
+     * @see InfluxDBClientOptions.Builder#virtualThreads(boolean)
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * @return the metrics of the batching writes
+     * @see InfluxDBClientOptions.Builder#writeMetrics(WriteMetrics)
+     */
+    @Nonnull
+    public WriteMetrics getWriteMetrics() {
+        return writeMetrics;
+    }
+
+    /**
+     * @return the listener of finished queries
+     * @see InfluxDBClientOptions.Builder#queryListener(QueryListener)
+     */
+    @Nonnull
+    public QueryListener getQueryListener() {
+        return queryListener;
+    }
+
+    /**
+     * @return the version of HTTP protocol or {@code null} to use the protocols of
+     * {@link #getOkHttpClient() HTTP client}
+     * @see InfluxDBClientOptions.Builder#httpProtocol(HttpProtocol)
+     */
+    @Nullable
+    public HttpProtocol getHttpProtocol() {
+        return httpProtocol;
+    }
+
+    /**
+     * @return the maximum number of asynchronous requests to execute concurrently or {@code null} to use
+     * the limit of {@link #getOkHttpClient() HTTP client}
+     * @see InfluxDBClientOptions.Builder#maxRequests(int)
+     */
+    @Nullable
+    public Integer getMaxRequests() {
+        return maxRequests;
+    }
+
+    /**
+     * @return the maximum number of asynchronous requests to execute concurrently for the InfluxDB host
+     * or {@code null} to use the limit of {@link #getOkHttpClient() HTTP client}
+     * @see InfluxDBClientOptions.Builder#maxRequestsPerHost(int)
+     */
+    @Nullable
+    public Integer getMaxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+
+    /**
+     * @return the maximum number of idle connections in the connection pool or {@code null} to use
+     * the connection pool of {@link #getOkHttpClient() HTTP client}
+     * @see InfluxDBClientOptions.Builder#connectionPool(int, Duration)
+     */
+    @Nullable
+    public Integer getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    /**
+     * @return the time to keep idle connections in the connection pool or {@code null} to use
+     * the connection pool of {@link #getOkHttpClient() HTTP client}
+     * @see InfluxDBClientOptions.Builder#connectionPool(int, Duration)
+     */
+    @Nullable
+    public Duration getKeepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * @return {@code true} if the queries use their own connection pool and dispatcher
+     * @see InfluxDBClientOptions.Builder#separateQueryConnectionPool(boolean)
+     */
+    public boolean isSeparateQueryConnectionPool() {
+        return separateQueryConnectionPool;
+    }
+
+    /**
+     * @return the options of traffic classes that use the dedicated HTTP lanes
+     * @see InfluxDBClientOptions.Builder#trafficClass(TrafficClass, TrafficClassOptions)
+     */
+    @Nonnull
+    public Map<TrafficClass, TrafficClassOptions> getTrafficClasses() {
+        return trafficClasses;
+    }
+
+    /**
+     * @return the metrics of HTTP transport
+     * @see InfluxDBClientOptions.Builder#transportMetrics(TransportMetrics)
+     */
+    @Nonnull
+    public TransportMetrics getTransportMetrics() {
+        return transportMetrics;
+    }
+
     /**
      * Creates a builder instance.
      *
@@ -208,6 +431,10 @@ public final class InfluxDBClientOptions {
     public static class Builder {
 
         private String url;
+        private final List<String> endpoints = new ArrayList<>();
+        private LoadBalancer loadBalancer;
+        private Duration healthCheckInterval = DEFAULT_HEALTH_CHECK_INTERVAL;
+        private int maxEndpointFailures = DEFAULT_MAX_ENDPOINT_FAILURES;
         private OkHttpClient.Builder okHttpClient;
         private LogLevel logLevel;
 
@@ -220,6 +447,17 @@ public final class InfluxDBClientOptions {
         private String bucket;
 
         private PointSettings pointSettings = new PointSettings();
+        private boolean virtualThreads;
+        private WriteMetrics writeMetrics = WriteMetrics.NOOP;
+        private QueryListener queryListener = QueryListener.NOOP;
+        private HttpProtocol httpProtocol;
+        private Integer maxRequests;
+        private Integer maxRequestsPerHost;
+        private Integer maxIdleConnections;
+        private Duration keepAlive;
+        private boolean separateQueryConnectionPool;
+        private final Map<TrafficClass, TrafficClassOptions> trafficClasses = new EnumMap<>(TrafficClass.class);
+        private TransportMetrics transportMetrics = TransportMetrics.NOOP;
 
         /**
          * Set the url to connect to InfluxDB.
@@ -236,8 +474,81 @@ public final class InfluxDBClientOptions {
             return this;
         }
 
+        /**
+         * Set the urls of several InfluxDB nodes - InfluxDB Enterprise data nodes or relays. The first url
+         * is used as the {@link #url(String)}, the requests are distributed across all nodes by the
+         * {@link #loadBalancer(LoadBalancer)}.
+         *
+         * @param urls the urls of InfluxDB nodes. It must contain at least one url.
+         * @return {@code this}
+         */
+        @Nonnull
+        public InfluxDBClientOptions.Builder urls(@Nonnull final List<String> urls) {
+
+            Arguments.checkNotNull(urls, "urls");
+            if (urls.isEmpty()) {
+                throw new IllegalArgumentException("Expecting at least one url");
+            }
+
+            url(urls.get(0));
+            this.endpoints.clear();
+            urls.stream().skip(1).forEach(it -> {
+                Arguments.checkNonEmpty(it, "url");
+                this.endpoints.add(new ParsedUrl(it).urlWithoutParams);
+            });
+
+            return this;
+        }
+
+        /**
+         * Set the strategy how to distribute the requests across the InfluxDB nodes configured by
+         * {@link #urls(List)}. The default is {@link LoadBalancer#roundRobin()}.
+         *
+         * @param loadBalancer the load balancer
+         * @return {@code this}
+         */
+        @Nonnull
+        public InfluxDBClientOptions.Builder loadBalancer(@Nonnull final LoadBalancer loadBalancer) {
+
+            Arguments.checkNotNull(loadBalancer, "LoadBalancer");
+
+            this.loadBalancer = loadBalancer;
+
+            return this;
+        }
+
+        /**
+         * Configure the ejection of unhealthy InfluxDB nodes configured by {@link #urls(List)}.
+         * <p>
+         * The node is ejected from the load balancing after {@code maxFailures} consecutive connection failures
+         * or by the failed health check. The health of all nodes is checked by {@code GET /ping} every
+         * {@code interval}. The default is to check every 10 seconds and eject node after 3 failures.
+         *
+         * @param interval    the interval of health checks
+         * @param maxFailures the number of consecutive connection failures to eject the node
+         * @return {@code this}
+         */
+        @Nonnull
+        public InfluxDBClientOptions.Builder endpointHealthCheck(@Nonnull final Duration interval,
+                                                                final int maxFailures) {
+
+            Arguments.checkNotNull(interval, "interval");
+            Arguments.checkPositiveNumber(interval.toMillis(), "interval");
+            Arguments.checkPositiveNumber(maxFailures, "maxFailures");
+
+            this.healthCheckInterval = interval;
+            this.maxEndpointFailures = maxFailures;
+
+            return this;
+        }
+
         /**
          * Set the HTTP client to use for communication with InfluxDB.
+         * <p>
+         * If the {@link #virtualThreads(boolean)} is enabled, the client uses a copy of the supplied builder with
+         * the dispatcher running calls in virtual threads. The supplied builder and its dispatcher are not modified.
+         * The limits of the dispatcher are configured by {@link #maxRequests(int)} and
+         * {@link #maxRequestsPerHost(int)}.
          *
          * @param okHttpClient the HTTP client to use.
          * @return {@code this}
@@ -366,6 +677,210 @@ public final class InfluxDBClientOptions {
             return this;
         }
 
+        /**
+         * Use the virtual threads for the asynchronous HTTP calls and for the default write scheduler.
+         * <p>
+         * The client uses a copy of the {@link #okHttpClient(OkHttpClient.Builder)} with the dispatcher that runs
+         * each call in a new virtual thread, so a dispatcher configured on the supplied builder is not used.
+         * The dispatcher allows 1024 concurrent requests in total and per host, the limits could be changed by
+         * {@link #maxRequests(int)} and {@link #maxRequestsPerHost(int)}. The {@code WriteApi} created with the default
+         * {@link WriteOptions.Builder#writeScheduler(io.reactivex.Scheduler)} uses the virtual threads for batching
+         * and retries. The virtual threads requires JDK 21+, the platform threads are used for older JVM.
+         *
+         * @param virtualThreads {@code true} to use the virtual threads
+         * @return {@code this}
+         */
+        @Nonnull
+        public InfluxDBClientOptions.Builder virtualThreads(final boolean virtualThreads) {
+
+            this.virtualThreads = virtualThreads;
+
+            return this;
+        }
+
+        /**
+         * Set the metrics of the batching writes. The metrics records the size of backpressure buffer, drops,
+         * size of batches, encoding time, latency of HTTP requests and retries of all {@code WriteApi}
+         * created by the client.
+         *
+         * @param writeMetrics the metrics implementation, default {@link WriteMetrics#NOOP}
+         * @return {@code this}
+         */
+        @Nonnull
+        public InfluxDBClientOptions.Builder writeMetrics(@Nonnull final WriteMetrics writeMetrics) {
+
+            Arguments.checkNotNull(writeMetrics, "WriteMetrics");
+
+            this.writeMetrics = writeMetrics;
+
+            return this;
+        }
+
+        /**
+         * Set the listener of finished queries. The listener is notified about the statistics - time to first
+         * byte, download and parse time, size of response and count of records - of every query
+         * performed by {@code QueryApi} or {@code QueryReactiveApi} created by the client.
+         *
+         * @param queryListener the listener, default {@link QueryListener#NOOP}
+         * @return {@code this}
+         */
+        @Nonnull
+        public InfluxDBClientOptions.Builder queryListener(@Nonnull final QueryListener queryListener) {
+
+            Arguments.checkNotNull(queryListener, "QueryListener");
+
+            this.queryListener = queryListener;
+
+            return this;
+        }
+
+        /**
+         * Set the version of HTTP protocol used to communicate with InfluxDB.
+         * <p>
+         * The default HTTP client uses {@link HttpProtocol#HTTP_1_1}. The {@link HttpProtocol#HTTP_2} multiplexes
+         * all requests over a single TLS connection and falls back to HTTP/1.1 if the server doesn't support it.
+         * The {@link HttpProtocol#H2C} is intended for a local proxy that accepts the cleartext HTTP/2.
+         *
+         * @param httpProtocol the version of HTTP protocol
+         * @return {@code this}
+         */
+        @Nonnull
+        public InfluxDBClientOptions.Builder httpProtocol(@Nonnull final HttpProtocol httpProtocol) {
+
+            Arguments.checkNotNull(httpProtocol, "HttpProtocol");
+
+            this.httpProtocol = httpProtocol;
+
+            return this;
+        }
+
+        /**
+         * Set the maximum number of asynchronous requests to execute concurrently. The requests above the limit
+         * wait in the queue of dispatcher. The default limit of OkHttp is 64.
+         *
+         * @param maxRequests the maximum number of concurrent requests
+         * @return {@code this}
+         */
+        @Nonnull
+        public InfluxDBClientOptions.Builder maxRequests(final int maxRequests) {
+
+            Arguments.checkPositiveNumber(maxRequests, "maxRequests");
+
+            this.maxRequests = maxRequests;
+
+            return this;
+        }
+
+        /**
+         * Set the maximum number of asynchronous requests to execute concurrently for the InfluxDB host.
+         * The default limit of OkHttp is 5, which is easily reached by the asynchronous writes and queries.
+         *
+         * @param maxRequestsPerHost the maximum number of concurrent requests for the host
+         * @return {@code this}
+         */
+        @Nonnull
+        public InfluxDBClientOptions.Builder maxRequestsPerHost(final int maxRequestsPerHost) {
+
+            Arguments.checkPositiveNumber(maxRequestsPerHost, "maxRequestsPerHost");
+
+            this.maxRequestsPerHost = maxRequestsPerHost;
+
+            return this;
+        }
+
+        /**
+         * Set the size of the keep-alive connection pool. The default pool of OkHttp keeps up to 5 idle
+         * connections for 5 minutes.
+         *
+         * @param maxIdleConnections the maximum number of idle connections
+         * @param keepAlive          the time to keep idle connection
+         * @return {@code this}
+         */
+        @Nonnull
+        public InfluxDBClientOptions.Builder connectionPool(final int maxIdleConnections,
+                                                           @Nonnull final Duration keepAlive) {
+
+            Arguments.checkNotNegativeNumber(maxIdleConnections, "maxIdleConnections");
+            Arguments.checkNotNull(keepAlive, "keepAlive");
+            Arguments.checkPositiveNumber(keepAlive.toMillis(), "keepAlive");
+
+            this.maxIdleConnections = maxIdleConnections;
+            this.keepAlive = keepAlive;
+
+            return this;
+        }
+
+        /**
+         * Use the separate connection pool and dispatcher for queries. The pool and the dispatcher use
+         * the same limits as the transport of other APIs, so the long-running query streams cannot exhaust
+         * connections and dispatcher slots needed by writes.
+         * <p>
+         * It is a shortcut for {@code trafficClass(TrafficClass.QUERY, TrafficClassOptions.DEFAULTS)}.
+         *
+         * @param separateQueryConnectionPool {@code true} to use the separate connection pool for queries
+         * @return {@code this}
+         */
+        @Nonnull
+        public InfluxDBClientOptions.Builder separateQueryConnectionPool(final boolean separateQueryConnectionPool) {
+
+            this.separateQueryConnectionPool = separateQueryConnectionPool;
+
+            return this;
+        }
+
+        /**
+         * Use the dedicated HTTP lane - connection pool, dispatcher and timeouts - for the class of traffic.
+         * <p>
+         * The lanes isolate the traffic classes, for example the multi-minute streaming queries cannot delay
+         * the time-critical writes and the queries could use the longer read timeout than writes:
+         * <pre>
+         * InfluxDBClientOptions options = InfluxDBClientOptions.builder()
+         *     .url("http://localhost:8086")
+         *     .trafficClass(TrafficClass.WRITE, TrafficClassOptions.builder()
+         *         .maxRequestsPerHost(16)
+         *         .readTimeout(Duration.ofSeconds(10))
+         *         .build())
+         *     .trafficClass(TrafficClass.QUERY, TrafficClassOptions.builder()
+         *         .maxRequestsPerHost(4)
+         *         .readTimeout(Duration.ofMinutes(5))
+         *         .build())
+         *     .build();
+         * </pre>
+         * The traffic classes without options share the default HTTP client.
+         *
+         * @param trafficClass the class of traffic
+         * @param options      the options of the dedicated lane
+         * @return {@code this}
+         */
+        @Nonnull
+        public InfluxDBClientOptions.Builder trafficClass(@Nonnull final TrafficClass trafficClass,
+                                                         @Nonnull final TrafficClassOptions options) {
+
+            Arguments.checkNotNull(trafficClass, "TrafficClass");
+            Arguments.checkNotNull(options, "TrafficClassOptions");
+
+            this.trafficClasses.put(trafficClass, options);
+
+            return this;
+        }
+
+        /**
+         * Set the metrics of HTTP transport. The metrics exposes the limits in effect and usage of
+         * the connection pools and dispatchers created by the client.
+         *
+         * @param transportMetrics the metrics implementation, default {@link TransportMetrics#NOOP}
+         * @return {@code this}
+         */
+        @Nonnull
+        public InfluxDBClientOptions.Builder transportMetrics(@Nonnull final TransportMetrics transportMetrics) {
+
+            Arguments.checkNotNull(transportMetrics, "TransportMetrics");
+
+            this.transportMetrics = transportMetrics;
+
+            return this;
+        }
+
         /**
          * Configure Builder via connection string.
          *
@@ -455,6 +970,10 @@ public final class InfluxDBClientOptions {
                 logLevel = LogLevel.NONE;
             }
 
+            if (loadBalancer == null) {
+                loadBalancer = LoadBalancer.roundRobin();
+            }
+
             return new InfluxDBClientOptions(this);
         }
 
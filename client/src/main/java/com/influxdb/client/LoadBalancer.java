@@ -0,0 +1,118 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * The strategy how to choose the InfluxDB node for the request.
+ *
+ * @see InfluxDBClientOptions.Builder#loadBalancer(LoadBalancer)
+ */
+@ThreadSafe
+@FunctionalInterface
+public interface LoadBalancer {
+
+    /**
+     * Select the node for the request.
+     *
+     * @param endpoints the healthy nodes, or all not yet tried nodes if there isn't any healthy node;
+     *                  the list is never empty
+     * @return the one of {@code endpoints}
+     */
+    @Nonnull
+    Endpoint select(@Nonnull List<Endpoint> endpoints);
+
+    /**
+     * @return the load balancer that rotates the requests across the nodes
+     */
+    @Nonnull
+    static LoadBalancer roundRobin() {
+
+        AtomicInteger next = new AtomicInteger();
+
+        return endpoints -> endpoints.get(Math.floorMod(next.getAndIncrement(), endpoints.size()));
+    }
+
+    /**
+     * @return the load balancer that chooses the node with the least number of in-flight requests,
+     * the ties are broken randomly
+     */
+    @Nonnull
+    static LoadBalancer leastInFlight() {
+
+        return endpoints -> {
+            int offset = ThreadLocalRandom.current().nextInt(endpoints.size());
+
+            Endpoint selected = null;
+            for (int i = 0; i < endpoints.size(); i++) {
+                Endpoint endpoint = endpoints.get((offset + i) % endpoints.size());
+                if (selected == null || endpoint.getInFlight() < selected.getInFlight()) {
+                    selected = endpoint;
+                }
+            }
+
+            return selected;
+        };
+    }
+
+    /**
+     * @return the load balancer that chooses the node randomly with the probability inversely proportional
+     * to its {@link Endpoint#getLatency() latency}; the nodes without latency are weighted as the fastest node
+     */
+    @Nonnull
+    static LoadBalancer latencyWeighted() {
+
+        return endpoints -> {
+            long fastest = endpoints.stream()
+                    .map(Endpoint::getLatency)
+                    .filter(Objects::nonNull)
+                    .min(Comparator.naturalOrder())
+                    .map(latency -> Math.max(latency.toNanos(), 1))
+                    .orElse(1L);
+
+            double[] weights = new double[endpoints.size()];
+            double total = 0;
+            for (int i = 0; i < endpoints.size(); i++) {
+                Duration latency = endpoints.get(i).getLatency();
+                total += 1.0 / (latency != null ? Math.max(latency.toNanos(), 1) : fastest);
+                weights[i] = total;
+            }
+
+            double random = ThreadLocalRandom.current().nextDouble(total);
+            for (int i = 0; i < weights.length; i++) {
+                if (random < weights[i]) {
+                    return endpoints.get(i);
+                }
+            }
+
+            return endpoints.get(endpoints.size() - 1);
+        };
+    }
+}
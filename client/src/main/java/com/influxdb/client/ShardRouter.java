@@ -0,0 +1,76 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.influxdb.client.write.Point;
+
+/**
+ * The strategy how to route the data of {@link ShardedWriteApi} into shards.
+ * <p>
+ * The router is called for every written point or record, so it is supposed to be cheap -
+ * the returned name of shard is mapped to the destination by one hash lookup.
+ *
+ * @see InfluxDBClient#makeShardedWriteApi(WriteOptions, ShardRouter, java.util.List)
+ */
+@ThreadSafe
+public interface ShardRouter {
+
+    /**
+     * Route the point. The measurement POJOs are routed as the {@link Point}.
+     *
+     * @param point the data point
+     * @return the name of shard or {@code null} to use the default shard
+     */
+    @Nullable
+    String route(@Nonnull Point point);
+
+    /**
+     * Route the record in Line Protocol.
+     *
+     * @param record the record in Line Protocol
+     * @return the name of shard or {@code null} to use the default shard
+     */
+    @Nullable
+    String route(@Nonnull String record);
+
+    /**
+     * @param tag the tag name
+     * @return the router that uses the value of {@code tag} as the name of shard;
+     * the records are routed by the series key without parsing fields
+     */
+    @Nonnull
+    static ShardRouter byTag(@Nonnull final String tag) {
+        return new ShardRouters.ByTag(tag);
+    }
+
+    /**
+     * @return the router that uses the measurement name as the name of shard
+     */
+    @Nonnull
+    static ShardRouter byMeasurement() {
+        return ShardRouters.BY_MEASUREMENT;
+    }
+}
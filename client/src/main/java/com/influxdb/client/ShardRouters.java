@@ -0,0 +1,145 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.influxdb.Arguments;
+import com.influxdb.client.write.Point;
+
+/**
+ * The built-in {@link ShardRouter}s.
+ */
+final class ShardRouters {
+
+    static final ShardRouter BY_MEASUREMENT = new ShardRouter() {
+        @Nonnull
+        @Override
+        public String route(@Nonnull final Point point) {
+            return point.getName();
+        }
+
+        @Nonnull
+        @Override
+        public String route(@Nonnull final String record) {
+            return unescape(record, 0, endOfKey(record, 0));
+        }
+    };
+
+    private ShardRouters() {
+    }
+
+    static final class ByTag implements ShardRouter {
+
+        private final String tag;
+
+        ByTag(@Nonnull final String tag) {
+
+            Arguments.checkNonEmpty(tag, "tag");
+
+            this.tag = tag;
+        }
+
+        @Nullable
+        @Override
+        public String route(@Nonnull final Point point) {
+            return point.getTag(tag);
+        }
+
+        @Nullable
+        @Override
+        public String route(@Nonnull final String record) {
+
+            int index = endOfKey(record, 0);
+            while (index < record.length() && record.charAt(index) == ',') {
+                int keyEnd = index + 1;
+                while (keyEnd < record.length() && record.charAt(keyEnd) != '=') {
+                    keyEnd += record.charAt(keyEnd) == '\\' ? 2 : 1;
+                }
+                if (keyEnd >= record.length()) {
+                    return null;
+                }
+                int valueEnd = endOfKey(record, keyEnd + 1);
+                if (unescapedEquals(record, index + 1, keyEnd, tag)) {
+                    return unescape(record, keyEnd + 1, valueEnd);
+                }
+                index = valueEnd;
+            }
+
+            return null;
+        }
+    }
+
+    /**
+     * @return the index of first unescaped comma or space
+     */
+    private static int endOfKey(@Nonnull final String record, final int start) {
+        int index = start;
+        while (index < record.length()) {
+            char c = record.charAt(index);
+            if (c == ',' || c == ' ') {
+                break;
+            }
+            index += c == '\\' ? 2 : 1;
+        }
+        return Math.min(index, record.length());
+    }
+
+    /**
+     * @return {@code true} if the unescaped part of record is equal to the value, without allocating the part
+     */
+    private static boolean unescapedEquals(@Nonnull final String record,
+                                           final int start,
+                                           final int end,
+                                           @Nonnull final String value) {
+        int index = 0;
+        for (int i = start; i < end; i++, index++) {
+            char c = record.charAt(i);
+            if (c == '\\' && i + 1 < end) {
+                c = record.charAt(++i);
+            }
+            if (index >= value.length() || value.charAt(index) != c) {
+                return false;
+            }
+        }
+        return index == value.length();
+    }
+
+    @Nonnull
+    private static String unescape(@Nonnull final String record, final int start, final int end) {
+        int escape = record.indexOf('\\', start);
+        if (escape < 0 || escape >= end) {
+            return record.substring(start, end);
+        }
+
+        StringBuilder sb = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            char c = record.charAt(i);
+            if (c == '\\' && i + 1 < end) {
+                c = record.charAt(++i);
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+}
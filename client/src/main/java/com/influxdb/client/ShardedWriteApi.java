@@ -0,0 +1,121 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client;
+
+import java.util.List;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.influxdb.client.domain.WritePrecision;
+import com.influxdb.client.write.Point;
+import com.influxdb.client.write.WriteDestination;
+import com.influxdb.client.write.events.AbstractWriteEvent;
+import com.influxdb.client.write.events.EventListener;
+import com.influxdb.client.write.events.ListenerRegistration;
+
+/**
+ * The asynchronous non-blocking API to Write time-series data into several shards - buckets, organizations
+ * or InfluxDB servers.
+ * <p>
+ * Every written point or record is routed by {@link ShardRouter} into the shard
+ * ({@link WriteDestination}) with the same name. The data without shard or with unknown shard are written
+ * into the default shard - the first one. Every shard has own batching pipeline configured by {@link WriteOptions}
+ * and the data are encoded into Line Protocol only once.
+ *
+ * @see InfluxDBClient#makeShardedWriteApi(WriteOptions, ShardRouter, List)
+ */
+@ThreadSafe
+public interface ShardedWriteApi extends AutoCloseable {
+
+    /**
+     * Write Line Protocol record into the shard.
+     *
+     * @param precision specifies the precision for the unix timestamps within the body line-protocol
+     * @param record    specifies the record in InfluxDB Line Protocol.
+     *                  The {@code record} is considered as one batch unit.
+     */
+    void writeRecord(@Nonnull final WritePrecision precision, @Nullable final String record);
+
+    /**
+     * Write Line Protocol records into the shards.
+     *
+     * @param precision specifies the precision for the unix timestamps within the body line-protocol
+     * @param records   specifies the records in InfluxDB Line Protocol
+     */
+    void writeRecords(@Nonnull final WritePrecision precision, @Nonnull final List<String> records);
+
+    /**
+     * Write a Data point into the shard.
+     *
+     * @param point specifies the Data point to write into bucket
+     */
+    void writePoint(@Nullable final Point point);
+
+    /**
+     * Write Data points into the shards.
+     *
+     * @param points specifies the Data points to write into bucket
+     */
+    void writePoints(@Nonnull final List<Point> points);
+
+    /**
+     * Write a Measurement into the shard.
+     *
+     * @param precision   specifies the precision for the unix timestamps within the body line-protocol
+     * @param measurement specifies the Measurement to write into bucket
+     * @param <M>         measurement type
+     */
+    <M> void writeMeasurement(@Nonnull final WritePrecision precision, @Nullable final M measurement);
+
+    /**
+     * Write Measurements into the shards.
+     *
+     * @param precision    specifies the precision for the unix timestamps within the body line-protocol
+     * @param measurements specifies Measurements to write into bucket
+     * @param <M>          measurement type
+     */
+    <M> void writeMeasurements(@Nonnull final WritePrecision precision, @Nonnull final List<M> measurements);
+
+    /**
+     * Listen the events produced by all shards.
+     *
+     * @param eventType type of event to listen
+     * @param <T>       type of event to listen
+     * @param listener  the listener to listen events
+     * @return lister for {@code eventType} events
+     * @see WriteApi#listenEvents(Class, EventListener)
+     */
+    @Nonnull
+    <T extends AbstractWriteEvent> ListenerRegistration listenEvents(@Nonnull final Class<T> eventType,
+                                                                     @Nonnull final EventListener<T> listener);
+
+    /**
+     * Forces the client to flush all pending writes of all shards.
+     */
+    void flush();
+
+    /**
+     * Close threads for asynchronous batch writing of all shards.
+     */
+    void close();
+}
@@ -0,0 +1,213 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client;
+
+import java.time.Duration;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.influxdb.Arguments;
+
+/**
+ * TrafficClassOptions are used to configure the dedicated HTTP lane of one
+ * {@link InfluxDBClientOptions.TrafficClass traffic class} - writes, queries or management calls.
+ *
+ * <p>
+ * Every configured traffic class uses its own connection pool and dispatcher, so the calls of one class
+ * cannot exhaust the connections and the dispatcher slots of others. The options that are not set are inherited
+ * from the {@link InfluxDBClientOptions}.
+ */
+@ThreadSafe
+public final class TrafficClassOptions {
+
+    /**
+     * Dedicated lane that inherits all limits and timeouts from the {@link InfluxDBClientOptions}.
+     */
+    public static final TrafficClassOptions DEFAULTS = TrafficClassOptions.builder().build();
+
+    private final Integer maxRequests;
+    private final Integer maxRequestsPerHost;
+    private final Duration readTimeout;
+    private final Duration writeTimeout;
+    private final Duration callTimeout;
+
+    private TrafficClassOptions(@Nonnull final Builder builder) {
+
+        Arguments.checkNotNull(builder, "TrafficClassOptions.Builder");
+
+        this.maxRequests = builder.maxRequests;
+        this.maxRequestsPerHost = builder.maxRequestsPerHost;
+        this.readTimeout = builder.readTimeout;
+        this.writeTimeout = builder.writeTimeout;
+        this.callTimeout = builder.callTimeout;
+    }
+
+    /**
+     * @return the maximum number of asynchronous requests of the class to execute concurrently or {@code null}
+     * to inherit the limit
+     * @see TrafficClassOptions.Builder#maxRequests(int)
+     */
+    @Nullable
+    public Integer getMaxRequests() {
+        return maxRequests;
+    }
+
+    /**
+     * @return the maximum number of asynchronous requests of the class to execute concurrently for the InfluxDB host
+     * or {@code null} to inherit the limit
+     * @see TrafficClassOptions.Builder#maxRequestsPerHost(int)
+     */
+    @Nullable
+    public Integer getMaxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+
+    /**
+     * @return the read timeout of the class or {@code null} to inherit the timeout
+     * @see TrafficClassOptions.Builder#readTimeout(Duration)
+     */
+    @Nullable
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    /**
+     * @return the write timeout of the class or {@code null} to inherit the timeout
+     * @see TrafficClassOptions.Builder#writeTimeout(Duration)
+     */
+    @Nullable
+    public Duration getWriteTimeout() {
+        return writeTimeout;
+    }
+
+    /**
+     * @return the timeout of the complete call of the class or {@code null} to inherit the timeout
+     * @see TrafficClassOptions.Builder#callTimeout(Duration)
+     */
+    @Nullable
+    public Duration getCallTimeout() {
+        return callTimeout;
+    }
+
+    /**
+     * Creates a builder instance.
+     *
+     * @return a builder
+     */
+    @Nonnull
+    public static TrafficClassOptions.Builder builder() {
+        return new TrafficClassOptions.Builder();
+    }
+
+    /**
+     * A builder for {@code TrafficClassOptions}.
+     */
+    @NotThreadSafe
+    public static class Builder {
+
+        private Integer maxRequests;
+        private Integer maxRequestsPerHost;
+        private Duration readTimeout;
+        private Duration writeTimeout;
+        private Duration callTimeout;
+
+        /**
+         * Set the maximum number of asynchronous requests of the class to execute concurrently.
+         *
+         * @param maxRequests the maximum number of concurrent requests
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder maxRequests(final int maxRequests) {
+            Arguments.checkPositiveNumber(maxRequests, "maxRequests");
+            this.maxRequests = maxRequests;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of asynchronous requests of the class to execute concurrently for the InfluxDB host.
+         *
+         * @param maxRequestsPerHost the maximum number of concurrent requests for the host
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder maxRequestsPerHost(final int maxRequestsPerHost) {
+            Arguments.checkPositiveNumber(maxRequestsPerHost, "maxRequestsPerHost");
+            this.maxRequestsPerHost = maxRequestsPerHost;
+            return this;
+        }
+
+        /**
+         * Set the maximum time of inactivity between two data packets of response. The streaming queries
+         * usually needs longer timeout than the short writes.
+         *
+         * @param readTimeout the read timeout, {@link Duration#ZERO} means no timeout
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder readTimeout(@Nonnull final Duration readTimeout) {
+            Arguments.checkNotNull(readTimeout, "readTimeout");
+            this.readTimeout = readTimeout;
+            return this;
+        }
+
+        /**
+         * Set the maximum time of inactivity between two data packets of request.
+         *
+         * @param writeTimeout the write timeout, {@link Duration#ZERO} means no timeout
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder writeTimeout(@Nonnull final Duration writeTimeout) {
+            Arguments.checkNotNull(writeTimeout, "writeTimeout");
+            this.writeTimeout = writeTimeout;
+            return this;
+        }
+
+        /**
+         * Set the timeout of the complete call - resolving DNS, connecting, writing the request body,
+         * server processing, and reading the response body.
+         *
+         * @param callTimeout the call timeout, {@link Duration#ZERO} means no timeout
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder callTimeout(@Nonnull final Duration callTimeout) {
+            Arguments.checkNotNull(callTimeout, "callTimeout");
+            this.callTimeout = callTimeout;
+            return this;
+        }
+
+        /**
+         * Build an instance of TrafficClassOptions.
+         *
+         * @return {@code TrafficClassOptions}
+         */
+        @Nonnull
+        public TrafficClassOptions build() {
+
+            return new TrafficClassOptions(this);
+        }
+    }
+}
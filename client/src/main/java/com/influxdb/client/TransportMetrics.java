@@ -0,0 +1,77 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * The metrics facade of the HTTP transport of the client.
+ * <p>
+ * The client binds the {@link TransportStatus} of every used HTTP transport - connection pool and dispatcher -
+ * when it is created and unbinds it when it is closed. The implementations adapt the limits in effect and actual
+ * usage of the transport into the meters of the library, see {@code influxdb-client-micrometer}.
+ * <p>
+ * The client configured with several InfluxDB nodes binds also the {@link Endpoint} of every node.
+ */
+@ThreadSafe
+public interface TransportMetrics {
+
+    /**
+     * The implementation that doesn't record anything.
+     */
+    TransportMetrics NOOP = new TransportMetrics() {
+    };
+
+    /**
+     * Bind the status of HTTP transport created by the client.
+     *
+     * @param status the status of transport
+     */
+    default void bindTransport(@Nonnull final TransportStatus status) {
+    }
+
+    /**
+     * Unbind the status of HTTP transport closed by the client.
+     *
+     * @param status the status of transport
+     */
+    default void unbindTransport(@Nonnull final TransportStatus status) {
+    }
+
+    /**
+     * Bind the InfluxDB node used by the client.
+     *
+     * @param endpoint the node
+     * @see InfluxDBClientOptions.Builder#urls(java.util.List)
+     */
+    default void bindEndpoint(@Nonnull final Endpoint endpoint) {
+    }
+
+    /**
+     * Unbind the InfluxDB node used by the closed client.
+     *
+     * @param endpoint the node
+     */
+    default void unbindEndpoint(@Nonnull final Endpoint endpoint) {
+    }
+}
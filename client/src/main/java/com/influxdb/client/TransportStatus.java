@@ -0,0 +1,186 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.influxdb.Arguments;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+/**
+ * The limits in effect and the actual usage of the HTTP transport used by the client.
+ * <p>
+ * The limits are read from the {@link okhttp3.Dispatcher} and the {@link okhttp3.ConnectionPool} of transport
+ * every time when they are requested, so the status reflects also changes done after the client was created.
+ */
+@ThreadSafe
+public final class TransportStatus {
+
+    /**
+     * The name of transport used by all APIs.
+     */
+    public static final String DEFAULT = "default";
+
+    /**
+     * The name of dedicated transport of {@link InfluxDBClientOptions.TrafficClass#WRITE}.
+     *
+     * @see InfluxDBClientOptions.Builder#trafficClass(InfluxDBClientOptions.TrafficClass, TrafficClassOptions)
+     */
+    public static final String WRITE = "write";
+
+    /**
+     * The name of dedicated transport of {@link InfluxDBClientOptions.TrafficClass#QUERY}.
+     *
+     * @see InfluxDBClientOptions.Builder#trafficClass(InfluxDBClientOptions.TrafficClass, TrafficClassOptions)
+     * @see InfluxDBClientOptions.Builder#separateQueryConnectionPool(boolean)
+     */
+    public static final String QUERY = "query";
+
+    /**
+     * The name of dedicated transport of {@link InfluxDBClientOptions.TrafficClass#MANAGEMENT}.
+     *
+     * @see InfluxDBClientOptions.Builder#trafficClass(InfluxDBClientOptions.TrafficClass, TrafficClassOptions)
+     */
+    public static final String MANAGEMENT = "management";
+
+    private final String name;
+    private final OkHttpClient okHttpClient;
+    private final int maxIdleConnections;
+    private final Duration keepAlive;
+
+    /**
+     * @param name               the name of transport
+     * @param okHttpClient       the HTTP client of transport
+     * @param maxIdleConnections the maximum number of idle connections in the connection pool
+     * @param keepAlive          the time to keep idle connections in the connection pool
+     */
+    public TransportStatus(@Nonnull final String name,
+                           @Nonnull final OkHttpClient okHttpClient,
+                           final int maxIdleConnections,
+                           @Nonnull final Duration keepAlive) {
+
+        Arguments.checkNonEmpty(name, "name");
+        Arguments.checkNotNull(okHttpClient, "OkHttpClient");
+        Arguments.checkNotNull(keepAlive, "keepAlive");
+
+        this.name = name;
+        this.okHttpClient = okHttpClient;
+        this.maxIdleConnections = maxIdleConnections;
+        this.keepAlive = keepAlive;
+    }
+
+    /**
+     * @return the name of transport: {@link #DEFAULT}, {@link #WRITE}, {@link #QUERY} or {@link #MANAGEMENT}
+     */
+    @Nonnull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the protocols of transport in the order of preference, for example {@code [h2, http/1.1]}
+     */
+    @Nonnull
+    public List<String> getProtocols() {
+        return okHttpClient.protocols().stream().map(Protocol::toString).collect(Collectors.toList());
+    }
+
+    /**
+     * @return the maximum number of asynchronous requests to execute concurrently
+     */
+    public int getMaxRequests() {
+        return okHttpClient.dispatcher().getMaxRequests();
+    }
+
+    /**
+     * @return the maximum number of asynchronous requests for each host to execute concurrently
+     */
+    public int getMaxRequestsPerHost() {
+        return okHttpClient.dispatcher().getMaxRequestsPerHost();
+    }
+
+    /**
+     * @return the number of running requests
+     */
+    public int getRunningCalls() {
+        return okHttpClient.dispatcher().runningCallsCount();
+    }
+
+    /**
+     * @return the number of asynchronous requests waiting for a free slot in the dispatcher
+     */
+    public int getQueuedCalls() {
+        return okHttpClient.dispatcher().queuedCallsCount();
+    }
+
+    /**
+     * @return the maximum number of idle connections in the connection pool
+     */
+    public int getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    /**
+     * @return the time to keep idle connections in the connection pool
+     */
+    @Nonnull
+    public Duration getKeepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * @return the number of all connections in the connection pool
+     */
+    public int getConnections() {
+        return okHttpClient.connectionPool().connectionCount();
+    }
+
+    /**
+     * @return the number of idle connections in the connection pool
+     */
+    public int getIdleConnections() {
+        return okHttpClient.connectionPool().idleConnectionCount();
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", TransportStatus.class.getSimpleName() + "[", "]")
+                .add("name='" + name + "'")
+                .add("protocols=" + getProtocols())
+                .add("maxRequests=" + getMaxRequests())
+                .add("maxRequestsPerHost=" + getMaxRequestsPerHost())
+                .add("runningCalls=" + getRunningCalls())
+                .add("queuedCalls=" + getQueuedCalls())
+                .add("maxIdleConnections=" + maxIdleConnections)
+                .add("keepAlive=" + keepAlive)
+                .add("connections=" + getConnections())
+                .add("idleConnections=" + getIdleConnections())
+                .toString();
+    }
+}
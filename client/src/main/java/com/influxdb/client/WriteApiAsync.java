@@ -0,0 +1,236 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.influxdb.client.domain.WritePrecision;
+import com.influxdb.client.write.Point;
+import com.influxdb.client.write.WriteResult;
+import com.influxdb.exceptions.InfluxException;
+
+/**
+ * The asynchronous non-blocking API to Write time-series data into InfluxDB 2.0.
+ * <p>
+ * The data are formatted in <a href="https://bit.ly/line-protocol">Line Protocol</a>.
+ * <p>
+ * Every call is written as one batch by the asynchronous HTTP client - no thread is held for the in-flight write.
+ * The returned {@link CompletableFuture} is completed by the {@link WriteResult} when the batch is acknowledged
+ * by InfluxDB or exceptionally by {@link InfluxException} when the write fails. The retriable errors
+ * are retried accordingly to {@link WriteOptions#getMaxRetries()}, {@link WriteOptions#getRetryInterval()}
+ * and {@link WriteOptions#getMaxRetryTime()}. The cancellation of the future cancels the in-flight request.
+ * <p>
+ * The callbacks of the returned future are executed on the threads of HTTP client, so they should not block.
+ */
+@ThreadSafe
+public interface WriteApiAsync {
+
+    /**
+     * Write Line Protocol record into specified bucket.
+     *
+     * <p>
+     * The {@link InfluxDBClientOptions#getBucket()} will be use as destination bucket
+     * and {@link InfluxDBClientOptions#getOrg()} will be used as destination organization.
+     * </p>
+     *
+     * @param precision specifies the precision for the unix timestamps within the body line-protocol
+     * @param record    specifies the record in InfluxDB Line Protocol.
+     *                  The {@code record} is considered as one batch unit.
+     * @return the future completed when the record is acknowledged by InfluxDB
+     */
+    @Nonnull
+    CompletableFuture<WriteResult> writeRecord(@Nonnull final WritePrecision precision,
+                                               @Nullable final String record);
+
+    /**
+     * Write Line Protocol record into specified bucket.
+     *
+     * @param bucket    specifies the destination bucket for writes
+     * @param org       specifies the destination organization for writes
+     * @param precision specifies the precision for the unix timestamps within the body line-protocol
+     * @param record    specifies the record in InfluxDB Line Protocol.
+     *                  The {@code record} is considered as one batch unit.
+     * @return the future completed when the record is acknowledged by InfluxDB
+     */
+    @Nonnull
+    CompletableFuture<WriteResult> writeRecord(@Nonnull final String bucket,
+                                               @Nonnull final String org,
+                                               @Nonnull final WritePrecision precision,
+                                               @Nullable final String record);
+
+    /**
+     * Write Line Protocol records into specified bucket.
+     *
+     * <p>
+     * The {@link InfluxDBClientOptions#getBucket()} will be use as destination bucket
+     * and {@link InfluxDBClientOptions#getOrg()} will be used as destination organization.
+     * </p>
+     *
+     * @param precision specifies the precision for the unix timestamps within the body line-protocol
+     * @param records   specifies the records in InfluxDB Line Protocol
+     * @return the future completed when the records are acknowledged by InfluxDB
+     */
+    @Nonnull
+    CompletableFuture<WriteResult> writeRecords(@Nonnull final WritePrecision precision,
+                                                @Nonnull final List<String> records);
+
+    /**
+     * Write Line Protocol records into specified bucket.
+     *
+     * @param bucket    specifies the destination bucket for writes
+     * @param org       specifies the destination organization for writes
+     * @param precision specifies the precision for the unix timestamps within the body line-protocol
+     * @param records   specifies the records in InfluxDB Line Protocol
+     * @return the future completed when the records are acknowledged by InfluxDB
+     */
+    @Nonnull
+    CompletableFuture<WriteResult> writeRecords(@Nonnull final String bucket,
+                                                @Nonnull final String org,
+                                                @Nonnull final WritePrecision precision,
+                                                @Nonnull final List<String> records);
+
+    /**
+     * Write Data point into specified bucket.
+     *
+     * <p>
+     * The {@link InfluxDBClientOptions#getBucket()} will be use as destination bucket
+     * and {@link InfluxDBClientOptions#getOrg()} will be used as destination organization.
+     * </p>
+     *
+     * @param point specifies the Data point to write into bucket
+     * @return the future completed when the point is acknowledged by InfluxDB
+     */
+    @Nonnull
+    CompletableFuture<WriteResult> writePoint(@Nullable final Point point);
+
+    /**
+     * Write Data point into specified bucket.
+     *
+     * @param bucket specifies the destination bucket for writes
+     * @param org    specifies the destination organization for writes
+     * @param point  specifies the Data point to write into bucket
+     * @return the future completed when the point is acknowledged by InfluxDB
+     */
+    @Nonnull
+    CompletableFuture<WriteResult> writePoint(@Nonnull final String bucket,
+                                              @Nonnull final String org,
+                                              @Nullable final Point point);
+
+    /**
+     * Write Data points into specified bucket.
+     *
+     * <p>
+     * The {@link InfluxDBClientOptions#getBucket()} will be use as destination bucket
+     * and {@link InfluxDBClientOptions#getOrg()} will be used as destination organization.
+     * </p>
+     *
+     * @param points specifies the Data points to write into bucket. The points are written by one request
+     *               per precision and the returned {@link WriteResult} sums the results of these requests
+     * @return the future completed when all points are acknowledged by InfluxDB
+     */
+    @Nonnull
+    CompletableFuture<WriteResult> writePoints(@Nonnull final List<Point> points);
+
+    /**
+     * Write Data points into specified bucket.
+     *
+     * @param bucket specifies the destination bucket for writes
+     * @param org    specifies the destination organization for writes
+     * @param points specifies the Data points to write into bucket. The points are written by one request
+     *               per precision and the returned {@link WriteResult} sums the results of these requests
+     * @return the future completed when all points are acknowledged by InfluxDB
+     */
+    @Nonnull
+    CompletableFuture<WriteResult> writePoints(@Nonnull final String bucket,
+                                               @Nonnull final String org,
+                                               @Nonnull final List<Point> points);
+
+    /**
+     * Write Measurement into specified bucket.
+     *
+     * <p>
+     * The {@link InfluxDBClientOptions#getBucket()} will be use as destination bucket
+     * and {@link InfluxDBClientOptions#getOrg()} will be used as destination organization.
+     * </p>
+     *
+     * @param precision   specifies the precision for the unix timestamps within the body line-protocol
+     * @param measurement specifies the Measurement to write into bucket
+     * @param <M>         measurement type
+     * @return the future completed when the measurement is acknowledged by InfluxDB
+     */
+    @Nonnull
+    <M> CompletableFuture<WriteResult> writeMeasurement(@Nonnull final WritePrecision precision,
+                                                        @Nullable final M measurement);
+
+    /**
+     * Write Measurement into specified bucket.
+     *
+     * @param bucket      specifies the destination bucket for writes
+     * @param org         specifies the destination organization for writes
+     * @param precision   specifies the precision for the unix timestamps within the body line-protocol
+     * @param measurement specifies the Measurement to write into bucket
+     * @param <M>         measurement type
+     * @return the future completed when the measurement is acknowledged by InfluxDB
+     */
+    @Nonnull
+    <M> CompletableFuture<WriteResult> writeMeasurement(@Nonnull final String bucket,
+                                                        @Nonnull final String org,
+                                                        @Nonnull final WritePrecision precision,
+                                                        @Nullable final M measurement);
+
+    /**
+     * Write Measurements into specified bucket.
+     *
+     * <p>
+     * The {@link InfluxDBClientOptions#getBucket()} will be use as destination bucket
+     * and {@link InfluxDBClientOptions#getOrg()} will be used as destination organization.
+     * </p>
+     *
+     * @param precision    specifies the precision for the unix timestamps within the body line-protocol
+     * @param measurements specifies Measurements to write into bucket
+     * @param <M>          measurement type
+     * @return the future completed when the measurements are acknowledged by InfluxDB
+     */
+    @Nonnull
+    <M> CompletableFuture<WriteResult> writeMeasurements(@Nonnull final WritePrecision precision,
+                                                         @Nonnull final List<M> measurements);
+
+    /**
+     * Write Measurements into specified bucket.
+     *
+     * @param bucket       specifies the destination bucket for writes
+     * @param org          specifies the destination organization for writes
+     * @param precision    specifies the precision for the unix timestamps within the body line-protocol
+     * @param measurements specifies Measurements to write into bucket
+     * @param <M>          measurement type
+     * @return the future completed when the measurements are acknowledged by InfluxDB
+     */
+    @Nonnull
+    <M> CompletableFuture<WriteResult> writeMeasurements(@Nonnull final String bucket,
+                                                         @Nonnull final String org,
+                                                         @Nonnull final WritePrecision precision,
+                                                         @Nonnull final List<M> measurements);
+}
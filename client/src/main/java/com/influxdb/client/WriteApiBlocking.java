@@ -22,6 +22,7 @@
 package com.influxdb.client;
 
 import java.util.List;
+import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
@@ -286,4 +287,180 @@ public interface WriteApiBlocking {
                                @Nonnull final String org,
                                @Nonnull final WritePrecision precision,
                                @Nonnull final List<M> measurements) throws InfluxException;
-}
\ No newline at end of file
+
+    /**
+     * Write a stream of Line Protocol records into specified bucket.
+     *
+     * <p>
+     * The {@link InfluxDBClientOptions#getBucket()} will be use as destination bucket
+     * and {@link InfluxDBClientOptions#getOrg()} will be used as destination organization.
+     * </p>
+     *
+     * @param precision specifies the precision for the unix timestamps within the body line-protocol
+     * @param records   specifies the records in InfluxDB Line Protocol, see
+     *                  {@link #writeRecordsStream(String, String, WritePrecision, Stream, WriteStreamOptions)}
+     * @throws InfluxException if a problem occurred during write time-series data into InfluxDB
+     */
+    void writeRecordsStream(@Nonnull final WritePrecision precision,
+                            @Nonnull final Stream<String> records) throws InfluxException;
+
+    /**
+     * Write a stream of Line Protocol records into specified bucket.
+     *
+     * @param bucket    specifies the destination bucket for writes
+     * @param org       specifies the destination organization for writes
+     * @param precision specifies the precision for the unix timestamps within the body line-protocol
+     * @param records   specifies the records in InfluxDB Line Protocol, see
+     *                  {@link #writeRecordsStream(String, String, WritePrecision, Stream, WriteStreamOptions)}
+     * @throws InfluxException if a problem occurred during write time-series data into InfluxDB
+     */
+    void writeRecordsStream(@Nonnull final String bucket,
+                            @Nonnull final String org,
+                            @Nonnull final WritePrecision precision,
+                            @Nonnull final Stream<String> records) throws InfluxException;
+
+    /**
+     * Write a lazily consumed stream of Line Protocol records into specified bucket.
+     *
+     * <p>
+     * The records are consumed one by one and split into chunks by {@link WriteStreamOptions}. Every chunk is
+     * written by one request and the next chunk is encoded while the previous one is uploading, so the memory usage
+     * is bounded by the size of two chunks regardless of the size of the input. The {@code null} values are skipped.
+     * </p>
+     *
+     * <p>
+     * NOTE: This method directly write data info InfluxDB 2.0 without jittering and backpressure.
+     * The method blocks the executing thread until the whole input is written. The write is stopped by the first
+     * unsuccessful chunk, the preceding chunks stays written.
+     * </p>
+     *
+     * @param bucket        specifies the destination bucket for writes
+     * @param org           specifies the destination organization for writes
+     * @param precision     specifies the precision for the unix timestamps within the body line-protocol
+     * @param records       specifies the records in InfluxDB Line Protocol
+     * @param streamOptions specifies how to split the data into chunks
+     * @throws InfluxException if a problem occurred during write time-series data into InfluxDB
+     */
+    void writeRecordsStream(@Nonnull final String bucket,
+                            @Nonnull final String org,
+                            @Nonnull final WritePrecision precision,
+                            @Nonnull final Stream<String> records,
+                            @Nonnull final WriteStreamOptions streamOptions) throws InfluxException;
+
+    /**
+     * Write a stream of Data points into specified bucket.
+     *
+     * <p>
+     * The {@link InfluxDBClientOptions#getBucket()} will be use as destination bucket
+     * and {@link InfluxDBClientOptions#getOrg()} will be used as destination organization.
+     * </p>
+     *
+     * @param points specifies the Data points to write, see
+     *               {@link #writePointsStream(String, String, Stream, WriteStreamOptions)}
+     * @throws InfluxException if a problem occurred during write time-series data into InfluxDB
+     */
+    void writePointsStream(@Nonnull final Stream<Point> points) throws InfluxException;
+
+    /**
+     * Write a stream of Data points into specified bucket.
+     *
+     * @param bucket specifies the destination bucket for writes
+     * @param org    specifies the destination organization for writes
+     * @param points specifies the Data points to write, see
+     *               {@link #writePointsStream(String, String, Stream, WriteStreamOptions)}
+     * @throws InfluxException if a problem occurred during write time-series data into InfluxDB
+     */
+    void writePointsStream(@Nonnull final String bucket,
+                           @Nonnull final String org,
+                           @Nonnull final Stream<Point> points) throws InfluxException;
+
+    /**
+     * Write a lazily consumed stream of Data points into specified bucket.
+     *
+     * <p>
+     * The points are consumed one by one and split into chunks by {@link WriteStreamOptions}, the chunk is also
+     * closed when the precision of points changes. Every chunk is written by one request and the next chunk
+     * is encoded while the previous one is uploading, so the memory usage is bounded by the size of two chunks
+     * regardless of the size of the input. The {@code null} values are skipped.
+     * </p>
+     *
+     * <p>
+     * NOTE: This method directly write data info InfluxDB 2.0 without jittering and backpressure.
+     * The method blocks the executing thread until the whole input is written. The write is stopped by the first
+     * unsuccessful chunk, the preceding chunks stays written.
+     * </p>
+     *
+     * @param bucket        specifies the destination bucket for writes
+     * @param org           specifies the destination organization for writes
+     * @param points        specifies the Data points to write
+     * @param streamOptions specifies how to split the data into chunks
+     * @throws InfluxException if a problem occurred during write time-series data into InfluxDB
+     */
+    void writePointsStream(@Nonnull final String bucket,
+                           @Nonnull final String org,
+                           @Nonnull final Stream<Point> points,
+                           @Nonnull final WriteStreamOptions streamOptions) throws InfluxException;
+
+    /**
+     * Write a stream of Measurements into specified bucket.
+     *
+     * <p>
+     * The {@link InfluxDBClientOptions#getBucket()} will be use as destination bucket
+     * and {@link InfluxDBClientOptions#getOrg()} will be used as destination organization.
+     * </p>
+     *
+     * @param precision    specifies the precision for the unix timestamps within the body line-protocol
+     * @param measurements specifies the Measurements to write, see
+     *                     {@link #writeMeasurementsStream(String, String, WritePrecision, Stream, WriteStreamOptions)}
+     * @param <M>          measurement type
+     * @throws InfluxException if a problem occurred during write time-series data into InfluxDB
+     */
+    <M> void writeMeasurementsStream(@Nonnull final WritePrecision precision,
+                                     @Nonnull final Stream<M> measurements) throws InfluxException;
+
+    /**
+     * Write a stream of Measurements into specified bucket.
+     *
+     * @param bucket       specifies the destination bucket for writes
+     * @param org          specifies the destination organization for writes
+     * @param precision    specifies the precision for the unix timestamps within the body line-protocol
+     * @param measurements specifies the Measurements to write, see
+     *                     {@link #writeMeasurementsStream(String, String, WritePrecision, Stream, WriteStreamOptions)}
+     * @param <M>          measurement type
+     * @throws InfluxException if a problem occurred during write time-series data into InfluxDB
+     */
+    <M> void writeMeasurementsStream(@Nonnull final String bucket,
+                                     @Nonnull final String org,
+                                     @Nonnull final WritePrecision precision,
+                                     @Nonnull final Stream<M> measurements) throws InfluxException;
+
+    /**
+     * Write a lazily consumed stream of Measurements into specified bucket.
+     *
+     * <p>
+     * The Measurements annotated by {@link com.influxdb.annotations.Measurement} are consumed one by one and split
+     * into chunks by {@link WriteStreamOptions}. Every chunk is written by one request and the next chunk is encoded
+     * while the previous one is uploading, so the memory usage is bounded by the size of two chunks regardless
+     * of the size of the input. The {@code null} values are skipped.
+     * </p>
+     *
+     * <p>
+     * NOTE: This method directly write data info InfluxDB 2.0 without jittering and backpressure.
+     * The method blocks the executing thread until the whole input is written. The write is stopped by the first
+     * unsuccessful chunk, the preceding chunks stays written.
+     * </p>
+     *
+     * @param bucket        specifies the destination bucket for writes
+     * @param org           specifies the destination organization for writes
+     * @param precision     specifies the precision for the unix timestamps within the body line-protocol
+     * @param measurements  specifies the Measurements to write
+     * @param streamOptions specifies how to split the data into chunks
+     * @param <M>           measurement type
+     * @throws InfluxException if a problem occurred during write time-series data into InfluxDB
+     */
+    <M> void writeMeasurementsStream(@Nonnull final String bucket,
+                                     @Nonnull final String org,
+                                     @Nonnull final WritePrecision precision,
+                                     @Nonnull final Stream<M> measurements,
+                                     @Nonnull final WriteStreamOptions streamOptions) throws InfluxException;
+}
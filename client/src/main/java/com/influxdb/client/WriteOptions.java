@@ -21,11 +21,15 @@
  */
 package com.influxdb.client;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.NotThreadSafe;
 import javax.annotation.concurrent.ThreadSafe;
 
 import com.influxdb.Arguments;
+import com.influxdb.client.write.WriteDestination;
 
 import io.reactivex.BackpressureOverflowStrategy;
 import io.reactivex.Scheduler;
@@ -42,6 +46,8 @@ import io.reactivex.schedulers.Schedulers;
  * <li>retryInterval = 5000 ms</li>
  * <li>jitterInterval = 0</li>
  * <li>bufferLimit = 10_000</li>
+ * <li>encodeParallelism = 1</li>
+ * <li>ringBufferSize = 0 (disabled)</li>
  * </ul>
  * <p>
  * The default backpressure strategy is {@link BackpressureOverflowStrategy#DROP_OLDEST}.
@@ -61,6 +67,8 @@ public final class WriteOptions {
     private static final int DEFAULT_MAX_RETRY_TIME = 180_000;
     private static final int DEFAULT_EXPONENTIAL_BASE = 2;
     private static final int DEFAULT_BUFFER_LIMIT = 10000;
+    private static final int DEFAULT_ENCODE_PARALLELISM = 1;
+    private static final int DEFAULT_RING_BUFFER_SIZE = 0;
 
     /**
      * Default configuration with values that are consistent with Telegraf.
@@ -78,6 +86,10 @@ public final class WriteOptions {
     private final int bufferLimit;
     private final Scheduler writeScheduler;
     private final BackpressureOverflowStrategy backpressureStrategy;
+    private final int encodeParallelism;
+    private final Scheduler encodeScheduler;
+    private final int ringBufferSize;
+    private final List<WriteDestination> replicas;
 
     /**
      * @return the number of data point to collect in batch
@@ -183,6 +195,40 @@ public final class WriteOptions {
         return backpressureStrategy;
     }
 
+    /**
+     * @return the number of chunks of a batch that are encoded into Line Protocol concurrently
+     * @see WriteOptions.Builder#encodeParallelism(int)
+     */
+    public int getEncodeParallelism() {
+        return encodeParallelism;
+    }
+
+    /**
+     * @return The scheduler which is used for encoding chunks of a batch into Line Protocol.
+     * @see WriteOptions.Builder#encodeScheduler(Scheduler)
+     */
+    @Nonnull
+    public Scheduler getEncodeScheduler() {
+        return encodeScheduler;
+    }
+
+    /**
+     * @return the size of the lock-free ring buffer in front of the batching, {@code 0} means disabled
+     * @see WriteOptions.Builder#ringBufferSize(int)
+     */
+    public int getRingBufferSize() {
+        return ringBufferSize;
+    }
+
+    /**
+     * @return the replicas of batching writes
+     * @see WriteOptions.Builder#addReplica(WriteDestination)
+     */
+    @Nonnull
+    public List<WriteDestination> getReplicas() {
+        return replicas;
+    }
+
     private WriteOptions(@Nonnull final Builder builder) {
 
         Arguments.checkNotNull(builder, "WriteOptions.Builder");
@@ -198,6 +244,10 @@ public final class WriteOptions {
         bufferLimit = builder.bufferLimit;
         writeScheduler = builder.writeScheduler;
         backpressureStrategy = builder.backpressureStrategy;
+        encodeParallelism = builder.encodeParallelism;
+        encodeScheduler = builder.encodeScheduler;
+        ringBufferSize = builder.ringBufferSize;
+        replicas = Collections.unmodifiableList(new ArrayList<>(builder.replicas));
     }
 
     /**
@@ -227,6 +277,10 @@ public final class WriteOptions {
         private int bufferLimit = DEFAULT_BUFFER_LIMIT;
         private Scheduler writeScheduler = Schedulers.newThread();
         private BackpressureOverflowStrategy backpressureStrategy = BackpressureOverflowStrategy.DROP_OLDEST;
+        private int encodeParallelism = DEFAULT_ENCODE_PARALLELISM;
+        private Scheduler encodeScheduler = Schedulers.computation();
+        private int ringBufferSize = DEFAULT_RING_BUFFER_SIZE;
+        private final List<WriteDestination> replicas = new ArrayList<>();
 
         /**
          * Set the number of data point to collect in batch.
@@ -383,6 +437,78 @@ public final class WriteOptions {
             return this;
         }
 
+        /**
+         * Set the number of chunks of a batch that are encoded into Line Protocol concurrently.
+         * <p>
+         * The batch is split into {@code encodeParallelism} chunks which are encoded on the
+         * {@link #encodeScheduler(Scheduler)} and concatenated in the original order. The default value {@code 1}
+         * encodes the whole batch on the write scheduler.
+         *
+         * @param encodeParallelism the number of chunks of a batch that are encoded concurrently
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder encodeParallelism(final int encodeParallelism) {
+            Arguments.checkPositiveNumber(encodeParallelism, "encodeParallelism");
+            this.encodeParallelism = encodeParallelism;
+            return this;
+        }
+
+        /**
+         * Set the scheduler which is used for encoding chunks of a batch into Line Protocol.
+         * It is used only if the {@link #encodeParallelism(int)} is greater than {@code 1}.
+         * Default value is {@link Schedulers#computation()}.
+         *
+         * @param encodeScheduler the scheduler which is used for encoding chunks of a batch
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder encodeScheduler(@Nonnull final Scheduler encodeScheduler) {
+
+            Arguments.checkNotNull(encodeScheduler, "Encode scheduler");
+
+            this.encodeScheduler = encodeScheduler;
+            return this;
+        }
+
+        /**
+         * Set the size of the lock-free multi-producer ring buffer which is used as an entry point of the writes.
+         * <p>
+         * The producers only claim a slot in the ring buffer and a single consumer drains the buffered data
+         * into batches. It is useful for a lot of threads that concurrently writes data points.
+         * When the ring buffer is full the {@link #backpressureStrategy(BackpressureOverflowStrategy)} is applied:
+         * the oldest or the latest item is dropped or the write fails by
+         * {@link com.influxdb.exceptions.InfluxException}.
+         * The size is rounded up to the power of two, the default value {@code 0} disables the ring buffer.
+         *
+         * @param ringBufferSize the size of the ring buffer
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder ringBufferSize(final int ringBufferSize) {
+            Arguments.checkNotNegativeNumber(ringBufferSize, "ringBufferSize");
+            this.ringBufferSize = ringBufferSize;
+            return this;
+        }
+
+        /**
+         * Add the replica of batching writes - another bucket, organization or InfluxDB server.
+         * <p>
+         * Every batch is encoded into Line Protocol once and posted to the primary bucket and to all replicas.
+         * The replica has own retry state and buffers up to {@code bufferLimit / batchSize} batches, the result
+         * of replicated write is published as {@link com.influxdb.client.write.events.ReplicaWriteSuccessEvent}
+         * or {@link com.influxdb.client.write.events.ReplicaWriteErrorEvent}.
+         *
+         * @param replica the replica of writes
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder addReplica(@Nonnull final WriteDestination replica) {
+            Arguments.checkNotNull(replica, "WriteDestination");
+            this.replicas.add(replica);
+            return this;
+        }
+
         /**
          * Build an instance of WriteOptions.
          *
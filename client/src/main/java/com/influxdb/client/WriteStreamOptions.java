@@ -0,0 +1,140 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.influxdb.Arguments;
+
+/**
+ * WriteStreamOptions are used to configure how {@link WriteApiBlocking#writeRecordsStream},
+ * {@link WriteApiBlocking#writePointsStream} and {@link WriteApiBlocking#writeMeasurementsStream} split the data
+ * into chunks.
+ *
+ * <p>
+ * The chunk is flushed into InfluxDB when reach the {@code chunkSize} or the {@code chunkBytes} limit.
+ * The default setting:
+ * <ul>
+ * <li>chunkSize = 5000</li>
+ * <li>chunkBytes = 4 MiB</li>
+ * </ul>
+ * <p>
+ * At most two chunks are held in the memory - one is uploading and the next one is encoding.
+ */
+@ThreadSafe
+public final class WriteStreamOptions {
+
+    private static final int DEFAULT_CHUNK_SIZE = 5000;
+    private static final int DEFAULT_CHUNK_BYTES = 4 * 1024 * 1024;
+
+    /**
+     * Default configuration.
+     */
+    public static final WriteStreamOptions DEFAULTS = WriteStreamOptions.builder().build();
+
+    private final int chunkSize;
+    private final int chunkBytes;
+
+    private WriteStreamOptions(@Nonnull final Builder builder) {
+
+        Arguments.checkNotNull(builder, "WriteStreamOptions.Builder");
+
+        chunkSize = builder.chunkSize;
+        chunkBytes = builder.chunkBytes;
+    }
+
+    /**
+     * @return the maximum number of records in one chunk
+     * @see WriteStreamOptions.Builder#chunkSize(int)
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * @return the maximum size of one chunk in bytes
+     * @see WriteStreamOptions.Builder#chunkBytes(int)
+     */
+    public int getChunkBytes() {
+        return chunkBytes;
+    }
+
+    /**
+     * Creates a builder instance.
+     *
+     * @return a builder
+     */
+    @Nonnull
+    public static WriteStreamOptions.Builder builder() {
+        return new WriteStreamOptions.Builder();
+    }
+
+    /**
+     * A builder for {@code WriteStreamOptions}.
+     */
+    @NotThreadSafe
+    public static class Builder {
+
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+        private int chunkBytes = DEFAULT_CHUNK_BYTES;
+
+        /**
+         * Set the maximum number of records in one chunk.
+         *
+         * @param chunkSize the maximum number of records in one chunk
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder chunkSize(final int chunkSize) {
+            Arguments.checkPositiveNumber(chunkSize, "chunkSize");
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * Set the maximum size of one chunk in bytes. The size is measured by the UTF-8 encoded length
+         * of Line Protocol. A single record larger than the limit is written as its own chunk.
+         *
+         * @param chunkBytes the maximum size of one chunk in bytes
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder chunkBytes(final int chunkBytes) {
+            Arguments.checkPositiveNumber(chunkBytes, "chunkBytes");
+            this.chunkBytes = chunkBytes;
+            return this;
+        }
+
+        /**
+         * Build an instance of WriteStreamOptions.
+         *
+         * @return {@code WriteStreamOptions}
+         */
+        @Nonnull
+        public WriteStreamOptions build() {
+
+            return new WriteStreamOptions(this);
+        }
+    }
+}
@@ -22,25 +22,49 @@
 package com.influxdb.client.internal;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import com.influxdb.Arguments;
+import com.influxdb.client.Endpoint;
 import com.influxdb.client.InfluxDBClientOptions;
+import com.influxdb.client.InfluxDBClientOptions.TrafficClass;
 import com.influxdb.client.JSON;
+import com.influxdb.client.TrafficClassOptions;
+import com.influxdb.client.TransportStatus;
+import com.influxdb.client.WriteApiAsync;
+import com.influxdb.client.WriteOptions;
 import com.influxdb.client.domain.Dialect;
 import com.influxdb.client.domain.HealthCheck;
 import com.influxdb.client.service.HealthService;
 import com.influxdb.client.service.PingService;
+import com.influxdb.client.service.WriteService;
 import com.influxdb.exceptions.InfluxException;
 import com.influxdb.internal.AbstractRestClient;
 import com.influxdb.internal.UserAgentInterceptor;
 
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import okhttp3.logging.HttpLoggingInterceptor;
 import retrofit2.Call;
 import retrofit2.Retrofit;
@@ -60,16 +84,39 @@ public abstract class AbstractInfluxDBClient extends AbstractRestClient {
             .addAnnotationsItem(Dialect.AnnotationsEnum.DATATYPE)
             .addAnnotationsItem(Dialect.AnnotationsEnum.GROUP).addAnnotationsItem(Dialect.AnnotationsEnum.DEFAULT);
 
+    /**
+     * The default size of the OkHttp connection pool.
+     */
+    private static final int DEFAULT_MAX_IDLE_CONNECTIONS = 5;
+    private static final Duration DEFAULT_KEEP_ALIVE = Duration.ofMinutes(5);
+
     public final HealthService healthService;
     public final PingService pingService;
 
+    /**
+     * The Retrofit for management APIs, it uses the dedicated lane of {@link TrafficClass#MANAGEMENT} if it is
+     * configured.
+     */
     protected final Retrofit retrofit;
+    /**
+     * The Retrofit for writes, it uses the dedicated lane of {@link TrafficClass#WRITE} if it is configured.
+     */
+    protected final Retrofit writeRetrofit;
+    /**
+     * The Retrofit for queries, it uses the dedicated lane of {@link TrafficClass#QUERY} if it is configured.
+     */
+    protected final Retrofit queryRetrofit;
     protected final InfluxDBClientOptions options;
 
     protected final HttpLoggingInterceptor loggingInterceptor;
     protected final GzipInterceptor gzipInterceptor;
     private final AuthenticateInterceptor authenticateInterceptor;
     private final OkHttpClient okHttpClient;
+    private final Map<TrafficClass, OkHttpClient> lanes = new EnumMap<>(TrafficClass.class);
+    private final ExecutorService virtualThreadsExecutor;
+    private final EndpointInterceptor endpointInterceptor;
+    private final ScheduledExecutorService healthCheckExecutor;
+    private final Collection<TransportStatus> transports = new CopyOnWriteArrayList<>();
     protected final Collection<AutoCloseable> autoCloseables = new CopyOnWriteArrayList<>();
 
     public AbstractInfluxDBClient(@Nonnull final InfluxDBClientOptions options, @Nonnull final String clientType) {
@@ -83,7 +130,29 @@ public abstract class AbstractInfluxDBClient extends AbstractRestClient {
         this.authenticateInterceptor = new AuthenticateInterceptor(options);
         this.gzipInterceptor = new GzipInterceptor();
 
-        this.okHttpClient = options.getOkHttpClient()
+        OkHttpClient.Builder okHttpClientBuilder = options.getOkHttpClient();
+        this.virtualThreadsExecutor = options.isVirtualThreads() ? VirtualThreads.newExecutor("influxdb-") : null;
+        if (virtualThreadsExecutor != null) {
+            // the copy keeps the dispatcher of the builder supplied by user untouched
+            okHttpClientBuilder = okHttpClientBuilder.build().newBuilder()
+                    .dispatcher(VirtualThreads.newDispatcher(virtualThreadsExecutor));
+        }
+        if (options.getHttpProtocol() != null) {
+            okHttpClientBuilder.protocols(protocols(options.getHttpProtocol()));
+        }
+        if (options.getMaxIdleConnections() != null) {
+            okHttpClientBuilder.connectionPool(connectionPool(options));
+        }
+
+        //
+        // Several InfluxDB nodes
+        //
+        this.endpointInterceptor = options.getEndpoints().size() > 1 ? new EndpointInterceptor(options) : null;
+        if (endpointInterceptor != null) {
+            okHttpClientBuilder.addInterceptor(endpointInterceptor);
+        }
+
+        this.okHttpClient = okHttpClientBuilder
                 // Connection errors are handled by RetryAttempt in AbstractWriteClient.
                 .retryOnConnectionFailure(false)
                 .addInterceptor(new UserAgentInterceptor(clientType))
@@ -91,20 +160,94 @@ public abstract class AbstractInfluxDBClient extends AbstractRestClient {
                 .addInterceptor(this.authenticateInterceptor)
                 .addInterceptor(this.gzipInterceptor)
                 .build();
+        configureDispatcher(okHttpClient.dispatcher(), options.getMaxRequests(), options.getMaxRequestsPerHost());
 
         this.authenticateInterceptor.initToken(okHttpClient);
 
-        this.retrofit = new Retrofit.Builder()
+        Retrofit defaultRetrofit = new Retrofit.Builder()
                 .baseUrl(options.getUrl())
                 .client(okHttpClient)
                 .addConverterFactory(ScalarsConverterFactory.create())
                 .addConverterFactory(GsonConverterFactory.create(new JSON().getGson()))
                 .build();
+        bindTransport(TransportStatus.DEFAULT, okHttpClient);
+
+        //
+        // Dedicated lanes of traffic classes
+        //
+        Map<TrafficClass, TrafficClassOptions> trafficClasses = new EnumMap<>(TrafficClass.class);
+        trafficClasses.putAll(options.getTrafficClasses());
+        if (options.isSeparateQueryConnectionPool()) {
+            trafficClasses.putIfAbsent(TrafficClass.QUERY, TrafficClassOptions.DEFAULTS);
+        }
+        trafficClasses.forEach((trafficClass, classOptions) -> {
+            OkHttpClient lane = createLane(classOptions);
+            lanes.put(trafficClass, lane);
+            bindTransport(trafficClass.name().toLowerCase(Locale.ROOT), lane);
+        });
+
+        if (endpointInterceptor != null) {
+            endpointInterceptor.getEndpoints().forEach(options.getTransportMetrics()::bindEndpoint);
+
+            long interval = options.getHealthCheckInterval().toMillis();
+            this.healthCheckExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "influxdb-health-check");
+                thread.setDaemon(true);
+                return thread;
+            });
+            healthCheckExecutor.scheduleWithFixedDelay(() -> endpointInterceptor.checkHealth(okHttpClient),
+                    interval, interval, TimeUnit.MILLISECONDS);
+        } else {
+            this.healthCheckExecutor = null;
+        }
+
+        this.retrofit = laneRetrofit(defaultRetrofit, TrafficClass.MANAGEMENT);
+        this.writeRetrofit = laneRetrofit(defaultRetrofit, TrafficClass.WRITE);
+        this.queryRetrofit = laneRetrofit(defaultRetrofit, TrafficClass.QUERY);
 
         this.healthService = retrofit.create(HealthService.class);
         this.pingService = retrofit.create(PingService.class);
     }
 
+    /**
+     * Get the scheduler for the batching writes. If the virtual threads are enabled then the default
+     * {@link WriteOptions#getWriteScheduler()} is replaced by the scheduler backed by virtual threads.
+     *
+     * @param writeOptions the write options
+     * @return the scheduler for the batching writes
+     */
+    @Nonnull
+    protected Scheduler writeScheduler(@Nonnull final WriteOptions writeOptions) {
+
+        Arguments.checkNotNull(writeOptions, "WriteOptions");
+
+        if (virtualThreadsExecutor != null && writeOptions.getWriteScheduler() == Schedulers.newThread()) {
+            return Schedulers.from(virtualThreadsExecutor);
+        }
+
+        return writeOptions.getWriteScheduler();
+    }
+
+    /**
+     * Create the non-blocking {@link WriteApiAsync} that shares the write connection lane of this client.
+     *
+     * @param writeOptions the configuration of the retry strategy
+     * @return the new client instance for the asynchronous Write API
+     */
+    @Nonnull
+    protected WriteApiAsyncImpl writeApiAsync(@Nonnull final WriteOptions writeOptions) {
+
+        Arguments.checkNotNull(writeOptions, "WriteOptions");
+
+        //
+        // The backoff only enqueues the call again => one shared timer thread is enough for all retries
+        //
+        Scheduler retryScheduler = writeOptions.getWriteScheduler() == Schedulers.newThread()
+                ? Schedulers.single() : writeOptions.getWriteScheduler();
+
+        return new WriteApiAsyncImpl(writeOptions, retryScheduler, writeRetrofit.create(WriteService.class), options);
+    }
+
     public void close() {
 
         autoCloseables.stream().filter(Objects::nonNull).forEach(resource -> {
@@ -128,8 +271,131 @@ public abstract class AbstractInfluxDBClient extends AbstractRestClient {
         //
         // Shutdown OkHttp
         //
+        transports.forEach(transport -> options.getTransportMetrics().unbindTransport(transport));
+        transports.clear();
+        if (endpointInterceptor != null) {
+            healthCheckExecutor.shutdownNow();
+            endpointInterceptor.getEndpoints().forEach(options.getTransportMetrics()::unbindEndpoint);
+        }
+
         okHttpClient.connectionPool().evictAll();
         okHttpClient.dispatcher().executorService().shutdown();
+        lanes.values().forEach(lane -> {
+            lane.connectionPool().evictAll();
+            lane.dispatcher().executorService().shutdown();
+        });
+    }
+
+    /**
+     * @return the limits in effect and the actual usage of the HTTP transports used by the client
+     */
+    @Nonnull
+    public Collection<TransportStatus> getTransports() {
+        return Collections.unmodifiableCollection(transports);
+    }
+
+    /**
+     * @return the InfluxDB nodes used by the client configured with several urls, otherwise empty collection
+     */
+    @Nonnull
+    public List<Endpoint> getEndpoints() {
+        return endpointInterceptor != null
+                ? Collections.unmodifiableList(endpointInterceptor.getEndpoints()) : Collections.emptyList();
+    }
+
+    /**
+     * Check the health of the InfluxDB nodes immediately.
+     */
+    void checkEndpointsHealth() {
+        if (endpointInterceptor != null) {
+            endpointInterceptor.checkHealth(okHttpClient);
+        }
+    }
+
+    private void bindTransport(@Nonnull final String name, @Nonnull final OkHttpClient client) {
+
+        Integer maxIdleConnections = options.getMaxIdleConnections();
+        Duration keepAlive = options.getKeepAlive();
+
+        TransportStatus status = new TransportStatus(name, client,
+                maxIdleConnections != null ? maxIdleConnections : DEFAULT_MAX_IDLE_CONNECTIONS,
+                keepAlive != null ? keepAlive : DEFAULT_KEEP_ALIVE);
+
+        transports.add(status);
+        options.getTransportMetrics().bindTransport(status);
+    }
+
+    @Nonnull
+    private static ConnectionPool connectionPool(@Nonnull final InfluxDBClientOptions options) {
+
+        Integer maxIdleConnections = options.getMaxIdleConnections();
+        Duration keepAlive = options.getKeepAlive();
+        if (maxIdleConnections == null || keepAlive == null) {
+            return new ConnectionPool();
+        }
+
+        return new ConnectionPool(maxIdleConnections, keepAlive.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Nonnull
+    private OkHttpClient createLane(@Nonnull final TrafficClassOptions classOptions) {
+
+        OkHttpClient.Builder builder = okHttpClient.newBuilder()
+                .connectionPool(connectionPool(options))
+                .dispatcher(virtualThreadsExecutor != null
+                        ? VirtualThreads.newDispatcher(virtualThreadsExecutor) : new Dispatcher());
+
+        if (classOptions.getReadTimeout() != null) {
+            builder.readTimeout(classOptions.getReadTimeout());
+        }
+        if (classOptions.getWriteTimeout() != null) {
+            builder.writeTimeout(classOptions.getWriteTimeout());
+        }
+        if (classOptions.getCallTimeout() != null) {
+            builder.callTimeout(classOptions.getCallTimeout());
+        }
+
+        OkHttpClient lane = builder.build();
+        configureDispatcher(lane.dispatcher(), options.getMaxRequests(), options.getMaxRequestsPerHost());
+        configureDispatcher(lane.dispatcher(), classOptions.getMaxRequests(), classOptions.getMaxRequestsPerHost());
+
+        return lane;
+    }
+
+    @Nonnull
+    private Retrofit laneRetrofit(@Nonnull final Retrofit defaultRetrofit, @Nonnull final TrafficClass trafficClass) {
+
+        OkHttpClient lane = lanes.get(trafficClass);
+        if (lane == null) {
+            return defaultRetrofit;
+        }
+
+        return defaultRetrofit.newBuilder().client(lane).build();
+    }
+
+    private static void configureDispatcher(@Nonnull final Dispatcher dispatcher,
+                                            @Nullable final Integer maxRequests,
+                                            @Nullable final Integer maxRequestsPerHost) {
+
+        if (maxRequests != null) {
+            dispatcher.setMaxRequests(maxRequests);
+        }
+        if (maxRequestsPerHost != null) {
+            dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+        }
+    }
+
+    @Nonnull
+    private static List<Protocol> protocols(@Nonnull final InfluxDBClientOptions.HttpProtocol protocol) {
+
+        switch (protocol) {
+            case HTTP_2:
+                return Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1);
+            case H2C:
+                return Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE);
+            default:
+                return Collections.singletonList(Protocol.HTTP_1_1);
+        }
     }
 
     @Nonnull
@@ -21,6 +21,8 @@
  */
 package com.influxdb.client.internal;
 
+import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -30,12 +32,18 @@ import javax.annotation.Nullable;
 
 import com.influxdb.Arguments;
 import com.influxdb.client.InfluxDBClientOptions;
+import com.influxdb.client.WriteStreamOptions;
 import com.influxdb.client.domain.WritePrecision;
 import com.influxdb.client.internal.AbstractWriteClient.BatchWriteDataMeasurement;
+import com.influxdb.client.internal.AbstractWriteClient.BatchWriteDataPoint;
 import com.influxdb.client.service.WriteService;
+import com.influxdb.client.write.Point;
+import com.influxdb.exceptions.InfluxException;
 import com.influxdb.internal.AbstractRestClient;
 
 import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
 
 /**
  * @author Jakub Bednar (20/04/2021 9:48)
@@ -87,6 +95,43 @@ public abstract class AbstractWriteBlockingClient extends AbstractRestClient {
         LOG.log(Level.FINEST, "Written data into InfluxDB: {0}", lineProtocol);
     }
 
+    protected void writeStream(@Nonnull final String bucket,
+                               @Nonnull final String organization,
+                               @Nonnull final Iterator<WriteChunker.Line> lines,
+                               @Nonnull final WriteStreamOptions streamOptions) {
+
+        WriteChunker chunker = new WriteChunker(streamOptions.getChunkSize(), streamOptions.getChunkBytes());
+        ChunkUpload upload = null;
+
+        try {
+            while (lines.hasNext()) {
+
+                for (WriteChunker.Chunk chunk : chunker.add(lines.next())) {
+                    upload = upload(upload, bucket, organization, chunk);
+                }
+            }
+
+            for (WriteChunker.Chunk chunk : chunker.flush()) {
+                upload = upload(upload, bucket, organization, chunk);
+            }
+        } catch (RuntimeException e) {
+            //
+            // The source or the encoding failed => don't leave the upload running behind the caller
+            //
+            if (upload != null) {
+                upload.cancel(e);
+            }
+            throw e;
+        }
+
+        if (upload == null) {
+            LOG.warning("The stream doesn't contains any Line Protocol, skipping");
+            return;
+        }
+
+        upload.await();
+    }
+
     @Nonnull
     protected <M> BatchWriteDataMeasurement toMeasurementBatch(@Nullable final M measurement,
                                                                @Nonnull final WritePrecision precision) {
@@ -95,4 +140,130 @@ public abstract class AbstractWriteBlockingClient extends AbstractRestClient {
 
         return new BatchWriteDataMeasurement(measurement, precision, options, measurementMapper);
     }
+
+    /**
+     * Encode the record, point or measurement into the line for the {@link WriteChunker}. The points carry
+     * their own precision.
+     *
+     * @param item      the record, point or measurement
+     * @param precision the precision of records and measurements
+     * @return the line
+     */
+    @Nonnull
+    protected WriteChunker.Line toLine(@Nonnull final Object item, @Nonnull final WritePrecision precision) {
+
+        if (item instanceof String) {
+            return new WriteChunker.Line(precision, (String) item);
+        }
+
+        if (item instanceof Point) {
+            Point point = (Point) item;
+            String lineProtocol = new BatchWriteDataPoint(point, options).toLineProtocol();
+            return new WriteChunker.Line(point.getPrecision(), lineProtocol);
+        }
+
+        return new WriteChunker.Line(precision, toMeasurementBatch(item, precision).toLineProtocol());
+    }
+
+    /**
+     * Waits to the previous upload and starts the upload of the chunk.
+     */
+    @Nonnull
+    private ChunkUpload upload(@Nullable final ChunkUpload previous,
+                               @Nonnull final String bucket,
+                               @Nonnull final String organization,
+                               @Nonnull final WriteChunker.Chunk chunk) {
+
+        if (previous != null) {
+            previous.await();
+        }
+
+        String lineProtocol = chunk.toLineProtocol();
+        WritePrecision precision = chunk.getPrecision();
+
+        LOG.log(Level.FINEST,
+                "Writing chunk of time-series data into InfluxDB (org={0}, bucket={1}, precision={2}, length={3})...",
+                new Object[]{organization, bucket, precision, lineProtocol.length()});
+
+        Call<Void> voidCall = service.postWrite(organization, bucket, lineProtocol, null,
+                "identity", "text/plain; charset=utf-8", null,
+                "application/json", null, precision);
+
+        ChunkUpload upload = new ChunkUpload(voidCall);
+        voidCall.enqueue(upload);
+
+        return upload;
+    }
+
+    /**
+     * The upload in progress, the encoding of next chunk continues on the caller thread.
+     */
+    private final class ChunkUpload implements Callback<Void> {
+
+        private final CountDownLatch done = new CountDownLatch(1);
+        private final Call<Void> call;
+
+        private volatile Response<Void> response;
+        private volatile Throwable throwable;
+        private volatile boolean cancelled;
+
+        private ChunkUpload(@Nonnull final Call<Void> call) {
+            this.call = call;
+        }
+
+        @Override
+        public void onResponse(@Nonnull final Call<Void> call, @Nonnull final Response<Void> response) {
+            this.response = response;
+            done.countDown();
+        }
+
+        @Override
+        public void onFailure(@Nonnull final Call<Void> call, @Nonnull final Throwable throwable) {
+            // the failure caused by cancel isn't a failure of upload
+            if (!cancelled) {
+                this.throwable = throwable;
+            }
+            done.countDown();
+        }
+
+        private void await() {
+            try {
+                done.await();
+            } catch (InterruptedException e) {
+                call.cancel();
+                Thread.currentThread().interrupt();
+                throw new InfluxException(e);
+            }
+
+            if (throwable != null) {
+                throw new InfluxException(throwable);
+            }
+
+            if (!response.isSuccessful()) {
+                throw responseToError(response);
+            }
+        }
+
+        /**
+         * Cancel the upload and wait to its callback. The failure of upload is added to the cause as suppressed.
+         */
+        private void cancel(@Nonnull final Throwable cause) {
+
+            cancelled = true;
+            call.cancel();
+
+            try {
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            if (response != null && !response.isSuccessful()) {
+                cause.addSuppressed(responseToError(response));
+            } else if (throwable != null) {
+                cause.addSuppressed(throwable);
+            }
+        }
+    }
 }
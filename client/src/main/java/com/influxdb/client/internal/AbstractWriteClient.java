@@ -21,25 +21,38 @@
  */
 package com.influxdb.client.internal;
 
+import java.io.IOException;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import com.influxdb.Arguments;
+import com.influxdb.client.InfluxDBClient;
+import com.influxdb.client.InfluxDBClientFactory;
 import com.influxdb.client.InfluxDBClientOptions;
 import com.influxdb.client.WriteOptions;
 import com.influxdb.client.domain.WritePrecision;
 import com.influxdb.client.service.WriteService;
 import com.influxdb.client.write.Point;
+import com.influxdb.client.write.WriteDestination;
+import com.influxdb.client.write.WriteMetrics;
 import com.influxdb.client.write.events.AbstractWriteEvent;
 import com.influxdb.client.write.events.BackpressureEvent;
+import com.influxdb.client.write.events.ReplicaWriteErrorEvent;
+import com.influxdb.client.write.events.ReplicaWriteSuccessEvent;
 import com.influxdb.client.write.events.WriteErrorEvent;
 import com.influxdb.client.write.events.WriteRetriableErrorEvent;
 import com.influxdb.client.write.events.WriteSuccessEvent;
@@ -52,6 +65,7 @@ import io.reactivex.Maybe;
 import io.reactivex.Notification;
 import io.reactivex.Observable;
 import io.reactivex.Scheduler;
+import io.reactivex.Single;
 import io.reactivex.functions.Function;
 import io.reactivex.processors.PublishProcessor;
 import io.reactivex.subjects.PublishSubject;
@@ -77,12 +91,25 @@ public abstract class AbstractWriteClient extends AbstractRestClient implements
     private final PublishProcessor<AbstractWriteClient.BatchWriteItem> processor;
     private final PublishProcessor<Flowable<BatchWriteItem>> flushPublisher;
     private final PublishSubject<AbstractWriteEvent> eventPublisher;
+    // events are published from the write, encode and retry schedulers, the lock doesn't pin virtual threads
+    private final Lock eventPublisherLock = new ReentrantLock();
 
     protected final MeasurementMapper measurementMapper = new MeasurementMapper();
     private final WriteService service;
     private final Collection<AutoCloseable> autoCloseables;
     private final PublishProcessor<Object> tempBoundary;
 
+    private final WriteRingBuffer<BatchWriteItem> ringBuffer;
+    private final Scheduler.Worker ringBufferWorker;
+    // the consumer is woken up only if it is idle, so the producers usually don't touch any shared counter
+    private final AtomicBoolean ringBufferIdle = new AtomicBoolean(true);
+
+    private final WriteMetrics metrics;
+    private final List<Replica> replicas;
+
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    // producers publish under the shared lock, the close waits to the publishes that already passed the check
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
     private AtomicBoolean finished = new AtomicBoolean(false);
 
     public AbstractWriteClient(@Nonnull final WriteOptions writeOptions,
@@ -97,22 +124,51 @@ public abstract class AbstractWriteClient extends AbstractRestClient implements
         this.options = options;
         this.service = service;
         this.autoCloseables = autoCloseables;
+        this.metrics = options.getWriteMetrics();
 
         this.flushPublisher = PublishProcessor.create();
         this.eventPublisher = PublishSubject.create();
         this.tempBoundary = PublishProcessor.create();
         this.processor = PublishProcessor.create();
 
+        if (writeOptions.getRingBufferSize() > 0) {
+            this.ringBuffer = new WriteRingBuffer<>(writeOptions.getRingBufferSize());
+            this.ringBufferWorker = processorScheduler.createWorker();
+        } else {
+            this.ringBuffer = null;
+            this.ringBufferWorker = null;
+        }
+
+        this.replicas = writeOptions.getReplicas().stream()
+                .map(destination -> new Replica(destination, processorScheduler))
+                .collect(Collectors.toList());
+
         PublishProcessor<Flowable<BatchWriteItem>> tempBoundary = PublishProcessor.create();
 
-        processor
+        //
+        // The size of backpressure buffer is tracked only if the metrics are enabled
+        //
+        Flowable<BatchWriteItem> source = processor;
+        if (metrics != WriteMetrics.NOOP) {
+            source = source.doOnNext(it -> metrics.recordBufferChange(1));
+        }
+        source = source
                 //
                 // Enable Backpressure
                 //
                 .onBackpressureBuffer(
                         writeOptions.getBufferLimit(),
-                        () -> publish(new BackpressureEvent()),
-                        writeOptions.getBackpressureStrategy())
+                        () -> {
+                            metrics.recordBufferChange(-1);
+                            metrics.recordDrop();
+                            publish(new BackpressureEvent());
+                        },
+                        writeOptions.getBackpressureStrategy());
+        if (metrics != WriteMetrics.NOOP) {
+            source = source.doOnNext(it -> metrics.recordBufferChange(-1));
+        }
+
+        source
                 //
                 // Batching
                 //
@@ -142,28 +198,12 @@ public abstract class AbstractWriteClient extends AbstractRestClient implements
                 //
                 // Create Write Point = bucket, org, ... + data
                 //
-                .concatMapSingle(grouped -> grouped
-                        .map(it -> {
-                            try {
-                                String lineProtocol = it.data.toLineProtocol();
-                                if (lineProtocol == null) {
-                                    return "";
-                                }
-                                return lineProtocol;
-                            } catch (Exception e) {
-                                publish(new WriteErrorEvent(e));
-                                return "";
-                            }
-                        })
-                        .filter(it -> it != null && !it.isEmpty())
-                        .collect(StringBuilder::new, (sb, x) -> {
-                            if (sb.length() > 0) {
-                                sb.append("\n");
-                            }
-                            sb.append(x);
-                        })
-                        .map(StringBuilder::toString)
-                        .map(it -> new BatchWriteItem(grouped.getKey(), new BatchWriteDataRecord(it))))
+                .concatMapSingle(grouped -> encode(grouped)
+                        .map(it -> new BatchWriteItem(grouped.getKey(), it)))
+                //
+                // Replicate encoded batch
+                //
+                .doOnNext(batchWrite -> replicas.forEach(replica -> replica.offer(batchWrite)))
                 //
                 // Jitter interval
                 //
@@ -172,7 +212,10 @@ public abstract class AbstractWriteClient extends AbstractRestClient implements
                 // To WritePoints "request creator"
                 //
                 .concatMapMaybe(new ToWritePointsMaybe(processorScheduler))
-                .doFinally(() -> finished.set(true))
+                .doFinally(() -> {
+                    replicas.forEach(Replica::complete);
+                    finished.set(true);
+                })
                 .subscribe(responseNotification -> {
 
                     if (responseNotification.isOnError()) {
@@ -201,22 +244,43 @@ public abstract class AbstractWriteClient extends AbstractRestClient implements
 
         autoCloseables.remove(this);
 
+        //
+        // reject new writes before draining the buffered data
+        //
+        Lock lock = closeLock.writeLock();
+        lock.lock();
+        try {
+            closed.set(true);
+        } finally {
+            lock.unlock();
+        }
+
+        if (ringBuffer != null) {
+            waitToCondition(() -> ringBuffer.isEmpty() && ringBufferIdle.get(), DEFAULT_WAIT);
+            ringBufferWorker.dispose();
+        }
+
         processor.onComplete();
 
         flushPublisher.onComplete();
         tempBoundary.onComplete();
-        eventPublisher.onComplete();
+
+        eventPublisherLock.lock();
+        try {
+            eventPublisher.onComplete();
+        } finally {
+            eventPublisherLock.unlock();
+        }
 
         waitToCondition(() -> finished.get(), DEFAULT_WAIT);
+        replicas.forEach(Replica::close);
     }
 
     public void write(@Nonnull final String bucket,
                       @Nonnull final String organization,
                       @Nonnull final Flowable<BatchWriteDataPoint> stream) {
 
-        if (processor.hasComplete()) {
-            throw new InfluxException(CLOSED_EXCEPTION);
-        }
+        checkNotClosed();
 
         stream.subscribe(
                 dataPoint -> write(bucket, organization, dataPoint.point.getPrecision(), Flowable.just(dataPoint)),
@@ -234,13 +298,236 @@ public abstract class AbstractWriteClient extends AbstractRestClient implements
 
         BatchWriteOptions batchWriteOptions = new BatchWriteOptions(bucket, organization, precision);
 
-        if (processor.hasComplete()) {
-            throw new InfluxException(CLOSED_EXCEPTION);
-        }
+        checkNotClosed();
 
         Flowable.fromPublisher(stream)
                 .map(it -> new BatchWriteItem(batchWriteOptions, it))
-                .subscribe(processor::onNext, throwable -> publish(new WriteErrorEvent(throwable)));
+                .subscribe(item -> whileOpen(() -> onNext(item)),
+                        throwable -> publish(new WriteErrorEvent(throwable)));
+    }
+
+    /**
+     * Write the Points without subscribing to the stream. Every Point is written with its own precision.
+     */
+    public void write(@Nonnull final String bucket,
+                      @Nonnull final String organization,
+                      @Nonnull final Iterable<Point> points) {
+
+        Arguments.checkNonEmpty(bucket, "bucket");
+        Arguments.checkNonEmpty(organization, "organization");
+        Arguments.checkNotNull(points, "points to write");
+
+        whileOpen(() -> {
+            BatchWriteOptions batchWriteOptions = null;
+            for (Point point : points) {
+                if (point == null) {
+                    continue;
+                }
+                if (batchWriteOptions == null || batchWriteOptions.precision != point.getPrecision()) {
+                    batchWriteOptions = new BatchWriteOptions(bucket, organization, point.getPrecision());
+                }
+                onNext(new BatchWriteItem(batchWriteOptions, new BatchWriteDataPoint(point, options)));
+            }
+        });
+    }
+
+    /**
+     * Write the data without subscribing to the stream.
+     */
+    public void write(@Nonnull final String bucket,
+                      @Nonnull final String organization,
+                      @Nonnull final WritePrecision precision,
+                      @Nonnull final Iterable<? extends BatchWriteData> data) {
+
+        Arguments.checkNonEmpty(bucket, "bucket");
+        Arguments.checkNonEmpty(organization, "organization");
+        Arguments.checkNotNull(data, "data to write");
+
+        BatchWriteOptions batchWriteOptions = new BatchWriteOptions(bucket, organization, precision);
+
+        whileOpen(() -> {
+            for (BatchWriteData it : data) {
+                onNext(new BatchWriteItem(batchWriteOptions, it));
+            }
+        });
+    }
+
+    private void checkNotClosed() {
+        if (closed.get()) {
+            throw new InfluxException(CLOSED_EXCEPTION);
+        }
+    }
+
+    /**
+     * Publish the data only if the WriteApi is not closed. The check and the publish are done under the shared
+     * lock, so the {@link #close()} can't complete the batching between them and lose the published data.
+     */
+    private void whileOpen(@Nonnull final Runnable publish) {
+        Lock lock = closeLock.readLock();
+        lock.lock();
+        try {
+            checkNotClosed();
+            publish.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Pass the item into batching. If the ring buffer is enabled the item is only published into the ring buffer
+     * and the single consumer moves it into batching. The full ring buffer is handled by
+     * {@link WriteOptions#getBackpressureStrategy()}.
+     */
+    private void onNext(@Nonnull final BatchWriteItem item) {
+
+        if (ringBuffer == null) {
+            processor.onNext(item);
+            return;
+        }
+
+        while (!ringBuffer.offer(item)) {
+            metrics.recordDrop();
+            publish(new BackpressureEvent());
+            switch (writeOptions.getBackpressureStrategy()) {
+                case DROP_LATEST:
+                    return;
+                case DROP_OLDEST:
+                    ringBuffer.poll();
+                    break;
+                default:
+                    throw new InfluxException("The ring buffer of WriteApi is full.");
+            }
+        }
+
+        //
+        // wake up the idle consumer => the buffer was empty
+        //
+        if (ringBufferIdle.get() && ringBufferIdle.compareAndSet(true, false)) {
+            ringBufferWorker.schedule(this::drainRingBuffer);
+        }
+    }
+
+    private void drainRingBuffer() {
+
+        for (;;) {
+            BatchWriteItem item;
+            while ((item = ringBuffer.poll()) != null) {
+                processor.onNext(item);
+            }
+
+            //
+            // park the consumer and check again the data published before the producers see the idle flag
+            //
+            ringBufferIdle.set(true);
+            if (ringBuffer.isEmpty() || !ringBufferIdle.compareAndSet(true, false)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Encode items of the batch into Line Protocol. If the {@link WriteOptions#getEncodeParallelism()} is greater
+     * than 1 then the batch is split into chunks that are encoded concurrently on the
+     * {@link WriteOptions#getEncodeScheduler()} and joined in the original order.
+     */
+    @Nonnull
+    private Single<BatchWriteData> encode(@Nonnull final Flowable<BatchWriteItem> source) {
+
+        int parallelism = writeOptions.getEncodeParallelism();
+
+        //
+        // encode on the write scheduler
+        //
+        if (parallelism <= 1) {
+            return source
+                    .collect(LineProtocolBatch::new, (batch, item) -> batch.append(encode(item)))
+                    .map(LineProtocolBatch::build);
+        }
+
+        //
+        // the group is split by its actual size, so also the small batches closed by the flush interval
+        // are encoded concurrently; concatMapEager preserve the order of chunks
+        //
+        return source
+                .toList()
+                .flatMap(items -> {
+                    int chunkSize = Math.max(1, (items.size() + parallelism - 1) / parallelism);
+
+                    return Flowable.range(0, (items.size() + chunkSize - 1) / chunkSize)
+                            .map(index -> items.subList(index * chunkSize,
+                                    Math.min(items.size(), (index + 1) * chunkSize)))
+                            .concatMapEager(chunk -> Flowable
+                                            .fromCallable(() -> encode(chunk))
+                                            .subscribeOn(writeOptions.getEncodeScheduler()),
+                                    parallelism, 1)
+                            .collect(LineProtocolBatch::new, LineProtocolBatch::append);
+                })
+                .map(LineProtocolBatch::build);
+    }
+
+    @Nonnull
+    private LineProtocolBatch encode(@Nonnull final List<BatchWriteItem> chunk) {
+
+        long start = metrics != WriteMetrics.NOOP ? System.nanoTime() : 0;
+
+        LineProtocolBatch batch = new LineProtocolBatch();
+        for (BatchWriteItem item : chunk) {
+            batch.append(toLineProtocol(item));
+        }
+
+        if (metrics != WriteMetrics.NOOP) {
+            metrics.recordEncode(System.nanoTime() - start);
+        }
+
+        return batch;
+    }
+
+    @Nonnull
+    private String encode(@Nonnull final BatchWriteItem item) {
+
+        if (metrics == WriteMetrics.NOOP) {
+            return toLineProtocol(item);
+        }
+
+        long start = System.nanoTime();
+        String lineProtocol = toLineProtocol(item);
+        metrics.recordEncode(System.nanoTime() - start);
+
+        return lineProtocol;
+    }
+
+    @Nonnull
+    private String toLineProtocol(@Nonnull final BatchWriteItem item) {
+        try {
+            String lineProtocol = item.data.toLineProtocol();
+            if (lineProtocol == null) {
+                return "";
+            }
+            return lineProtocol;
+        } catch (Exception e) {
+            publish(new WriteErrorEvent(e));
+            return "";
+        }
+    }
+
+    @Nonnull
+    private Response<Void> executeWrite(@Nonnull final Call<Void> call) throws IOException {
+
+        if (metrics == WriteMetrics.NOOP) {
+            return call.execute();
+        }
+
+        metrics.recordRequestStart();
+
+        int status = 0;
+        long start = System.nanoTime();
+        try {
+            Response<Void> response = call.execute();
+            status = response.code();
+            return response;
+        } finally {
+            metrics.recordRequest(status, System.nanoTime() - start);
+        }
     }
 
     @Nonnull
@@ -276,7 +563,13 @@ public abstract class AbstractWriteClient extends AbstractRestClient implements
         Arguments.checkNotNull(event, "event");
 
         event.logEvent();
-        eventPublisher.onNext(event);
+
+        eventPublisherLock.lock();
+        try {
+            eventPublisher.onNext(event);
+        } finally {
+            eventPublisherLock.unlock();
+        }
     }
 
     public interface BatchWriteData {
@@ -366,6 +659,62 @@ public abstract class AbstractWriteClient extends AbstractRestClient implements
         }
     }
 
+    /**
+     * The encoded batch with the number of points counted when the batch was built.
+     */
+    private static final class BatchWriteDataBatch implements BatchWriteData {
+
+        private final String lineProtocol;
+        private final long lines;
+
+        private BatchWriteDataBatch(@Nonnull final String lineProtocol, final long lines) {
+            this.lineProtocol = lineProtocol;
+            this.lines = lines;
+        }
+
+        @Nonnull
+        @Override
+        public String toLineProtocol() {
+            return lineProtocol;
+        }
+    }
+
+    /**
+     * Joins the encoded points into one Line Protocol and counts them.
+     */
+    private static final class LineProtocolBatch {
+
+        private final StringBuilder lineProtocol = new StringBuilder();
+        private long lines;
+
+        private void append(@Nonnull final String point) {
+            if (point.isEmpty()) {
+                return;
+            }
+            if (lineProtocol.length() > 0) {
+                lineProtocol.append("\n");
+            }
+            lineProtocol.append(point);
+            lines++;
+        }
+
+        private void append(@Nonnull final LineProtocolBatch chunk) {
+            if (chunk.lines == 0) {
+                return;
+            }
+            if (lineProtocol.length() > 0) {
+                lineProtocol.append("\n");
+            }
+            lineProtocol.append(chunk.lineProtocol);
+            lines += chunk.lines;
+        }
+
+        @Nonnull
+        private BatchWriteData build() {
+            return new BatchWriteDataBatch(lineProtocol.toString(), lines);
+        }
+    }
+
     /**
      * The Batch Write Item.
      */
@@ -431,9 +780,15 @@ public abstract class AbstractWriteClient extends AbstractRestClient implements
     private final class ToWritePointsMaybe implements Function<BatchWriteItem, Maybe<Notification<Response>>> {
 
         private final Scheduler retryScheduler;
+        private final Replica replica;
 
         private ToWritePointsMaybe(@Nonnull final Scheduler retryScheduler) {
+            this(retryScheduler, null);
+        }
+
+        private ToWritePointsMaybe(@Nonnull final Scheduler retryScheduler, @Nullable final Replica replica) {
             this.retryScheduler = retryScheduler;
+            this.replica = replica;
         }
 
         @Override
@@ -445,17 +800,24 @@ public abstract class AbstractWriteClient extends AbstractRestClient implements
                 return Maybe.empty();
             }
 
+            if (replica == null && metrics != WriteMetrics.NOOP && batchWrite.data instanceof BatchWriteDataBatch) {
+                metrics.recordBatch(((BatchWriteDataBatch) batchWrite.data).lines, Utf8.encodedLength(content));
+            }
+
             // Parameters
-            String organization = batchWrite.batchWriteOptions.organization;
-            String bucket = batchWrite.batchWriteOptions.bucket;
+            String organization = replica != null && replica.destination.getOrganization() != null
+                    ? replica.destination.getOrganization() : batchWrite.batchWriteOptions.organization;
+            String bucket = replica != null && replica.destination.getBucket() != null
+                    ? replica.destination.getBucket() : batchWrite.batchWriteOptions.bucket;
             WritePrecision precision = batchWrite.batchWriteOptions.precision;
+            WriteService writeService = replica != null ? replica.service : service;
 
             Maybe<Response<Void>> requestSource = Maybe
-                    .fromCallable(() -> service
+                    .fromCallable(() -> writeService
                             .postWrite(organization, bucket, content, null,
                                     "identity", "text/plain; charset=utf-8", null,
                                     "application/json", null, precision))
-                    .map(Call::execute);
+                    .map(call -> replica != null ? call.execute() : executeWrite(call));
 
             return requestSource
                     //
@@ -472,7 +834,7 @@ public abstract class AbstractWriteClient extends AbstractRestClient implements
                     //
                     // Is exception retriable?
                     //
-                    .retryWhen(AbstractWriteClient.this.retryHandler(retryScheduler, writeOptions))
+                    .retryWhen(AbstractWriteClient.this.retryHandler(retryScheduler, writeOptions, replica))
                     //
                     // maxRetryTime timeout
                     //
@@ -491,7 +853,12 @@ public abstract class AbstractWriteClient extends AbstractRestClient implements
                     })
                     .doOnSuccess(responseNotification -> {
                         if (!responseNotification.isOnError()) {
-                            publish(toSuccessEvent(batchWrite, content));
+                            if (replica != null) {
+                                publish(new ReplicaWriteSuccessEvent(replica.destination.getName(), organization,
+                                        bucket, precision, content));
+                            } else {
+                                publish(toSuccessEvent(batchWrite, content));
+                            }
                         }
                     })
                     .onErrorResumeNext(throwable -> {
@@ -510,8 +877,69 @@ public abstract class AbstractWriteClient extends AbstractRestClient implements
         }
     }
 
+    /**
+     * The replica of batching writes with own buffer of batches and retry state.
+     */
+    private final class Replica {
+
+        private final WriteDestination destination;
+        private final InfluxDBClient client;
+        private final WriteService service;
+        private final PublishProcessor<BatchWriteItem> batches = PublishProcessor.create();
+        private final AtomicBoolean finished = new AtomicBoolean(false);
+
+        private Replica(@Nonnull final WriteDestination destination, @Nonnull final Scheduler scheduler) {
+
+            this.destination = destination;
+            if (destination.getClientOptions() != null) {
+                this.client = InfluxDBClientFactory.create(destination.getClientOptions());
+                this.service = client.getService(WriteService.class);
+            } else {
+                this.client = null;
+                this.service = AbstractWriteClient.this.service;
+            }
+
+            batches
+                    .onBackpressureBuffer(
+                            Math.max(1, writeOptions.getBufferLimit() / writeOptions.getBatchSize()),
+                            () -> publish(new BackpressureEvent()),
+                            writeOptions.getBackpressureStrategy())
+                    //
+                    // Don't block the primary writes
+                    //
+                    .observeOn(scheduler, false, 1)
+                    .compose(jitter(scheduler))
+                    .concatMapMaybe(new ToWritePointsMaybe(scheduler, this))
+                    .doFinally(() -> finished.set(true))
+                    .subscribe(responseNotification -> {
+
+                        if (responseNotification.isOnError()) {
+                            publish(new ReplicaWriteErrorEvent(destination.getName(),
+                                    toInfluxException(responseNotification.getError())));
+                        }
+                    }, throwable -> publish(new ReplicaWriteErrorEvent(destination.getName(),
+                            toInfluxException(throwable))));
+        }
+
+        private void offer(@Nonnull final BatchWriteItem batchWrite) {
+            batches.onNext(batchWrite);
+        }
+
+        private void complete() {
+            batches.onComplete();
+        }
+
+        private void close() {
+            waitToCondition(finished::get, DEFAULT_WAIT);
+            if (client != null) {
+                client.close();
+            }
+        }
+    }
+
     private Function<Flowable<Throwable>, Publisher<?>> retryHandler(@Nonnull final Scheduler retryScheduler,
-                                                                     @Nonnull final WriteOptions writeOptions) {
+                                                                     @Nonnull final WriteOptions writeOptions,
+                                                                     @Nullable final Replica replica) {
 
         Objects.requireNonNull(writeOptions, "WriteOptions are required");
         Objects.requireNonNull(retryScheduler, "RetryScheduler is required");
@@ -526,7 +954,15 @@ public abstract class AbstractWriteClient extends AbstractRestClient implements
 
                         long retryInterval = attempt.getRetryInterval();
 
-                        publish(new WriteRetriableErrorEvent(toInfluxException(throwable), retryInterval));
+                        if (replica != null) {
+                            LOG.log(Level.FINE, String.format("The replica %s will retry write after %d ms.",
+                                    replica.destination.getName(), retryInterval), throwable);
+                        } else {
+                            int status = throwable instanceof HttpException ? ((HttpException) throwable).code() : 0;
+                            metrics.recordRetry(status);
+
+                            publish(new WriteRetriableErrorEvent(toInfluxException(throwable), retryInterval));
+                        }
 
                         return Flowable.just("notify").delay(retryInterval, TimeUnit.MILLISECONDS, retryScheduler);
                     }
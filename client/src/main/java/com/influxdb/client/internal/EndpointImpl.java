@@ -0,0 +1,151 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.internal;
+
+import java.time.Duration;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.influxdb.Arguments;
+import com.influxdb.client.Endpoint;
+
+import okhttp3.HttpUrl;
+
+/**
+ * The state of InfluxDB node maintained by {@link EndpointInterceptor}.
+ */
+@ThreadSafe
+final class EndpointImpl implements Endpoint {
+
+    /**
+     * The weight of the latest sample in the moving average of latency.
+     */
+    private static final double LATENCY_WEIGHT = 0.2;
+
+    private final HttpUrl httpUrl;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private volatile boolean healthy = true;
+    // the bits of double moving average, the CAS doesn't pin virtual threads
+    private final AtomicLong latency = new AtomicLong(Double.doubleToRawLongBits(-1));
+
+    EndpointImpl(@Nonnull final HttpUrl httpUrl) {
+
+        Arguments.checkNotNull(httpUrl, "httpUrl");
+
+        this.httpUrl = httpUrl;
+    }
+
+    @Nonnull
+    @Override
+    public String getUrl() {
+        return httpUrl.toString();
+    }
+
+    @Override
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    @Override
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    @Override
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    @Override
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    @Nullable
+    @Override
+    public Duration getLatency() {
+        double value = Double.longBitsToDouble(latency.get());
+        return value < 0 ? null : Duration.ofNanos((long) value);
+    }
+
+    @Nonnull
+    HttpUrl getHttpUrl() {
+        return httpUrl;
+    }
+
+    void requestStarted() {
+        inFlight.incrementAndGet();
+        requests.increment();
+    }
+
+    void requestFinished(final long nanos) {
+        inFlight.decrementAndGet();
+        consecutiveFailures.set(0);
+
+        for (;;) {
+            long current = latency.get();
+            double value = Double.longBitsToDouble(current);
+            double updated = value < 0 ? nanos : value + LATENCY_WEIGHT * (nanos - value);
+            if (latency.compareAndSet(current, Double.doubleToRawLongBits(updated))) {
+                return;
+            }
+        }
+    }
+
+    void requestFailed(final boolean connectionFailure, final int maxFailures) {
+        inFlight.decrementAndGet();
+
+        if (connectionFailure) {
+            failures.increment();
+            if (consecutiveFailures.incrementAndGet() >= maxFailures) {
+                healthy = false;
+            }
+        }
+    }
+
+    void healthChecked(final boolean success) {
+        if (success) {
+            consecutiveFailures.set(0);
+        }
+        healthy = success;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", Endpoint.class.getSimpleName() + "[", "]")
+                .add("url='" + getUrl() + "'")
+                .add("healthy=" + healthy)
+                .add("inFlight=" + getInFlight())
+                .add("requests=" + getRequests())
+                .add("failures=" + getFailures())
+                .add("latency=" + getLatency())
+                .toString();
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.internal;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.influxdb.Arguments;
+import com.influxdb.client.Endpoint;
+import com.influxdb.client.InfluxDBClientOptions;
+import com.influxdb.client.LoadBalancer;
+
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Distributes the requests across the InfluxDB nodes by the {@link LoadBalancer}.
+ * <p>
+ * The requests are issued against the primary url and the interceptor rewrites them to the selected node. The request
+ * that fails to connect is retried on another node - the request wasn't delivered, so it is safe to retry it. The node
+ * is ejected after the consecutive connection failures or failed health check and returned back by the successful
+ * health check.
+ */
+@ThreadSafe
+final class EndpointInterceptor implements Interceptor {
+
+    private static final Logger LOG = Logger.getLogger(EndpointInterceptor.class.getName());
+
+    private final HttpUrl primaryUrl;
+    private final List<EndpointImpl> endpoints;
+    private final LoadBalancer loadBalancer;
+    private final int maxFailures;
+
+    EndpointInterceptor(@Nonnull final InfluxDBClientOptions options) {
+
+        Arguments.checkNotNull(options, "InfluxDBClientOptions");
+
+        this.primaryUrl = HttpUrl.get(options.getUrl());
+        this.endpoints = Collections.unmodifiableList(options.getEndpoints().stream()
+                .map(url -> new EndpointImpl(HttpUrl.get(url)))
+                .collect(Collectors.toList()));
+        this.loadBalancer = options.getLoadBalancer();
+        this.maxFailures = options.getMaxEndpointFailures();
+    }
+
+    @Nonnull
+    @Override
+    public Response intercept(@Nonnull final Chain chain) throws IOException {
+
+        Request request = chain.request();
+
+        //
+        // Health check of the node
+        //
+        EndpointImpl pinned = request.tag(EndpointImpl.class);
+        if (pinned != null) {
+            return chain.proceed(request);
+        }
+
+        if (!isPrimary(request.url())) {
+            return chain.proceed(request);
+        }
+
+        List<EndpointImpl> tried = new ArrayList<>();
+        while (true) {
+            EndpointImpl endpoint = select(tried);
+            endpoint.requestStarted();
+            long started = System.nanoTime();
+            try {
+                Response response = chain.proceed(rewrite(request, endpoint));
+                endpoint.requestFinished(System.nanoTime() - started);
+
+                return response;
+            } catch (IOException e) {
+                boolean connectionFailure = isConnectionFailure(e);
+                endpoint.requestFailed(connectionFailure, maxFailures);
+
+                tried.add(endpoint);
+                if (!connectionFailure || tried.size() == endpoints.size()) {
+                    throw e;
+                }
+
+                LOG.log(Level.FINE, String.format("Unable to connect to %s, the request will be sent to another node.",
+                        endpoint.getUrl()), e);
+            }
+        }
+    }
+
+    /**
+     * @return all nodes
+     */
+    @Nonnull
+    List<EndpointImpl> getEndpoints() {
+        return endpoints;
+    }
+
+    /**
+     * Check the health of all nodes by the {@code GET /ping}.
+     *
+     * @param okHttpClient the client used to call the nodes
+     */
+    void checkHealth(@Nonnull final OkHttpClient okHttpClient) {
+
+        for (EndpointImpl endpoint : endpoints) {
+
+            Request request = new Request.Builder()
+                    .url(endpoint.getHttpUrl().resolve("ping"))
+                    .tag(EndpointImpl.class, endpoint)
+                    .build();
+
+            boolean success;
+            try (Response response = okHttpClient.newCall(request).execute()) {
+                success = response.isSuccessful();
+            } catch (IOException e) {
+                success = false;
+            }
+
+            if (endpoint.isHealthy() != success) {
+                LOG.log(Level.WARNING, String.format("The InfluxDB node %s is %s.", endpoint.getUrl(),
+                        success ? "healthy" : "unhealthy"));
+            }
+            endpoint.healthChecked(success);
+        }
+    }
+
+    @Nonnull
+    private EndpointImpl select(@Nonnull final List<EndpointImpl> tried) {
+
+        List<Endpoint> candidates = endpoints.stream()
+                .filter(endpoint -> !tried.contains(endpoint) && endpoint.isHealthy())
+                .collect(Collectors.toList());
+        if (candidates.isEmpty()) {
+            candidates = endpoints.stream()
+                    .filter(endpoint -> !tried.contains(endpoint))
+                    .collect(Collectors.toList());
+        }
+
+        Endpoint selected = loadBalancer.select(Collections.unmodifiableList(candidates));
+        if (!candidates.contains(selected)) {
+            throw new IllegalStateException("The LoadBalancer has to select one of the given endpoints: " + selected);
+        }
+
+        return (EndpointImpl) selected;
+    }
+
+    private boolean isPrimary(@Nonnull final HttpUrl url) {
+        return url.scheme().equals(primaryUrl.scheme())
+                && url.host().equals(primaryUrl.host())
+                && url.port() == primaryUrl.port()
+                && url.encodedPath().startsWith(primaryUrl.encodedPath());
+    }
+
+    @Nonnull
+    private Request rewrite(@Nonnull final Request request, @Nonnull final EndpointImpl endpoint) {
+
+        HttpUrl url = request.url();
+        String path = url.encodedPath().substring(primaryUrl.encodedPath().length());
+
+        HttpUrl rewritten = endpoint.getHttpUrl().newBuilder()
+                .encodedPath(endpoint.getHttpUrl().encodedPath() + path)
+                .encodedQuery(url.encodedQuery())
+                .build();
+
+        return request.newBuilder().url(rewritten).build();
+    }
+
+    private boolean isConnectionFailure(@Nonnull final IOException e) {
+        return e instanceof ConnectException
+                || e instanceof NoRouteToHostException
+                || e instanceof UnknownHostException;
+    }
+}
@@ -0,0 +1,615 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.internal;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.influxdb.Arguments;
+import com.influxdb.Cancellable;
+import com.influxdb.client.ImportApi;
+import com.influxdb.client.ImportOptions;
+import com.influxdb.client.InfluxDBClientOptions;
+import com.influxdb.client.domain.WritePrecision;
+import com.influxdb.client.service.WriteService;
+import com.influxdb.client.write.ImportResult;
+import com.influxdb.client.write.Point;
+import com.influxdb.exceptions.InfluxException;
+import com.influxdb.internal.AbstractRestClient;
+import com.influxdb.query.FluxRecord;
+import com.influxdb.query.FluxTable;
+import com.influxdb.query.internal.FluxCsvParser;
+
+import okio.Okio;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * The Line Protocol files are split into line-aligned chunks directly on the bytes,
+ * the annotated CSV files are parsed by {@link FluxCsvParser} and converted into Line Protocol.
+ */
+final class ImportApiImpl extends AbstractRestClient implements ImportApi {
+
+    private static final Logger LOG = Logger.getLogger(ImportApiImpl.class.getName());
+
+    private static final Set<String> CSV_NOT_TAG_COLUMNS = new HashSet<>(Arrays
+            .asList("result", "table", "_start", "_stop", "_time", "_value", "_field", "_measurement"));
+
+    private final WriteService service;
+    private final InfluxDBClientOptions options;
+
+    ImportApiImpl(@Nonnull final WriteService service, @Nonnull final InfluxDBClientOptions options) {
+
+        Arguments.checkNotNull(service, "service");
+        Arguments.checkNotNull(options, "options");
+
+        this.service = service;
+        this.options = options;
+    }
+
+    @Nonnull
+    @Override
+    public ImportResult importFile(@Nonnull final WritePrecision precision, @Nonnull final Path file) {
+
+        Arguments.checkNotNull(options.getBucket(), "InfluxDBClientOptions.getBucket");
+        Arguments.checkNotNull(options.getOrg(), "InfluxDBClientOptions.getOrg");
+
+        return importFile(options.getBucket(), options.getOrg(), precision, file);
+    }
+
+    @Nonnull
+    @Override
+    public ImportResult importFile(@Nonnull final String bucket,
+                                   @Nonnull final String org,
+                                   @Nonnull final WritePrecision precision,
+                                   @Nonnull final Path file) {
+
+        return importFile(bucket, org, precision, file, ImportOptions.DEFAULTS);
+    }
+
+    @Nonnull
+    @Override
+    public ImportResult importFile(@Nonnull final String bucket,
+                                   @Nonnull final String org,
+                                   @Nonnull final WritePrecision precision,
+                                   @Nonnull final Path file,
+                                   @Nonnull final ImportOptions importOptions) {
+
+        Arguments.checkNonEmpty(bucket, "bucket");
+        Arguments.checkNonEmpty(org, "org");
+        Arguments.checkNotNull(precision, "WritePrecision is required");
+        Arguments.checkNotNull(file, "file");
+        Arguments.checkNotNull(importOptions, "ImportOptions");
+
+        ImportOptions.Format format = importOptions.getFormat() != null ? importOptions.getFormat() : detect(file);
+
+        Import run = new Import(bucket, org, precision, importOptions, readCheckpoint(importOptions));
+
+        LOG.log(Level.FINEST, "Importing {0} as {1} from position {2} (org={3}, bucket={4}, precision={5})...",
+                new Object[]{file, format, run.start, org, bucket, precision});
+
+        try (InputStream input = open(file)) {
+
+            if (format == ImportOptions.Format.ANNOTATED_CSV) {
+                importCsv(input, run);
+            } else {
+                importLineProtocol(input, run);
+            }
+
+        } catch (IOException e) {
+            run.fail(new InfluxException(e));
+        }
+
+        return run.finish();
+    }
+
+    private void importLineProtocol(@Nonnull final InputStream input, @Nonnull final Import run) throws IOException {
+
+        skip(input, run.start);
+
+        byte[] buffer = new byte[run.importOptions.getChunkBytes()];
+        int length = 0;
+        long offset = run.start;
+        boolean eof = false;
+
+        while (!run.isFailed()) {
+
+            while (!eof && length < buffer.length) {
+                int read = input.read(buffer, length, buffer.length - length);
+                if (read < 0) {
+                    eof = true;
+                } else {
+                    length += read;
+                }
+            }
+
+            if (length == 0) {
+                break;
+            }
+
+            //
+            // Align the chunk to the end of line, the line longer than chunk enlarge the buffer
+            //
+            int end = eof ? length : lastIndexOf(buffer, length, (byte) '\n') + 1;
+            if (end == 0) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                continue;
+            }
+
+            String lineProtocol = new String(buffer, 0, end, StandardCharsets.UTF_8);
+            run.submit(lineProtocol, offset, offset + end, countLines(buffer, end), end);
+
+            System.arraycopy(buffer, end, buffer, 0, length - end);
+            length -= end;
+            offset += end;
+        }
+    }
+
+    private void importCsv(@Nonnull final InputStream input, @Nonnull final Import run) throws IOException {
+
+        StringBuilder chunk = new StringBuilder();
+        long[] position = {0, run.start, 0};
+
+        FluxCsvParser.FluxResponseConsumer consumer = new FluxCsvParser.FluxResponseConsumer() {
+
+            @Override
+            public void accept(final int index,
+                               @Nonnull final Cancellable cancellable,
+                               @Nonnull final FluxTable table) {
+
+            }
+
+            @Override
+            public void accept(final int index,
+                               @Nonnull final Cancellable cancellable,
+                               @Nonnull final FluxRecord record) {
+
+                long current = position[0]++;
+                if (current < run.start) {
+                    return;
+                }
+
+                String lineProtocol = toLineProtocol(record, run.precision);
+                if (lineProtocol == null || lineProtocol.isEmpty()) {
+                    return;
+                }
+
+                if (chunk.length() > 0
+                        && chunk.length() + 1 + lineProtocol.length() > run.importOptions.getChunkBytes()) {
+                    submitCsv(chunk, current, position, run);
+                }
+
+                if (chunk.length() > 0) {
+                    chunk.append('\n');
+                }
+                chunk.append(lineProtocol);
+                position[2]++;
+            }
+        };
+
+        Cancellable cancellable = new Cancellable() {
+            @Override
+            public void cancel() {
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return run.isFailed();
+            }
+        };
+
+        new FluxCsvParser().parseFluxResponse(Okio.buffer(Okio.source(input)), cancellable, consumer);
+
+        if (chunk.length() > 0 && !run.isFailed()) {
+            submitCsv(chunk, position[0], position, run);
+        }
+    }
+
+    /**
+     * @param position the [current record, first record in chunk, lines in chunk]
+     */
+    private void submitCsv(@Nonnull final StringBuilder chunk,
+                           final long end,
+                           @Nonnull final long[] position,
+                           @Nonnull final Import run) {
+
+        String lineProtocol = chunk.toString();
+        chunk.setLength(0);
+
+        run.submit(lineProtocol, position[1], end, position[2], lineProtocol.getBytes(StandardCharsets.UTF_8).length);
+
+        position[1] = end;
+        position[2] = 0;
+    }
+
+    @Nullable
+    private String toLineProtocol(@Nonnull final FluxRecord record, @Nonnull final WritePrecision precision) {
+
+        String measurement = record.getMeasurement();
+        String field = record.getField();
+        Object value = record.getValue();
+        if (measurement == null || field == null || value == null) {
+            return null;
+        }
+
+        Point point = Point.measurement(measurement);
+        record.getValues().forEach((column, tag) -> {
+            if (!column.isEmpty() && !CSV_NOT_TAG_COLUMNS.contains(column) && tag != null) {
+                point.addTag(column, tag.toString());
+            }
+        });
+
+        if (value instanceof Number) {
+            point.addField(field, (Number) value);
+        } else if (value instanceof Boolean) {
+            point.addField(field, (boolean) value);
+        } else {
+            point.addField(field, value.toString());
+        }
+
+        point.time(record.getTime(), precision);
+
+        return point.toLineProtocol();
+    }
+
+    @Nonnull
+    private InputStream open(@Nonnull final Path file) throws IOException {
+
+        InputStream input = new BufferedInputStream(Files.newInputStream(file));
+
+        //
+        // Detect gzip by magic header
+        //
+        input.mark(2);
+        int magic = input.read() | (input.read() << Byte.SIZE);
+        input.reset();
+
+        if (magic == GZIPInputStream.GZIP_MAGIC) {
+            return new GZIPInputStream(input);
+        }
+
+        return input;
+    }
+
+    @Nonnull
+    private ImportOptions.Format detect(@Nonnull final Path file) {
+
+        String name = String.valueOf(file.getFileName()).toLowerCase(Locale.ROOT);
+        if (name.endsWith(".gz")) {
+            name = name.substring(0, name.length() - ".gz".length());
+        }
+
+        return name.endsWith(".csv") ? ImportOptions.Format.ANNOTATED_CSV : ImportOptions.Format.LINE_PROTOCOL;
+    }
+
+    private long readCheckpoint(@Nonnull final ImportOptions importOptions) {
+
+        Path checkpointFile = importOptions.getCheckpointFile();
+        if (checkpointFile == null || !Files.exists(checkpointFile)) {
+            return 0;
+        }
+
+        try {
+            String checkpoint = new String(Files.readAllBytes(checkpointFile), StandardCharsets.UTF_8).trim();
+
+            return Long.parseLong(checkpoint);
+        } catch (IOException | NumberFormatException e) {
+            throw new InfluxException(e);
+        }
+    }
+
+    private void skip(@Nonnull final InputStream input, final long bytes) throws IOException {
+
+        long remaining = bytes;
+        while (remaining > 0) {
+            long skipped = input.skip(remaining);
+            if (skipped <= 0) {
+                if (input.read() < 0) {
+                    throw new IOException("The checkpoint " + bytes + " is beyond the end of file.");
+                }
+                skipped = 1;
+            }
+            remaining -= skipped;
+        }
+    }
+
+    private static int lastIndexOf(@Nonnull final byte[] buffer, final int length, final byte value) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (buffer[i] == value) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private static long countLines(@Nonnull final byte[] buffer, final int length) {
+        long lines = 0;
+        for (int i = 0; i < length; i++) {
+            if (buffer[i] == '\n') {
+                lines++;
+            }
+        }
+
+        return buffer[length - 1] == '\n' ? lines : lines + 1;
+    }
+
+    /**
+     * The state of one import. The chunks are acknowledged out of order, the checkpoint is the end of the
+     * continuous sequence of written chunks.
+     * <p>
+     * The state is advanced under the {@code lock}. The checkpoint file and the progress listener are updated
+     * outside of it by a single publisher, intermediate states are coalesced to the latest one.
+     */
+    private final class Import {
+
+        private final String bucket;
+        private final String organization;
+        private final WritePrecision precision;
+        private final ImportOptions importOptions;
+        private final long start;
+
+        private final long started = System.nanoTime();
+        private final Semaphore permits;
+        private final AtomicReference<InfluxException> failure = new AtomicReference<>();
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ReentrantLock publishLock = new ReentrantLock();
+        private volatile long version;
+        private volatile long published;
+
+        private final TreeMap<Long, Long> written = new TreeMap<>();
+        private long position;
+        private long bytes;
+        private long lines;
+        private int chunks;
+
+        private Import(@Nonnull final String bucket,
+                       @Nonnull final String organization,
+                       @Nonnull final WritePrecision precision,
+                       @Nonnull final ImportOptions importOptions,
+                       final long start) {
+            this.bucket = bucket;
+            this.organization = organization;
+            this.precision = precision;
+            this.importOptions = importOptions;
+            this.start = start;
+            this.position = start;
+            this.permits = new Semaphore(importOptions.getConcurrency());
+        }
+
+        private boolean isFailed() {
+            return failure.get() != null;
+        }
+
+        private void fail(@Nonnull final InfluxException exception) {
+            failure.compareAndSet(null, exception);
+        }
+
+        private void submit(@Nonnull final String lineProtocol,
+                            final long from,
+                            final long to,
+                            final long chunkLines,
+                            final long chunkBytes) {
+
+            //
+            // Nothing to write
+            //
+            if (lineProtocol.trim().isEmpty()) {
+                written(from, to, 0, 0);
+                return;
+            }
+
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InfluxException(e);
+            }
+
+            if (isFailed()) {
+                permits.release();
+                return;
+            }
+
+            Call<Void> call = service.postWrite(organization, bucket, lineProtocol, null,
+                    "identity", "text/plain; charset=utf-8", null,
+                    "application/json", null, precision);
+
+            call.enqueue(new Callback<Void>() {
+                @Override
+                public void onResponse(@Nonnull final Call<Void> call, @Nonnull final Response<Void> response) {
+                    try {
+                        if (response.isSuccessful()) {
+                            written(from, to, chunkLines, chunkBytes);
+                        } else {
+                            fail(responseToError(response));
+                        }
+                    } finally {
+                        permits.release();
+                    }
+                }
+
+                @Override
+                public void onFailure(@Nonnull final Call<Void> call, @Nonnull final Throwable throwable) {
+                    fail(new InfluxException(throwable));
+                    permits.release();
+                }
+            });
+        }
+
+        private void written(final long from,
+                             final long to,
+                             final long chunkLines,
+                             final long chunkBytes) {
+
+            lock.lock();
+            try {
+                if (chunkBytes > 0) {
+                    chunks++;
+                }
+                lines += chunkLines;
+                bytes += chunkBytes;
+
+                written.put(from, to);
+                while (written.containsKey(position)) {
+                    position = written.remove(position);
+                }
+                version++;
+            } finally {
+                lock.unlock();
+            }
+
+            publish();
+        }
+
+        /**
+         * Store the checkpoint and notify the listener about the latest state. If an another thread is publishing
+         * then it also picks up our state.
+         */
+        private void publish() {
+
+            while (published != version && publishLock.tryLock()) {
+                try {
+                    publishLatest();
+                } finally {
+                    publishLock.unlock();
+                }
+            }
+        }
+
+        private void publishLatest() {
+
+            long current;
+            ImportResult result;
+            lock.lock();
+            try {
+                current = version;
+                result = toResult();
+            } finally {
+                lock.unlock();
+            }
+
+            if (current == published) {
+                return;
+            }
+
+            writeCheckpoint(result.getPosition());
+
+            if (importOptions.getProgressListener() != null) {
+                importOptions.getProgressListener().onEvent(result);
+            }
+
+            published = current;
+        }
+
+        private void writeCheckpoint(final long checkpoint) {
+
+            Path checkpointFile = importOptions.getCheckpointFile();
+            if (checkpointFile == null) {
+                return;
+            }
+
+            Path temp = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+            try {
+                Files.write(temp, Long.toString(checkpoint).getBytes(StandardCharsets.UTF_8));
+                Files.move(temp, checkpointFile, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                LOG.log(Level.WARNING, "Unable to store import checkpoint: " + checkpointFile, e);
+            }
+        }
+
+        @Nonnull
+        private ImportResult finish() {
+
+            //
+            // Wait to in-flight chunks
+            //
+            permits.acquireUninterruptibly(importOptions.getConcurrency());
+            permits.release(importOptions.getConcurrency());
+
+            //
+            // Wait to the publisher and publish the final state
+            //
+            publishLock.lock();
+            try {
+                publishLatest();
+
+                InfluxException exception = failure.get();
+                if (exception != null) {
+                    throw exception;
+                }
+
+                if (importOptions.getCheckpointFile() != null) {
+                    try {
+                        Files.deleteIfExists(importOptions.getCheckpointFile());
+                    } catch (IOException e) {
+                        String message = "Unable to remove import checkpoint: " + importOptions.getCheckpointFile();
+                        LOG.log(Level.WARNING, message, e);
+                    }
+                }
+            } finally {
+                publishLock.unlock();
+            }
+
+            ImportResult result;
+            lock.lock();
+            try {
+                result = toResult();
+            } finally {
+                lock.unlock();
+            }
+
+            LOG.log(Level.INFO, String.format("Imported %d lines (%d bytes) in %d chunks within %s: "
+                            + "%.1f lines/s, %.1f bytes/s", result.getLines(), result.getBytes(), result.getChunks(),
+                    result.getElapsed(), result.getLinesPerSecond(), result.getBytesPerSecond()));
+
+            return result;
+        }
+
+        @Nonnull
+        private ImportResult toResult() {
+            return new ImportResult(position, bytes, lines, chunks, Duration.ofNanos(System.nanoTime() - started));
+        }
+    }
+}
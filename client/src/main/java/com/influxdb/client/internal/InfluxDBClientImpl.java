@@ -21,6 +21,7 @@
  */
 package com.influxdb.client.internal;
 
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.annotation.Nonnull;
@@ -33,6 +34,7 @@ import com.influxdb.client.BucketsApi;
 import com.influxdb.client.ChecksApi;
 import com.influxdb.client.DashboardsApi;
 import com.influxdb.client.DeleteApi;
+import com.influxdb.client.ImportApi;
 import com.influxdb.client.InfluxDBClient;
 import com.influxdb.client.InfluxDBClientOptions;
 import com.influxdb.client.LabelsApi;
@@ -41,6 +43,8 @@ import com.influxdb.client.NotificationRulesApi;
 import com.influxdb.client.OrganizationsApi;
 import com.influxdb.client.QueryApi;
 import com.influxdb.client.ScraperTargetsApi;
+import com.influxdb.client.ShardRouter;
+import com.influxdb.client.ShardedWriteApi;
 import com.influxdb.client.SourcesApi;
 import com.influxdb.client.TasksApi;
 import com.influxdb.client.TelegrafsApi;
@@ -48,6 +52,7 @@ import com.influxdb.client.TemplatesApi;
 import com.influxdb.client.UsersApi;
 import com.influxdb.client.VariablesApi;
 import com.influxdb.client.WriteApi;
+import com.influxdb.client.WriteApiAsync;
 import com.influxdb.client.WriteApiBlocking;
 import com.influxdb.client.WriteOptions;
 import com.influxdb.client.domain.HealthCheck;
@@ -76,6 +81,7 @@ import com.influxdb.client.service.TemplatesService;
 import com.influxdb.client.service.UsersService;
 import com.influxdb.client.service.VariablesService;
 import com.influxdb.client.service.WriteService;
+import com.influxdb.client.write.WriteDestination;
 import com.influxdb.exceptions.InfluxException;
 import com.influxdb.exceptions.UnprocessableEntityException;
 
@@ -103,7 +109,7 @@ public final class InfluxDBClientImpl extends AbstractInfluxDBClient implements
     @Nonnull
     @Override
     public QueryApi getQueryApi() {
-        return new QueryApiImpl(retrofit.create(QueryService.class), options);
+        return new QueryApiImpl(queryRetrofit.create(QueryService.class), options);
     }
 
     @Nonnull
@@ -140,13 +146,45 @@ public final class InfluxDBClientImpl extends AbstractInfluxDBClient implements
             LOG.warning(String.format(format, autoCloseables.size()));
         }
 
-        return new WriteApiImpl(writeOptions, retrofit.create(WriteService.class), options, autoCloseables);
+        return new WriteApiImpl(writeOptions, writeScheduler(writeOptions),
+                writeRetrofit.create(WriteService.class), options, autoCloseables);
     }
 
     @Nonnull
     @Override
     public WriteApiBlocking getWriteApiBlocking() {
-        return new WriteApiBlockingImpl(retrofit.create(WriteService.class), options);
+        return new WriteApiBlockingImpl(writeRetrofit.create(WriteService.class), options);
+    }
+
+    @Nonnull
+    @Override
+    public ShardedWriteApi makeShardedWriteApi(@Nonnull final WriteOptions writeOptions,
+                                               @Nonnull final ShardRouter router,
+                                               @Nonnull final List<WriteDestination> shards) {
+
+        Arguments.checkNotNull(writeOptions, "WriteOptions");
+
+        return new ShardedWriteApiImpl(writeOptions, router, shards, options,
+                () -> new WriteApiImpl(writeOptions, writeScheduler(writeOptions),
+                        writeRetrofit.create(WriteService.class), options, autoCloseables), autoCloseables);
+    }
+
+    @Nonnull
+    @Override
+    public WriteApiAsync getWriteApiAsync() {
+        return getWriteApiAsync(WriteOptions.DEFAULTS);
+    }
+
+    @Nonnull
+    @Override
+    public WriteApiAsync getWriteApiAsync(@Nonnull final WriteOptions writeOptions) {
+        return writeApiAsync(writeOptions);
+    }
+
+    @Nonnull
+    @Override
+    public ImportApi getImportApi() {
+        return new ImportApiImpl(writeRetrofit.create(WriteService.class), options);
     }
 
     @Nonnull
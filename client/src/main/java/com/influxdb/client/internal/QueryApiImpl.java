@@ -40,6 +40,7 @@ import com.influxdb.client.service.QueryService;
 import com.influxdb.internal.AbstractQueryApi;
 import com.influxdb.query.FluxRecord;
 import com.influxdb.query.FluxTable;
+import com.influxdb.query.QueryListener;
 import com.influxdb.query.internal.FluxCsvParser;
 
 import okhttp3.ResponseBody;
@@ -64,6 +65,12 @@ final class QueryApiImpl extends AbstractQueryApi implements QueryApi {
         this.options = options;
     }
 
+    @Nonnull
+    @Override
+    protected QueryListener getQueryListener() {
+        return options.getQueryListener();
+    }
+
     @Nonnull
     @Override
     public List<FluxTable> query(@Nonnull final String query) {
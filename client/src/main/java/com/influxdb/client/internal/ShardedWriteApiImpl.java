@@ -0,0 +1,251 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.influxdb.Arguments;
+import com.influxdb.client.InfluxDBClient;
+import com.influxdb.client.InfluxDBClientFactory;
+import com.influxdb.client.InfluxDBClientOptions;
+import com.influxdb.client.ShardRouter;
+import com.influxdb.client.ShardedWriteApi;
+import com.influxdb.client.WriteApi;
+import com.influxdb.client.WriteOptions;
+import com.influxdb.client.domain.WritePrecision;
+import com.influxdb.client.write.Point;
+import com.influxdb.client.write.WriteDestination;
+import com.influxdb.client.write.events.AbstractWriteEvent;
+import com.influxdb.client.write.events.EventListener;
+import com.influxdb.client.write.events.ListenerRegistration;
+
+final class ShardedWriteApiImpl implements ShardedWriteApi {
+
+    private final ShardRouter router;
+    private final Map<String, Shard> shards = new HashMap<>();
+    private final Shard defaultShard;
+    private final MeasurementMapper measurementMapper = new MeasurementMapper();
+    private final Collection<AutoCloseable> autoCloseables;
+
+    ShardedWriteApiImpl(@Nonnull final WriteOptions writeOptions,
+                        @Nonnull final ShardRouter router,
+                        @Nonnull final List<WriteDestination> destinations,
+                        @Nonnull final InfluxDBClientOptions options,
+                        @Nonnull final Supplier<WriteApi> writeApiSupplier,
+                        @Nonnull final Collection<AutoCloseable> autoCloseables) {
+
+        Arguments.checkNotNull(writeOptions, "WriteOptions");
+        Arguments.checkNotNull(router, "ShardRouter");
+        Arguments.checkNotNull(destinations, "shards");
+        Arguments.checkNotNull(options, "InfluxDBClientOptions");
+        Arguments.checkNotNull(writeApiSupplier, "writeApiSupplier");
+        if (destinations.isEmpty()) {
+            throw new IllegalArgumentException("Expecting at least one shard");
+        }
+
+        this.router = router;
+        this.autoCloseables = autoCloseables;
+
+        Shard first = null;
+        for (WriteDestination destination : destinations) {
+            Arguments.checkNotNull(destination, "shard");
+            if (shards.containsKey(destination.getName())) {
+                throw new IllegalArgumentException("Duplicate shard: " + destination.getName());
+            }
+
+            Shard shard = new Shard(destination, writeOptions, options, writeApiSupplier);
+            shards.put(destination.getName(), shard);
+            if (first == null) {
+                first = shard;
+            }
+        }
+        this.defaultShard = first;
+
+        this.autoCloseables.add(this);
+    }
+
+    @Override
+    public void writeRecord(@Nonnull final WritePrecision precision, @Nullable final String record) {
+
+        Arguments.checkNotNull(precision, "WritePrecision is required");
+
+        if (record == null) {
+            return;
+        }
+
+        Shard shard = shard(router.route(record));
+        shard.writeApi.writeRecord(shard.bucket, shard.org, precision, record);
+    }
+
+    @Override
+    public void writeRecords(@Nonnull final WritePrecision precision, @Nonnull final List<String> records) {
+
+        Arguments.checkNotNull(precision, "WritePrecision is required");
+        Arguments.checkNotNull(records, "records");
+
+        Map<Shard, List<String>> routed = new LinkedHashMap<>();
+        for (String record : records) {
+            if (record != null) {
+                routed.computeIfAbsent(shard(router.route(record)), shard -> new ArrayList<>()).add(record);
+            }
+        }
+
+        routed.forEach((shard, data) -> shard.writeApi.writeRecords(shard.bucket, shard.org, precision, data));
+    }
+
+    @Override
+    public void writePoint(@Nullable final Point point) {
+
+        if (point == null) {
+            return;
+        }
+
+        Shard shard = shard(router.route(point));
+        shard.writeApi.writePoint(shard.bucket, shard.org, point);
+    }
+
+    @Override
+    public void writePoints(@Nonnull final List<Point> points) {
+
+        Arguments.checkNotNull(points, "points");
+
+        Map<Shard, List<Point>> routed = new LinkedHashMap<>();
+        for (Point point : points) {
+            if (point != null) {
+                routed.computeIfAbsent(shard(router.route(point)), shard -> new ArrayList<>()).add(point);
+            }
+        }
+
+        routed.forEach((shard, data) -> shard.writeApi.writePoints(shard.bucket, shard.org, data));
+    }
+
+    @Override
+    public <M> void writeMeasurement(@Nonnull final WritePrecision precision, @Nullable final M measurement) {
+
+        Arguments.checkNotNull(precision, "WritePrecision is required");
+
+        if (measurement == null) {
+            return;
+        }
+
+        writePoint(measurementMapper.toPoint(measurement, precision));
+    }
+
+    @Override
+    public <M> void writeMeasurements(@Nonnull final WritePrecision precision, @Nonnull final List<M> measurements) {
+
+        Arguments.checkNotNull(precision, "WritePrecision is required");
+        Arguments.checkNotNull(measurements, "measurements");
+
+        List<Point> points = new ArrayList<>(measurements.size());
+        for (M measurement : measurements) {
+            if (measurement != null) {
+                points.add(measurementMapper.toPoint(measurement, precision));
+            }
+        }
+
+        writePoints(points);
+    }
+
+    @Nonnull
+    @Override
+    public <T extends AbstractWriteEvent> ListenerRegistration listenEvents(@Nonnull final Class<T> eventType,
+                                                                            @Nonnull final EventListener<T> listener) {
+
+        Arguments.checkNotNull(eventType, "Type of listener");
+        Arguments.checkNotNull(listener, "Listener");
+
+        List<ListenerRegistration> registrations = shards.values().stream()
+                .map(shard -> shard.writeApi.listenEvents(eventType, listener))
+                .collect(Collectors.toList());
+
+        return () -> registrations.forEach(ListenerRegistration::dispose);
+    }
+
+    @Override
+    public void flush() {
+        shards.values().forEach(shard -> shard.writeApi.flush());
+    }
+
+    @Override
+    public void close() {
+
+        autoCloseables.remove(this);
+
+        shards.values().forEach(Shard::close);
+    }
+
+    @Nonnull
+    private Shard shard(@Nullable final String name) {
+
+        Shard shard = name != null ? shards.get(name) : null;
+
+        return shard != null ? shard : defaultShard;
+    }
+
+    private static final class Shard {
+
+        private final InfluxDBClient client;
+        private final WriteApi writeApi;
+        private final String bucket;
+        private final String org;
+
+        private Shard(@Nonnull final WriteDestination destination,
+                      @Nonnull final WriteOptions writeOptions,
+                      @Nonnull final InfluxDBClientOptions options,
+                      @Nonnull final Supplier<WriteApi> writeApiSupplier) {
+
+            InfluxDBClientOptions shardOptions = destination.getClientOptions() != null
+                    ? destination.getClientOptions() : options;
+
+            this.bucket = destination.getBucket() != null ? destination.getBucket() : shardOptions.getBucket();
+            this.org = destination.getOrganization() != null ? destination.getOrganization() : shardOptions.getOrg();
+
+            Arguments.checkNonEmpty(bucket, "bucket of shard " + destination.getName());
+            Arguments.checkNonEmpty(org, "organization of shard " + destination.getName());
+
+            if (destination.getClientOptions() != null) {
+                this.client = InfluxDBClientFactory.create(destination.getClientOptions());
+                this.writeApi = client.makeWriteApi(writeOptions);
+            } else {
+                this.client = null;
+                this.writeApi = writeApiSupplier.get();
+            }
+        }
+
+        private void close() {
+            writeApi.close();
+            if (client != null) {
+                client.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.internal;
+
+import javax.annotation.Nonnull;
+
+import com.influxdb.Arguments;
+
+/**
+ * The UTF-8 helpers used to measure the size of Line Protocol without encoding it into a byte array.
+ */
+public final class Utf8 {
+
+    private static final char ONE_BYTE_LIMIT = 0x80;
+    private static final char TWO_BYTES_LIMIT = 0x800;
+    private static final int SURROGATE_PAIR_BYTES = 4;
+    private static final int THREE_BYTES = 3;
+
+    private Utf8() {
+    }
+
+    /**
+     * Count the number of bytes of the UTF-8 representation of the sequence. The unpaired surrogates are counted
+     * as one replacement byte ({@code ?}) in the same way as {@link String#getBytes(java.nio.charset.Charset)}.
+     *
+     * @param sequence the characters to measure
+     * @return the number of bytes in UTF-8
+     */
+    public static long encodedLength(@Nonnull final CharSequence sequence) {
+
+        Arguments.checkNotNull(sequence, "sequence");
+
+        long bytes = 0;
+        int length = sequence.length();
+        for (int i = 0; i < length; i++) {
+            char ch = sequence.charAt(i);
+            if (ch < ONE_BYTE_LIMIT) {
+                bytes++;
+            } else if (ch < TWO_BYTES_LIMIT) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(ch)
+                    && i + 1 < length && Character.isLowSurrogate(sequence.charAt(i + 1))) {
+                bytes += SURROGATE_PAIR_BYTES;
+                i++;
+            } else if (Character.isSurrogate(ch)) {
+                bytes++;
+            } else {
+                bytes += THREE_BYTES;
+            }
+        }
+
+        return bytes;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.internal;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.influxdb.Arguments;
+
+import okhttp3.Dispatcher;
+
+/**
+ * Creates executors backed by virtual threads. The virtual threads are available since JDK 21 so the API
+ * is accessed by reflection to keep the client compatible with JDK 8.
+ */
+final class VirtualThreads {
+
+    private static final Logger LOG = Logger.getLogger(VirtualThreads.class.getName());
+
+    /**
+     * The limits of the dispatcher running calls in virtual threads. The default OkHttp limits (64 requests,
+     * 5 per host) are sized for the platform threads and would queue the most of the virtual thread callers.
+     */
+    static final int MAX_REQUESTS = 1_024;
+    static final int MAX_REQUESTS_PER_HOST = 1_024;
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * @return {@code true} if the current JVM supports virtual threads
+     */
+    static boolean isSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Create an executor that starts a new virtual thread for each task.
+     *
+     * @param prefix the prefix of the thread names
+     * @return the executor or {@code null} if the virtual threads are not supported by the current JVM
+     */
+    @Nullable
+    static ExecutorService newExecutor(@Nonnull final String prefix) {
+
+        Arguments.checkNonEmpty(prefix, "prefix");
+
+        if (!isSupported()) {
+            LOG.warning("The virtual threads are not supported by JVM " + System.getProperty("java.version")
+                    + ". The platform threads will be used.");
+            return null;
+        }
+
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+            ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+
+            Method executor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+
+            return (ExecutorService) executor.invoke(null, factory);
+        } catch (ReflectiveOperationException e) {
+            LOG.log(Level.WARNING, "Cannot create virtual threads executor. The platform threads will be used.", e);
+            return null;
+        }
+    }
+
+    /**
+     * Create a HTTP dispatcher that runs the asynchronous calls on the executor with the limits raised
+     * to {@link #MAX_REQUESTS} and {@link #MAX_REQUESTS_PER_HOST}.
+     *
+     * @param executor the executor of calls
+     * @return the dispatcher
+     */
+    @Nonnull
+    static Dispatcher newDispatcher(@Nonnull final ExecutorService executor) {
+
+        Arguments.checkNotNull(executor, "executor");
+
+        Dispatcher dispatcher = new Dispatcher(executor);
+        dispatcher.setMaxRequests(MAX_REQUESTS);
+        dispatcher.setMaxRequestsPerHost(MAX_REQUESTS_PER_HOST);
+
+        return dispatcher;
+    }
+}
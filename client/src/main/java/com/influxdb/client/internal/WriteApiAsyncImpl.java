@@ -0,0 +1,461 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.influxdb.Arguments;
+import com.influxdb.client.InfluxDBClientOptions;
+import com.influxdb.client.WriteApiAsync;
+import com.influxdb.client.WriteOptions;
+import com.influxdb.client.domain.WritePrecision;
+import com.influxdb.client.internal.AbstractWriteClient.BatchWriteData;
+import com.influxdb.client.internal.AbstractWriteClient.BatchWriteDataMeasurement;
+import com.influxdb.client.internal.AbstractWriteClient.BatchWriteDataPoint;
+import com.influxdb.client.internal.AbstractWriteClient.BatchWriteDataRecord;
+import com.influxdb.client.service.WriteService;
+import com.influxdb.client.write.Point;
+import com.influxdb.client.write.WriteResult;
+import com.influxdb.exceptions.InfluxException;
+import com.influxdb.internal.AbstractRestClient;
+
+import io.reactivex.Scheduler;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.HttpException;
+import retrofit2.Response;
+
+/**
+ * The {@link WriteApiAsync} backed by the asynchronous {@link Call#enqueue(Callback)}.
+ * The retries are scheduled on a shared timer scheduler, so no thread is held during the backoff.
+ * <p>
+ * The class is also the transport of the streaming clients, they write their batches by
+ * {@link #writeRecords(String, String, WritePrecision, List, String)}.
+ */
+public final class WriteApiAsyncImpl extends AbstractRestClient implements WriteApiAsync {
+
+    private static final Logger LOG = Logger.getLogger(WriteApiAsyncImpl.class.getName());
+
+    private final WriteOptions writeOptions;
+    private final Scheduler retryScheduler;
+    private final WriteService service;
+    private final InfluxDBClientOptions options;
+    private final MeasurementMapper measurementMapper = new MeasurementMapper();
+
+    WriteApiAsyncImpl(@Nonnull final WriteOptions writeOptions,
+                      @Nonnull final Scheduler retryScheduler,
+                      @Nonnull final WriteService service,
+                      @Nonnull final InfluxDBClientOptions options) {
+
+        Arguments.checkNotNull(writeOptions, "writeOptions");
+        Arguments.checkNotNull(retryScheduler, "retryScheduler");
+        Arguments.checkNotNull(service, "service");
+        Arguments.checkNotNull(options, "options");
+
+        this.writeOptions = writeOptions;
+        this.retryScheduler = retryScheduler;
+        this.service = service;
+        this.options = options;
+    }
+
+    @Nonnull
+    @Override
+    public CompletableFuture<WriteResult> writeRecord(@Nonnull final WritePrecision precision,
+                                                      @Nullable final String record) {
+
+        Arguments.checkNotNull(options.getBucket(), "InfluxDBClientOptions.getBucket");
+        Arguments.checkNotNull(options.getOrg(), "InfluxDBClientOptions.getOrg");
+
+        return writeRecord(options.getBucket(), options.getOrg(), precision, record);
+    }
+
+    @Nonnull
+    @Override
+    public CompletableFuture<WriteResult> writeRecord(@Nonnull final String bucket,
+                                                      @Nonnull final String org,
+                                                      @Nonnull final WritePrecision precision,
+                                                      @Nullable final String record) {
+
+        if (record == null) {
+            return writeRecords(bucket, org, precision, Collections.emptyList());
+        }
+
+        return writeRecords(bucket, org, precision, Collections.singletonList(record));
+    }
+
+    @Nonnull
+    @Override
+    public CompletableFuture<WriteResult> writeRecords(@Nonnull final WritePrecision precision,
+                                                       @Nonnull final List<String> records) {
+
+        Arguments.checkNotNull(options.getBucket(), "InfluxDBClientOptions.getBucket");
+        Arguments.checkNotNull(options.getOrg(), "InfluxDBClientOptions.getOrg");
+
+        return writeRecords(options.getBucket(), options.getOrg(), precision, records);
+    }
+
+    @Nonnull
+    @Override
+    public CompletableFuture<WriteResult> writeRecords(@Nonnull final String bucket,
+                                                       @Nonnull final String org,
+                                                       @Nonnull final WritePrecision precision,
+                                                       @Nonnull final List<String> records) {
+
+        Arguments.checkNonEmpty(bucket, "bucket");
+        Arguments.checkNonEmpty(org, "org");
+        Arguments.checkNotNull(precision, "WritePrecision is required");
+        Arguments.checkNotNull(records, "records");
+
+        return writeRecords(bucket, org, precision, records, null);
+    }
+
+    /**
+     * Write the records with the {@code Zap-Trace-Span} header of the caller.
+     *
+     * @param bucket       specifies the destination bucket for writes
+     * @param org          specifies the destination organization for writes
+     * @param precision    specifies the precision for the unix timestamps within the body line-protocol
+     * @param records      specifies the records in InfluxDB Line Protocol
+     * @param zapTraceSpan OpenTracing span context (optional)
+     * @return the future completed by the result of write
+     */
+    @Nonnull
+    public CompletableFuture<WriteResult> writeRecords(@Nonnull final String bucket,
+                                                       @Nonnull final String org,
+                                                       @Nonnull final WritePrecision precision,
+                                                       @Nonnull final List<String> records,
+                                                       @Nullable final String zapTraceSpan) {
+
+        Arguments.checkNonEmpty(bucket, "bucket");
+        Arguments.checkNonEmpty(org, "org");
+        Arguments.checkNotNull(precision, "WritePrecision is required");
+        Arguments.checkNotNull(records, "records");
+
+        return write(bucket, org, precision, records.stream().map(BatchWriteDataRecord::new), zapTraceSpan);
+    }
+
+    @Nonnull
+    @Override
+    public CompletableFuture<WriteResult> writePoint(@Nullable final Point point) {
+
+        Arguments.checkNotNull(options.getBucket(), "InfluxDBClientOptions.getBucket");
+        Arguments.checkNotNull(options.getOrg(), "InfluxDBClientOptions.getOrg");
+
+        return writePoint(options.getBucket(), options.getOrg(), point);
+    }
+
+    @Nonnull
+    @Override
+    public CompletableFuture<WriteResult> writePoint(@Nonnull final String bucket,
+                                                     @Nonnull final String org,
+                                                     @Nullable final Point point) {
+
+        if (point == null) {
+            return writePoints(bucket, org, Collections.emptyList());
+        }
+
+        return writePoints(bucket, org, Collections.singletonList(point));
+    }
+
+    @Nonnull
+    @Override
+    public CompletableFuture<WriteResult> writePoints(@Nonnull final List<Point> points) {
+
+        Arguments.checkNotNull(options.getBucket(), "InfluxDBClientOptions.getBucket");
+        Arguments.checkNotNull(options.getOrg(), "InfluxDBClientOptions.getOrg");
+
+        return writePoints(options.getBucket(), options.getOrg(), points);
+    }
+
+    @Nonnull
+    @Override
+    public CompletableFuture<WriteResult> writePoints(@Nonnull final String bucket,
+                                                      @Nonnull final String org,
+                                                      @Nonnull final List<Point> points) {
+
+        Arguments.checkNonEmpty(bucket, "bucket");
+        Arguments.checkNonEmpty(org, "org");
+        Arguments.checkNotNull(points, "points");
+
+        Map<WritePrecision, List<Point>> byPrecision = points.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(Point::getPrecision, LinkedHashMap::new, Collectors.toList()));
+
+        if (byPrecision.size() <= 1) {
+            WritePrecision precision = byPrecision.isEmpty()
+                    ? WritePrecision.NS : byPrecision.keySet().iterator().next();
+
+            return write(bucket, org, precision, points.stream()
+                    .filter(Objects::nonNull)
+                    .map(it -> new BatchWriteDataPoint(it, options)), null);
+        }
+
+        //
+        // One request per precision, the future is completed after all requests
+        //
+        List<CompletableFuture<WriteResult>> futures = byPrecision.entrySet().stream()
+                .map(entry -> write(bucket, org, entry.getKey(), entry.getValue().stream()
+                        .map(it -> new BatchWriteDataPoint(it, options)), null))
+                .collect(Collectors.toList());
+
+        CompletableFuture<WriteResult> result = CompletableFuture
+                .allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> merge(futures));
+
+        //
+        // Cancel all requests when the caller is not interested in result
+        //
+        result.whenComplete((ignored, throwable) -> {
+            if (result.isCancelled()) {
+                futures.forEach(future -> future.cancel(false));
+            }
+        });
+
+        return result;
+    }
+
+    @Nonnull
+    @Override
+    public <M> CompletableFuture<WriteResult> writeMeasurement(@Nonnull final WritePrecision precision,
+                                                               @Nullable final M measurement) {
+
+        Arguments.checkNotNull(options.getBucket(), "InfluxDBClientOptions.getBucket");
+        Arguments.checkNotNull(options.getOrg(), "InfluxDBClientOptions.getOrg");
+
+        return writeMeasurement(options.getBucket(), options.getOrg(), precision, measurement);
+    }
+
+    @Nonnull
+    @Override
+    public <M> CompletableFuture<WriteResult> writeMeasurement(@Nonnull final String bucket,
+                                                               @Nonnull final String org,
+                                                               @Nonnull final WritePrecision precision,
+                                                               @Nullable final M measurement) {
+
+        if (measurement == null) {
+            return writeMeasurements(bucket, org, precision, Collections.emptyList());
+        }
+
+        return writeMeasurements(bucket, org, precision, Collections.singletonList(measurement));
+    }
+
+    @Nonnull
+    @Override
+    public <M> CompletableFuture<WriteResult> writeMeasurements(@Nonnull final WritePrecision precision,
+                                                                @Nonnull final List<M> measurements) {
+
+        Arguments.checkNotNull(options.getBucket(), "InfluxDBClientOptions.getBucket");
+        Arguments.checkNotNull(options.getOrg(), "InfluxDBClientOptions.getOrg");
+
+        return writeMeasurements(options.getBucket(), options.getOrg(), precision, measurements);
+    }
+
+    @Nonnull
+    @Override
+    public <M> CompletableFuture<WriteResult> writeMeasurements(@Nonnull final String bucket,
+                                                                @Nonnull final String org,
+                                                                @Nonnull final WritePrecision precision,
+                                                                @Nonnull final List<M> measurements) {
+
+        Arguments.checkNonEmpty(bucket, "bucket");
+        Arguments.checkNonEmpty(org, "org");
+        Arguments.checkNotNull(precision, "WritePrecision is required");
+        Arguments.checkNotNull(measurements, "measurements");
+
+        return write(bucket, org, precision, measurements.stream()
+                .map(it -> new BatchWriteDataMeasurement(it, precision, options, measurementMapper)), null);
+    }
+
+    @Nonnull
+    private CompletableFuture<WriteResult> write(@Nonnull final String bucket,
+                                                 @Nonnull final String organization,
+                                                 @Nonnull final WritePrecision precision,
+                                                 @Nonnull final Stream<BatchWriteData> stream,
+                                                 @Nullable final String zapTraceSpan) {
+
+        List<String> lines = stream
+                .map(BatchWriteData::toLineProtocol)
+                .filter(it -> it != null && !it.isEmpty())
+                .collect(Collectors.toList());
+
+        if (lines.isEmpty()) {
+
+            LOG.warning("The writes doesn't contains any Line Protocol, skipping");
+            return CompletableFuture.completedFuture(
+                    new WriteResult(bucket, organization, precision, 0, 0, 0, Duration.ZERO));
+        }
+
+        String lineProtocol = String.join("\n", lines);
+
+        LOG.log(Level.FINEST,
+                "Writing time-series data into InfluxDB (org={0}, bucket={1}, precision={2})...",
+                new Object[]{organization, bucket, precision});
+
+        Call<Void> call = service.postWrite(organization, bucket, lineProtocol, zapTraceSpan,
+                "identity", "text/plain; charset=utf-8", null,
+                "application/json", null, precision);
+
+        WriteCallback callback = new WriteCallback(bucket, organization, precision, lines.size(),
+                lineProtocol.getBytes(StandardCharsets.UTF_8).length);
+
+        callback.enqueue(call);
+
+        return callback.future;
+    }
+
+    @Nonnull
+    private WriteResult merge(@Nonnull final List<CompletableFuture<WriteResult>> futures) {
+
+        WriteResult first = futures.get(0).join();
+
+        int lineCount = 0;
+        long bytes = 0;
+        int retries = 0;
+        Duration latency = Duration.ZERO;
+        for (CompletableFuture<WriteResult> future : futures) {
+            WriteResult result = future.join();
+            lineCount += result.getLineCount();
+            bytes += result.getBytes();
+            retries += result.getRetries();
+            latency = latency.compareTo(result.getLatency()) >= 0 ? latency : result.getLatency();
+        }
+
+        return new WriteResult(first.getBucket(), first.getOrganization(), first.getPrecision(),
+                lineCount, bytes, retries, latency);
+    }
+
+    /**
+     * Tracks one batch across its retries and completes the future by the final outcome.
+     */
+    private final class WriteCallback implements Callback<Void> {
+
+        private final CompletableFuture<WriteResult> future = new CompletableFuture<>();
+        private final long started = System.nanoTime();
+
+        private final String bucket;
+        private final String organization;
+        private final WritePrecision precision;
+        private final int lineCount;
+        private final long bytes;
+
+        private volatile Call<Void> inFlight;
+        private volatile int retries;
+
+        private WriteCallback(@Nonnull final String bucket,
+                              @Nonnull final String organization,
+                              @Nonnull final WritePrecision precision,
+                              final int lineCount,
+                              final long bytes) {
+            this.bucket = bucket;
+            this.organization = organization;
+            this.precision = precision;
+            this.lineCount = lineCount;
+            this.bytes = bytes;
+
+            //
+            // Cancel in-flight request when the caller is not interested in result
+            //
+            future.whenComplete((result, throwable) -> {
+                Call<Void> call = inFlight;
+                if (future.isCancelled() && call != null) {
+                    call.cancel();
+                }
+            });
+        }
+
+        private void enqueue(@Nonnull final Call<Void> call) {
+            if (future.isDone()) {
+                return;
+            }
+
+            inFlight = call;
+            call.enqueue(this);
+        }
+
+        @Override
+        public void onResponse(@Nonnull final Call<Void> call, @Nonnull final Response<Void> response) {
+
+            if (response.isSuccessful()) {
+
+                Duration latency = Duration.ofNanos(System.nanoTime() - started);
+                future.complete(new WriteResult(bucket, organization, precision, lineCount, bytes, retries, latency));
+                return;
+            }
+
+            retryOrFail(call, new HttpException(response), responseToError(response));
+        }
+
+        @Override
+        public void onFailure(@Nonnull final Call<Void> call, @Nonnull final Throwable throwable) {
+
+            if (future.isDone()) {
+                return;
+            }
+
+            retryOrFail(call, throwable, new InfluxException(throwable));
+        }
+
+        private void retryOrFail(@Nonnull final Call<Void> call,
+                                 @Nonnull final Throwable throwable,
+                                 @Nonnull final InfluxException error) {
+
+            RetryAttempt attempt = new RetryAttempt(throwable, retries + 1, writeOptions);
+            if (!attempt.isRetry()) {
+                future.completeExceptionally(error);
+                return;
+            }
+
+            long retryInterval = attempt.getRetryInterval();
+
+            //
+            // maxRetryTime timeout
+            //
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+            if (elapsed + retryInterval > writeOptions.getMaxRetryTime()) {
+                future.completeExceptionally(new InfluxException(new TimeoutException("Max retry time exceeded.")));
+                return;
+            }
+
+            retries++;
+
+            String message = "The retriable error occurred during writing of data. Reason: ''{0}''. Retry in: {1}ms.";
+            LOG.log(Level.WARNING, message, new Object[]{error.getMessage(), retryInterval});
+
+            retryScheduler.scheduleDirect(() -> enqueue(call.clone()), retryInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -33,6 +33,7 @@ import javax.annotation.Nullable;
 import com.influxdb.Arguments;
 import com.influxdb.client.InfluxDBClientOptions;
 import com.influxdb.client.WriteApiBlocking;
+import com.influxdb.client.WriteStreamOptions;
 import com.influxdb.client.domain.WritePrecision;
 import com.influxdb.client.internal.AbstractWriteClient.BatchWriteData;
 import com.influxdb.client.internal.AbstractWriteClient.BatchWriteDataPoint;
@@ -185,6 +186,111 @@ final class WriteApiBlockingImpl extends AbstractWriteBlockingClient implements
         write(bucket, org, precision, measurements.stream().map(it -> toMeasurementBatch(it, precision)));
     }
 
+    @Override
+    public void writeRecordsStream(@Nonnull final WritePrecision precision, @Nonnull final Stream<String> records) {
+
+        Arguments.checkNotNull(options.getBucket(), "InfluxDBClientOptions.getBucket");
+        Arguments.checkNotNull(options.getOrg(), "InfluxDBClientOptions.getOrg");
+
+        writeRecordsStream(options.getBucket(), options.getOrg(), precision, records);
+    }
+
+    @Override
+    public void writeRecordsStream(@Nonnull final String bucket,
+                                   @Nonnull final String org,
+                                   @Nonnull final WritePrecision precision,
+                                   @Nonnull final Stream<String> records) {
+
+        writeRecordsStream(bucket, org, precision, records, WriteStreamOptions.DEFAULTS);
+    }
+
+    @Override
+    public void writeRecordsStream(@Nonnull final String bucket,
+                                   @Nonnull final String org,
+                                   @Nonnull final WritePrecision precision,
+                                   @Nonnull final Stream<String> records,
+                                   @Nonnull final WriteStreamOptions streamOptions) {
+
+        Arguments.checkNotNull(precision, "WritePrecision is required");
+        Arguments.checkNotNull(records, "records");
+
+        writeStream(bucket, org, records.filter(Objects::nonNull).map(it -> toLine(it, precision)), streamOptions);
+    }
+
+    @Override
+    public void writePointsStream(@Nonnull final Stream<Point> points) {
+
+        Arguments.checkNotNull(options.getBucket(), "InfluxDBClientOptions.getBucket");
+        Arguments.checkNotNull(options.getOrg(), "InfluxDBClientOptions.getOrg");
+
+        writePointsStream(options.getBucket(), options.getOrg(), points);
+    }
+
+    @Override
+    public void writePointsStream(@Nonnull final String bucket,
+                                  @Nonnull final String org,
+                                  @Nonnull final Stream<Point> points) {
+
+        writePointsStream(bucket, org, points, WriteStreamOptions.DEFAULTS);
+    }
+
+    @Override
+    public void writePointsStream(@Nonnull final String bucket,
+                                  @Nonnull final String org,
+                                  @Nonnull final Stream<Point> points,
+                                  @Nonnull final WriteStreamOptions streamOptions) {
+
+        Arguments.checkNotNull(points, "points");
+
+        writeStream(bucket, org, points.filter(Objects::nonNull).map(it -> toLine(it, it.getPrecision())),
+                streamOptions);
+    }
+
+    @Override
+    public <M> void writeMeasurementsStream(@Nonnull final WritePrecision precision,
+                                            @Nonnull final Stream<M> measurements) {
+
+        Arguments.checkNotNull(options.getBucket(), "InfluxDBClientOptions.getBucket");
+        Arguments.checkNotNull(options.getOrg(), "InfluxDBClientOptions.getOrg");
+
+        writeMeasurementsStream(options.getBucket(), options.getOrg(), precision, measurements);
+    }
+
+    @Override
+    public <M> void writeMeasurementsStream(@Nonnull final String bucket,
+                                            @Nonnull final String org,
+                                            @Nonnull final WritePrecision precision,
+                                            @Nonnull final Stream<M> measurements) {
+
+        writeMeasurementsStream(bucket, org, precision, measurements, WriteStreamOptions.DEFAULTS);
+    }
+
+    @Override
+    public <M> void writeMeasurementsStream(@Nonnull final String bucket,
+                                            @Nonnull final String org,
+                                            @Nonnull final WritePrecision precision,
+                                            @Nonnull final Stream<M> measurements,
+                                            @Nonnull final WriteStreamOptions streamOptions) {
+
+        Arguments.checkNotNull(precision, "WritePrecision is required");
+        Arguments.checkNotNull(measurements, "measurements");
+
+        writeStream(bucket, org, measurements.filter(Objects::nonNull).map(it -> toLine(it, precision)),
+                streamOptions);
+    }
+
+    private void writeStream(@Nonnull final String bucket,
+                             @Nonnull final String org,
+                             @Nonnull final Stream<WriteChunker.Line> lines,
+                             @Nonnull final WriteStreamOptions streamOptions) {
+
+        Arguments.checkNonEmpty(bucket, "bucket");
+        Arguments.checkNonEmpty(org, "org");
+        Arguments.checkNotNull(streamOptions, "WriteStreamOptions");
+
+        writeStream(bucket, org, lines.iterator(), streamOptions);
+    }
+
     private void write(@Nonnull final String bucket,
                        @Nonnull final String organization,
                        @Nonnull final WritePrecision precision,
@@ -21,10 +21,10 @@
  */
 package com.influxdb.client.internal;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -39,7 +39,7 @@ import com.influxdb.client.write.events.AbstractWriteEvent;
 import com.influxdb.client.write.events.EventListener;
 import com.influxdb.client.write.events.ListenerRegistration;
 
-import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
 import io.reactivex.disposables.Disposable;
 
 /**
@@ -48,10 +48,11 @@ import io.reactivex.disposables.Disposable;
 final class WriteApiImpl extends AbstractWriteClient implements WriteApi {
 
     WriteApiImpl(@Nonnull final WriteOptions writeOptions,
+                 @Nonnull final Scheduler writeScheduler,
                  @Nonnull final WriteService service,
                  @Nonnull final InfluxDBClientOptions options, final Collection<AutoCloseable> autoCloseables) {
 
-        super(writeOptions, options, writeOptions.getWriteScheduler(), service, autoCloseables);
+        super(writeOptions, options, writeScheduler, service, autoCloseables);
     }
 
     @Override
@@ -77,7 +78,7 @@ final class WriteApiImpl extends AbstractWriteClient implements WriteApi {
             return;
         }
 
-        write(bucket, org, precision, Flowable.just(new BatchWriteDataRecord(record)));
+        write(bucket, org, precision, Collections.singletonList(new BatchWriteDataRecord(record)));
     }
 
     @Override
@@ -100,9 +101,12 @@ final class WriteApiImpl extends AbstractWriteClient implements WriteApi {
         Arguments.checkNotNull(precision, "WritePrecision is required");
         Arguments.checkNotNull(records, "records");
 
-        Flowable<BatchWriteData> stream = Flowable.fromIterable(records).map(BatchWriteDataRecord::new);
+        List<BatchWriteData> data = new ArrayList<>(records.size());
+        for (String record : records) {
+            data.add(new BatchWriteDataRecord(record));
+        }
 
-        write(bucket, org, precision, stream);
+        write(bucket, org, precision, data);
     }
 
     @Override
@@ -144,10 +148,7 @@ final class WriteApiImpl extends AbstractWriteClient implements WriteApi {
         Arguments.checkNonEmpty(org, "org");
         Arguments.checkNotNull(points, "points");
 
-        Flowable<BatchWriteDataPoint> stream = Flowable.fromIterable(points).filter(Objects::nonNull)
-                .map(point -> new BatchWriteDataPoint(point, options));
-
-        write(bucket, org, stream);
+        write(bucket, org, points);
     }
 
     @Override
@@ -192,11 +193,12 @@ final class WriteApiImpl extends AbstractWriteClient implements WriteApi {
         Arguments.checkNotNull(precision, "WritePrecision is required");
         Arguments.checkNotNull(measurements, "records");
 
-        Flowable<BatchWriteData> stream = Flowable
-                .fromIterable(measurements)
-                .map(it -> new BatchWriteDataMeasurement(it, precision, options, measurementMapper));
+        List<BatchWriteData> data = new ArrayList<>(measurements.size());
+        for (M measurement : measurements) {
+            data.add(new BatchWriteDataMeasurement(measurement, precision, options, measurementMapper));
+        }
 
-        write(bucket, org, precision, stream);
+        write(bucket, org, precision, data);
     }
 
     @Nonnull
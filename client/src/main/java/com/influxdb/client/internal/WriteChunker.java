@@ -0,0 +1,246 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import com.influxdb.Arguments;
+import com.influxdb.client.domain.WritePrecision;
+
+/**
+ * Splits the stream of Line Protocol into chunks bounded by the number of lines and by the size in bytes.
+ * The InfluxDB accepts only one precision in the request, so the chunk is also closed by the change of precision.
+ * <p>
+ * The chunker is shared by the streaming writes of all clients, the access has to be serialized by the caller.
+ */
+@NotThreadSafe
+public final class WriteChunker {
+
+    /**
+     * The marker that closes the actual chunk, for example by the tick of the flush interval.
+     */
+    public static final Line FLUSH = new Line(WritePrecision.NS, null);
+
+    /**
+     * The marker of the end of stream, it closes the actual chunk.
+     */
+    public static final Line END = new Line(WritePrecision.NS, null);
+
+    private final int maxLines;
+    private final long maxBytes;
+
+    private Chunk chunk;
+
+    /**
+     * @param maxLines the maximum number of lines in chunk
+     * @param maxBytes the maximum size of chunk in bytes, the longer line is sent in its own chunk
+     */
+    public WriteChunker(final int maxLines, final long maxBytes) {
+
+        Arguments.checkPositiveNumber(maxLines, "maxLines");
+        Arguments.checkPositiveNumber(maxBytes, "maxBytes");
+
+        this.maxLines = maxLines;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Add the line or process the {@link #FLUSH} and {@link #END} markers. The full chunk is closed together
+     * with the next line, so the caller is able to prepare the next chunk while the previous one is written.
+     *
+     * @param line the line to add
+     * @return the closed chunks in the order of lines
+     * @see #add(WritePrecision, String)
+     */
+    @Nonnull
+    public List<Chunk> add(@Nonnull final Line line) {
+
+        Arguments.checkNotNull(line, "line");
+
+        if (line == FLUSH || line == END) {
+            return flush();
+        }
+
+        return add(line.precision, line.lineProtocol);
+    }
+
+    /**
+     * Add the line into the actual chunk. The chunk is closed before the line if it is full, the line doesn't fit
+     * into it or the line has a different precision. The empty lines are skipped.
+     *
+     * @param precision    the precision of line
+     * @param lineProtocol the line
+     * @return the closed chunk or empty list
+     */
+    @Nonnull
+    public List<Chunk> add(@Nonnull final WritePrecision precision, @Nullable final String lineProtocol) {
+
+        Arguments.checkNotNull(precision, "precision");
+
+        if (lineProtocol == null || lineProtocol.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        long bytes = Utf8.encodedLength(lineProtocol);
+
+        List<Chunk> closed = Collections.emptyList();
+        if (chunk != null && (chunk.lines.size() >= maxLines
+                || chunk.precision != precision
+                || chunk.bytes + 1 + bytes > maxBytes)) {
+            closed = flush();
+        }
+
+        if (chunk == null) {
+            chunk = new Chunk(precision);
+        }
+        chunk.append(lineProtocol, bytes);
+
+        return closed;
+    }
+
+    /**
+     * Add the line same as {@link #add(Line)}, but close the chunk as soon as it is full. It suits to the reactive
+     * streams where the next line could come much later.
+     *
+     * @param line the line to add
+     * @return the closed chunks in the order of lines
+     */
+    @Nonnull
+    public List<Chunk> offer(@Nonnull final Line line) {
+
+        List<Chunk> closed = add(line);
+        if (chunk == null || chunk.lines.size() < maxLines) {
+            return closed;
+        }
+
+        if (closed.isEmpty()) {
+            return flush();
+        }
+
+        List<Chunk> chunks = new ArrayList<>(closed);
+        chunks.addAll(flush());
+        return chunks;
+    }
+
+    /**
+     * Close the actual chunk.
+     *
+     * @return the closed chunk or empty list if there is nothing to close
+     */
+    @Nonnull
+    public List<Chunk> flush() {
+
+        if (chunk == null) {
+            return Collections.emptyList();
+        }
+
+        List<Chunk> closed = Collections.singletonList(chunk);
+        chunk = null;
+        return closed;
+    }
+
+    /**
+     * @return {@code true} if the actual chunk doesn't contain any line
+     */
+    public boolean isEmpty() {
+        return chunk == null;
+    }
+
+    /**
+     * The line of Line Protocol with its precision, the element of the reactive streams.
+     */
+    public static final class Line {
+
+        private final WritePrecision precision;
+        private final String lineProtocol;
+
+        public Line(@Nonnull final WritePrecision precision, @Nullable final String lineProtocol) {
+
+            Arguments.checkNotNull(precision, "precision");
+
+            this.precision = precision;
+            this.lineProtocol = lineProtocol;
+        }
+    }
+
+    /**
+     * The lines of the same precision written by one request.
+     */
+    public static final class Chunk {
+
+        private final WritePrecision precision;
+        private final List<String> lines = new ArrayList<>();
+        private long bytes;
+
+        private Chunk(@Nonnull final WritePrecision precision) {
+            this.precision = precision;
+        }
+
+        private void append(@Nonnull final String lineProtocol, final long lineBytes) {
+            bytes += lines.isEmpty() ? lineBytes : lineBytes + 1;
+            lines.add(lineProtocol);
+        }
+
+        /**
+         * @return the precision of all lines
+         */
+        @Nonnull
+        public WritePrecision getPrecision() {
+            return precision;
+        }
+
+        /**
+         * @return the lines of chunk
+         */
+        @Nonnull
+        public List<String> getLines() {
+            return Collections.unmodifiableList(lines);
+        }
+
+        /**
+         * @return the number of lines
+         */
+        public int size() {
+            return lines.size();
+        }
+
+        /**
+         * @return the size of joined lines in UTF-8 bytes
+         */
+        public long getBytes() {
+            return bytes;
+        }
+
+        /**
+         * @return the lines joined by new line
+         */
+        @Nonnull
+        public String toLineProtocol() {
+            return String.join("\n", lines);
+        }
+    }
+}
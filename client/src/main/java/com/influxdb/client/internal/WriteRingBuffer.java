@@ -0,0 +1,145 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.influxdb.Arguments;
+
+/**
+ * Bounded lock-free multi-producer ring buffer.
+ * <p>
+ * Every slot carries a sequence number, so a producer claims a slot by a single CAS on the tail sequence
+ * and publishes the item by an ordered write of the slot sequence. The items are usually removed by a single
+ * consumer, but the {@link #poll()} claims the head by CAS, so a producer is also able to remove the oldest item
+ * if the buffer is full.
+ *
+ * @param <T> type of items
+ */
+@ThreadSafe
+final class WriteRingBuffer<T> {
+
+    private static final int MAX_CAPACITY = Integer.highestOneBit(Integer.MAX_VALUE);
+
+    private final int mask;
+    private final AtomicReferenceArray<T> items;
+    private final AtomicLongArray sequences;
+
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * @param capacity the minimal capacity of the buffer, it is rounded up to the power of two
+     */
+    WriteRingBuffer(final int capacity) {
+
+        Arguments.checkPositiveNumber(capacity, "capacity");
+
+        int size = 1;
+        while (size < Math.min(capacity, MAX_CAPACITY)) {
+            size <<= 1;
+        }
+
+        this.mask = size - 1;
+        this.items = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Add item into buffer.
+     *
+     * @param item the item to add
+     * @return {@code false} if the buffer is full
+     */
+    boolean offer(@Nonnull final T item) {
+
+        Arguments.checkNotNull(item, "item");
+
+        long position = tail.get();
+        for (;;) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    items.lazySet(index, item);
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Remove the oldest item from the buffer.
+     *
+     * @return the oldest item or {@code null} if the buffer is empty
+     */
+    @Nullable
+    T poll() {
+
+        long position = head.get();
+        for (;;) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    T item = items.get(index);
+                    items.lazySet(index, null);
+                    sequences.lazySet(index, position + mask + 1);
+                    return item;
+                }
+                position = head.get();
+            } else if (difference < 0) {
+                return null;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} if there is not any claimed slot
+     */
+    boolean isEmpty() {
+        return head.get() == tail.get();
+    }
+
+    /**
+     * @return the capacity of the buffer
+     */
+    int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.write;
+
+import java.time.Duration;
+import java.util.StringJoiner;
+import javax.annotation.Nonnull;
+
+import com.influxdb.Arguments;
+
+/**
+ * The progress or the summary of a file import.
+ */
+public final class ImportResult {
+
+    private final long position;
+    private final long bytes;
+    private final long lines;
+    private final int chunks;
+    private final Duration elapsed;
+
+    public ImportResult(final long position,
+                        final long bytes,
+                        final long lines,
+                        final int chunks,
+                        @Nonnull final Duration elapsed) {
+
+        Arguments.checkNotNull(elapsed, "elapsed");
+
+        this.position = position;
+        this.bytes = bytes;
+        this.lines = lines;
+        this.chunks = chunks;
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * @return the position up to which is the file written - the byte offset for the Line Protocol
+     * or the number of records for the CSV
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * @return the number of written bytes of Line Protocol
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * @return the number of written lines of Line Protocol
+     */
+    public long getLines() {
+        return lines;
+    }
+
+    /**
+     * @return the number of written chunks
+     */
+    public int getChunks() {
+        return chunks;
+    }
+
+    /**
+     * @return the time elapsed from the start of import
+     */
+    @Nonnull
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * @return the throughput in bytes per second
+     */
+    public double getBytesPerSecond() {
+        return perSecond(bytes);
+    }
+
+    /**
+     * @return the throughput in lines per second
+     */
+    public double getLinesPerSecond() {
+        return perSecond(lines);
+    }
+
+    private double perSecond(final long value) {
+        long nanos = elapsed.toNanos();
+        if (nanos == 0) {
+            return 0;
+        }
+
+        return value / (nanos / (double) Duration.ofSeconds(1).toNanos());
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", ImportResult.class.getSimpleName() + "[", "]")
+                .add("position=" + position)
+                .add("bytes=" + bytes)
+                .add("lines=" + lines)
+                .add("chunks=" + chunks)
+                .add("elapsed=" + elapsed)
+                .add(String.format("linesPerSecond=%.1f", getLinesPerSecond()))
+                .add(String.format("bytesPerSecond=%.1f", getBytesPerSecond()))
+                .toString();
+    }
+}
@@ -252,6 +252,28 @@ public final class Point {
         return time((Number) time, precision);
     }
 
+    /**
+     * @return the measurement name
+     */
+    @Nonnull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the value of tag. The default tags from {@link PointSettings} are not included.
+     *
+     * @param key the tag name
+     * @return the tag value or {@code null} if the point doesn't have the tag
+     */
+    @Nullable
+    public String getTag(@Nonnull final String key) {
+
+        Arguments.checkNotNull(key, "tagName");
+
+        return tags.get(key);
+    }
+
     /**
      * @return the data point precision
      */
@@ -0,0 +1,195 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.write;
+
+import java.util.StringJoiner;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.influxdb.Arguments;
+import com.influxdb.client.InfluxDBClientOptions;
+
+/**
+ * The destination of batching writes - another bucket or organization of the same InfluxDB or another InfluxDB server.
+ * <p>
+ * The destination is used as:
+ * <ul>
+ *     <li>the replica - every batch of the {@link com.influxdb.client.WriteApi} is encoded into Line Protocol once
+ *     and the same data are posted to the primary bucket and to all replicas. Every replica has own retry state
+ *     and buffer of batches, so the failing replica doesn't slow down the primary writes nor others replicas.</li>
+ *     <li>the shard of {@link com.influxdb.client.ShardedWriteApi} - the data are routed into the shard
+ *     by its name.</li>
+ * </ul>
+ *
+ * @see com.influxdb.client.WriteOptions.Builder#addReplica(WriteDestination)
+ * @see com.influxdb.client.InfluxDBClient#makeShardedWriteApi(com.influxdb.client.WriteOptions,
+ * com.influxdb.client.ShardRouter, java.util.List)
+ */
+@ThreadSafe
+public final class WriteDestination {
+
+    private final String name;
+    private final String bucket;
+    private final String organization;
+    private final InfluxDBClientOptions clientOptions;
+
+    private WriteDestination(@Nonnull final Builder builder) {
+
+        Arguments.checkNotNull(builder, "WriteDestination.Builder");
+
+        this.name = builder.name;
+        this.bucket = builder.bucket;
+        this.organization = builder.organization;
+        this.clientOptions = builder.clientOptions;
+    }
+
+    /**
+     * @return the name of replica used in events or the name of shard
+     */
+    @Nonnull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the destination bucket or {@code null} to use the bucket of primary write
+     * (the default bucket of client for shard)
+     * @see Builder#bucket(String)
+     */
+    @Nullable
+    public String getBucket() {
+        return bucket;
+    }
+
+    /**
+     * @return the destination organization or {@code null} to use the organization of primary write
+     * (the default organization of client for shard)
+     * @see Builder#organization(String)
+     */
+    @Nullable
+    public String getOrganization() {
+        return organization;
+    }
+
+    /**
+     * @return the connection options of another InfluxDB or {@code null} to write into the same InfluxDB
+     * @see Builder#clientOptions(InfluxDBClientOptions)
+     */
+    @Nullable
+    public InfluxDBClientOptions getClientOptions() {
+        return clientOptions;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", WriteDestination.class.getSimpleName() + "[", "]")
+                .add("name='" + name + "'")
+                .add("bucket='" + bucket + "'")
+                .add("organization='" + organization + "'")
+                .add("url='" + (clientOptions != null ? clientOptions.getUrl() : null) + "'")
+                .toString();
+    }
+
+    /**
+     * Creates a builder instance.
+     *
+     * @param name the name of replica used in events or the name of shard
+     * @return a builder
+     */
+    @Nonnull
+    public static WriteDestination.Builder builder(@Nonnull final String name) {
+        return new WriteDestination.Builder(name);
+    }
+
+    /**
+     * A builder for {@code WriteDestination}.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+
+        private final String name;
+        private String bucket;
+        private String organization;
+        private InfluxDBClientOptions clientOptions;
+
+        private Builder(@Nonnull final String name) {
+
+            Arguments.checkNonEmpty(name, "name");
+
+            this.name = name;
+        }
+
+        /**
+         * Set the destination bucket. If it is not set, the data are written into the bucket of primary write.
+         *
+         * @param bucket the destination bucket
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder bucket(@Nonnull final String bucket) {
+            Arguments.checkNonEmpty(bucket, "bucket");
+            this.bucket = bucket;
+            return this;
+        }
+
+        /**
+         * Set the destination organization. If it is not set, the data are written into the organization
+         * of primary write.
+         *
+         * @param organization the destination organization
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder organization(@Nonnull final String organization) {
+            Arguments.checkNonEmpty(organization, "organization");
+            this.organization = organization;
+            return this;
+        }
+
+        /**
+         * Set the connection options of another InfluxDB, for example the disaster recovery cluster.
+         * The replica creates own client which is closed together with the {@code WriteApi}.
+         *
+         * @param clientOptions the connection options of another InfluxDB
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder clientOptions(@Nonnull final InfluxDBClientOptions clientOptions) {
+            Arguments.checkNotNull(clientOptions, "InfluxDBClientOptions");
+            this.clientOptions = clientOptions;
+            return this;
+        }
+
+        /**
+         * Build an instance of WriteDestination.
+         *
+         * @return {@code WriteDestination}
+         */
+        @Nonnull
+        public WriteDestination build() {
+
+            return new WriteDestination(this);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.write;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * The metrics facade of the batching {@link com.influxdb.client.WriteApi}.
+ * <p>
+ * The client doesn't depend on any metrics library - the implementations adapt the recorded values into
+ * the meters of the library, see {@code influxdb-client-micrometer}. All methods have an empty default
+ * implementation, so the implementation can record only interesting values. The methods are called from
+ * the write pipeline and should not block.
+ */
+@ThreadSafe
+public interface WriteMetrics {
+
+    /**
+     * The implementation that doesn't record anything.
+     */
+    WriteMetrics NOOP = new WriteMetrics() {
+    };
+
+    /**
+     * Record the change of number of items in the backpressure buffer. The size of buffer is the sum of changes,
+     * so the same metrics can be shared by several {@link com.influxdb.client.WriteApi}.
+     *
+     * @param delta {@code 1} for the buffered item, {@code -1} for the item that leaves the buffer
+     */
+    default void recordBufferChange(final long delta) {
+    }
+
+    /**
+     * Record the item dropped by the backpressure strategy.
+     */
+    default void recordDrop() {
+    }
+
+    /**
+     * Record the time of encoding the data into Line Protocol.
+     *
+     * @param nanos the encoding time in nanoseconds
+     */
+    default void recordEncode(final long nanos) {
+    }
+
+    /**
+     * Record the size of batch sent to InfluxDB.
+     *
+     * @param lines the number of points in batch
+     * @param bytes the size of batch in bytes (the length of UTF-8 encoded Line Protocol)
+     */
+    default void recordBatch(final long lines, final long bytes) {
+    }
+
+    /**
+     * Record the start of HTTP request.
+     */
+    default void recordRequestStart() {
+    }
+
+    /**
+     * Record the end of HTTP request.
+     *
+     * @param status the HTTP status code of response or {@code 0} if the request fails without response
+     * @param nanos  the latency of request in nanoseconds
+     */
+    default void recordRequest(final int status, final long nanos) {
+    }
+
+    /**
+     * Record the retry of failed batch.
+     *
+     * @param status the HTTP status code of failed response or {@code 0} if the request failed without response
+     */
+    default void recordRetry(final int status) {
+    }
+}
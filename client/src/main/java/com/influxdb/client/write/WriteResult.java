@@ -0,0 +1,134 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.write;
+
+import java.time.Duration;
+import java.util.StringJoiner;
+import javax.annotation.Nonnull;
+
+import com.influxdb.Arguments;
+import com.influxdb.client.domain.WritePrecision;
+
+/**
+ * The result of an acknowledged write.
+ * <p>
+ * Carries the destination of the batch, the size of the written Line Protocol,
+ * the number of retries needed to deliver it and the overall latency of the write including retries.
+ */
+public final class WriteResult {
+
+    private final String bucket;
+    private final String organization;
+    private final WritePrecision precision;
+    private final int lineCount;
+    private final long bytes;
+    private final int retries;
+    private final Duration latency;
+
+    public WriteResult(@Nonnull final String bucket,
+                       @Nonnull final String organization,
+                       @Nonnull final WritePrecision precision,
+                       final int lineCount,
+                       final long bytes,
+                       final int retries,
+                       @Nonnull final Duration latency) {
+
+        Arguments.checkNotNull(bucket, "bucket");
+        Arguments.checkNotNull(organization, "organization");
+        Arguments.checkNotNull(precision, "precision");
+        Arguments.checkNotNull(latency, "latency");
+
+        this.bucket = bucket;
+        this.organization = organization;
+        this.precision = precision;
+        this.lineCount = lineCount;
+        this.bytes = bytes;
+        this.retries = retries;
+        this.latency = latency;
+    }
+
+    /**
+     * @return the bucket that was used for write data
+     */
+    @Nonnull
+    public String getBucket() {
+        return bucket;
+    }
+
+    /**
+     * @return the organization that was used for write data
+     */
+    @Nonnull
+    public String getOrganization() {
+        return organization;
+    }
+
+    /**
+     * @return the precision that was used for write data
+     */
+    @Nonnull
+    public WritePrecision getPrecision() {
+        return precision;
+    }
+
+    /**
+     * @return the number of Line Protocol records in the written batch
+     */
+    public int getLineCount() {
+        return lineCount;
+    }
+
+    /**
+     * @return the size of the written Line Protocol in bytes (UTF-8)
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * @return how many times was the batch retried before it was acknowledged
+     */
+    public int getRetries() {
+        return retries;
+    }
+
+    /**
+     * @return the time between the submission of the batch and its acknowledgement
+     */
+    @Nonnull
+    public Duration getLatency() {
+        return latency;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", WriteResult.class.getSimpleName() + "[", "]")
+                .add("bucket='" + bucket + "'")
+                .add("organization='" + organization + "'")
+                .add("precision=" + precision)
+                .add("lineCount=" + lineCount)
+                .add("bytes=" + bytes)
+                .add("retries=" + retries)
+                .add("latency=" + latency)
+                .toString();
+    }
+}
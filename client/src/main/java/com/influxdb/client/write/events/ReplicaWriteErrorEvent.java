@@ -0,0 +1,73 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.write.events;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nonnull;
+
+import com.influxdb.Arguments;
+
+/**
+ * The event is published when the replica of batch wasn't written - the retries were exhausted
+ * or the error is not retriable.
+ *
+ * @see com.influxdb.client.write.WriteDestination
+ */
+public final class ReplicaWriteErrorEvent extends AbstractWriteEvent {
+
+    private static final Logger LOG = Logger.getLogger(ReplicaWriteErrorEvent.class.getName());
+
+    private final String destination;
+    private final Throwable throwable;
+
+    public ReplicaWriteErrorEvent(@Nonnull final String destination, @Nonnull final Throwable throwable) {
+
+        Arguments.checkNonEmpty(destination, "destination");
+        Arguments.checkNotNull(throwable, "Throwable");
+
+        this.destination = destination;
+        this.throwable = throwable;
+    }
+
+    /**
+     * @return the name of replica
+     */
+    @Nonnull
+    public String getDestination() {
+        return destination;
+    }
+
+    /**
+     * @return the exception that was throw
+     */
+    @Nonnull
+    public Throwable getThrowable() {
+        return throwable;
+    }
+
+    @Override
+    public void logEvent() {
+        LOG.log(Level.SEVERE, String.format("The error occurred during writing of data to replica: %s", destination),
+                throwable);
+    }
+}
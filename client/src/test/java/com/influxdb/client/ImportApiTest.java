@@ -0,0 +1,205 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import com.influxdb.client.domain.WritePrecision;
+import com.influxdb.client.internal.AbstractInfluxDBClientTest;
+import com.influxdb.client.write.ImportResult;
+import com.influxdb.exceptions.InternalServerErrorException;
+
+import okhttp3.mockwebserver.RecordedRequest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+class ImportApiTest extends AbstractInfluxDBClientTest {
+
+    private static final String LINE_PROTOCOL = "h2o level=1i 1\nh2o level=2i 2\nh2o level=3i 3\nh2o level=4i 4\n";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void lineProtocolChunks() throws Exception {
+        mockServer.enqueue(createResponse("{}"));
+        mockServer.enqueue(createResponse("{}"));
+
+        Path file = Files.write(directory.resolve("data.lp"), LINE_PROTOCOL.getBytes(StandardCharsets.UTF_8));
+
+        List<ImportResult> progress = new ArrayList<>();
+        ImportOptions importOptions = ImportOptions.builder()
+                .chunkBytes(40)
+                .concurrency(1)
+                .progressListener(progress::add)
+                .build();
+
+        ImportResult result = influxDBClient.getImportApi()
+                .importFile("b1", "org1", WritePrecision.NS, file, importOptions);
+
+        Assertions.assertThat(result.getLines()).isEqualTo(4);
+        Assertions.assertThat(result.getBytes()).isEqualTo(60);
+        Assertions.assertThat(result.getChunks()).isEqualTo(2);
+        Assertions.assertThat(result.getPosition()).isEqualTo(60);
+        Assertions.assertThat(progress).hasSize(2);
+        Assertions.assertThat(progress.get(0).getPosition()).isEqualTo(30);
+
+        RecordedRequest request = takeRequest();
+        Assertions.assertThat(request.getBody().readUtf8()).isEqualTo("h2o level=1i 1\nh2o level=2i 2\n");
+        Assertions.assertThat(request.getRequestUrl().queryParameter("bucket")).isEqualTo("b1");
+        Assertions.assertThat(request.getRequestUrl().queryParameter("org")).isEqualTo("org1");
+        Assertions.assertThat(takeRequest().getBody().readUtf8()).isEqualTo("h2o level=3i 3\nh2o level=4i 4\n");
+    }
+
+    @Test
+    void concurrentProgressIsOrdered() throws Exception {
+        StringBuilder lineProtocol = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            mockServer.enqueue(createResponse("{}"));
+            lineProtocol.append(String.format("h2o level=%02di %02d\n", i, i));
+        }
+
+        Path file = Files.write(directory.resolve("data.lp"),
+                lineProtocol.toString().getBytes(StandardCharsets.UTF_8));
+
+        List<ImportResult> progress = new ArrayList<>();
+        ImportOptions importOptions = ImportOptions.builder()
+                .chunkBytes(18)
+                .concurrency(4)
+                .progressListener(progress::add)
+                .build();
+
+        ImportResult result = influxDBClient.getImportApi()
+                .importFile("b1", "org1", WritePrecision.NS, file, importOptions);
+
+        Assertions.assertThat(result.getLines()).isEqualTo(50);
+        Assertions.assertThat(result.getChunks()).isEqualTo(50);
+        Assertions.assertThat(progress).isNotEmpty();
+        Assertions.assertThat(progress).extracting(ImportResult::getPosition).isSorted();
+        Assertions.assertThat(progress.get(progress.size() - 1).getPosition()).isEqualTo(result.getPosition());
+    }
+
+    @Test
+    void lineLongerThanChunk() throws Exception {
+        mockServer.enqueue(createResponse("{}"));
+        mockServer.enqueue(createResponse("{}"));
+
+        Path file = Files.write(directory.resolve("data.lp"),
+                "h2o,location=europe level=1i 1\nh2o level=2i 2".getBytes(StandardCharsets.UTF_8));
+
+        ImportOptions importOptions = ImportOptions.builder().chunkBytes(10).concurrency(1).build();
+
+        ImportResult result = influxDBClient.getImportApi()
+                .importFile("b1", "org1", WritePrecision.NS, file, importOptions);
+
+        Assertions.assertThat(result.getLines()).isEqualTo(2);
+        Assertions.assertThat(takeRequest().getBody().readUtf8()).isEqualTo("h2o,location=europe level=1i 1\n");
+        Assertions.assertThat(takeRequest().getBody().readUtf8()).isEqualTo("h2o level=2i 2");
+    }
+
+    @Test
+    void gzip() throws Exception {
+        mockServer.enqueue(createResponse("{}"));
+
+        Path file = directory.resolve("data.lp.gz");
+        try (OutputStream output = new GZIPOutputStream(Files.newOutputStream(file))) {
+            output.write(LINE_PROTOCOL.getBytes(StandardCharsets.UTF_8));
+        }
+
+        ImportResult result = influxDBClient.getImportApi().importFile("b1", "org1", WritePrecision.NS, file);
+
+        Assertions.assertThat(result.getLines()).isEqualTo(4);
+        Assertions.assertThat(takeRequest().getBody().readUtf8()).isEqualTo(LINE_PROTOCOL);
+    }
+
+    @Test
+    void annotatedCsv() throws Exception {
+        mockServer.enqueue(createResponse("{}"));
+
+        String csv = "#datatype,string,long,dateTime:RFC3339,dateTime:RFC3339,dateTime:RFC3339,long,string,string,string\n"
+                + "#group,false,false,true,true,false,false,true,true,true\n"
+                + "#default,_result,,,,,,,,\n"
+                + ",result,table,_start,_stop,_time,_value,_field,_measurement,location\n"
+                + ",,0,1970-01-01T00:00:00Z,2020-01-01T00:00:00Z,1970-01-01T00:00:01Z,10,level,h2o,europe\n"
+                + ",,0,1970-01-01T00:00:00Z,2020-01-01T00:00:00Z,1970-01-01T00:00:02Z,20,level,h2o,europe\n";
+
+        Path file = Files.write(directory.resolve("export.csv"), csv.getBytes(StandardCharsets.UTF_8));
+
+        ImportResult result = influxDBClient.getImportApi().importFile("b1", "org1", WritePrecision.S, file);
+
+        Assertions.assertThat(result.getLines()).isEqualTo(2);
+        Assertions.assertThat(result.getPosition()).isEqualTo(2);
+
+        RecordedRequest request = takeRequest();
+        Assertions.assertThat(request.getBody().readUtf8())
+                .isEqualTo("h2o,location=europe level=10i 1\nh2o,location=europe level=20i 2");
+        Assertions.assertThat(request.getRequestUrl().queryParameter("precision")).isEqualTo("s");
+    }
+
+    @Test
+    void resumeFromCheckpoint() throws Exception {
+        mockServer.enqueue(createResponse("{}"));
+        mockServer.enqueue(createErrorResponse("unavailable", false, 500));
+
+        Path file = Files.write(directory.resolve("data.lp"), LINE_PROTOCOL.getBytes(StandardCharsets.UTF_8));
+        Path checkpoint = directory.resolve("data.checkpoint");
+
+        ImportOptions importOptions = ImportOptions.builder()
+                .chunkBytes(40)
+                .concurrency(1)
+                .checkpointFile(checkpoint)
+                .build();
+
+        Assertions.assertThatThrownBy(() -> influxDBClient.getImportApi()
+                .importFile("b1", "org1", WritePrecision.NS, file, importOptions))
+                .isInstanceOf(InternalServerErrorException.class);
+
+        Assertions.assertThat(readCheckpoint(checkpoint)).isEqualTo("30");
+        takeRequest();
+        takeRequest();
+
+        mockServer.enqueue(createResponse("{}"));
+
+        ImportResult result = influxDBClient.getImportApi()
+                .importFile("b1", "org1", WritePrecision.NS, file, importOptions);
+
+        Assertions.assertThat(result.getLines()).isEqualTo(2);
+        Assertions.assertThat(result.getPosition()).isEqualTo(60);
+        Assertions.assertThat(takeRequest().getBody().readUtf8()).isEqualTo("h2o level=3i 3\nh2o level=4i 4\n");
+        Assertions.assertThat(checkpoint).doesNotExist();
+    }
+
+    private String readCheckpoint(final Path checkpoint) throws IOException {
+        return new String(Files.readAllBytes(checkpoint), StandardCharsets.UTF_8);
+    }
+}
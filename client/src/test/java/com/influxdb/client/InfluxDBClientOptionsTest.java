@@ -21,6 +21,9 @@
  */
 package com.influxdb.client;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import okhttp3.OkHttpClient;
@@ -46,6 +49,106 @@ class InfluxDBClientOptionsTest {
         Assertions.assertThat(options.getUrl()).isEqualTo("http://localhost:9999/");
         Assertions.assertThat(options.getAuthScheme()).isEqualTo(InfluxDBClientOptions.AuthScheme.TOKEN);
         Assertions.assertThat(options.getOkHttpClient()).isNotNull();
+        Assertions.assertThat(options.isVirtualThreads()).isFalse();
+    }
+
+    @Test
+    void virtualThreads() {
+
+        InfluxDBClientOptions options = InfluxDBClientOptions.builder().url("http://localhost:9999")
+                .virtualThreads(true)
+                .build();
+
+        Assertions.assertThat(options.isVirtualThreads()).isTrue();
+    }
+
+    @Test
+    void transport() {
+
+        InfluxDBClientOptions options = InfluxDBClientOptions.builder().url("http://localhost:9999")
+                .httpProtocol(InfluxDBClientOptions.HttpProtocol.H2C)
+                .maxRequests(128)
+                .maxRequestsPerHost(32)
+                .connectionPool(16, Duration.ofSeconds(30))
+                .separateQueryConnectionPool(true)
+                .build();
+
+        Assertions.assertThat(options.getHttpProtocol()).isEqualTo(InfluxDBClientOptions.HttpProtocol.H2C);
+        Assertions.assertThat(options.getMaxRequests()).isEqualTo(128);
+        Assertions.assertThat(options.getMaxRequestsPerHost()).isEqualTo(32);
+        Assertions.assertThat(options.getMaxIdleConnections()).isEqualTo(16);
+        Assertions.assertThat(options.getKeepAlive()).isEqualTo(Duration.ofSeconds(30));
+        Assertions.assertThat(options.isSeparateQueryConnectionPool()).isTrue();
+        Assertions.assertThat(options.getTransportMetrics()).isEqualTo(TransportMetrics.NOOP);
+    }
+
+    @Test
+    void trafficClasses() {
+
+        TrafficClassOptions query = TrafficClassOptions.builder()
+                .maxRequestsPerHost(2)
+                .readTimeout(Duration.ofMinutes(5))
+                .build();
+
+        InfluxDBClientOptions options = InfluxDBClientOptions.builder().url("http://localhost:9999")
+                .trafficClass(InfluxDBClientOptions.TrafficClass.QUERY, query)
+                .trafficClass(InfluxDBClientOptions.TrafficClass.WRITE, TrafficClassOptions.DEFAULTS)
+                .build();
+
+        Assertions.assertThat(options.getTrafficClasses())
+                .containsOnlyKeys(InfluxDBClientOptions.TrafficClass.QUERY, InfluxDBClientOptions.TrafficClass.WRITE)
+                .containsEntry(InfluxDBClientOptions.TrafficClass.QUERY, query);
+
+        Assertions.assertThat(query.getMaxRequests()).isNull();
+        Assertions.assertThat(query.getMaxRequestsPerHost()).isEqualTo(2);
+        Assertions.assertThat(query.getReadTimeout()).isEqualTo(Duration.ofMinutes(5));
+        Assertions.assertThat(query.getWriteTimeout()).isNull();
+        Assertions.assertThat(query.getCallTimeout()).isNull();
+    }
+
+    @Test
+    void urls() {
+
+        LoadBalancer loadBalancer = LoadBalancer.leastInFlight();
+
+        InfluxDBClientOptions options = InfluxDBClientOptions.builder()
+                .urls(Arrays.asList("http://node1:8086", "http://node2:8086/influx?param=1"))
+                .loadBalancer(loadBalancer)
+                .endpointHealthCheck(Duration.ofSeconds(5), 5)
+                .build();
+
+        Assertions.assertThat(options.getUrl()).isEqualTo("http://node1:8086/");
+        Assertions.assertThat(options.getEndpoints()).containsExactly("http://node1:8086/", "http://node2:8086/influx/");
+        Assertions.assertThat(options.getLoadBalancer()).isSameAs(loadBalancer);
+        Assertions.assertThat(options.getHealthCheckInterval()).isEqualTo(Duration.ofSeconds(5));
+        Assertions.assertThat(options.getMaxEndpointFailures()).isEqualTo(5);
+
+        options = InfluxDBClientOptions.builder().url("http://localhost:8086").build();
+
+        Assertions.assertThat(options.getEndpoints()).containsExactly("http://localhost:8086/");
+        Assertions.assertThat(options.getLoadBalancer()).isNotNull();
+        Assertions.assertThat(options.getHealthCheckInterval()).isEqualTo(Duration.ofSeconds(10));
+        Assertions.assertThat(options.getMaxEndpointFailures()).isEqualTo(3);
+
+        Assertions.assertThatThrownBy(() -> InfluxDBClientOptions.builder().urls(Collections.emptyList()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void transportDefaults() {
+
+        InfluxDBClientOptions options = InfluxDBClientOptions.builder().url("http://localhost:9999").build();
+
+        Assertions.assertThat(options.getHttpProtocol()).isNull();
+        Assertions.assertThat(options.getMaxRequests()).isNull();
+        Assertions.assertThat(options.getMaxRequestsPerHost()).isNull();
+        Assertions.assertThat(options.getMaxIdleConnections()).isNull();
+        Assertions.assertThat(options.getKeepAlive()).isNull();
+        Assertions.assertThat(options.isSeparateQueryConnectionPool()).isFalse();
+        Assertions.assertThat(options.getTrafficClasses()).isEmpty();
+
+        Assertions.assertThatThrownBy(() -> InfluxDBClientOptions.builder().maxRequestsPerHost(0))
+                .isInstanceOf(IllegalArgumentException.class);
     }
 
     @Test
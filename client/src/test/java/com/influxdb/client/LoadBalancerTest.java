@@ -0,0 +1,145 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+class LoadBalancerTest {
+
+    @Test
+    void roundRobin() {
+
+        List<Endpoint> endpoints = Arrays.asList(new TestEndpoint("a", 0, null), new TestEndpoint("b", 0, null),
+                new TestEndpoint("c", 0, null));
+
+        LoadBalancer loadBalancer = LoadBalancer.roundRobin();
+
+        List<String> selected = IntStream.range(0, 6)
+                .mapToObj(i -> loadBalancer.select(endpoints).getUrl())
+                .collect(Collectors.toList());
+
+        Assertions.assertThat(selected).containsExactly("a", "b", "c", "a", "b", "c");
+    }
+
+    @Test
+    void leastInFlight() {
+
+        List<Endpoint> endpoints = Arrays.asList(new TestEndpoint("a", 5, null), new TestEndpoint("b", 1, null),
+                new TestEndpoint("c", 3, null));
+
+        LoadBalancer loadBalancer = LoadBalancer.leastInFlight();
+
+        IntStream.range(0, 10)
+                .forEach(i -> Assertions.assertThat(loadBalancer.select(endpoints).getUrl()).isEqualTo("b"));
+    }
+
+    @Test
+    void latencyWeighted() {
+
+        List<Endpoint> endpoints = Arrays.asList(new TestEndpoint("fast", 0, Duration.ofMillis(10)),
+                new TestEndpoint("slow", 0, Duration.ofMillis(90)));
+
+        LoadBalancer loadBalancer = LoadBalancer.latencyWeighted();
+
+        Map<String, Long> selected = IntStream.range(0, 10_000)
+                .mapToObj(i -> loadBalancer.select(endpoints).getUrl())
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        // expected 9 000 : 1 000
+        Assertions.assertThat(selected.get("fast")).isBetween(8_500L, 9_500L);
+        Assertions.assertThat(selected.get("slow")).isBetween(500L, 1_500L);
+    }
+
+    @Test
+    void latencyWeightedWithoutLatency() {
+
+        List<Endpoint> endpoints = Arrays.asList(new TestEndpoint("a", 0, null), new TestEndpoint("b", 0, null));
+
+        LoadBalancer loadBalancer = LoadBalancer.latencyWeighted();
+
+        Map<String, Long> selected = IntStream.range(0, 10_000)
+                .mapToObj(i -> loadBalancer.select(endpoints).getUrl())
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        Assertions.assertThat(selected.get("a")).isBetween(4_000L, 6_000L);
+        Assertions.assertThat(selected.get("b")).isBetween(4_000L, 6_000L);
+    }
+
+    private static final class TestEndpoint implements Endpoint {
+
+        private final String url;
+        private final int inFlight;
+        private final Duration latency;
+
+        private TestEndpoint(@Nonnull final String url, final int inFlight, @Nullable final Duration latency) {
+            this.url = url;
+            this.inFlight = inFlight;
+            this.latency = latency;
+        }
+
+        @Nonnull
+        @Override
+        public String getUrl() {
+            return url;
+        }
+
+        @Override
+        public boolean isHealthy() {
+            return true;
+        }
+
+        @Override
+        public int getInFlight() {
+            return inFlight;
+        }
+
+        @Override
+        public long getRequests() {
+            return 0;
+        }
+
+        @Override
+        public long getFailures() {
+            return 0;
+        }
+
+        @Nullable
+        @Override
+        public Duration getLatency() {
+            return latency;
+        }
+    }
+}
@@ -22,10 +22,14 @@
 package com.influxdb.client;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import com.influxdb.client.domain.Dialect;
 import com.influxdb.client.domain.Query;
 import com.influxdb.client.internal.AbstractInfluxDBClientTest;
+import com.influxdb.query.FluxTable;
+import com.influxdb.query.QueryStatistics;
 
 import okhttp3.mockwebserver.RecordedRequest;
 import org.assertj.core.api.Assertions;
@@ -405,4 +409,38 @@ class QueryApiTest extends AbstractInfluxDBClientTest {
 
         Assertions.assertThat(request.getRequestUrl().queryParameter("org")).isEqualTo("123456");
     }
-}
\ No newline at end of file
+
+    @Test
+    void queryListener() throws IOException {
+
+        after();
+
+        List<QueryStatistics> statistics = new ArrayList<>();
+
+        InfluxDBClientOptions options = InfluxDBClientOptions.builder()
+                .url(startMockServer())
+                .org("123456")
+                .queryListener(statistics::add)
+                .build();
+
+        influxDBClient = InfluxDBClientFactory.create(options);
+
+        String data = "#datatype,string,long,dateTime:RFC3339,dateTime:RFC3339,dateTime:RFC3339,double,string,string\n"
+                + "#group,false,false,true,true,false,false,true,true\n"
+                + "#default,_result,,,,,,,\n"
+                + ",result,table,_start,_stop,_time,_value,_field,_measurement\n"
+                + ",,0,1970-01-01T00:00:10Z,1970-01-01T00:00:20Z,1970-01-01T00:00:10Z,10,free,mem\n"
+                + ",,0,1970-01-01T00:00:10Z,1970-01-01T00:00:20Z,1970-01-01T00:00:11Z,11,free,mem\n";
+
+        mockServer.enqueue(createResponse(data));
+
+        List<FluxTable> tables = influxDBClient.getQueryApi().query("from(bucket: \"telegraf\")");
+
+        Assertions.assertThat(tables).hasSize(1);
+        Assertions.assertThat(statistics).hasSize(1);
+        Assertions.assertThat(statistics.get(0).getStatus()).isEqualTo(200);
+        Assertions.assertThat(statistics.get(0).getRecords()).isEqualTo(2);
+        Assertions.assertThat(statistics.get(0).getBytes()).isEqualTo(data.length());
+        Assertions.assertThat(statistics.get(0).getError()).isNull();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client;
+
+import com.influxdb.client.write.Point;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+class ShardRouterTest {
+
+    @Test
+    void byTagPoint() {
+
+        ShardRouter router = ShardRouter.byTag("tenant");
+
+        Assertions.assertThat(router.route(Point.measurement("cpu").addTag("tenant", "acme"))).isEqualTo("acme");
+        Assertions.assertThat(router.route(Point.measurement("cpu").addTag("host", "a"))).isNull();
+    }
+
+    @Test
+    void byTagRecord() {
+
+        ShardRouter router = ShardRouter.byTag("tenant");
+
+        Assertions.assertThat(router.route("cpu,host=a,tenant=acme value=1 1")).isEqualTo("acme");
+        Assertions.assertThat(router.route("cpu,tenant=acme,host=a value=1")).isEqualTo("acme");
+        Assertions.assertThat(router.route("cpu,tenant=acme")).isEqualTo("acme");
+        Assertions.assertThat(router.route("cpu,tenant=ac\\ me\\,\\=x,host=a value=1")).isEqualTo("ac me,=x");
+        Assertions.assertThat(router.route("c\\,pu\\ x,tenant=acme value=1")).isEqualTo("acme");
+        Assertions.assertThat(router.route("cpu,tenants=acme value=1")).isNull();
+        Assertions.assertThat(router.route("cpu,host=a value=1,tenant=acme")).isNull();
+        Assertions.assertThat(router.route("cpu value=1")).isNull();
+        Assertions.assertThat(router.route("cpu,tenant")).isNull();
+    }
+
+    @Test
+    void byEscapedTagRecord() {
+
+        ShardRouter router = ShardRouter.byTag("my tenant,id=x");
+
+        Assertions.assertThat(router.route(Point.measurement("cpu").addTag("my tenant,id=x", "acme")))
+                .isEqualTo("acme");
+        Assertions.assertThat(router.route("cpu,host=a,my\\ tenant\\,id\\=x=acme value=1")).isEqualTo("acme");
+        Assertions.assertThat(router.route("cpu,my\\ tenant\\,id\\=x=ac\\ me value=1")).isEqualTo("ac me");
+        Assertions.assertThat(router.route("cpu,my\\ tenant\\,id\\=xy=acme value=1")).isNull();
+        Assertions.assertThat(router.route("cpu,my\\ tenant\\,id=acme value=1")).isNull();
+    }
+
+    @Test
+    void byMeasurement() {
+
+        ShardRouter router = ShardRouter.byMeasurement();
+
+        Assertions.assertThat(router.route(Point.measurement("cpu").addTag("host", "a"))).isEqualTo("cpu");
+        Assertions.assertThat(router.route("cpu,host=a value=1")).isEqualTo("cpu");
+        Assertions.assertThat(router.route("mem value=1")).isEqualTo("mem");
+        Assertions.assertThat(router.route("my\\ mem\\,x value=1")).isEqualTo("my mem,x");
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.influxdb.client.domain.WritePrecision;
+import com.influxdb.client.internal.AbstractInfluxDBClientTest;
+import com.influxdb.client.write.Point;
+import com.influxdb.client.write.WriteDestination;
+import com.influxdb.client.write.events.WriteSuccessEvent;
+
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+class ShardedWriteApiTest extends AbstractInfluxDBClientTest {
+
+    private ShardedWriteApi writeApi;
+
+    @AfterEach
+    void tearDown() {
+        if (writeApi != null) {
+            writeApi.close();
+        }
+    }
+
+    @Test
+    void routePoints() throws InterruptedException {
+
+        mockServer.enqueue(createResponse("{}"));
+        mockServer.enqueue(createResponse("{}"));
+
+        writeApi = influxDBClient.makeShardedWriteApi(WriteOptions.DEFAULTS, ShardRouter.byTag("tenant"),
+                Arrays.asList(
+                        WriteDestination.builder("acme").bucket("b-acme").organization("my-org").build(),
+                        WriteDestination.builder("initech").bucket("b-initech").organization("my-org").build()));
+
+        writeApi.writePoints(Arrays.asList(
+                Point.measurement("cpu").addTag("tenant", "acme").addField("value", 1),
+                Point.measurement("cpu").addTag("tenant", "initech").addField("value", 2),
+                Point.measurement("cpu").addTag("tenant", "acme").addField("value", 3)));
+        writeApi.flush();
+
+        Map<String, String> bodies = takeRequests(2);
+
+        Assertions.assertThat(bodies).hasSize(2);
+        Assertions.assertThat(bodies.get("b-acme"))
+                .isEqualTo("cpu,tenant=acme value=1i\ncpu,tenant=acme value=3i");
+        Assertions.assertThat(bodies.get("b-initech")).isEqualTo("cpu,tenant=initech value=2i");
+    }
+
+    @Test
+    void routeRecordsToDefaultShard() throws InterruptedException {
+
+        mockServer.enqueue(createResponse("{}"));
+        mockServer.enqueue(createResponse("{}"));
+
+        writeApi = influxDBClient.makeShardedWriteApi(WriteOptions.DEFAULTS, ShardRouter.byTag("tenant"),
+                Arrays.asList(
+                        WriteDestination.builder("default").bucket("b-default").organization("my-org").build(),
+                        WriteDestination.builder("acme").bucket("b-acme").organization("my-org").build()));
+
+        writeApi.writeRecords(WritePrecision.S, Arrays.asList(
+                "cpu,tenant=acme value=1 1",
+                "cpu,tenant=unknown value=2 2",
+                "cpu value=3 3"));
+        writeApi.flush();
+
+        Map<String, String> bodies = takeRequests(2);
+
+        Assertions.assertThat(bodies.get("b-acme")).isEqualTo("cpu,tenant=acme value=1 1");
+        Assertions.assertThat(bodies.get("b-default")).isEqualTo("cpu,tenant=unknown value=2 2\ncpu value=3 3");
+    }
+
+    @Test
+    void routeMeasurements() throws InterruptedException {
+
+        mockServer.enqueue(createResponse("{}"));
+
+        writeApi = influxDBClient.makeShardedWriteApi(WriteOptions.DEFAULTS, ShardRouter.byMeasurement(),
+                Arrays.asList(
+                        WriteDestination.builder("cpu").bucket("b-cpu").organization("my-org").build(),
+                        WriteDestination.builder("h2o").bucket("b-h2o").organization("my-org").build()));
+
+        WriteEventListener<WriteSuccessEvent> listener = new WriteEventListener<>();
+        writeApi.listenEvents(WriteSuccessEvent.class, listener);
+
+        writeApi.writeMeasurement(WritePrecision.S,
+                new H2OFeetMeasurement("coyote_creek", 2.927, "below 3 feet", 1440046800L));
+        writeApi.flush();
+
+        RecordedRequest request = takeRequest();
+
+        Assertions.assertThat(request.getRequestUrl().queryParameter("bucket")).isEqualTo("b-h2o");
+        Assertions.assertThat(request.getRequestUrl().queryParameter("precision")).isEqualTo("s");
+        Assertions.assertThat(request.getBody().readUtf8())
+                .isEqualTo("h2o,location=coyote_creek level\\ description=\"below 3 feet\",water_level=2.927 1440046");
+
+        listener.awaitCount(1);
+        Assertions.assertThat(listener.getValue().getBucket()).isEqualTo("b-h2o");
+    }
+
+    @Test
+    void shardOnOtherServer() throws IOException, InterruptedException {
+
+        MockWebServer shardServer = new MockWebServer();
+        shardServer.start();
+        try {
+            mockServer.enqueue(createResponse("{}"));
+            shardServer.enqueue(createResponse("{}"));
+
+            writeApi = influxDBClient.makeShardedWriteApi(WriteOptions.DEFAULTS, ShardRouter.byTag("tenant"),
+                    Arrays.asList(
+                            WriteDestination.builder("acme").bucket("b-acme").organization("my-org").build(),
+                            WriteDestination.builder("initech")
+                                    .clientOptions(InfluxDBClientOptions.builder()
+                                            .url(shardServer.url("/").url().toString())
+                                            .authenticateToken("initech-token".toCharArray())
+                                            .org("initech-org")
+                                            .bucket("initech-bucket")
+                                            .build())
+                                    .build()));
+
+            writeApi.writeRecord(WritePrecision.NS, "cpu,tenant=acme value=1");
+            writeApi.writeRecord(WritePrecision.NS, "cpu,tenant=initech value=2");
+            writeApi.close();
+
+            RecordedRequest request = shardServer.takeRequest(10L, TimeUnit.SECONDS);
+            Assertions.assertThat(request).isNotNull();
+            Assertions.assertThat(request.getRequestUrl().queryParameter("bucket")).isEqualTo("initech-bucket");
+            Assertions.assertThat(request.getRequestUrl().queryParameter("org")).isEqualTo("initech-org");
+            Assertions.assertThat(request.getHeader("Authorization")).isEqualTo("Token initech-token");
+            Assertions.assertThat(request.getBody().readUtf8()).isEqualTo("cpu,tenant=initech value=2");
+
+            Assertions.assertThat(takeRequest().getBody().readUtf8()).isEqualTo("cpu,tenant=acme value=1");
+        } finally {
+            shardServer.shutdown();
+        }
+    }
+
+    @Test
+    void shardWithoutBucket() {
+
+        Assertions.assertThatThrownBy(() -> influxDBClient.makeShardedWriteApi(WriteOptions.DEFAULTS,
+                ShardRouter.byMeasurement(), Arrays.asList(WriteDestination.builder("cpu").build())))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        Assertions.assertThatThrownBy(() -> influxDBClient.makeShardedWriteApi(WriteOptions.DEFAULTS,
+                ShardRouter.byMeasurement(), Arrays.asList()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Expecting at least one shard");
+    }
+
+    private Map<String, String> takeRequests(final int count) throws InterruptedException {
+
+        Map<String, String> bodies = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            RecordedRequest request = takeRequest();
+            bodies.put(request.getRequestUrl().queryParameter("bucket"), request.getBody().readUtf8());
+        }
+
+        return bodies;
+    }
+}
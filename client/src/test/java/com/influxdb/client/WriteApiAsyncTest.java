@@ -0,0 +1,166 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import com.influxdb.client.domain.WritePrecision;
+import com.influxdb.client.internal.AbstractInfluxDBClientTest;
+import com.influxdb.client.write.Point;
+import com.influxdb.client.write.WriteResult;
+import com.influxdb.exceptions.BadRequestException;
+
+import okhttp3.mockwebserver.RecordedRequest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+class WriteApiAsyncTest extends AbstractInfluxDBClientTest {
+
+    @Test
+    void writeRecords() throws Exception {
+        mockServer.enqueue(createResponse("{}"));
+
+        CompletableFuture<WriteResult> future = influxDBClient
+                .getWriteApiAsync()
+                .writeRecords("b1", "org1", WritePrecision.S, Arrays.asList("h2o level=1i 1", "h2o level=2i 2"));
+
+        WriteResult result = future.get(10, TimeUnit.SECONDS);
+
+        Assertions.assertThat(result.getBucket()).isEqualTo("b1");
+        Assertions.assertThat(result.getOrganization()).isEqualTo("org1");
+        Assertions.assertThat(result.getPrecision()).isEqualTo(WritePrecision.S);
+        Assertions.assertThat(result.getLineCount()).isEqualTo(2);
+        Assertions.assertThat(result.getBytes()).isEqualTo(29);
+        Assertions.assertThat(result.getRetries()).isEqualTo(0);
+        Assertions.assertThat(result.getLatency()).isPositive();
+
+        RecordedRequest request = takeRequest();
+
+        Assertions.assertThat(request.getBody().readUtf8()).isEqualTo("h2o level=1i 1\nh2o level=2i 2");
+        Assertions.assertThat(request.getRequestUrl().queryParameter("precision")).isEqualTo("s");
+        Assertions.assertThat(request.getRequestUrl().queryParameter("bucket")).isEqualTo("b1");
+        Assertions.assertThat(request.getRequestUrl().queryParameter("org")).isEqualTo("org1");
+    }
+
+    @Test
+    void retry() throws Exception {
+        mockServer.enqueue(createErrorResponse("token is temporarily over quota", true, 429)
+                .addHeader("Retry-After", "1"));
+        mockServer.enqueue(createResponse("{}"));
+
+        WriteOptions writeOptions = WriteOptions.builder().jitterInterval(0).build();
+
+        Point point = Point.measurement("h2o").addTag("location", "europe").addField("level", 1)
+                .time(1L, WritePrecision.NS);
+
+        WriteResult result = influxDBClient
+                .getWriteApiAsync(writeOptions)
+                .writePoint("b1", "org1", point)
+                .get(10, TimeUnit.SECONDS);
+
+        Assertions.assertThat(result.getRetries()).isEqualTo(1);
+        Assertions.assertThat(result.getLineCount()).isEqualTo(1);
+        Assertions.assertThat(result.getLatency().toMillis()).isGreaterThanOrEqualTo(1000);
+        Assertions.assertThat(mockServer.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    void error() {
+        mockServer.enqueue(createErrorResponse("line protocol poorly formed", true, 400));
+
+        CompletableFuture<WriteResult> future = influxDBClient
+                .getWriteApiAsync()
+                .writeRecord("b1", "org1", WritePrecision.NS, "h2o,location=europe level=1i 1");
+
+        Assertions.assertThatThrownBy(() -> future.get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(BadRequestException.class)
+                .hasMessageContaining("line protocol poorly formed");
+        Assertions.assertThat(mockServer.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void maxRetryTime() {
+        mockServer.enqueue(createErrorResponse("token is temporarily over quota", true, 429)
+                .addHeader("Retry-After", "5"));
+
+        WriteOptions writeOptions = WriteOptions.builder().maxRetryTime(1_000).build();
+
+        CompletableFuture<WriteResult> future = influxDBClient
+                .getWriteApiAsync(writeOptions)
+                .writeRecord("b1", "org1", WritePrecision.NS, "h2o,location=europe level=1i 1");
+
+        Assertions.assertThatThrownBy(() -> future.get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasMessageContaining("Max retry time exceeded.");
+        Assertions.assertThat(mockServer.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void emptyWrite() throws Exception {
+
+        WriteResult result = influxDBClient
+                .getWriteApiAsync()
+                .writeRecord("b1", "org1", WritePrecision.NS, null)
+                .get(10, TimeUnit.SECONDS);
+
+        Assertions.assertThat(result.getLineCount()).isEqualTo(0);
+        Assertions.assertThat(mockServer.getRequestCount()).isEqualTo(0);
+    }
+
+    @Test
+    void pointsWithDifferentPrecision() throws Exception {
+        mockServer.enqueue(createResponse("{}"));
+        mockServer.enqueue(createResponse("{}"));
+
+        Point point1 = Point.measurement("h2o").addField("level", 1).time(1L, WritePrecision.NS);
+        Point point2 = Point.measurement("h2o").addField("level", 2).time(2L, WritePrecision.S);
+        Point point3 = Point.measurement("h2o").addField("level", 3).time(3L, WritePrecision.NS);
+
+        WriteResult result = influxDBClient
+                .getWriteApiAsync()
+                .writePoints("b1", "org1", Arrays.asList(point1, point2, point3))
+                .get(10, TimeUnit.SECONDS);
+
+        Assertions.assertThat(result.getLineCount()).isEqualTo(3);
+        Assertions.assertThat(result.getPrecision()).isEqualTo(WritePrecision.NS);
+        Assertions.assertThat(mockServer.getRequestCount()).isEqualTo(2);
+
+        Map<String, String> bodies = new HashMap<>();
+        for (int i = 0; i < 2; i++) {
+            RecordedRequest request = takeRequest();
+            bodies.put(request.getRequestUrl().queryParameter("precision"), request.getBody().readUtf8());
+        }
+
+        Assertions.assertThat(bodies)
+                .containsEntry("ns", "h2o level=1i 1\nh2o level=3i 3")
+                .containsEntry("s", "h2o level=2i 2");
+    }
+}
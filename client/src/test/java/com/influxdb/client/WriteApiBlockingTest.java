@@ -21,11 +21,20 @@
  */
 package com.influxdb.client;
 
+import java.io.IOException;
 import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import com.influxdb.client.domain.WritePrecision;
 import com.influxdb.client.internal.AbstractInfluxDBClientTest;
 import com.influxdb.client.write.Point;
+import com.influxdb.exceptions.BadRequestException;
+import com.influxdb.exceptions.RequestEntityTooLargeException;
+import com.influxdb.test.SimulatedInfluxDB;
 
 import okhttp3.mockwebserver.RecordedRequest;
 import org.assertj.core.api.Assertions;
@@ -90,4 +99,198 @@ class WriteApiBlockingTest extends AbstractInfluxDBClientTest {
         Assertions.assertThat("b1").isEqualTo(request.getRequestUrl().queryParameter("bucket"));
         Assertions.assertThat("org1").isEqualTo(request.getRequestUrl().queryParameter("org"));
     }
+
+    @Test
+    public void writeStreamChunkSize() throws InterruptedException {
+        mockServer.enqueue(createResponse("{}"));
+        mockServer.enqueue(createResponse("{}"));
+        mockServer.enqueue(createResponse("{}"));
+
+        WriteStreamOptions streamOptions = WriteStreamOptions.builder().chunkSize(4).build();
+
+        influxDBClient
+                .getWriteApiBlocking()
+                .writeRecordsStream("b1", "org1", WritePrecision.S,
+                        IntStream.range(0, 10).mapToObj(i -> "h2o level=" + i + "i " + i), streamOptions);
+
+        Assertions.assertThat(mockServer.getRequestCount()).isEqualTo(3);
+        Assertions.assertThat(takeRequest().getBody().readUtf8())
+                .isEqualTo("h2o level=0i 0\nh2o level=1i 1\nh2o level=2i 2\nh2o level=3i 3");
+        Assertions.assertThat(takeRequest().getBody().readUtf8())
+                .isEqualTo("h2o level=4i 4\nh2o level=5i 5\nh2o level=6i 6\nh2o level=7i 7");
+        RecordedRequest request = takeRequest();
+        Assertions.assertThat(request.getBody().readUtf8()).isEqualTo("h2o level=8i 8\nh2o level=9i 9");
+        Assertions.assertThat(request.getRequestUrl().queryParameter("precision")).isEqualTo("s");
+    }
+
+    @Test
+    public void writeStreamChunkBytes() throws InterruptedException {
+        mockServer.enqueue(createResponse("{}"));
+        mockServer.enqueue(createResponse("{}"));
+
+        WriteStreamOptions streamOptions = WriteStreamOptions.builder().chunkBytes(30).build();
+
+        influxDBClient
+                .getWriteApiBlocking()
+                .writeRecordsStream("b1", "org1", WritePrecision.NS,
+                        Stream.of("h2o level=1i 1", "h2o level=2i 2", "h2o level=3i 3"), streamOptions);
+
+        Assertions.assertThat(mockServer.getRequestCount()).isEqualTo(2);
+        Assertions.assertThat(takeRequest().getBody().readUtf8()).isEqualTo("h2o level=1i 1\nh2o level=2i 2");
+        Assertions.assertThat(takeRequest().getBody().readUtf8()).isEqualTo("h2o level=3i 3");
+    }
+
+    @Test
+    public void writePointsStream() throws InterruptedException {
+        mockServer.enqueue(createResponse("{}"));
+        mockServer.enqueue(createResponse("{}"));
+
+        Point point1 = Point.measurement("h2o").addTag("location", "europe").addField("level", 1).time(1L, WritePrecision.NS);
+        Point point2 = Point.measurement("h2o").addTag("location", "europe").addField("level", 2).time(2L, WritePrecision.NS);
+        Point point3 = Point.measurement("h2o").addTag("location", "europe").addField("level", 3).time(3L, WritePrecision.S);
+
+        influxDBClient
+                .getWriteApiBlocking()
+                .writePointsStream("b1", "org1", Stream.of(point1, null, point2, point3));
+
+        Assertions.assertThat(mockServer.getRequestCount()).isEqualTo(2);
+
+        RecordedRequest request = takeRequest();
+        Assertions.assertThat(request.getBody().readUtf8())
+                .isEqualTo("h2o,location=europe level=1i 1\nh2o,location=europe level=2i 2");
+        Assertions.assertThat(request.getRequestUrl().queryParameter("precision")).isEqualTo("ns");
+
+        request = takeRequest();
+        Assertions.assertThat(request.getBody().readUtf8()).isEqualTo("h2o,location=europe level=3i 3");
+        Assertions.assertThat(request.getRequestUrl().queryParameter("precision")).isEqualTo("s");
+    }
+
+    @Test
+    public void writeMeasurementsStream() throws InterruptedException {
+        mockServer.enqueue(createResponse("{}"));
+
+        H2OFeetMeasurement measurement1 = new H2OFeetMeasurement(
+                "coyote_creek", 2.927, "below 3 feet", 1440046800L);
+        H2OFeetMeasurement measurement2 = new H2OFeetMeasurement(
+                "coyote_creek", 1.927, "below 2 feet", 1440049800L);
+
+        influxDBClient
+                .getWriteApiBlocking()
+                .writeMeasurementsStream("b1", "org1", WritePrecision.NS, Stream.of(measurement1, null, measurement2));
+
+        Assertions.assertThat(mockServer.getRequestCount()).isEqualTo(1);
+
+        RecordedRequest request = takeRequest();
+        Assertions.assertThat(request.getBody().readUtf8()).isEqualTo(
+                "h2o,location=coyote_creek level\\ description=\"below 3 feet\",water_level=2.927 1440046800000000\n"
+                        + "h2o,location=coyote_creek level\\ description=\"below 2 feet\",water_level=1.927 1440049800000000");
+        Assertions.assertThat(request.getRequestUrl().queryParameter("precision")).isEqualTo("ns");
+    }
+
+    @Test
+    public void writeStreamStopsOnError() {
+        mockServer.enqueue(createErrorResponse("line protocol poorly formed", true, 400));
+        mockServer.enqueue(createResponse("{}"));
+
+        WriteStreamOptions streamOptions = WriteStreamOptions.builder().chunkSize(1).build();
+
+        AtomicInteger consumed = new AtomicInteger();
+        Stream<String> data = IntStream.range(0, 1_000)
+                .peek(i -> consumed.incrementAndGet())
+                .mapToObj(i -> "h2o level=" + i + "i " + i);
+
+        Assertions.assertThatThrownBy(() -> influxDBClient
+                .getWriteApiBlocking()
+                .writeRecordsStream("b1", "org1", WritePrecision.NS, data, streamOptions))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("line protocol poorly formed");
+
+        // the second chunk is encoded while the first is uploading, but not sent
+        Assertions.assertThat(mockServer.getRequestCount()).isEqualTo(1);
+        Assertions.assertThat(consumed.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void writeStreamSourceFailureCancelsUpload() {
+        mockServer.enqueue(createResponse("{}").setHeadersDelay(10, TimeUnit.SECONDS));
+
+        WriteStreamOptions streamOptions = WriteStreamOptions.builder().chunkSize(1).build();
+
+        Stream<String> data = IntStream.range(0, 3)
+                .mapToObj(i -> {
+                    if (i == 2) {
+                        throw new IllegalStateException("source failed");
+                    }
+                    return "h2o level=" + i + "i " + i;
+                });
+
+        long start = System.currentTimeMillis();
+        Assertions.assertThatThrownBy(() -> influxDBClient
+                .getWriteApiBlocking()
+                .writeRecordsStream("b1", "org1", WritePrecision.NS, data, streamOptions))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("source failed");
+
+        // the in-flight upload is cancelled instead of running after the exception
+        Assertions.assertThat(System.currentTimeMillis() - start).isLessThan(5_000);
+    }
+
+    @Test
+    public void writeStreamSourceFailureKeepsUploadError() {
+        mockServer.enqueue(createErrorResponse("line protocol poorly formed", true, 400));
+
+        WriteStreamOptions streamOptions = WriteStreamOptions.builder().chunkSize(1).build();
+
+        Stream<String> data = IntStream.range(0, 3)
+                .mapToObj(i -> {
+                    if (i == 2) {
+                        // wait to response of the first chunk
+                        awaitResponse();
+                        throw new IllegalStateException("source failed");
+                    }
+                    return "h2o level=" + i + "i " + i;
+                });
+
+        Assertions.assertThatThrownBy(() -> influxDBClient
+                .getWriteApiBlocking()
+                .writeRecordsStream("b1", "org1", WritePrecision.NS, data, streamOptions))
+                .isInstanceOf(IllegalStateException.class)
+                .satisfies(throwable -> Assertions.assertThat(throwable.getSuppressed())
+                        .hasOnlyElementsOfType(BadRequestException.class)
+                        .hasSize(1));
+    }
+
+    private void awaitResponse() {
+        try {
+            takeRequest();
+            Thread.sleep(500);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    void simulatedInfluxDB() throws IOException {
+
+        after();
+
+        SimulatedInfluxDB simulated = SimulatedInfluxDB.builder().maxBodySize(100).build();
+        influxDBClient = InfluxDBClientFactory.create(startMockServer(simulated));
+        influxDBClient.enableGzip();
+
+        WriteApiBlocking writeApi = influxDBClient.getWriteApiBlocking();
+        writeApi.writeRecords("b1", "org1", WritePrecision.NS, Arrays.asList("h2o value=1 1", "h2o value=2 2"));
+
+        String large = IntStream.range(0, 100).mapToObj(i -> "h2o,location=coyote_creek value=" + i + " " + i)
+                .collect(Collectors.joining("\n"));
+
+        influxDBClient.disableGzip();
+        Assertions.assertThatThrownBy(() -> writeApi.writeRecord("b1", "org1", WritePrecision.NS, large))
+                .isInstanceOf(RequestEntityTooLargeException.class)
+                .hasMessage("request body is too large");
+
+        Assertions.assertThat(simulated.getRequests()).isEqualTo(2);
+        Assertions.assertThat(simulated.getAcceptedLines()).isEqualTo(2);
+        Assertions.assertThat(simulated.getRejected()).isEqualTo(1);
+    }
 }
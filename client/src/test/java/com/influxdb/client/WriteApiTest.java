@@ -22,13 +22,22 @@
 package com.influxdb.client;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import javax.annotation.Nonnull;
 
 import com.influxdb.annotations.Column;
@@ -36,6 +45,11 @@ import com.influxdb.annotations.Measurement;
 import com.influxdb.client.domain.WritePrecision;
 import com.influxdb.client.internal.AbstractInfluxDBClientTest;
 import com.influxdb.client.write.Point;
+import com.influxdb.client.write.WriteDestination;
+import com.influxdb.client.write.WriteMetrics;
+import com.influxdb.client.write.events.BackpressureEvent;
+import com.influxdb.client.write.events.ReplicaWriteErrorEvent;
+import com.influxdb.client.write.events.ReplicaWriteSuccessEvent;
 import com.influxdb.client.write.events.WriteErrorEvent;
 import com.influxdb.client.write.events.WriteRetriableErrorEvent;
 import com.influxdb.client.write.events.WriteSuccessEvent;
@@ -45,6 +59,8 @@ import com.influxdb.exceptions.InfluxException;
 import com.influxdb.exceptions.RequestEntityTooLargeException;
 import com.influxdb.exceptions.UnauthorizedException;
 
+import io.reactivex.BackpressureOverflowStrategy;
+import io.reactivex.schedulers.Schedulers;
 import io.reactivex.schedulers.TestScheduler;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
@@ -418,6 +434,244 @@ class WriteApiTest extends AbstractInfluxDBClientTest {
         Assertions.assertThat(body4).isEqualTo(record4);
     }
 
+    @Test
+    void encodeParallel() {
+
+        mockServer.enqueue(createResponse("{}"));
+        mockServer.enqueue(createResponse("{}"));
+
+        WriteOptions writeOptions = WriteOptions.builder()
+                .batchSize(100)
+                .flushInterval(100_000_000)
+                .encodeParallelism(4)
+                .build();
+
+        writeApi = influxDBClient.makeWriteApi(writeOptions);
+
+        List<Point> points = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            points.add(Point.measurement("h2o").addTag("location", "europe").addField("level", i));
+        }
+
+        writeApi.writePoints("b1", "org1", points);
+
+        String expected1 = IntStream.range(0, 100)
+                .mapToObj(i -> "h2o,location=europe level=" + i + "i")
+                .collect(Collectors.joining("\n"));
+        String expected2 = IntStream.range(100, 200)
+                .mapToObj(i -> "h2o,location=europe level=" + i + "i")
+                .collect(Collectors.joining("\n"));
+
+        Assertions.assertThat(getRequestBody(mockServer)).isEqualTo(expected1);
+        Assertions.assertThat(getRequestBody(mockServer)).isEqualTo(expected2);
+    }
+
+    @Test
+    void encodeParallelFlushedBatch() {
+
+        mockServer.enqueue(createResponse("{}"));
+
+        AtomicInteger encodedChunks = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        WriteOptions writeOptions = WriteOptions.builder()
+                .batchSize(1_000)
+                .flushInterval(100_000_000)
+                .encodeParallelism(4)
+                .encodeScheduler(Schedulers.from(command -> {
+                    encodedChunks.incrementAndGet();
+                    executor.execute(command);
+                }))
+                .build();
+
+        writeApi = influxDBClient.makeWriteApi(writeOptions);
+
+        List<Point> points = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            points.add(Point.measurement("h2o").addTag("location", "europe").addField("level", i));
+        }
+
+        writeApi.writePoints("b1", "org1", points);
+        writeApi.flush();
+
+        String expected = IntStream.range(0, 8)
+                .mapToObj(i -> "h2o,location=europe level=" + i + "i")
+                .collect(Collectors.joining("\n"));
+
+        Assertions.assertThat(getRequestBody(mockServer)).isEqualTo(expected);
+        // 8 points are split into 4 chunks by 2 points
+        Assertions.assertThat(encodedChunks.get()).isEqualTo(4);
+
+        executor.shutdown();
+    }
+
+    @Test
+    void ringBufferMultipleProducers() throws InterruptedException {
+
+        for (int i = 0; i < 8; i++) {
+            mockServer.enqueue(createResponse("{}"));
+        }
+
+        WriteOptions writeOptions = WriteOptions.builder()
+                .batchSize(1_000)
+                .flushInterval(100_000_000)
+                .ringBufferSize(8_192)
+                .build();
+
+        writeApi = influxDBClient.makeWriteApi(writeOptions);
+
+        WriteEventListener<WriteSuccessEvent> listener = new WriteEventListener<>();
+        writeApi.listenEvents(WriteSuccessEvent.class, listener);
+
+        List<Thread> producers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            int producer = i;
+            Thread thread = new Thread(() -> {
+                for (int j = 0; j < 1_000; j++) {
+                    writeApi.writeRecord("b1", "org1", WritePrecision.NS,
+                            String.format("mem,producer=%d value=%di", producer, j));
+                }
+            });
+            thread.start();
+            producers.add(thread);
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        listener.awaitCount(8);
+
+        Assertions.assertThat(mockServer.getRequestCount()).isEqualTo(8);
+        long lines = 0;
+        for (int i = 0; i < 8; i++) {
+            lines += getRequestBody(mockServer).split("\n").length;
+        }
+        Assertions.assertThat(lines).isEqualTo(8_000);
+    }
+
+    @Test
+    void closeConcurrentlyWithWrites() throws InterruptedException {
+
+        for (int i = 0; i < 100; i++) {
+            mockServer.enqueue(createResponse("{}"));
+        }
+
+        WriteOptions writeOptions = WriteOptions.builder()
+                .batchSize(1_000)
+                .flushInterval(100_000_000)
+                .ringBufferSize(8_192)
+                .build();
+
+        writeApi = influxDBClient.makeWriteApi(writeOptions);
+
+        AtomicLong accepted = new AtomicLong();
+        CountDownLatch started = new CountDownLatch(4);
+        List<Thread> producers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            int producer = i;
+            Thread thread = new Thread(() -> {
+                started.countDown();
+                for (int j = 0; j < 10_000; j++) {
+                    try {
+                        writeApi.writeRecord("b1", "org1", WritePrecision.NS,
+                                String.format("mem,producer=%d value=%di", producer, j));
+                    } catch (InfluxException e) {
+                        // rejected by the close
+                        return;
+                    }
+                    accepted.incrementAndGet();
+                }
+            });
+            thread.start();
+            producers.add(thread);
+        }
+
+        started.await();
+        writeApi.close();
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        // every accepted record is written
+        long lines = 0;
+        int requests = mockServer.getRequestCount();
+        for (int i = 0; i < requests; i++) {
+            lines += getRequestBody(mockServer).split("\n").length;
+        }
+        Assertions.assertThat(lines).isEqualTo(accepted.get());
+    }
+
+    @Test
+    void ringBufferFullDropLatest() throws InterruptedException {
+
+        Assertions.assertThat(writeToFullRingBuffer(BackpressureOverflowStrategy.DROP_LATEST))
+                .isEqualTo("mem value=1i\nmem value=2i");
+    }
+
+    @Test
+    void ringBufferFullDropOldest() throws InterruptedException {
+
+        Assertions.assertThat(writeToFullRingBuffer(BackpressureOverflowStrategy.DROP_OLDEST))
+                .isEqualTo("mem value=3i\nmem value=4i");
+    }
+
+    @Test
+    void ringBufferFullError() {
+
+        Assertions.assertThatThrownBy(() -> writeToFullRingBuffer(BackpressureOverflowStrategy.ERROR))
+                .isInstanceOf(InfluxException.class)
+                .hasMessage("The ring buffer of WriteApi is full.");
+    }
+
+    @Nonnull
+    private String writeToFullRingBuffer(@Nonnull final BackpressureOverflowStrategy strategy)
+            throws InterruptedException {
+
+        mockServer.enqueue(createResponse("{}"));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch consumer = new CountDownLatch(1);
+        try {
+            WriteOptions writeOptions = WriteOptions.builder()
+                    .batchSize(10)
+                    .flushInterval(100_000_000)
+                    .ringBufferSize(2)
+                    .backpressureStrategy(strategy)
+                    .writeScheduler(Schedulers.from(executor))
+                    .build();
+
+            writeApi = influxDBClient.makeWriteApi(writeOptions);
+
+            WriteEventListener<BackpressureEvent> backpressure = new WriteEventListener<>();
+            writeApi.listenEvents(BackpressureEvent.class, backpressure);
+
+            //
+            // block the consumer of ring buffer
+            //
+            executor.submit(() -> {
+                consumer.await();
+                return null;
+            });
+
+            try {
+                for (int i = 1; i <= 4; i++) {
+                    writeApi.writeRecord("b1", "org1", WritePrecision.NS, "mem value=" + i + "i");
+                }
+            } finally {
+                consumer.countDown();
+            }
+
+            Assertions.assertThat(backpressure.values).hasSize(2);
+        } finally {
+            consumer.countDown();
+            if (writeApi != null) {
+                writeApi.close();
+            }
+            executor.shutdown();
+        }
+
+        return getRequestBody(mockServer);
+    }
+
     @Test
     void flushByCount() {
 
@@ -887,6 +1141,40 @@ class WriteApiTest extends AbstractInfluxDBClientTest {
         Assertions.assertThat(records.get(0).getParameters()[1]).isEqualTo(5.0);
     }
 
+    @Test
+    void metrics() throws IOException {
+
+        tearDown();
+        after();
+
+        RecordingWriteMetrics metrics = new RecordingWriteMetrics();
+
+        influxDBClient = InfluxDBClientFactory.create(InfluxDBClientOptions.builder()
+                .url(startMockServer())
+                .writeMetrics(metrics)
+                .build());
+
+        mockServer.enqueue(createErrorResponse("token is temporarily over quota", true, 429));
+        mockServer.enqueue(createResponse("{}"));
+
+        writeApi = influxDBClient.makeWriteApi(WriteOptions.builder().batchSize(2).retryInterval(100).build());
+
+        WriteEventListener<WriteSuccessEvent> listener = new WriteEventListener<>();
+        writeApi.listenEvents(WriteSuccessEvent.class, listener);
+
+        writeApi.writeRecords("b1", "org1", WritePrecision.NS, Arrays.asList("h2o level=1i 1", "h2o level=2i 2"));
+
+        listener.awaitCount(1);
+
+        Assertions.assertThat(metrics.batches).containsExactly("2 lines, 29 bytes");
+        Assertions.assertThat(metrics.statuses).containsExactly(429, 200);
+        Assertions.assertThat(metrics.retries).containsExactly(429);
+        Assertions.assertThat(metrics.encodes.get()).isEqualTo(2);
+        Assertions.assertThat(metrics.inFlight.get()).isEqualTo(0);
+        Assertions.assertThat(metrics.bufferSizes).contains(1L).endsWith(0L);
+        Assertions.assertThat(metrics.drops.get()).isEqualTo(0);
+    }
+
     @Test
     void parametersFromOptions() throws InterruptedException, IOException {
 
@@ -1002,6 +1290,117 @@ class WriteApiTest extends AbstractInfluxDBClientTest {
                 .hasMessage("WriteApi is closed. Data should be written before calling InfluxDBClient.close or WriteApi.close.");
     }
 
+    @Test
+    void replicaToSameServer() throws InterruptedException {
+
+        mockServer.enqueue(createResponse("{}"));
+        mockServer.enqueue(createResponse("{}"));
+
+        WriteDestination replica = WriteDestination.builder("archive").bucket("b2").build();
+        writeApi = influxDBClient.makeWriteApi(WriteOptions.builder().addReplica(replica).build());
+
+        WriteEventListener<ReplicaWriteSuccessEvent> listener = new WriteEventListener<>();
+        writeApi.listenEvents(ReplicaWriteSuccessEvent.class, listener);
+
+        writeApi.writeRecord("b1", "org1", WritePrecision.NS, "h2o,location=europe level=1i 1");
+        writeApi.flush();
+
+        List<RecordedRequest> requests = Arrays.asList(takeRequest(), takeRequest());
+
+        Assertions.assertThat(requests)
+                .extracting(request -> request.getRequestUrl().queryParameter("bucket"))
+                .containsExactlyInAnyOrder("b1", "b2");
+        Assertions.assertThat(requests)
+                .extracting(request -> request.getRequestUrl().queryParameter("org"))
+                .containsOnly("org1");
+        Assertions.assertThat(requests)
+                .extracting(request -> request.getBody().readUtf8())
+                .containsOnly("h2o,location=europe level=1i 1");
+
+        listener.awaitCount(1);
+        ReplicaWriteSuccessEvent event = listener.getValue();
+        Assertions.assertThat(event.getDestination()).isEqualTo("archive");
+        Assertions.assertThat(event.getBucket()).isEqualTo("b2");
+        Assertions.assertThat(event.getOrganization()).isEqualTo("org1");
+        Assertions.assertThat(event.getLineProtocol()).isEqualTo("h2o,location=europe level=1i 1");
+    }
+
+    @Test
+    void replicaToOtherServer() throws IOException {
+
+        MockWebServer replicaServer = new MockWebServer();
+        replicaServer.start();
+        try {
+            mockServer.enqueue(createResponse("{}"));
+            replicaServer.enqueue(createResponse("{}"));
+
+            WriteDestination replica = WriteDestination.builder("dr")
+                    .organization("dr-org")
+                    .clientOptions(InfluxDBClientOptions.builder()
+                            .url(replicaServer.url("/").url().toString())
+                            .authenticateToken("dr-token".toCharArray())
+                            .build())
+                    .build();
+            writeApi = influxDBClient.makeWriteApi(WriteOptions.builder().addReplica(replica).build());
+
+            writeApi.writeRecord("b1", "org1", WritePrecision.NS, "h2o,location=europe level=1i 1");
+            writeApi.close();
+
+            Assertions.assertThat(getRequestBody(mockServer)).isEqualTo("h2o,location=europe level=1i 1");
+            Assertions.assertThat(getRequestBody(replicaServer)).isEqualTo("h2o,location=europe level=1i 1");
+            Assertions.assertThat(mockServer.getRequestCount()).isEqualTo(1);
+            Assertions.assertThat(replicaServer.getRequestCount()).isEqualTo(1);
+        } finally {
+            replicaServer.shutdown();
+        }
+    }
+
+    @Test
+    void replicaErrorNotAffectPrimary() throws IOException, InterruptedException {
+
+        MockWebServer replicaServer = new MockWebServer();
+        replicaServer.start();
+        try {
+            mockServer.enqueue(createResponse("{}"));
+            mockServer.enqueue(createResponse("{}"));
+            replicaServer.enqueue(createErrorResponse("bucket not found", true, 404));
+
+            WriteDestination replica = WriteDestination.builder("dr")
+                    .clientOptions(InfluxDBClientOptions.builder()
+                            .url(replicaServer.url("/").url().toString())
+                            .authenticateToken("dr-token".toCharArray())
+                            .build())
+                    .build();
+            writeApi = influxDBClient.makeWriteApi(WriteOptions.builder().batchSize(1).addReplica(replica).build());
+
+            WriteEventListener<ReplicaWriteErrorEvent> replicaErrors = new WriteEventListener<>();
+            writeApi.listenEvents(ReplicaWriteErrorEvent.class, replicaErrors);
+            WriteEventListener<WriteSuccessEvent> primarySuccess = new WriteEventListener<>();
+            writeApi.listenEvents(WriteSuccessEvent.class, primarySuccess);
+            WriteEventListener<WriteErrorEvent> primaryErrors = new WriteEventListener<>();
+            writeApi.listenEvents(WriteErrorEvent.class, primaryErrors);
+
+            writeApi.writeRecord("b1", "org1", WritePrecision.NS, "h2o,location=europe level=1i 1");
+
+            replicaErrors.awaitCount(1);
+            Assertions.assertThat(replicaErrors.getValue().getDestination()).isEqualTo("dr");
+            Assertions.assertThat(replicaErrors.getValue().getThrowable()).isInstanceOf(InfluxException.class);
+
+            // replica continues with next batch
+            replicaServer.enqueue(createResponse("{}"));
+            writeApi.writeRecord("b1", "org1", WritePrecision.NS, "h2o,location=europe level=2i 2");
+
+            primarySuccess.awaitCount(2);
+            Assertions.assertThat(primaryErrors.values).isEmpty();
+
+            Assertions.assertThat(getRequestBody(replicaServer)).isEqualTo("h2o,location=europe level=1i 1");
+            Assertions.assertThat(getRequestBody(replicaServer)).isEqualTo("h2o,location=europe level=2i 2");
+        } finally {
+            writeApi.close();
+            replicaServer.shutdown();
+        }
+    }
+
     @Test
     void userAgent() throws InterruptedException {
 
@@ -1046,4 +1445,51 @@ class WriteApiTest extends AbstractInfluxDBClientTest {
         private long count;
     }
 
+    private static class RecordingWriteMetrics implements WriteMetrics {
+
+        private final AtomicLong bufferSize = new AtomicLong();
+        private final List<Long> bufferSizes = new CopyOnWriteArrayList<>();
+        private final List<String> batches = new CopyOnWriteArrayList<>();
+        private final List<Integer> statuses = new CopyOnWriteArrayList<>();
+        private final List<Integer> retries = new CopyOnWriteArrayList<>();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger encodes = new AtomicInteger();
+        private final AtomicInteger drops = new AtomicInteger();
+
+        @Override
+        public void recordBufferChange(final long delta) {
+            bufferSizes.add(bufferSize.addAndGet(delta));
+        }
+
+        @Override
+        public void recordDrop() {
+            drops.incrementAndGet();
+        }
+
+        @Override
+        public void recordEncode(final long nanos) {
+            encodes.incrementAndGet();
+        }
+
+        @Override
+        public void recordBatch(final long lines, final long bytes) {
+            batches.add(lines + " lines, " + bytes + " bytes");
+        }
+
+        @Override
+        public void recordRequestStart() {
+            inFlight.incrementAndGet();
+        }
+
+        @Override
+        public void recordRequest(final int status, final long nanos) {
+            inFlight.decrementAndGet();
+            statuses.add(status);
+        }
+
+        @Override
+        public void recordRetry(final int status) {
+            retries.add(status);
+        }
+    }
 }
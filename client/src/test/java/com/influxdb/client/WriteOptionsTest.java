@@ -50,6 +50,9 @@ class WriteOptionsTest {
         Assertions.assertThat(writeOptions.getExponentialBase()).isEqualTo(2);
         Assertions.assertThat(writeOptions.getWriteScheduler()).isEqualTo(Schedulers.newThread());
         Assertions.assertThat(writeOptions.getBackpressureStrategy()).isEqualTo(BackpressureOverflowStrategy.DROP_OLDEST);
+        Assertions.assertThat(writeOptions.getEncodeParallelism()).isEqualTo(1);
+        Assertions.assertThat(writeOptions.getEncodeScheduler()).isEqualTo(Schedulers.computation());
+        Assertions.assertThat(writeOptions.getRingBufferSize()).isEqualTo(0);
     }
 
     @Test
@@ -66,6 +69,9 @@ class WriteOptionsTest {
                 .exponentialBase(2)
                 .writeScheduler(Schedulers.computation())
                 .backpressureStrategy(BackpressureOverflowStrategy.ERROR)
+                .encodeParallelism(4)
+                .encodeScheduler(Schedulers.io())
+                .ringBufferSize(1024)
                 .build();
 
         Assertions.assertThat(writeOptions.getBatchSize()).isEqualTo(10_000);
@@ -78,5 +84,8 @@ class WriteOptionsTest {
         Assertions.assertThat(writeOptions.getExponentialBase()).isEqualTo(2);
         Assertions.assertThat(writeOptions.getWriteScheduler()).isEqualTo(Schedulers.computation());
         Assertions.assertThat(writeOptions.getBackpressureStrategy()).isEqualTo(BackpressureOverflowStrategy.ERROR);
+        Assertions.assertThat(writeOptions.getEncodeParallelism()).isEqualTo(4);
+        Assertions.assertThat(writeOptions.getEncodeScheduler()).isEqualTo(Schedulers.io());
+        Assertions.assertThat(writeOptions.getRingBufferSize()).isEqualTo(1024);
     }
 }
\ No newline at end of file
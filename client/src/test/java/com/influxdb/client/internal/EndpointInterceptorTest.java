@@ -0,0 +1,242 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.internal;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nonnull;
+
+import com.influxdb.client.Endpoint;
+import com.influxdb.client.InfluxDBClientFactory;
+import com.influxdb.client.InfluxDBClientOptions;
+import com.influxdb.client.LoadBalancer;
+import com.influxdb.client.TransportMetrics;
+import com.influxdb.client.WriteApiBlocking;
+import com.influxdb.client.domain.WritePrecision;
+import com.influxdb.exceptions.InfluxException;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+class EndpointInterceptorTest {
+
+    private MockWebServer node1;
+    private MockWebServer node2;
+    private final AtomicInteger pingStatus = new AtomicInteger(204);
+
+    @BeforeEach
+    void startNodes() throws IOException {
+        node1 = startNode();
+        node2 = startNode();
+    }
+
+    @AfterEach
+    void shutdownNodes() throws IOException {
+        node1.shutdown();
+        node2.shutdown();
+    }
+
+    @Test
+    void roundRobin() {
+
+        try (InfluxDBClientImpl client = createClient(LoadBalancer.roundRobin(),
+                node1.url("/").toString(), node2.url("/").toString())) {
+
+            WriteApiBlocking writeApi = client.getWriteApiBlocking();
+            for (int i = 0; i < 10; i++) {
+                writeApi.writeRecord("my-bucket", "my-org", WritePrecision.NS, "mem value=" + i);
+            }
+
+            Assertions.assertThat(node1.getRequestCount()).isEqualTo(5);
+            Assertions.assertThat(node2.getRequestCount()).isEqualTo(5);
+
+            Assertions.assertThat(client.getEndpoints()).hasSize(2);
+            Assertions.assertThat(client.getEndpoints()).extracting(Endpoint::getRequests).containsExactly(5L, 5L);
+            Assertions.assertThat(client.getEndpoints()).extracting(Endpoint::getInFlight).containsExactly(0, 0);
+            Assertions.assertThat(client.getEndpoints()).allSatisfy(endpoint -> {
+                Assertions.assertThat(endpoint.isHealthy()).isTrue();
+                Assertions.assertThat(endpoint.getLatency()).isNotNull();
+            });
+        }
+    }
+
+    @Test
+    void rewritePath() throws InterruptedException {
+
+        try (InfluxDBClientImpl client = createClient(LoadBalancer.roundRobin(),
+                node1.url("/influx").toString(), node2.url("/").toString())) {
+
+            WriteApiBlocking writeApi = client.getWriteApiBlocking();
+            writeApi.writeRecord("my-bucket", "my-org", WritePrecision.NS, "mem value=1");
+            writeApi.writeRecord("my-bucket", "my-org", WritePrecision.NS, "mem value=2");
+
+            Assertions.assertThat(node1.takeRequest().getPath())
+                    .isEqualTo("/influx/api/v2/write?org=my-org&bucket=my-bucket&precision=ns");
+            Assertions.assertThat(node2.takeRequest().getPath())
+                    .isEqualTo("/api/v2/write?org=my-org&bucket=my-bucket&precision=ns");
+        }
+    }
+
+    @Test
+    void failover() throws IOException {
+
+        String deadNode = node1.url("/").toString();
+        node1.shutdown();
+
+        try (InfluxDBClientImpl client = createClient(LoadBalancer.roundRobin(),
+                deadNode, node2.url("/").toString())) {
+
+            WriteApiBlocking writeApi = client.getWriteApiBlocking();
+            for (int i = 0; i < 4; i++) {
+                writeApi.writeRecord("my-bucket", "my-org", WritePrecision.NS, "mem value=" + i);
+            }
+
+            Assertions.assertThat(node2.getRequestCount()).isEqualTo(4);
+
+            Endpoint dead = client.getEndpoints().get(0);
+            // ejected after 2 consecutive failures => the third write goes directly to healthy node
+            Assertions.assertThat(dead.getFailures()).isEqualTo(2);
+            Assertions.assertThat(dead.isHealthy()).isFalse();
+            Assertions.assertThat(client.getEndpoints().get(1).isHealthy()).isTrue();
+        }
+    }
+
+    @Test
+    void allNodesDown() throws IOException {
+
+        String deadNode1 = node1.url("/").toString();
+        String deadNode2 = node2.url("/").toString();
+        node1.shutdown();
+        node2.shutdown();
+
+        try (InfluxDBClientImpl client = createClient(LoadBalancer.roundRobin(), deadNode1, deadNode2)) {
+
+            Assertions.assertThatThrownBy(() -> client.getWriteApiBlocking()
+                            .writeRecord("my-bucket", "my-org", WritePrecision.NS, "mem value=1"))
+                    .isInstanceOf(InfluxException.class);
+
+            Assertions.assertThat(client.getEndpoints()).extracting(Endpoint::getFailures).containsExactly(1L, 1L);
+        }
+    }
+
+    @Test
+    void healthCheck() {
+
+        RecordingTransportMetrics metrics = new RecordingTransportMetrics();
+
+        InfluxDBClientOptions options = InfluxDBClientOptions.builder()
+                .urls(Arrays.asList(node1.url("/").toString(), node2.url("/").toString()))
+                .authenticateToken("my-token".toCharArray())
+                .transportMetrics(metrics)
+                .build();
+
+        InfluxDBClientImpl client = (InfluxDBClientImpl) InfluxDBClientFactory.create(options);
+        Assertions.assertThat(metrics.bound).hasSize(2);
+
+        pingStatus.set(503);
+        client.checkEndpointsHealth();
+        Assertions.assertThat(client.getEndpoints()).extracting(Endpoint::isHealthy).containsExactly(false, false);
+        // health checks are not counted as requests
+        Assertions.assertThat(client.getEndpoints()).extracting(Endpoint::getRequests).containsExactly(0L, 0L);
+
+        pingStatus.set(204);
+        client.checkEndpointsHealth();
+        Assertions.assertThat(client.getEndpoints()).extracting(Endpoint::isHealthy).containsExactly(true, true);
+
+        client.close();
+        Assertions.assertThat(metrics.unbound).containsExactlyElementsOf(metrics.bound);
+    }
+
+    @Test
+    void singleUrl() {
+
+        InfluxDBClientOptions options = InfluxDBClientOptions.builder()
+                .url(node1.url("/").toString())
+                .authenticateToken("my-token".toCharArray())
+                .build();
+
+        try (InfluxDBClientImpl client = (InfluxDBClientImpl) InfluxDBClientFactory.create(options)) {
+            Assertions.assertThat(client.getEndpoints()).isEmpty();
+        }
+    }
+
+    @Nonnull
+    private InfluxDBClientImpl createClient(@Nonnull final LoadBalancer loadBalancer, @Nonnull final String... urls) {
+
+        InfluxDBClientOptions options = InfluxDBClientOptions.builder()
+                .urls(Arrays.asList(urls))
+                .authenticateToken("my-token".toCharArray())
+                .loadBalancer(loadBalancer)
+                .endpointHealthCheck(Duration.ofMinutes(10), 2)
+                .build();
+
+        return (InfluxDBClientImpl) InfluxDBClientFactory.create(options);
+    }
+
+    @Nonnull
+    private MockWebServer startNode() throws IOException {
+
+        MockWebServer node = new MockWebServer();
+        node.setDispatcher(new Dispatcher() {
+            @Nonnull
+            @Override
+            public MockResponse dispatch(@Nonnull final RecordedRequest request) {
+                if ("/ping".equals(request.getPath())) {
+                    return new MockResponse().setResponseCode(pingStatus.get());
+                }
+                return new MockResponse().setResponseCode(204);
+            }
+        });
+        node.start();
+
+        return node;
+    }
+
+    private static final class RecordingTransportMetrics implements TransportMetrics {
+
+        private final List<Endpoint> bound = new CopyOnWriteArrayList<>();
+        private final List<Endpoint> unbound = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void bindEndpoint(@Nonnull final Endpoint endpoint) {
+            bound.add(endpoint);
+        }
+
+        @Override
+        public void unbindEndpoint(@Nonnull final Endpoint endpoint) {
+            unbound.add(endpoint);
+        }
+    }
+}
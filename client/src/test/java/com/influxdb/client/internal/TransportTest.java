@@ -0,0 +1,249 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.internal;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+
+import com.influxdb.client.InfluxDBClient;
+import com.influxdb.client.InfluxDBClientFactory;
+import com.influxdb.client.InfluxDBClientOptions;
+import com.influxdb.client.TrafficClassOptions;
+import com.influxdb.client.TransportMetrics;
+import com.influxdb.client.TransportStatus;
+import com.influxdb.client.domain.WritePrecision;
+import com.influxdb.test.AbstractMockServerTest;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+class TransportTest extends AbstractMockServerTest {
+
+    @Test
+    void limits() {
+
+        InfluxDBClientOptions options = InfluxDBClientOptions.builder()
+                .url(startMockServer())
+                .maxRequests(128)
+                .maxRequestsPerHost(32)
+                .connectionPool(16, Duration.ofSeconds(30))
+                .build();
+
+        try (InfluxDBClientImpl client = (InfluxDBClientImpl) InfluxDBClientFactory.create(options)) {
+
+            Assertions.assertThat(client.getTransports()).hasSize(1);
+
+            TransportStatus status = client.getTransports().iterator().next();
+            Assertions.assertThat(status.getName()).isEqualTo(TransportStatus.DEFAULT);
+            Assertions.assertThat(status.getProtocols()).containsExactly("http/1.1");
+            Assertions.assertThat(status.getMaxRequests()).isEqualTo(128);
+            Assertions.assertThat(status.getMaxRequestsPerHost()).isEqualTo(32);
+            Assertions.assertThat(status.getMaxIdleConnections()).isEqualTo(16);
+            Assertions.assertThat(status.getKeepAlive()).isEqualTo(Duration.ofSeconds(30));
+        }
+    }
+
+    @Test
+    void defaultLimits() {
+
+        InfluxDBClientOptions options = InfluxDBClientOptions.builder()
+                .url(startMockServer())
+                .build();
+
+        try (InfluxDBClientImpl client = (InfluxDBClientImpl) InfluxDBClientFactory.create(options)) {
+
+            TransportStatus status = client.getTransports().iterator().next();
+            Assertions.assertThat(status.getMaxRequests()).isEqualTo(64);
+            Assertions.assertThat(status.getMaxRequestsPerHost()).isEqualTo(5);
+            Assertions.assertThat(status.getMaxIdleConnections()).isEqualTo(5);
+            Assertions.assertThat(status.getKeepAlive()).isEqualTo(Duration.ofMinutes(5));
+        }
+    }
+
+    @Test
+    void http2() {
+
+        InfluxDBClientOptions options = InfluxDBClientOptions.builder()
+                .url(startMockServer())
+                .httpProtocol(InfluxDBClientOptions.HttpProtocol.HTTP_2)
+                .build();
+
+        try (InfluxDBClientImpl client = (InfluxDBClientImpl) InfluxDBClientFactory.create(options)) {
+
+            Assertions.assertThat(client.getTransports().iterator().next().getProtocols())
+                    .containsExactly("h2", "http/1.1");
+        }
+    }
+
+    @Test
+    void h2c() throws Exception {
+
+        mockServer = new MockWebServer();
+        mockServer.setProtocols(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE));
+        mockServer.start();
+        mockServer.enqueue(new MockResponse().setResponseCode(204));
+
+        InfluxDBClientOptions options = InfluxDBClientOptions.builder()
+                .url(mockServer.url("/").toString())
+                .authenticateToken("my-token".toCharArray())
+                .httpProtocol(InfluxDBClientOptions.HttpProtocol.H2C)
+                .build();
+
+        try (InfluxDBClient client = InfluxDBClientFactory.create(options)) {
+
+            client.getWriteApiBlocking().writeRecord("my-bucket", "my-org", WritePrecision.NS, "mem value=1i");
+
+            // the server speaks only HTTP/2 with prior knowledge
+            Assertions.assertThat(mockServer.takeRequest().getPath()).startsWith("/api/v2/write");
+        }
+    }
+
+    @Test
+    void separateQueryConnectionPool() {
+
+        RecordingTransportMetrics metrics = new RecordingTransportMetrics();
+
+        InfluxDBClientOptions options = InfluxDBClientOptions.builder()
+                .url(startMockServer())
+                .authenticateToken("my-token".toCharArray())
+                .maxRequestsPerHost(10)
+                .separateQueryConnectionPool(true)
+                .transportMetrics(metrics)
+                .build();
+
+        mockServer.enqueue(new MockResponse().setResponseCode(204));
+        mockServer.enqueue(createResponse("#datatype,string,long\n"
+                + "#group,false,false\n"
+                + "#default,_result,\n"
+                + ",result,table\n"
+                + ",,0\n"));
+
+        InfluxDBClientImpl client = (InfluxDBClientImpl) InfluxDBClientFactory.create(options);
+
+        Assertions.assertThat(metrics.bound).extracting(TransportStatus::getName)
+                .containsExactly(TransportStatus.DEFAULT, TransportStatus.QUERY);
+
+        TransportStatus write = metrics.bound.get(0);
+        TransportStatus query = metrics.bound.get(1);
+        Assertions.assertThat(query.getMaxRequestsPerHost()).isEqualTo(10);
+
+        client.getWriteApiBlocking().writeRecord("my-bucket", "my-org", WritePrecision.NS, "mem value=1i");
+        client.getQueryApi().query("from(bucket:\"my-bucket\") |> range(start: 0)", "my-org");
+
+        // each API uses its own pool
+        Assertions.assertThat(write.getConnections()).isEqualTo(1);
+        Assertions.assertThat(query.getConnections()).isEqualTo(1);
+
+        client.close();
+
+        Assertions.assertThat(metrics.unbound).containsExactlyElementsOf(metrics.bound);
+        Assertions.assertThat(client.getTransports()).isEmpty();
+        Assertions.assertThat(query.getConnections()).isEqualTo(0);
+    }
+
+    @Test
+    void trafficClasses() {
+
+        InfluxDBClientOptions options = InfluxDBClientOptions.builder()
+                .url(startMockServer())
+                .authenticateToken("my-token".toCharArray())
+                .maxRequestsPerHost(10)
+                .trafficClass(InfluxDBClientOptions.TrafficClass.WRITE, TrafficClassOptions.builder()
+                        .maxRequestsPerHost(20)
+                        .readTimeout(Duration.ofSeconds(5))
+                        .build())
+                .trafficClass(InfluxDBClientOptions.TrafficClass.QUERY, TrafficClassOptions.builder()
+                        .maxRequests(4)
+                        .readTimeout(Duration.ofMinutes(5))
+                        .callTimeout(Duration.ofMinutes(30))
+                        .build())
+                .build();
+
+        mockServer.enqueue(new MockResponse().setResponseCode(204));
+        mockServer.enqueue(createResponse(""));
+        mockServer.enqueue(new MockResponse().setBody("{\"buckets\":[]}"));
+
+        try (InfluxDBClientImpl client = (InfluxDBClientImpl) InfluxDBClientFactory.create(options)) {
+
+            Map<String, TransportStatus> transports = client.getTransports().stream()
+                    .collect(Collectors.toMap(TransportStatus::getName, it -> it));
+
+            Assertions.assertThat(transports).containsOnlyKeys(TransportStatus.DEFAULT, TransportStatus.WRITE,
+                    TransportStatus.QUERY);
+
+            TransportStatus write = transports.get(TransportStatus.WRITE);
+            Assertions.assertThat(write.getMaxRequests()).isEqualTo(64);
+            Assertions.assertThat(write.getMaxRequestsPerHost()).isEqualTo(20);
+
+            TransportStatus query = transports.get(TransportStatus.QUERY);
+            Assertions.assertThat(query.getMaxRequests()).isEqualTo(4);
+            Assertions.assertThat(query.getMaxRequestsPerHost()).isEqualTo(10);
+
+            Assertions.assertThat(client.writeRetrofit.callFactory()).isNotSameAs(client.queryRetrofit.callFactory());
+            Assertions.assertThat(((OkHttpClient) client.writeRetrofit.callFactory()).readTimeoutMillis())
+                    .isEqualTo(5_000);
+            Assertions.assertThat(((OkHttpClient) client.queryRetrofit.callFactory()).readTimeoutMillis())
+                    .isEqualTo(300_000);
+            Assertions.assertThat(((OkHttpClient) client.queryRetrofit.callFactory()).callTimeoutMillis())
+                    .isEqualTo(1_800_000);
+            // management uses the default client
+            Assertions.assertThat(((OkHttpClient) client.retrofit.callFactory()).readTimeoutMillis())
+                    .isEqualTo(10_000);
+
+            client.getWriteApiBlocking().writeRecord("my-bucket", "my-org", WritePrecision.NS, "mem value=1i");
+            client.getQueryApi().query("from(bucket:\"my-bucket\") |> range(start: 0)", "my-org");
+            client.getBucketsApi().findBuckets();
+
+            Assertions.assertThat(write.getConnections()).isEqualTo(1);
+            Assertions.assertThat(query.getConnections()).isEqualTo(1);
+            Assertions.assertThat(transports.get(TransportStatus.DEFAULT).getConnections()).isEqualTo(1);
+        }
+    }
+
+    private static final class RecordingTransportMetrics implements TransportMetrics {
+
+        private final List<TransportStatus> bound = new CopyOnWriteArrayList<>();
+        private final List<TransportStatus> unbound = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void bindTransport(@Nonnull final TransportStatus status) {
+            bound.add(status);
+        }
+
+        @Override
+        public void unbindTransport(@Nonnull final TransportStatus status) {
+            unbound.add(status);
+        }
+    }
+}
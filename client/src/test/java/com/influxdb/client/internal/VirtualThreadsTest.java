@@ -0,0 +1,169 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.internal;
+
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nonnull;
+
+import com.influxdb.client.InfluxDBClient;
+import com.influxdb.client.InfluxDBClientFactory;
+import com.influxdb.client.InfluxDBClientOptions;
+import com.influxdb.client.WriteApiBlocking;
+import com.influxdb.client.domain.WritePrecision;
+import com.influxdb.test.AbstractMockServerTest;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+class VirtualThreadsTest extends AbstractMockServerTest {
+
+    private static final int CALLERS = 10_000;
+
+    @Test
+    void notSupported() {
+
+        Assumptions.assumeFalse(VirtualThreads.isSupported());
+
+        Assertions.assertThat(VirtualThreads.newExecutor("influxdb-")).isNull();
+
+        InfluxDBClientOptions options = InfluxDBClientOptions.builder()
+                .url(startMockServer())
+                .virtualThreads(true)
+                .build();
+
+        mockServer.enqueue(new MockResponse().setResponseCode(204));
+
+        // fallback to platform threads
+        try (InfluxDBClient client = InfluxDBClientFactory.create(options)) {
+            Assertions.assertThat(client.ping()).isTrue();
+        }
+    }
+
+    @Test
+    void dispatcherLimits() {
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            okhttp3.Dispatcher dispatcher = VirtualThreads.newDispatcher(executor);
+
+            Assertions.assertThat(dispatcher.executorService()).isSameAs(executor);
+            Assertions.assertThat(dispatcher.getMaxRequests()).isEqualTo(VirtualThreads.MAX_REQUESTS);
+            Assertions.assertThat(dispatcher.getMaxRequestsPerHost()).isEqualTo(VirtualThreads.MAX_REQUESTS_PER_HOST);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void suppliedDispatcherIsNotModified() {
+
+        okhttp3.Dispatcher dispatcher = new okhttp3.Dispatcher();
+        OkHttpClient.Builder builder = new OkHttpClient.Builder().dispatcher(dispatcher);
+
+        InfluxDBClientOptions options = InfluxDBClientOptions.builder()
+                .url(startMockServer())
+                .okHttpClient(builder)
+                .virtualThreads(true)
+                .maxRequests(128)
+                .build();
+
+        try (InfluxDBClient client = InfluxDBClientFactory.create(options)) {
+            Assertions.assertThat(client).isNotNull();
+        }
+
+        Assertions.assertThat(builder.build().dispatcher()).isSameAs(dispatcher);
+        if (VirtualThreads.isSupported()) {
+            Assertions.assertThat(dispatcher.getMaxRequests()).isEqualTo(64);
+        }
+    }
+
+    @Test
+    void concurrentBlockingCallers() throws Exception {
+
+        Assumptions.assumeTrue(VirtualThreads.isSupported());
+
+        // HTTP/2 multiplex all calls over one connection => the test is not limited by the open files
+        mockServer = new MockWebServer();
+        mockServer.setProtocols(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE));
+        mockServer.setDispatcher(new Dispatcher() {
+            @Nonnull
+            @Override
+            public MockResponse dispatch(@Nonnull final RecordedRequest request) {
+                return new MockResponse().setResponseCode(204);
+            }
+        });
+        mockServer.start();
+
+        InfluxDBClientOptions options = InfluxDBClientOptions.builder()
+                .url(mockServer.url("/").toString())
+                .authenticateToken("my-token".toCharArray())
+                .okHttpClient(new OkHttpClient.Builder()
+                        .protocols(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE)))
+                .virtualThreads(true)
+                .build();
+
+        int platformThreads = Thread.activeCount();
+
+        try (InfluxDBClient client = InfluxDBClientFactory.create(options)) {
+
+            WriteApiBlocking writeApi = client.getWriteApiBlocking();
+
+            ExecutorService callers = VirtualThreads.newExecutor("caller-");
+            Assertions.assertThat(callers).isNotNull();
+
+            AtomicInteger errors = new AtomicInteger();
+            for (int i = 0; i < CALLERS; i++) {
+                String record = String.format("mem,caller=%d value=1i", i);
+                callers.execute(() -> {
+                    try {
+                        writeApi.writeRecord("my-bucket", "my-org", WritePrecision.NS, record);
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                });
+            }
+
+            callers.shutdown();
+
+            Assertions.assertThat(callers.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+            Assertions.assertThat(errors.get()).isEqualTo(0);
+            Assertions.assertThat(mockServer.getRequestCount()).isEqualTo(CALLERS);
+
+            // the callers are virtual threads
+            Assertions.assertThat(Thread.activeCount() - platformThreads).isLessThan(CALLERS);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.influxdb.client.domain.WritePrecision;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+class WriteChunkerTest {
+
+    @Test
+    void closedByLines() {
+
+        WriteChunker chunker = new WriteChunker(2, Long.MAX_VALUE);
+
+        Assertions.assertThat(chunker.add(WritePrecision.NS, "a 1")).isEmpty();
+        Assertions.assertThat(chunker.add(WritePrecision.NS, "b 2")).isEmpty();
+        List<WriteChunker.Chunk> chunks = chunker.add(WritePrecision.NS, "c 3");
+
+        Assertions.assertThat(chunks).hasSize(1);
+        Assertions.assertThat(chunks.get(0).toLineProtocol()).isEqualTo("a 1\nb 2");
+        Assertions.assertThat(chunks.get(0).size()).isEqualTo(2);
+        Assertions.assertThat(chunks.get(0).getBytes()).isEqualTo(7);
+        Assertions.assertThat(chunker.flush()).extracting(WriteChunker.Chunk::toLineProtocol).containsExactly("c 3");
+        Assertions.assertThat(chunker.isEmpty()).isTrue();
+        Assertions.assertThat(chunker.flush()).isEmpty();
+    }
+
+    @Test
+    void offerClosesFullChunk() {
+
+        WriteChunker chunker = new WriteChunker(2, Long.MAX_VALUE);
+
+        Assertions.assertThat(chunker.offer(new WriteChunker.Line(WritePrecision.NS, "a 1"))).isEmpty();
+        Assertions.assertThat(chunker.offer(new WriteChunker.Line(WritePrecision.NS, "b 2")))
+                .extracting(WriteChunker.Chunk::toLineProtocol)
+                .containsExactly("a 1\nb 2");
+        Assertions.assertThat(chunker.offer(new WriteChunker.Line(WritePrecision.NS, "c 3"))).isEmpty();
+        Assertions.assertThat(chunker.offer(new WriteChunker.Line(WritePrecision.S, "d 4")))
+                .extracting(WriteChunker.Chunk::toLineProtocol)
+                .containsExactly("c 3");
+
+        chunker = new WriteChunker(1, Long.MAX_VALUE);
+        Assertions.assertThat(chunker.offer(new WriteChunker.Line(WritePrecision.S, "a 1"))).hasSize(1);
+        Assertions.assertThat(chunker.offer(new WriteChunker.Line(WritePrecision.NS, "b 2"))).hasSize(1);
+    }
+
+    @Test
+    void closedByBytes() {
+
+        WriteChunker chunker = new WriteChunker(100, 8);
+
+        Assertions.assertThat(chunker.add(WritePrecision.NS, "a 1")).isEmpty();
+        Assertions.assertThat(chunker.add(WritePrecision.NS, "ž 2")).isEmpty();
+        List<WriteChunker.Chunk> chunks = chunker.add(WritePrecision.NS, "c 3");
+
+        Assertions.assertThat(chunks).hasSize(1);
+        Assertions.assertThat(chunks.get(0).getLines()).containsExactly("a 1", "ž 2");
+        Assertions.assertThat(chunks.get(0).getBytes()).isEqualTo(8);
+
+        // the longer line goes into its own chunk
+        chunks = chunker.add(WritePrecision.NS, "long line 4");
+        Assertions.assertThat(chunks).hasSize(1);
+        Assertions.assertThat(chunks.get(0).getLines()).containsExactly("c 3");
+        Assertions.assertThat(chunker.flush()).extracting(WriteChunker.Chunk::toLineProtocol)
+                .containsExactly("long line 4");
+    }
+
+    @Test
+    void closedByPrecision() {
+
+        WriteChunker chunker = new WriteChunker(2, Long.MAX_VALUE);
+
+        List<WriteChunker.Chunk> chunks = new ArrayList<>();
+        chunks.addAll(chunker.add(WritePrecision.S, "a 1"));
+        chunks.addAll(chunker.add(WritePrecision.NS, "b 2"));
+        chunks.addAll(chunker.add(WritePrecision.NS, "c 3"));
+        chunks.addAll(chunker.flush());
+
+        Assertions.assertThat(chunks).hasSize(2);
+        Assertions.assertThat(chunks.get(0).getPrecision()).isEqualTo(WritePrecision.S);
+        Assertions.assertThat(chunks.get(0).getLines()).containsExactly("a 1");
+        Assertions.assertThat(chunks.get(1).getPrecision()).isEqualTo(WritePrecision.NS);
+        Assertions.assertThat(chunks.get(1).getLines()).containsExactly("b 2", "c 3");
+    }
+
+    @Test
+    void markers() {
+
+        WriteChunker chunker = new WriteChunker(10, Long.MAX_VALUE);
+
+        Assertions.assertThat(chunker.offer(WriteChunker.FLUSH)).isEmpty();
+        Assertions.assertThat(chunker.offer(new WriteChunker.Line(WritePrecision.MS, "a 1"))).isEmpty();
+        Assertions.assertThat(chunker.offer(new WriteChunker.Line(WritePrecision.MS, ""))).isEmpty();
+        Assertions.assertThat(chunker.offer(new WriteChunker.Line(WritePrecision.MS, null))).isEmpty();
+        Assertions.assertThat(chunker.isEmpty()).isFalse();
+        Assertions.assertThat(chunker.offer(WriteChunker.FLUSH)).extracting(WriteChunker.Chunk::toLineProtocol)
+                .containsExactly("a 1");
+        Assertions.assertThat(chunker.offer(new WriteChunker.Line(WritePrecision.MS, "b 2"))).isEmpty();
+        Assertions.assertThat(chunker.offer(WriteChunker.END)).extracting(WriteChunker.Chunk::toLineProtocol)
+                .containsExactly("b 2");
+    }
+}
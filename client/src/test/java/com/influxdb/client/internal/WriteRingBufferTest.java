@@ -0,0 +1,162 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.client.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+class WriteRingBufferTest {
+
+    @Test
+    void capacity() {
+
+        Assertions.assertThat(new WriteRingBuffer<>(1).capacity()).isEqualTo(1);
+        Assertions.assertThat(new WriteRingBuffer<>(2).capacity()).isEqualTo(2);
+        Assertions.assertThat(new WriteRingBuffer<>(3).capacity()).isEqualTo(4);
+        Assertions.assertThat(new WriteRingBuffer<>(1000).capacity()).isEqualTo(1024);
+    }
+
+    @Test
+    void offerPoll() {
+
+        WriteRingBuffer<String> buffer = new WriteRingBuffer<>(2);
+
+        Assertions.assertThat(buffer.isEmpty()).isTrue();
+        Assertions.assertThat(buffer.poll()).isNull();
+
+        Assertions.assertThat(buffer.offer("a")).isTrue();
+        Assertions.assertThat(buffer.offer("b")).isTrue();
+        Assertions.assertThat(buffer.offer("c")).isFalse();
+        Assertions.assertThat(buffer.isEmpty()).isFalse();
+
+        Assertions.assertThat(buffer.poll()).isEqualTo("a");
+        Assertions.assertThat(buffer.offer("c")).isTrue();
+        Assertions.assertThat(buffer.poll()).isEqualTo("b");
+        Assertions.assertThat(buffer.poll()).isEqualTo("c");
+        Assertions.assertThat(buffer.poll()).isNull();
+        Assertions.assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    void multipleProducers() throws InterruptedException {
+
+        int producers = 8;
+        int count = 50_000;
+
+        WriteRingBuffer<Integer> buffer = new WriteRingBuffer<>(64);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < producers; i++) {
+            int offset = i * count;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                for (int j = 0; j < count; j++) {
+                    while (!buffer.offer(offset + j)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        start.countDown();
+
+        Set<Integer> consumed = new HashSet<>();
+        int[] lastByProducer = new int[producers];
+        Arrays.fill(lastByProducer, -1);
+        while (consumed.size() < producers * count) {
+            Integer item = buffer.poll();
+            if (item == null) {
+                Thread.yield();
+                continue;
+            }
+            // every producer items are consumed in order
+            int producer = item / count;
+            Assertions.assertThat(item).isGreaterThan(lastByProducer[producer]);
+            lastByProducer[producer] = item;
+
+            consumed.add(item);
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Assertions.assertThat(consumed).hasSize(producers * count);
+        Assertions.assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    void concurrentPoll() throws InterruptedException {
+
+        int consumers = 4;
+        int count = 100_000;
+
+        WriteRingBuffer<Integer> buffer = new WriteRingBuffer<>(count);
+        for (int i = 0; i < count; i++) {
+            Assertions.assertThat(buffer.offer(i)).isTrue();
+        }
+
+        Set<Integer> consumed = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicates = new AtomicInteger();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < consumers; i++) {
+            Thread thread = new Thread(() -> {
+                Integer item;
+                while ((item = buffer.poll()) != null) {
+                    if (!consumed.add(item)) {
+                        duplicates.incrementAndGet();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Assertions.assertThat(duplicates.get()).isZero();
+        Assertions.assertThat(consumed).hasSize(count);
+        Assertions.assertThat(buffer.isEmpty()).isTrue();
+    }
+}
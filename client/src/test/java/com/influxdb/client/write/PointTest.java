@@ -417,4 +417,14 @@ class PointTest {
 
         Assertions.assertThat(point.toLineProtocol()).isEqualTo("h2o,location=europe accepted=true,level=2i,power=2.56");
     }
-}
\ No newline at end of file
+
+    @Test
+    void nameAndTags() {
+
+        Point point = Point.measurement("h2o").addTag("location", "europe").addField("level", 2);
+
+        Assertions.assertThat(point.getName()).isEqualTo("h2o");
+        Assertions.assertThat(point.getTag("location")).isEqualTo("europe");
+        Assertions.assertThat(point.getTag("host")).isNull();
+    }
+}
@@ -25,6 +25,7 @@ import java.util.Collections;
 import javax.annotation.Nonnull;
 
 import com.influxdb.client.InfluxDBClientOptions;
+import com.influxdb.client.write.WriteMetrics;
 
 import okhttp3.OkHttpClient;
 import okhttp3.Protocol;
@@ -36,11 +37,14 @@ import org.springframework.util.StringUtils;
 abstract class AbstractInfluxDB2AutoConfiguration {
     protected final InfluxDB2Properties properties;
     protected final InfluxDB2OkHttpClientBuilderProvider builderProvider;
+    protected final WriteMetrics writeMetrics;
 
     protected AbstractInfluxDB2AutoConfiguration(final InfluxDB2Properties properties,
-                                                 final InfluxDB2OkHttpClientBuilderProvider builderProvider) {
+                                                 final InfluxDB2OkHttpClientBuilderProvider builderProvider,
+                                                 final WriteMetrics writeMetrics) {
         this.properties = properties;
         this.builderProvider = builderProvider;
+        this.writeMetrics = writeMetrics;
     }
 
     @Nonnull
@@ -67,6 +71,10 @@ abstract class AbstractInfluxDB2AutoConfiguration {
         } else if (StringUtils.hasLength(properties.getUsername()) && StringUtils.hasLength(properties.getPassword())) {
             influxBuilder.authenticate(properties.getUsername(), properties.getPassword().toCharArray());
         }
+
+        if (writeMetrics != null) {
+            influxBuilder.writeMetrics(writeMetrics);
+        }
         return influxBuilder;
     }
 }
@@ -24,6 +24,7 @@ package com.influxdb.spring.influx;
 import com.influxdb.client.InfluxDBClient;
 import com.influxdb.client.InfluxDBClientFactory;
 import com.influxdb.client.InfluxDBClientOptions;
+import com.influxdb.client.write.WriteMetrics;
 
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
@@ -45,8 +46,9 @@ import org.springframework.context.annotation.Configuration;
 public class InfluxDB2AutoConfiguration extends AbstractInfluxDB2AutoConfiguration {
 
     public InfluxDB2AutoConfiguration(final InfluxDB2Properties properties,
-                                      final ObjectProvider<InfluxDB2OkHttpClientBuilderProvider> builderProvider) {
-        super(properties, builderProvider.getIfAvailable());
+                                      final ObjectProvider<InfluxDB2OkHttpClientBuilderProvider> builderProvider,
+                                      final ObjectProvider<WriteMetrics> writeMetrics) {
+        super(properties, builderProvider.getIfAvailable(), writeMetrics.getIfAvailable());
     }
 
     @Bean
@@ -24,6 +24,7 @@ package com.influxdb.spring.influx;
 import com.influxdb.client.InfluxDBClientOptions;
 import com.influxdb.client.reactive.InfluxDBClientReactive;
 import com.influxdb.client.reactive.InfluxDBClientReactiveFactory;
+import com.influxdb.client.write.WriteMetrics;
 
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
@@ -46,8 +47,9 @@ public class InfluxDB2AutoConfigurationReactive extends AbstractInfluxDB2AutoCon
 
     public InfluxDB2AutoConfigurationReactive(final InfluxDB2Properties properties,
                                               final ObjectProvider<InfluxDB2OkHttpClientBuilderProvider>
-                                                      builderProvider) {
-        super(properties, builderProvider.getIfAvailable());
+                                                      builderProvider,
+                                              final ObjectProvider<WriteMetrics> writeMetrics) {
+        super(properties, builderProvider.getIfAvailable(), writeMetrics.getIfAvailable());
     }
 
     @Bean
@@ -0,0 +1,61 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.spring.influx;
+
+import com.influxdb.client.InfluxDBClientOptions;
+import com.influxdb.client.reactor.InfluxDBClientReactor;
+import com.influxdb.client.reactor.InfluxDBClientReactorFactory;
+import com.influxdb.client.write.WriteMetrics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for InfluxDB 2 Reactor client.
+ */
+@Configuration
+@ConditionalOnClass(name = "com.influxdb.client.reactor.InfluxDBClientReactor")
+@EnableConfigurationProperties(InfluxDB2Properties.class)
+public class InfluxDB2AutoConfigurationReactor extends AbstractInfluxDB2AutoConfiguration {
+
+    public InfluxDB2AutoConfigurationReactor(final InfluxDB2Properties properties,
+                                             final ObjectProvider<InfluxDB2OkHttpClientBuilderProvider>
+                                                     builderProvider,
+                                             final ObjectProvider<WriteMetrics> writeMetrics) {
+        super(properties, builderProvider.getIfAvailable(), writeMetrics.getIfAvailable());
+    }
+
+    @Bean
+    @ConditionalOnProperty("influx.url")
+    @ConditionalOnMissingBean(InfluxDBClientReactor.class)
+    public InfluxDBClientReactor influxDBClientReactor() {
+        InfluxDBClientOptions.Builder influxBuilder = makeBuilder();
+
+        return InfluxDBClientReactorFactory.create(influxBuilder.build()).setLogLevel(properties.getLogLevel());
+    }
+}
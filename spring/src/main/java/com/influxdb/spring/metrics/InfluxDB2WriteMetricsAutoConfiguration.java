@@ -0,0 +1,57 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.spring.metrics;
+
+import com.influxdb.client.micrometer.MicrometerWriteMetrics;
+import com.influxdb.client.write.WriteMetrics;
+import com.influxdb.spring.influx.InfluxDB2AutoConfiguration;
+import com.influxdb.spring.influx.InfluxDB2AutoConfigurationReactive;
+import com.influxdb.spring.influx.InfluxDB2AutoConfigurationReactor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for {@link MicrometerWriteMetrics}.
+ * <p>
+ * The metrics are bound to the {@link MeterRegistry} by the actuator and used by the auto-configured
+ * {@link com.influxdb.client.InfluxDBClient}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass({MeterRegistry.class, MicrometerWriteMetrics.class})
+@ConditionalOnProperty(value = "management.metrics.influx.write.enabled", matchIfMissing = true)
+@AutoConfigureBefore({InfluxDB2AutoConfiguration.class, InfluxDB2AutoConfigurationReactive.class,
+        InfluxDB2AutoConfigurationReactor.class})
+public class InfluxDB2WriteMetricsAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(WriteMetrics.class)
+    public MicrometerWriteMetrics influxDB2WriteMetrics() {
+        return new MicrometerWriteMetrics();
+    }
+}
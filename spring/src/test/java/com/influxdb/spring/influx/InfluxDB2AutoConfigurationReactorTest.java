@@ -0,0 +1,58 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.spring.influx;
+
+import com.influxdb.client.InfluxDBClient;
+import com.influxdb.client.reactor.InfluxDBClientReactor;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+/**
+ * Tests for {@link InfluxDB2AutoConfigurationReactor}.
+ */
+@RunWith(JUnitPlatform.class)
+class InfluxDB2AutoConfigurationReactorTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(InfluxDB2AutoConfigurationReactor.class));
+
+    @Test
+    public void influxDBClientReactor() {
+        this.contextRunner.withPropertyValues("influx.url=http://localhost:8086/")
+                .run(((context) -> Assertions.assertThat(context.getBeansOfType(InfluxDBClientReactor.class))
+                        .hasSize(1)))
+                .run(((context) -> Assertions.assertThat(context.getBeansOfType(InfluxDBClient.class))
+                        .hasSize(0)));
+    }
+
+    @Test
+    public void withoutUrl() {
+        this.contextRunner
+                .run(((context) -> Assertions.assertThat(context.getBeansOfType(InfluxDBClientReactor.class))
+                        .hasSize(0)));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.influxdb.spring.metrics;
+
+import com.influxdb.client.InfluxDBClient;
+import com.influxdb.client.InfluxDBClientOptions;
+import com.influxdb.client.micrometer.MicrometerWriteMetrics;
+import com.influxdb.client.reactor.InfluxDBClientReactor;
+import com.influxdb.client.write.WriteMetrics;
+import com.influxdb.spring.influx.InfluxDB2AutoConfiguration;
+import com.influxdb.spring.influx.InfluxDB2AutoConfigurationReactor;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.annotation.Configurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Tests for {@link InfluxDB2WriteMetricsAutoConfiguration}.
+ */
+@RunWith(JUnitPlatform.class)
+class InfluxDB2WriteMetricsAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(InfluxDB2WriteMetricsAutoConfiguration.class,
+                    InfluxDB2AutoConfiguration.class))
+            .withPropertyValues("influx.url=http://localhost:8086/");
+
+    @Test
+    public void writeMetricsAreRegistered() {
+        this.contextRunner.run((context) -> {
+            Assertions.assertThat(context).hasSingleBean(MicrometerWriteMetrics.class);
+
+            WriteMetrics writeMetrics = getOptions(context.getBean(InfluxDBClient.class)).getWriteMetrics();
+            Assertions.assertThat(writeMetrics).isSameAs(context.getBean(MicrometerWriteMetrics.class));
+        });
+    }
+
+    @Test
+    public void writeMetricsAreUsedByReactorClient() {
+        Assertions.assertThat(Configurations.getClasses(AutoConfigurations.of(InfluxDB2AutoConfigurationReactor.class,
+                        InfluxDB2WriteMetricsAutoConfiguration.class)))
+                .containsExactly(InfluxDB2WriteMetricsAutoConfiguration.class, InfluxDB2AutoConfigurationReactor.class);
+
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(InfluxDB2AutoConfigurationReactor.class,
+                        InfluxDB2WriteMetricsAutoConfiguration.class))
+                .withPropertyValues("influx.url=http://localhost:8086/")
+                .run((context) -> {
+                    Object client = context.getBean(InfluxDBClientReactor.class);
+                    InfluxDBClientOptions options = (InfluxDBClientOptions) ReflectionTestUtils
+                            .getField(client, "options");
+
+                    Assertions.assertThat(options.getWriteMetrics())
+                            .isSameAs(context.getBean(MicrometerWriteMetrics.class));
+                });
+    }
+
+    @Test
+    public void writeMetricsCanBeDisabled() {
+        this.contextRunner
+                .withPropertyValues("management.metrics.influx.write.enabled=false")
+                .run((context) -> {
+                    Assertions.assertThat(context).doesNotHaveBean(WriteMetrics.class);
+
+                    WriteMetrics writeMetrics = getOptions(context.getBean(InfluxDBClient.class)).getWriteMetrics();
+                    Assertions.assertThat(writeMetrics).isSameAs(WriteMetrics.NOOP);
+                });
+    }
+
+    private InfluxDBClientOptions getOptions(final InfluxDBClient influxDBClient) {
+        return (InfluxDBClientOptions) ReflectionTestUtils.getField(influxDBClient, "options");
+    }
+}